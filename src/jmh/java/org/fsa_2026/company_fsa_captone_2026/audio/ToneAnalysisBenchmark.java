@@ -0,0 +1,76 @@
+package org.fsa_2026.company_fsa_captone_2026.audio;
+
+import org.fsa_2026.company_fsa_captone_2026.common.audio.AudioFeatures;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.FeatureExtractor;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.ToneAnalyzer;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.YinPitchTracker;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ToneAnalysisBenchmark – pitch tracking + phân loại thanh điệu cho câu 5 giây
+ *
+ * <p>
+ * Ngân sách: &lt; 500 ms / lượt trên 1 core.
+ * Chạy: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="ToneAnalysisBenchmark"}
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ToneAnalysisBenchmark {
+
+    private static final int RATE = FeatureExtractor.SAMPLE_RATE;
+    private static final String TEXT = "tôi là người Việt Nam tôi học phát âm tiếng Việt mỗi ngày ở nhà";
+
+    private float[] samples;
+    private float[] pitch;
+    private AudioFeatures features;
+    private YinPitchTracker tracker;
+    private FeatureExtractor extractor;
+    private ToneAnalyzer analyzer;
+
+    @Setup
+    public void setUp() {
+        // 5 giây: 16 âm tiết ~250 ms, cách nhau ~60 ms, cao độ dao động 140–260 Hz
+        samples = new float[RATE * 5];
+        int syllableLength = RATE / 4;
+        int gap = RATE * 60 / 1000;
+        double phase = 0.0;
+        for (int s = 0, offset = 0; offset + syllableLength < samples.length; s++, offset += syllableLength + gap) {
+            double startHz = 140 + (s * 37) % 120;
+            double endHz = 140 + (s * 53) % 120;
+            for (int i = 0; i < syllableLength; i++) {
+                double hz = startHz + (endHz - startHz) * i / syllableLength;
+                phase += 2 * Math.PI * hz / RATE;
+                samples[offset + i] = (float) (0.4 * Math.sin(phase) + 0.2 * Math.sin(2 * phase));
+            }
+        }
+        tracker = new YinPitchTracker(RATE, FeatureExtractor.PITCH_WINDOW);
+        extractor = new FeatureExtractor();
+        analyzer = new ToneAnalyzer();
+        pitch = new float[FeatureExtractor.frameCount(samples.length)];
+        features = extractor.extract(samples);
+    }
+
+    @Benchmark
+    public float[] yinTrack() {
+        tracker.track(samples, FeatureExtractor.HOP_LENGTH, pitch);
+        return pitch;
+    }
+
+    @Benchmark
+    public List<ToneAnalyzer.SyllableTone> classifyTones() {
+        return analyzer.analyze(TEXT, features);
+    }
+
+    @Benchmark
+    public List<ToneAnalyzer.SyllableTone> extractAndClassify() {
+        return analyzer.analyze(TEXT, extractor.extract(samples));
+    }
+}
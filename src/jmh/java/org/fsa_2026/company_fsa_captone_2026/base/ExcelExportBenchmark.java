@@ -0,0 +1,92 @@
+package org.fsa_2026.company_fsa_captone_2026.base;
+
+import org.fsa_2026.company_fsa_captone_2026.common.base.AbstractCrudService;
+import org.fsa_2026.company_fsa_captone_2026.dto.DialectResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExcelExportBenchmark – AbstractCrudService.exportToExcel (reflection @ExcelColumn + XSSF)
+ *
+ * <p>
+ * Chạy: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="ExcelExportBenchmark"}
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ExcelExportBenchmark {
+
+    @Param({ "100", "5000" })
+    public int rows;
+
+    private ExportOnlyService service;
+    private List<DialectResponse> data;
+
+    @Setup
+    public void setUp() {
+        service = new ExportOnlyService();
+        data = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            data.add(DialectResponse.builder()
+                    .id(UUID.randomUUID().toString())
+                    .name("Vùng miền " + i)
+                    .description("Giọng địa phương số " + i + " với mô tả đủ dài để giống dữ liệu thật")
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] exportToExcel() throws IOException {
+        return service.exportToExcel(data);
+    }
+
+    /**
+     * Chỉ dùng phần export của AbstractCrudService
+     */
+    private static final class ExportOnlyService extends AbstractCrudService<Object, DialectResponse> {
+        @Override
+        public List<DialectResponse> getAll() {
+            return List.of();
+        }
+
+        @Override
+        public DialectResponse getById(UUID id) {
+            return null;
+        }
+
+        @Override
+        public DialectResponse create(Object request) {
+            return null;
+        }
+
+        @Override
+        public DialectResponse update(UUID id, Object request) {
+            return null;
+        }
+
+        @Override
+        public void delete(UUID id) {
+        }
+
+        @Override
+        protected Slice<DialectResponse> findSlice(Pageable pageable) {
+            return null;
+        }
+
+        @Override
+        protected long countAll() {
+            return 0;
+        }
+    }
+}
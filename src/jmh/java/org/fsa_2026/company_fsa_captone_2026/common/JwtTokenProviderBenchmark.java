@@ -0,0 +1,61 @@
+package org.fsa_2026.company_fsa_captone_2026.common;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProviderBenchmark – chi phí JWT trên mỗi request có xác thực
+ *
+ * <p>
+ * JwtAuthenticationFilter gọi parseAccessToken: {@code perRequestFilter} đo đúng
+ * lời gọi đó (1 lần parse + verify HMAC); {@code threeParses} là cách cũ
+ * validateToken + getEmailFromToken + getRoleFromToken để so sánh.
+ * Chạy: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="JwtTokenProviderBenchmark"}
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret",
+                "benchmark-secret-key-with-at-least-256-bits-for-hmac-sha-algorithms");
+        ReflectionTestUtils.setField(provider, "accessTokenExpirationMs", 3_600_000L);
+        token = provider.generateAccessToken(UUID.randomUUID(), "learner@test.vn", "USER");
+    }
+
+    @Benchmark
+    public String generate() {
+        return provider.generateAccessToken(UUID.randomUUID(), "learner@test.vn", "USER");
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return provider.validateToken(token);
+    }
+
+    @Benchmark
+    public AuthenticatedUser perRequestFilter() {
+        return provider.parseAccessToken(token);
+    }
+
+    @Benchmark
+    public String threeParses() {
+        if (!provider.validateToken(token)) {
+            return null;
+        }
+        return provider.getEmailFromToken(token) + provider.getRoleFromToken(token);
+    }
+}
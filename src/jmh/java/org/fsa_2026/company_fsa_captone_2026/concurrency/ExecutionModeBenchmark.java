@@ -0,0 +1,113 @@
+package org.fsa_2026.company_fsa_captone_2026.concurrency;
+
+import org.fsa_2026.company_fsa_captone_2026.common.jdbc.ConcurrencyLimitedDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExecutionModeBenchmark – platform thread pool (Tomcat mặc định 200) so với
+ * virtual thread cho một request "JDBC + I/O ngoài"
+ *
+ * <p>
+ * Mỗi request: mượn connection qua ConcurrencyLimitedDataSource (10 permit,
+ * bằng pool Hikari), giữ {@code jdbcMillis}, trả lại, rồi chờ {@code ioMillis}
+ * (SMTP / dịch vụ chấm điểm). 400 client đồng thời. Throughput cho req/s,
+ * SampleTime cho p99.
+ * Đây là mô phỏng: JDBC và I/O là Thread.sleep, không có DB/SMTP thật – kết quả chỉ cho
+ * thấy giới hạn do số thread, không thay cho loadtest (src/loadtest) chạy ở cả hai chế độ.
+ * Chưa có số đo nào được ghi lại từ benchmark này.
+ * Chạy (JDK 21+):
+ * {@code mvn -Pbenchmark,virtual-threads test-compile exec:exec -Djmh.args="ExecutionModeBenchmark -bm thrpt,sample"}
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Threads(400)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class ExecutionModeBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int POOL_SIZE = 10;
+
+    @Param({ "platform", "virtual" })
+    public String mode;
+
+    @Param({ "2" })
+    public int jdbcMillis;
+
+    @Param({ "5", "50" })
+    public int ioMillis;
+
+    private Executor executor;
+    private ExecutorService platformPool;
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @Setup
+    public void setUp() {
+        if ("virtual".equals(mode)) {
+            executor = new VirtualThreadTaskExecutor("bench-vt-");
+        } else {
+            platformPool = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+            executor = platformPool;
+        }
+        dataSource = new ConcurrencyLimitedDataSource(new StubDataSource(), POOL_SIZE, Duration.ofSeconds(30));
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (platformPool != null) {
+            platformPool.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public void request() {
+        CompletableFuture.runAsync(this::handle, executor).join();
+    }
+
+    private void handle() {
+        try {
+            Connection connection = dataSource.getConnection();
+            try {
+                Thread.sleep(jdbcMillis);
+            } finally {
+                connection.close();
+            }
+            Thread.sleep(ioMillis);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Connection giả: close() không làm gì, các method khác không được gọi
+     */
+    private static final class StubDataSource extends AbstractDataSource {
+        @Override
+        public Connection getConnection() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] { Connection.class }, (proxy, method, args) -> null);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) {
+            return getConnection();
+        }
+    }
+}
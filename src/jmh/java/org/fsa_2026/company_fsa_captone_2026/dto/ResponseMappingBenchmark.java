@@ -0,0 +1,107 @@
+package org.fsa_2026.company_fsa_captone_2026.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.fsa_2026.company_fsa_captone_2026.config.AppConfig;
+import org.fsa_2026.company_fsa_captone_2026.entity.Account;
+import org.fsa_2026.company_fsa_captone_2026.entity.Attempt;
+import org.fsa_2026.company_fsa_captone_2026.entity.Challenge;
+import org.fsa_2026.company_fsa_captone_2026.entity.PracticeSession;
+import org.fsa_2026.company_fsa_captone_2026.entity.UserProfile;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResponseMappingBenchmark – entity → DTO và serialize ApiResponse bằng ObjectMapper của ứng dụng
+ *
+ * <p>
+ * Kích thước: leaderboard 100 dòng, lịch sử 100 attempt (một trang tối đa).
+ * Chạy: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="ResponseMappingBenchmark"}
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ResponseMappingBenchmark {
+
+    private static final int ROWS = 100;
+
+    private ObjectMapper objectMapper;
+    private List<UserProfile> profiles;
+    private List<Attempt> attempts;
+    private ApiResponse<List<LeaderboardEntryResponse>> leaderboardResponse;
+    private ApiResponse<List<AttemptResponse>> attemptResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new AppConfig().objectMapper();
+        profiles = new ArrayList<>(ROWS);
+        attempts = new ArrayList<>(ROWS);
+        PracticeSession session = PracticeSession.builder().id(UUID.randomUUID()).build();
+        for (int i = 0; i < ROWS; i++) {
+            Account account = Account.builder().email("learner" + i + "@test.vn").region("NORTH").build();
+            account.setId(UUID.randomUUID());
+            UserProfile profile = UserProfile.builder()
+                    .account(account)
+                    .fullName("Nguyễn Văn " + i)
+                    .avatarUrl("https://api.dicebear.com/7.x/initials/svg?seed=" + i)
+                    .totalExperience(10_000 - i * 7)
+                    .totalStars(300 - i)
+                    .currentStreakDays(i % 30)
+                    .build();
+            profiles.add(profile);
+
+            Challenge challenge = new Challenge();
+            challenge.setId(UUID.randomUUID());
+            attempts.add(Attempt.builder()
+                    .id(UUID.randomUUID())
+                    .session(session)
+                    .challenge(challenge)
+                    .account(account)
+                    .audioUrl("https://storage.example.com/audio/" + i + ".wav")
+                    .scoreOverall(BigDecimal.valueOf(55 + i % 45))
+                    .isPassed(i % 3 != 0)
+                    .latencyMs(800 + i)
+                    .createdAt(Instant.now())
+                    .build());
+        }
+        leaderboardResponse = ApiResponse.success("OK", mapLeaderboard());
+        attemptResponse = ApiResponse.success("OK", mapAttempts());
+    }
+
+    @Benchmark
+    public List<LeaderboardEntryResponse> mapLeaderboard() {
+        List<LeaderboardEntryResponse> result = new ArrayList<>(profiles.size());
+        for (UserProfile profile : profiles) {
+            result.add(LeaderboardEntryResponse.fromEntity(profile));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<AttemptResponse> mapAttempts() {
+        List<AttemptResponse> result = new ArrayList<>(attempts.size());
+        for (Attempt attempt : attempts) {
+            result.add(AttemptResponse.fromEntity(attempt));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public byte[] serializeLeaderboard() throws Exception {
+        return objectMapper.writeValueAsBytes(leaderboardResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeAttempts() throws Exception {
+        return objectMapper.writeValueAsBytes(attemptResponse);
+    }
+}
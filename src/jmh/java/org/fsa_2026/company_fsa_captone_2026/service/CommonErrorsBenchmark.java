@@ -0,0 +1,51 @@
+package org.fsa_2026.company_fsa_captone_2026.service;
+
+import org.fsa_2026.company_fsa_captone_2026.dto.ClassroomPerformanceResponse;
+import org.fsa_2026.company_fsa_captone_2026.entity.AttemptPhonemeFeedback;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CommonErrorsBenchmark – gom phoneme feedback của một lớp (EducatorService.getCommonErrors)
+ *
+ * <p>
+ * 40 học viên × 50 attempt × ~12 phoneme ≈ 24k dòng feedback, ~60 phoneme khác nhau.
+ * Chạy: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="CommonErrorsBenchmark"}
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CommonErrorsBenchmark {
+
+    @Param({ "24000" })
+    public int feedbackRows;
+
+    private List<AttemptPhonemeFeedback> feedback;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        feedback = new ArrayList<>(feedbackRows);
+        for (int i = 0; i < feedbackRows; i++) {
+            feedback.add(AttemptPhonemeFeedback.builder()
+                    .sequenceOrder(i % 12)
+                    .phonemeIpa("p" + random.nextInt(60))
+                    .score(BigDecimal.valueOf(random.nextInt(40, 100)))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<ClassroomPerformanceResponse.CommonErrorResponse> summarizeCommonErrors() {
+        return EducatorService.summarizeCommonErrors(feedback);
+    }
+}
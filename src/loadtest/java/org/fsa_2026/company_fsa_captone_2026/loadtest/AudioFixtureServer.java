@@ -0,0 +1,98 @@
+package org.fsa_2026.company_fsa_captone_2026.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Audio Fixture Server
+ * Đóng vai storage chứa audio (S3/CDN) cho PronunciationScorer tải về:
+ * <ul>
+ * <li>{@code /ref/{challenge}.wav} – giọng mẫu</li>
+ * <li>{@code /say/{challenge}/{speaker}/{skillPercent}.wav} – bản đọc của học viên</li>
+ * </ul>
+ * WAV được sinh tất định theo đường dẫn nên không cần lưu trữ.
+ */
+final class AudioFixtureServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private AudioFixtureServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    static AudioFixtureServer start(SyntheticCatalog catalog) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 256);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        server.setExecutor(executor);
+        server.createContext("/ref/", exchange -> {
+            String[] parts = segments(exchange, "/ref/");
+            if (parts.length != 1) {
+                notFound(exchange);
+                return;
+            }
+            SyntheticCatalog.ChallengeSpec spec = catalog.challenge(Integer.parseInt(parts[0]));
+            send(exchange, SyntheticSpeech.reference(spec.index(), spec.tone(), spec.onsetBurstMs()));
+        });
+        server.createContext("/say/", exchange -> {
+            String[] parts = segments(exchange, "/say/");
+            if (parts.length != 3) {
+                notFound(exchange);
+                return;
+            }
+            SyntheticCatalog.ChallengeSpec spec = catalog.challenge(Integer.parseInt(parts[0]));
+            double skill = Integer.parseInt(parts[2]) / 100.0;
+            send(exchange, SyntheticSpeech.learner(spec.index(), spec.tone(), spec.onsetBurstMs(),
+                    Long.parseLong(parts[1]), skill));
+        });
+        server.start();
+        return new AudioFixtureServer(server, executor);
+    }
+
+    String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    String referenceUrl(int challenge) {
+        return baseUrl() + "/ref/" + challenge + ".wav";
+    }
+
+    String learnerUrl(int challenge, long speaker, double skill) {
+        return baseUrl() + "/say/" + challenge + "/" + speaker + "/" + Math.round(skill * 100) + ".wav";
+    }
+
+    private static String[] segments(HttpExchange exchange, String prefix) {
+        String path = exchange.getRequestURI().getPath().substring(prefix.length());
+        if (path.endsWith(".wav")) {
+            path = path.substring(0, path.length() - 4);
+        }
+        return path.split("/");
+    }
+
+    private static void send(HttpExchange exchange, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "audio/wav");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void notFound(HttpExchange exchange) throws IOException {
+        exchange.sendResponseHeaders(404, -1);
+        exchange.close();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,70 @@
+package org.fsa_2026.company_fsa_captone_2026.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Bulk Fixtures
+ * Sinh lịch sử lớn (practice_session, attempt, attempt_phoneme_feedback, quiz,
+ * content_approval_history) bằng {@code generate_series} ngay trong Postgres – qua JPA
+ * thì hàng trăm nghìn dòng mất vài phút. Chạy sau LoadTestSeeder (cần account, level,
+ * challenge), kết thúc bằng ANALYZE để planner thấy đúng kích thước bảng.
+ */
+final class BulkFixtures {
+
+    private static final int HISTORY_MONTHS = 12;
+    private static final int PHONEMES_PER_ATTEMPT = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    BulkFixtures(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    void generate(LoadTestConfig config) {
+        jdbcTemplate.execute("SELECT setseed(" + (config.seed() % 1000) / 1000.0 + ")");
+        // không có DEFAULT partition: tạo trước partition cho cả năm lịch sử
+        jdbcTemplate.queryForList("""
+                SELECT f_ensure_monthly_partition(t, (date_trunc('month', now()) - m * interval '1 month')::date)
+                FROM unnest(ARRAY['attempt', 'attempt_phoneme_feedback']) t, generate_series(0, ?) m""",
+                String.class, HISTORY_MONTHS - 1);
+
+        jdbcTemplate.update("""
+                INSERT INTO practice_session (id, account_id, started_at)
+                SELECT gen_random_uuid(), a.id, date_trunc('month', now()) - (? - 1) * interval '1 month'
+                        + random() * (now() - date_trunc('month', now()) + (? - 1) * interval '1 month' - interval '1 hour')
+                FROM account a, generate_series(1, ?)
+                WHERE a.role_code = 'USER'""", HISTORY_MONTHS, HISTORY_MONTHS, config.sessionsPerLearner());
+
+        jdbcTemplate.update("""
+                INSERT INTO attempt (id, session_id, challenge_id, account_id, audio_url, score_overall, is_passed, created_at)
+                SELECT gen_random_uuid(), s.id, c.ids[1 + floor(random() * cardinality(c.ids))::int], s.account_id,
+                       'bulk.wav', round((random() * 100)::numeric, 2), random() > 0.4, s.started_at + g * interval '20 seconds'
+                FROM practice_session s
+                CROSS JOIN generate_series(1, ?) g
+                CROSS JOIN (SELECT array_agg(id) AS ids FROM challenge) c""", config.attemptsPerSession());
+
+        jdbcTemplate.update("""
+                INSERT INTO attempt_phoneme_feedback (id, attempt_id, sequence_order, phoneme_ipa, score, created_at, updated_at)
+                SELECT gen_random_uuid(), a.id, g, (ARRAY['ʈ', 'ɲ', 'ŋ', 'ɣ', 'ɗ', 'a', 'ɔ', 'ɯ'])[1 + floor(random() * 8)::int],
+                       round((random() * 100)::numeric, 2), a.created_at, a.created_at
+                FROM attempt a CROSS JOIN generate_series(1, ?) g""", PHONEMES_PER_ATTEMPT);
+
+        jdbcTemplate.update("""
+                INSERT INTO quiz (id, level_id, title, passing_score, status, created_by, created_at, updated_at)
+                SELECT gen_random_uuid(), l.ids[1 + floor(random() * cardinality(l.ids))::int], 'Bulk quiz ' || g, 70,
+                       CASE WHEN random() < 0.8 THEN 'APPROVED' ELSE 'PENDING' END,
+                       'educator' || (g % 200) || '@loadtest.local', now() - random() * interval '365 days', now()
+                FROM generate_series(1, ?) g
+                CROSS JOIN (SELECT array_agg(id) AS ids FROM level) l""", config.learners());
+
+        jdbcTemplate.update("""
+                INSERT INTO content_approval_history (id, content_type, content_id, status, created_at, updated_at)
+                SELECT gen_random_uuid(), 'CHALLENGE', c.ids[1 + floor(random() * cardinality(c.ids))::int],
+                       CASE WHEN random() < 0.7 THEN 'APPROVED' ELSE 'REJECTED' END,
+                       now() - random() * interval '365 days', now()
+                FROM generate_series(1, ?) g
+                CROSS JOIN (SELECT array_agg(id) AS ids FROM challenge) c""", config.learners() * 2);
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
@@ -0,0 +1,148 @@
+package org.fsa_2026.company_fsa_captone_2026.loadtest;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Index Advisor
+ *
+ * <p>
+ * Seed dữ liệu cỡ production (LoadTestSeeder + BulkFixtures), gọi mọi query method của
+ * repository, EXPLAIN từng câu SQL và liệt kê Seq Scan chọn lọc trên bảng lớn kèm index đề
+ * xuất. Kết quả in ra console và ghi thành changelog Liquibase
+ * {@code target/index-advisor-changelog.xml} để review rồi chép vào db/changelog.
+ * </p>
+ *
+ * <pre>
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.main=org.fsa_2026.company_fsa_captone_2026.loadtest.IndexAdvisor
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.main=... -Dloadtest.args="-Dloadtest.learners=50000"
+ * </pre>
+ */
+public final class IndexAdvisor {
+
+    /** Kết quả phân tích: method đã probe, Seq Scan tìm thấy, index đề xuất (mỗi index → method gây ra) */
+    static final class Result {
+        private final List<RepositoryProbe.ProbedMethod> probed;
+        private final List<QueryPlans.SeqScan> seqScans;
+        private final Map<QueryPlans.IndexCandidate, Set<String>> candidates;
+
+        private Result(List<RepositoryProbe.ProbedMethod> probed, List<QueryPlans.SeqScan> seqScans) {
+            this.probed = probed;
+            this.seqScans = seqScans;
+            this.candidates = new LinkedHashMap<>();
+            for (QueryPlans.SeqScan scan : seqScans) {
+                if (scan.candidate() != null) {
+                    candidates.computeIfAbsent(scan.candidate(), candidate -> new LinkedHashSet<>()).add(scan.method());
+                }
+            }
+        }
+
+        List<RepositoryProbe.ProbedMethod> probed() {
+            return probed;
+        }
+
+        List<QueryPlans.SeqScan> seqScans() {
+            return seqScans;
+        }
+
+        Map<QueryPlans.IndexCandidate, Set<String>> candidates() {
+            return candidates;
+        }
+    }
+
+    private IndexAdvisor() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Result result = analyze(config());
+
+        for (RepositoryProbe.ProbedMethod method : result.probed()) {
+            if (method.error() != null) {
+                System.out.println("SKIPPED " + method.name() + ": " + method.error());
+            }
+        }
+        result.seqScans().forEach(scan -> System.out.println("SEQ SCAN " + scan));
+        System.out.printf("Probed %d repository methods, %d selective seq scans, %d index candidates%n",
+                result.probed().size(), result.seqScans().size(), result.candidates().size());
+
+        Path changelog = Path.of(System.getProperty("loadtest.advisor.output", "target/index-advisor-changelog.xml"));
+        writeChangelog(changelog, result);
+        System.out.println("Changelog written to " + changelog.toAbsolutePath());
+    }
+
+    /** Như load test, nhưng mặc định nhiều học viên hơn để bảng đủ lớn cho planner bỏ Seq Scan */
+    static LoadTestConfig config() {
+        if (System.getProperty("loadtest.learners") == null) {
+            System.setProperty("loadtest.learners", "20000");
+        }
+        return LoadTestConfig.fromSystemProperties();
+    }
+
+    static Result analyze(LoadTestConfig config) throws IOException {
+        SyntheticCatalog catalog = SyntheticCatalog.generate(config);
+        Path featureDir = Files.createTempDirectory("index-advisor-features");
+        try (PostgresStandIn postgres = PostgresStandIn.start(config);
+                AudioFixtureServer audio = AudioFixtureServer.start(catalog);
+                ConfigurableApplicationContext app = LoadTestMain.startApplication(config, postgres, featureDir,
+                        Map.of("spring.jpa.properties.hibernate.session_factory.statement_inspector",
+                                StatementCapture.class.getName(),
+                                "app.partitioning.enabled", false))) {
+
+            long start = System.nanoTime();
+            new LoadTestSeeder(app).seed(config, catalog, audio);
+            JdbcTemplate jdbcTemplate = app.getBean(JdbcTemplate.class);
+            new BulkFixtures(jdbcTemplate).generate(config);
+            System.out.printf("Seeded in %d s%n", TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+
+            List<RepositoryProbe.ProbedMethod> probed = new RepositoryProbe(app).probeAll();
+            QueryPlans plans = new QueryPlans(jdbcTemplate, config);
+            List<QueryPlans.SeqScan> seqScans = new ArrayList<>();
+            for (RepositoryProbe.ProbedMethod method : probed) {
+                for (String sql : new LinkedHashSet<>(method.statements())) {
+                    seqScans.addAll(plans.seqScans(method.name(), sql));
+                }
+            }
+            return new Result(probed, seqScans);
+        }
+    }
+
+    static void writeChangelog(Path file, Result result) throws IOException {
+        StringBuilder xml = new StringBuilder("""
+                <?xml version="1.0" encoding="UTF-8"?>
+                <databaseChangeLog
+                        xmlns="http://www.liquibase.org/xml/ns/dbchangelog"
+                        xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+                        xsi:schemaLocation="http://www.liquibase.org/xml/ns/dbchangelog
+                        http://www.liquibase.org/xml/ns/dbchangelog/dbchangelog-latest.xsd">
+                """);
+        for (Map.Entry<QueryPlans.IndexCandidate, Set<String>> entry : result.candidates().entrySet()) {
+            QueryPlans.IndexCandidate candidate = entry.getKey();
+            xml.append('\n')
+                    .append("    <!-- ").append(String.join(", ", entry.getValue()).replace("--", "- -")).append(" -->\n")
+                    .append("    <changeSet id=\"advisor-").append(candidate.name()).append("\" author=\"fsa-team\">\n")
+                    .append("        <sql>\n")
+                    .append("            ").append(escape(candidate.ddl())).append(";\n")
+                    .append("        </sql>\n")
+                    .append("    </changeSet>\n");
+        }
+        xml.append("\n</databaseChangeLog>\n");
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, xml, StandardCharsets.UTF_8);
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
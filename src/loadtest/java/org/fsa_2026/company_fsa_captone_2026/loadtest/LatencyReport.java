@@ -0,0 +1,120 @@
+package org.fsa_2026.company_fsa_captone_2026.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency Report
+ * HdrHistogram theo endpoint (µs, 3 chữ số có nghĩa), chỉ ghi trong cửa sổ đo
+ * (sau ramp-up) để p99 không bị JIT/cache lạnh làm lệch.
+ */
+final class LatencyReport {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private static final class Endpoint {
+        private final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final Map<Integer, LongAdder> statuses = new ConcurrentSkipListMap<>();
+    }
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean measuring;
+    private volatile long startedNanos;
+    private volatile long stoppedNanos;
+
+    void startMeasuring() {
+        startedNanos = System.nanoTime();
+        measuring = true;
+    }
+
+    void stopMeasuring() {
+        measuring = false;
+        stoppedNanos = System.nanoTime();
+    }
+
+    /**
+     * @param status HTTP status, 0 nếu lỗi I/O
+     */
+    void record(String endpoint, long startNanos, int status) {
+        if (!measuring) {
+            return;
+        }
+        long micros = Math.min(MAX_LATENCY_MICROS, (System.nanoTime() - startNanos) / 1000);
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, key -> new Endpoint());
+        stats.latency.recordValue(micros);
+        stats.statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        if (status < 200 || status >= 300) {
+            stats.errors.increment();
+        }
+    }
+
+    private double seconds() {
+        long end = measuring ? System.nanoTime() : stoppedNanos;
+        return Math.max(1e-9, (end - startedNanos) / 1e9);
+    }
+
+    void print(PrintStream out, LoadTestConfig config) {
+        double seconds = seconds();
+        out.println();
+        out.printf("Load test: %s, measured %.1fs%n", config, seconds);
+        out.printf("%-36s %9s %9s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        endpoints.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
+            Histogram h = entry.getValue().latency;
+            out.printf("%-36s %9d %9.1f %8d %9.1f %9.1f %9.1f %9.1f %9.1f%n", entry.getKey(),
+                    h.getTotalCount(), h.getTotalCount() / seconds, entry.getValue().errors.sum(),
+                    millis(h, 50), millis(h, 90), millis(h, 99), millis(h, 99.9), h.getMaxValue() / 1000.0);
+        });
+    }
+
+    void writeJson(Path file, LoadTestConfig config) throws IOException {
+        double seconds = seconds();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config.toString());
+        report.put("measuredSeconds", seconds);
+        Map<String, Object> byEndpoint = new LinkedHashMap<>();
+        endpoints.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
+            Histogram h = entry.getValue().latency;
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("requests", h.getTotalCount());
+            stats.put("throughputPerSecond", h.getTotalCount() / seconds);
+            stats.put("errors", entry.getValue().errors.sum());
+            Map<String, Long> statuses = new LinkedHashMap<>();
+            entry.getValue().statuses.forEach((status, count) -> statuses.put(String.valueOf(status), count.sum()));
+            stats.put("statuses", statuses);
+            stats.put("meanMs", h.getMean() / 1000.0);
+            stats.put("p50Ms", millis(h, 50));
+            stats.put("p90Ms", millis(h, 90));
+            stats.put("p99Ms", millis(h, 99));
+            stats.put("p999Ms", millis(h, 99.9));
+            stats.put("maxMs", h.getMaxValue() / 1000.0);
+            byEndpoint.put(entry.getKey(), stats);
+        });
+        report.put("endpoints", byEndpoint);
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+    }
+
+    boolean hasErrors() {
+        return endpoints.values().stream().anyMatch(stats -> stats.errors.sum() > 0);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,158 @@
+package org.fsa_2026.company_fsa_captone_2026.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Load Test Configuration
+ * Đọc từ system property {@code -Dloadtest.*} (xem LoadTestMain).
+ */
+final class LoadTestConfig {
+
+    private final int learners;
+    private final int classrooms;
+    private final int levels;
+    private final int challengesPerLevel;
+    private final int users;
+    private final Duration duration;
+    private final Duration rampUp;
+    private final int attemptsPerSession;
+    private final Duration thinkTime;
+    private final int bcryptStrength;
+    private final String jdbcUrl;
+    private final String jdbcUser;
+    private final String jdbcPassword;
+    private final String postgresImage;
+    private final String profiles;
+    private final long seed;
+    private final int sessionsPerLearner;
+    private final int advisorMinRows;
+    private final double advisorMaxSelectivity;
+
+    private LoadTestConfig() {
+        this.learners = intProperty("loadtest.learners", 500);
+        this.classrooms = intProperty("loadtest.classrooms", 20);
+        this.levels = intProperty("loadtest.levels", 10);
+        this.challengesPerLevel = intProperty("loadtest.challenges-per-level", 20);
+        this.users = intProperty("loadtest.users", 50);
+        this.duration = Duration.parse(System.getProperty("loadtest.duration", "PT2M"));
+        this.rampUp = Duration.parse(System.getProperty("loadtest.ramp-up", "PT10S"));
+        this.attemptsPerSession = intProperty("loadtest.attempts-per-session", 8);
+        this.thinkTime = Duration.parse(System.getProperty("loadtest.think-time", "PT0.5S"));
+        this.bcryptStrength = intProperty("loadtest.bcrypt-strength", 10);
+        this.jdbcUrl = System.getProperty("loadtest.jdbc-url", "");
+        this.jdbcUser = System.getProperty("loadtest.jdbc-user", "postgres");
+        this.jdbcPassword = System.getProperty("loadtest.jdbc-password", "postgres");
+        this.postgresImage = System.getProperty("loadtest.postgres-image", "postgres:16-alpine");
+        this.profiles = System.getProperty("loadtest.profiles", "");
+        this.seed = Long.getLong("loadtest.seed", 20260101L);
+        this.sessionsPerLearner = intProperty("loadtest.sessions-per-learner", 4);
+        this.advisorMinRows = intProperty("loadtest.advisor.min-rows", 10_000);
+        this.advisorMaxSelectivity = Double.parseDouble(System.getProperty("loadtest.advisor.max-selectivity", "0.2"));
+    }
+
+    static LoadTestConfig fromSystemProperties() {
+        LoadTestConfig config = new LoadTestConfig();
+        if (config.users > config.learners) {
+            throw new IllegalArgumentException("loadtest.users (" + config.users
+                    + ") must not exceed loadtest.learners (" + config.learners + ")");
+        }
+        return config;
+    }
+
+    private static int intProperty(String key, int defaultValue) {
+        int value = Integer.getInteger(key, defaultValue);
+        if (value <= 0) {
+            throw new IllegalArgumentException(key + " must be positive: " + value);
+        }
+        return value;
+    }
+
+    int learners() {
+        return learners;
+    }
+
+    int classrooms() {
+        return classrooms;
+    }
+
+    int levels() {
+        return levels;
+    }
+
+    int challengesPerLevel() {
+        return challengesPerLevel;
+    }
+
+    int users() {
+        return users;
+    }
+
+    Duration duration() {
+        return duration;
+    }
+
+    Duration rampUp() {
+        return rampUp;
+    }
+
+    int attemptsPerSession() {
+        return attemptsPerSession;
+    }
+
+    /** Thời gian nghĩ trung bình giữa hai thao tác (ngẫu nhiên 0.5x–1.5x) */
+    Duration thinkTime() {
+        return thinkTime;
+    }
+
+    int bcryptStrength() {
+        return bcryptStrength;
+    }
+
+    /** Rỗng = khởi động Postgres bằng Testcontainers */
+    String jdbcUrl() {
+        return jdbcUrl;
+    }
+
+    String jdbcUser() {
+        return jdbcUser;
+    }
+
+    String jdbcPassword() {
+        return jdbcPassword;
+    }
+
+    String postgresImage() {
+        return postgresImage;
+    }
+
+    String profiles() {
+        return profiles;
+    }
+
+    long seed() {
+        return seed;
+    }
+
+    /** Lịch sử luyện tập sinh sẵn bằng SQL cho IndexAdvisor (mỗi phiên attemptsPerSession attempt) */
+    int sessionsPerLearner() {
+        return sessionsPerLearner;
+    }
+
+    /** Bảng (partition) ít dòng hơn ngưỡng này thì Seq Scan là bình thường */
+    int advisorMinRows() {
+        return advisorMinRows;
+    }
+
+    /** Seq Scan trả về hơn tỉ lệ này của bảng thì index không giúp được */
+    double advisorMaxSelectivity() {
+        return advisorMaxSelectivity;
+    }
+
+    @Override
+    public String toString() {
+        return "learners=" + learners + ", classrooms=" + classrooms + ", levels=" + levels
+                + ", challengesPerLevel=" + challengesPerLevel + ", users=" + users + ", duration=" + duration
+                + ", rampUp=" + rampUp + ", attemptsPerSession=" + attemptsPerSession + ", thinkTime=" + thinkTime
+                + ", bcryptStrength=" + bcryptStrength + ", profiles=" + (profiles.isEmpty() ? "-" : profiles);
+    }
+}
@@ -0,0 +1,142 @@
+package org.fsa_2026.company_fsa_captone_2026.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.fsa_2026.company_fsa_captone_2026.Application;
+import org.fsa_2026.company_fsa_captone_2026.service.RecommendationService;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load Test Harness (end-to-end, qua HTTP thật)
+ *
+ * <p>
+ * Khởi động Postgres (Testcontainers), chạy ứng dụng trên cổng ngẫu nhiên, seed học viên,
+ * lớp, level, challenge rồi cho {@code loadtest.users} học viên ảo chạy song song. In bảng
+ * throughput + p50/p90/p99/p99.9/max theo endpoint và ghi
+ * {@code target/loadtest-report.json}.
+ * </p>
+ *
+ * <pre>
+ * mvn -Ploadtest test-compile exec:exec
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.args="-Dloadtest.users=200 -Dloadtest.duration=PT5M"
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.args="-Dloadtest.jdbc-url=jdbc:postgresql://localhost:5432/lt"
+ * </pre>
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        SyntheticCatalog catalog = SyntheticCatalog.generate(config);
+        Path reportFile = Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json"));
+        Path featureDir = Files.createTempDirectory("loadtest-features");
+
+        try (PostgresStandIn postgres = PostgresStandIn.start(config);
+                AudioFixtureServer audio = AudioFixtureServer.start(catalog);
+                ConfigurableApplicationContext app = startApplication(config, postgres, featureDir, Map.of())) {
+
+            int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port;
+
+            long seedStart = System.nanoTime();
+            LoadTestSeeder.SeedResult seed = new LoadTestSeeder(app).seed(config, catalog, audio);
+            // index gợi ý được build lúc ApplicationReady – trước khi có challenge seed
+            app.getBean(RecommendationService.class).rebuildIndex();
+            System.out.printf("Seeded %d learners, %d challenges in %d ms%n", seed.learners().size(),
+                    catalog.challenges().size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - seedStart));
+
+            LatencyReport report = run(config, baseUrl, seed, catalog, audio);
+            report.print(System.out, config);
+            report.writeJson(reportFile, config);
+            System.out.println("Report written to " + reportFile.toAbsolutePath());
+        }
+    }
+
+    /**
+     * Chạy ứng dụng thật trên Postgres của harness; {@code overrides} thêm/ghi đè default
+     * properties (IndexAdvisor dùng để gắn StatementInspector).
+     */
+    static ConfigurableApplicationContext startApplication(LoadTestConfig config, PostgresStandIn postgres,
+            Path featureDir, Map<String, Object> overrides) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", postgres.jdbcUrl());
+        properties.put("spring.datasource.username", postgres.username());
+        properties.put("spring.datasource.password", postgres.password());
+        properties.put("server.port", 0);
+        // Harness là một IP gửi hàng trăm login/phút – rate limit sẽ đo chính nó
+        properties.put("app.rate-limit.enabled", false);
+        properties.put("app.auth.password-hash.strength", config.bcryptStrength());
+        properties.put("app.audio.reference-feature-dir", featureDir.toString());
+        // AudioFixtureServer: HTTP trên loopback
+        properties.put("app.audio.allowed-hosts", "localhost,127.0.0.1");
+        properties.put("app.audio.allowed-schemes", "http,https");
+        properties.put("spring.jpa.properties.hibernate.format_sql", false);
+        properties.put("spring.jpa.properties.hibernate.use_sql_comments", false);
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.org.springframework.security", "WARN");
+        properties.putAll(overrides);
+
+        SpringApplication application = new SpringApplication(Application.class);
+        application.setDefaultProperties(properties);
+        if (!config.profiles().isBlank()) {
+            application.setAdditionalProfiles(config.profiles().split(","));
+        }
+        // system property / env vẫn ghi đè được default properties ở trên
+        return application.run();
+    }
+
+    private static LatencyReport run(LoadTestConfig config, String baseUrl, LoadTestSeeder.SeedResult seed,
+            SyntheticCatalog catalog, AudioFixtureServer audio) throws InterruptedException {
+        LatencyReport report = new LatencyReport();
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ObjectMapper json = new ObjectMapper();
+        List<LoadTestSeeder.Learner> learners = seed.learners();
+
+        long start = System.nanoTime();
+        long deadline = start + config.rampUp().toNanos() + config.duration().toNanos();
+        long staggerNanos = config.rampUp().toNanos() / config.users();
+        ExecutorService users = Executors.newFixedThreadPool(config.users());
+        for (int i = 0; i < config.users(); i++) {
+            // người dùng ảo i đóng vai học viên i, vào dần trong thời gian ramp-up
+            LoadTestSeeder.Learner learner = learners.get(i * (learners.size() / config.users()));
+            long delay = i * staggerNanos;
+            users.submit(() -> {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(delay);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                new VirtualLearner(http, json, baseUrl, learner, seed, catalog, audio, report, config, deadline).run();
+            });
+        }
+
+        TimeUnit.NANOSECONDS.sleep(config.rampUp().toNanos());
+        report.startMeasuring();
+        System.out.printf("Ramp-up done, measuring %s with %d users...%n", config.duration(), config.users());
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, deadline - System.nanoTime()));
+        report.stopMeasuring();
+
+        users.shutdown();
+        if (!users.awaitTermination(1, TimeUnit.MINUTES)) {
+            users.shutdownNow();
+        }
+        return report;
+    }
+}
@@ -0,0 +1,243 @@
+package org.fsa_2026.company_fsa_captone_2026.loadtest;
+
+import org.fsa_2026.company_fsa_captone_2026.entity.Account;
+import org.fsa_2026.company_fsa_captone_2026.entity.Challenge;
+import org.fsa_2026.company_fsa_captone_2026.entity.Classroom;
+import org.fsa_2026.company_fsa_captone_2026.entity.ClassroomMember;
+import org.fsa_2026.company_fsa_captone_2026.entity.Dialect;
+import org.fsa_2026.company_fsa_captone_2026.entity.Level;
+import org.fsa_2026.company_fsa_captone_2026.entity.UserProfile;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.ContentStatus;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.RoleCode;
+import org.fsa_2026.company_fsa_captone_2026.repository.AccountRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.ChallengeRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.ClassroomMemberRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.ClassroomRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.DialectRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.LevelRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.UserProfileRepository;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Load Test Seeder
+ * Ghi dữ liệu giả lập qua chính repository của ứng dụng (entity, auditing, ràng buộc
+ * giống hệt production), mỗi transaction một lô để không giữ connection quá lâu.
+ */
+final class LoadTestSeeder {
+
+    static final String PASSWORD = "LoadTest@2026";
+    private static final int CHUNK = 500;
+    private static final int CLASSROOMS_PER_EDUCATOR = 4;
+
+    /** Học viên giả lập: speaker quyết định giọng, skill quyết định tỉ lệ đọc sai */
+    static final class Learner {
+        private final String email;
+        private final String region;
+        private final long speaker;
+        private final double skill;
+
+        private Learner(String email, String region, long speaker, double skill) {
+            this.email = email;
+            this.region = region;
+            this.speaker = speaker;
+            this.skill = skill;
+        }
+
+        String email() {
+            return email;
+        }
+
+        String region() {
+            return region;
+        }
+
+        long speaker() {
+            return speaker;
+        }
+
+        double skill() {
+            return skill;
+        }
+    }
+
+    /** Kết quả seed: challenge id theo index của catalog */
+    static final class SeedResult {
+        private final List<Learner> learners;
+        private final UUID[] challengeIds;
+        private final Map<UUID, Integer> challengeIndex = new HashMap<>();
+
+        private SeedResult(List<Learner> learners, UUID[] challengeIds) {
+            this.learners = learners;
+            this.challengeIds = challengeIds;
+            for (int i = 0; i < challengeIds.length; i++) {
+                challengeIndex.put(challengeIds[i], i);
+            }
+        }
+
+        List<Learner> learners() {
+            return learners;
+        }
+
+        UUID challengeId(int index) {
+            return challengeIds[index];
+        }
+
+        /** Index trong catalog, -1 nếu không phải challenge do harness seed */
+        int challengeIndex(UUID id) {
+            return challengeIndex.getOrDefault(id, -1);
+        }
+    }
+
+    private final AccountRepository accountRepository;
+    private final UserProfileRepository userProfileRepository;
+    private final DialectRepository dialectRepository;
+    private final LevelRepository levelRepository;
+    private final ChallengeRepository challengeRepository;
+    private final ClassroomRepository classroomRepository;
+    private final ClassroomMemberRepository classroomMemberRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactions;
+
+    LoadTestSeeder(ApplicationContext context) {
+        this.accountRepository = context.getBean(AccountRepository.class);
+        this.userProfileRepository = context.getBean(UserProfileRepository.class);
+        this.dialectRepository = context.getBean(DialectRepository.class);
+        this.levelRepository = context.getBean(LevelRepository.class);
+        this.challengeRepository = context.getBean(ChallengeRepository.class);
+        this.classroomRepository = context.getBean(ClassroomRepository.class);
+        this.classroomMemberRepository = context.getBean(ClassroomMemberRepository.class);
+        this.passwordEncoder = context.getBean(PasswordEncoder.class);
+        this.transactions = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    SeedResult seed(LoadTestConfig config, SyntheticCatalog catalog, AudioFixtureServer audio) {
+        SplittableRandom random = new SplittableRandom(config.seed());
+        UUID[] challengeIds = seedContent(catalog, audio);
+
+        // Cùng một hash cho mọi tài khoản: seed nhanh, còn login vẫn chạy BCrypt đầy đủ
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+
+        int educatorCount = Math.max(1, config.classrooms() / CLASSROOMS_PER_EDUCATOR);
+        List<Account> educators = new ArrayList<>();
+        for (int i = 0; i < educatorCount; i++) {
+            Account educator = Account.createUserAccount("educator" + i + "." + runId + "@loadtest.local",
+                    passwordHash, null, SyntheticCatalog.region(random));
+            educator.setRoleCode(RoleCode.EDUCATOR);
+            educator.setEmailVerified(true);
+            educators.add(educator);
+        }
+        List<Account> savedEducators = transactions.execute(status -> accountRepository.saveAll(educators));
+
+        List<Classroom> classrooms = new ArrayList<>();
+        for (int i = 0; i < config.classrooms(); i++) {
+            classrooms.add(Classroom.builder()
+                    .educator(savedEducators.get(i % savedEducators.size()))
+                    .name("Load test class " + (i + 1))
+                    .code(classroomCode(runId, i))
+                    .build());
+        }
+        List<Classroom> savedClassrooms = transactions.execute(status -> classroomRepository.saveAll(classrooms));
+
+        List<Learner> learners = new ArrayList<>(config.learners());
+        for (int from = 0; from < config.learners(); from += CHUNK) {
+            int to = Math.min(config.learners(), from + CHUNK);
+            List<Learner> chunk = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                // Beta-ish: đa số học viên trung bình, ít người rất giỏi/rất yếu
+                double skill = Math.min(0.98, Math.max(0.2,
+                        (random.nextDouble() + random.nextDouble() + random.nextDouble()) / 3 + 0.15));
+                chunk.add(new Learner("learner" + i + "." + runId + "@loadtest.local",
+                        SyntheticCatalog.region(random), random.nextLong(), skill));
+            }
+            int chunkStart = from;
+            SplittableRandom chunkRandom = random.split();
+            transactions.executeWithoutResult(status -> {
+                List<Account> accounts = new ArrayList<>(chunk.size());
+                for (Learner learner : chunk) {
+                    Account account = Account.createUserAccount(learner.email(), passwordHash, null, learner.region());
+                    account.setEmailVerified(true);
+                    accounts.add(account);
+                }
+                accounts = accountRepository.saveAll(accounts);
+
+                List<UserProfile> profiles = new ArrayList<>(accounts.size());
+                List<ClassroomMember> members = new ArrayList<>();
+                for (int i = 0; i < accounts.size(); i++) {
+                    Account account = accounts.get(i);
+                    profiles.add(UserProfile.builder()
+                            .account(account)
+                            .fullName("Learner " + (chunkStart + i))
+                            .totalExperience(chunkRandom.nextInt(5000))
+                            .totalStars(chunkRandom.nextInt(300))
+                            .build());
+                    // ~70% học viên thuộc một lớp
+                    if (chunkRandom.nextDouble() < 0.7) {
+                        members.add(ClassroomMember.builder()
+                                .classroom(savedClassrooms.get(chunkRandom.nextInt(savedClassrooms.size())))
+                                .student(account)
+                                .build());
+                    }
+                }
+                userProfileRepository.saveAll(profiles);
+                classroomMemberRepository.saveAll(members);
+            });
+            learners.addAll(chunk);
+        }
+        return new SeedResult(List.copyOf(learners), challengeIds);
+    }
+
+    private UUID[] seedContent(SyntheticCatalog catalog, AudioFixtureServer audio) {
+        return transactions.execute(status -> {
+            Dialect dialect = dialectRepository.save(Dialect.builder()
+                    .name("Load test (Northern)")
+                    .description("Synthetic content for load testing")
+                    .build());
+            List<Level> levels = new ArrayList<>();
+            List<Challenge> challenges = new ArrayList<>();
+            for (SyntheticCatalog.ChallengeSpec spec : catalog.challenges()) {
+                while (levels.size() <= spec.level()) {
+                    levels.add(levelRepository.save(Level.builder()
+                            .dialect(dialect)
+                            .levelOrder(levels.size() + 1)
+                            .name("Load test level " + (levels.size() + 1))
+                            .minStarsRequired(levels.size() * 10)
+                            .status(ContentStatus.APPROVED)
+                            .build()));
+                }
+                Challenge challenge = new Challenge();
+                challenge.setLevel(levels.get(spec.level()));
+                challenge.setType("PRONUNCIATION");
+                challenge.setSkillType("SPEAKING");
+                challenge.setDifficulty(spec.difficulty());
+                challenge.setContentText(spec.contentText());
+                challenge.setPhoneticTranscriptionIpa(spec.ipa());
+                challenge.setReferenceAudioUrl(audio.referenceUrl(spec.index()));
+                challenge.setFocusPhonemes(spec.focusPhonemes());
+                challenge.setStatus(ContentStatus.APPROVED);
+                challenges.add(challenge);
+            }
+            List<Challenge> saved = challengeRepository.saveAll(challenges);
+            UUID[] ids = new UUID[saved.size()];
+            for (int i = 0; i < saved.size(); i++) {
+                ids[i] = saved.get(i).getId();
+            }
+            return ids;
+        });
+    }
+
+    /** classroom.code tối đa 10 ký tự và unique: "LT" + 4 ký tự runId + số thứ tự */
+    private static String classroomCode(String runId, int index) {
+        return ("LT" + runId.substring(runId.length() - 4) + String.format("%04d", index)).toUpperCase();
+    }
+}
@@ -0,0 +1,55 @@
+package org.fsa_2026.company_fsa_captone_2026.loadtest;
+
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Postgres Stand-In
+ * Postgres thật chạy trong Docker (Testcontainers) để Liquibase, SQL native và
+ * kế hoạch truy vấn giống production. Có {@code -Dloadtest.jdbc-url} thì dùng DB đó.
+ */
+final class PostgresStandIn implements AutoCloseable {
+
+    private final PostgreSQLContainer container;
+    private final String jdbcUrl;
+    private final String username;
+    private final String password;
+
+    private PostgresStandIn(PostgreSQLContainer container, String jdbcUrl, String username, String password) {
+        this.container = container;
+        this.jdbcUrl = jdbcUrl;
+        this.username = username;
+        this.password = password;
+    }
+
+    static PostgresStandIn start(LoadTestConfig config) {
+        if (!config.jdbcUrl().isBlank()) {
+            return new PostgresStandIn(null, config.jdbcUrl(), config.jdbcUser(), config.jdbcPassword());
+        }
+        PostgreSQLContainer container = new PostgreSQLContainer(config.postgresImage())
+                .withDatabaseName("speakjourney")
+                // fsync tắt: DB dùng một lần, đo ứng dụng chứ không đo đĩa của máy chạy test
+                .withCommand("postgres", "-c", "fsync=off", "-c", "max_connections=200");
+        container.start();
+        return new PostgresStandIn(container, container.getJdbcUrl(), container.getUsername(),
+                container.getPassword());
+    }
+
+    String jdbcUrl() {
+        return jdbcUrl;
+    }
+
+    String username() {
+        return username;
+    }
+
+    String password() {
+        return password;
+    }
+
+    @Override
+    public void close() {
+        if (container != null) {
+            container.stop();
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package org.fsa_2026.company_fsa_captone_2026.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Query Plans
+ * {@code EXPLAIN (GENERIC_PLAN, FORMAT JSON)} (PostgreSQL 16+) cho câu SQL đã capture – plan
+ * chung cho mọi giá trị tham số, đúng thứ mà prepared statement dùng lại – rồi tìm Seq Scan
+ * chọn lọc trên bảng lớn và suy ra index ứng viên: cột so sánh bằng trước, rồi cột sort
+ * (hoặc cột range), so sánh với hằng số thành điều kiện của partial index.
+ */
+final class QueryPlans {
+
+    private static final Pattern PARTITION_SUFFIX = Pattern.compile("_p\\d{4}_\\d{2}$");
+    private static final Pattern CAST = Pattern.compile("::[a-z]+(?: [a-z]+)*(\\[\\])?");
+    private static final Pattern COMPARISON = Pattern.compile(
+            "^(?:(\\w+)\\.)?(\\w+) (= ANY|=|>=|<=|>|<) (.+)$");
+    private static final Pattern SORT_KEY = Pattern.compile("^(?:(\\w+)\\.)?(\\w+)( DESC)?$");
+
+    /** Index đề xuất cho một bảng */
+    static final class IndexCandidate {
+        private final String table;
+        private final List<String> columns;
+        private final String where;
+
+        private IndexCandidate(String table, List<String> columns, String where) {
+            this.table = table;
+            this.columns = columns;
+            this.where = where;
+        }
+
+        String table() {
+            return table;
+        }
+
+        /** Cột theo thứ tự index, có thể kèm " DESC" */
+        List<String> columns() {
+            return columns;
+        }
+
+        /** Điều kiện partial index, rỗng nếu index đầy đủ */
+        String where() {
+            return where;
+        }
+
+        String name() {
+            String name = "idx_" + table + "_" + String.join("_", columns).replace(" DESC", "")
+                    + (where.isEmpty() ? "" : "_partial");
+            return name.length() <= 63 ? name : name.substring(0, 63);
+        }
+
+        String ddl() {
+            return "CREATE INDEX IF NOT EXISTS " + name() + " ON " + table + " (" + String.join(", ", columns) + ")"
+                    + (where.isEmpty() ? "" : " WHERE " + where);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof IndexCandidate that && ddl().equals(that.ddl());
+        }
+
+        @Override
+        public int hashCode() {
+            return ddl().hashCode();
+        }
+    }
+
+    /** Seq Scan chọn lọc trên bảng lớn mà một repository method gây ra */
+    static final class SeqScan {
+        private final String method;
+        private final String relation;
+        private final long tableRows;
+        private final long planRows;
+        private final String filter;
+        private final IndexCandidate candidate;
+
+        private SeqScan(String method, String relation, long tableRows, long planRows, String filter,
+                IndexCandidate candidate) {
+            this.method = method;
+            this.relation = relation;
+            this.tableRows = tableRows;
+            this.planRows = planRows;
+            this.filter = filter;
+            this.candidate = candidate;
+        }
+
+        String method() {
+            return method;
+        }
+
+        String relation() {
+            return relation;
+        }
+
+        long tableRows() {
+            return tableRows;
+        }
+
+        long planRows() {
+            return planRows;
+        }
+
+        String filter() {
+            return filter;
+        }
+
+        /** Null nếu không suy ra được cột nào (vd. filter toàn OR) */
+        IndexCandidate candidate() {
+            return candidate;
+        }
+
+        @Override
+        public String toString() {
+            return method + ": Seq Scan on " + relation + " (" + planRows + " of " + tableRows + " rows)"
+                    + (filter.isEmpty() ? "" : " filter " + filter)
+                    + (candidate == null ? "" : " -> " + candidate.ddl());
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper json = new ObjectMapper();
+    private final Map<String, Long> relationRows = new HashMap<>();
+    private final long minRows;
+    private final double maxSelectivity;
+
+    QueryPlans(JdbcTemplate jdbcTemplate, LoadTestConfig config) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.minRows = config.advisorMinRows();
+        this.maxSelectivity = config.advisorMaxSelectivity();
+        jdbcTemplate.query("SELECT relname, reltuples::bigint FROM pg_class WHERE relkind = 'r'",
+                (ResultSet rs) -> {
+                    relationRows.put(rs.getString(1), rs.getLong(2));
+                });
+    }
+
+    /**
+     * @return Seq Scan cần index của một câu SQL; câu không EXPLAIN được (DDL, tham số
+     *         không suy ra kiểu) bị bỏ qua
+     */
+    List<SeqScan> seqScans(String method, String sql) {
+        String statement = sql.strip();
+        if (statement.regionMatches(true, 0, "insert", 0, 6)) {
+            return List.of();
+        }
+        JsonNode plan;
+        try {
+            plan = json.readTree(jdbcTemplate.queryForObject(
+                    "EXPLAIN (GENERIC_PLAN, FORMAT JSON) " + positional(statement), String.class)).path(0).path("Plan");
+        } catch (RuntimeException | JsonProcessingException e) {
+            return List.of();
+        }
+        List<SeqScan> found = new ArrayList<>();
+        walk(method, plan, List.of(), found);
+        return found;
+    }
+
+    private void walk(String method, JsonNode node, List<String> sortKeys, List<SeqScan> found) {
+        List<String> keys = sortKeys;
+        if (node.has("Sort Key")) {
+            keys = new ArrayList<>();
+            for (JsonNode key : node.path("Sort Key")) {
+                keys.add(key.asText());
+            }
+        }
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            inspect(method, node, keys, found);
+        }
+        String joinCondition = node.path("Hash Cond").asText(node.path("Merge Cond").asText(""));
+        for (JsonNode child : node.path("Plans")) {
+            List<String> childKeys = keys;
+            if (!joinCondition.isEmpty()) {
+                // điều kiện join là cột bằng cho phía được lookup (nested loop thì nằm sẵn trong Filter)
+                childKeys = new ArrayList<>(keys);
+                childKeys.add("=" + joinCondition);
+            }
+            walk(method, child, childKeys, found);
+        }
+    }
+
+    private void inspect(String method, JsonNode scan, List<String> sortKeys, List<SeqScan> found) {
+        String relation = scan.path("Relation Name").asText();
+        String alias = scan.path("Alias").asText(relation);
+        long tableRows = relationRows.getOrDefault(relation, 0L);
+        long planRows = scan.path("Plan Rows").asLong();
+        if (tableRows < minRows || planRows > tableRows * maxSelectivity) {
+            return;
+        }
+        String filter = scan.path("Filter").asText("");
+        String table = PARTITION_SUFFIX.matcher(relation).replaceFirst("");
+
+        Set<String> equality = new LinkedHashSet<>();
+        Set<String> range = new LinkedHashSet<>();
+        List<String> constants = new ArrayList<>();
+        for (String conjunct : conjuncts(filter)) {
+            classify(conjunct, alias, equality, range, constants);
+        }
+        for (String key : sortKeys) {
+            if (key.startsWith("=")) {
+                for (String conjunct : conjuncts(key.substring(1))) {
+                    classify(conjunct, alias, equality, new LinkedHashSet<>(), new ArrayList<>());
+                }
+            }
+        }
+        List<String> columns = new ArrayList<>(equality);
+        List<String> ordering = new ArrayList<>();
+        for (String key : sortKeys) {
+            Matcher matcher = SORT_KEY.matcher(CAST.matcher(key).replaceAll("").replace("(", "").replace(")", ""));
+            if (!key.startsWith("=") && matcher.matches() && (matcher.group(1) == null || matcher.group(1).equals(alias))
+                    && !columns.contains(matcher.group(2))) {
+                ordering.add(matcher.group(2) + (matcher.group(3) == null ? "" : " DESC"));
+            }
+        }
+        columns.addAll(ordering.isEmpty() ? range.stream().limit(1).toList() : ordering);
+        IndexCandidate candidate = columns.isEmpty() && constants.isEmpty() ? null
+                : new IndexCandidate(table, columns.isEmpty() ? List.of("id") : columns, String.join(" AND ", constants));
+        found.add(new SeqScan(method, relation, tableRows, planRows, filter, candidate));
+    }
+
+    private static void classify(String conjunct, String alias, Set<String> equality, Set<String> range,
+            List<String> constants) {
+        if (conjunct.contains(" OR ")) {
+            return;
+        }
+        Matcher matcher = COMPARISON.matcher(CAST.matcher(conjunct).replaceAll("").replace("(", "").replace(")", "").strip());
+        if (!matcher.matches()) {
+            return;
+        }
+        String qualifier = matcher.group(1);
+        String column = matcher.group(2);
+        String operator = matcher.group(3);
+        String value = matcher.group(4);
+        if (qualifier != null && !qualifier.equals(alias)) {
+            // "b.x = a.y": cột của bảng này có thể nằm bên phải
+            Matcher reversed = Pattern.compile("^" + Pattern.quote(alias) + "\\.(\\w+)$").matcher(value);
+            if (reversed.matches() && operator.equals("=")) {
+                equality.add(reversed.group(1));
+            }
+            return;
+        }
+        if (value.startsWith("'") && operator.equals("=")) {
+            constants.add(column + " = " + value);
+        } else if (operator.equals("=") || operator.equals("= ANY")) {
+            equality.add(column);
+        } else {
+            range.add(column);
+        }
+    }
+
+    /** Tách AND ở mức ngoài cùng (không tách bên trong ngoặc) */
+    private static List<String> conjuncts(String condition) {
+        String text = condition.strip();
+        while (text.startsWith("(") && closingParen(text, 0) == text.length() - 1) {
+            text = text.substring(1, text.length() - 1).strip();
+        }
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        String upper = text.toUpperCase(Locale.ROOT);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (depth == 0 && upper.startsWith(" AND ", i)) {
+                parts.add(text.substring(start, i).strip());
+                start = i + 5;
+            }
+        }
+        if (!text.isEmpty()) {
+            parts.add(text.substring(start).strip());
+        }
+        return parts;
+    }
+
+    private static int closingParen(String text, int open) {
+        int depth = 0;
+        for (int i = open; i < text.length(); i++) {
+            if (text.charAt(i) == '(') {
+                depth++;
+            } else if (text.charAt(i) == ')' && --depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** JDBC {@code ?} → {@code $n}, bỏ qua dấu ? trong chuỗi và tên có ngoặc kép */
+    static String positional(String sql) {
+        StringBuilder out = new StringBuilder(sql.length() + 16);
+        int parameter = 0;
+        char quote = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+                out.append(c);
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+                out.append(c);
+            } else if (c == '?') {
+                out.append('$').append(++parameter);
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+}
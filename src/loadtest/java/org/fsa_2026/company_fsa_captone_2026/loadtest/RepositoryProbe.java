@@ -0,0 +1,174 @@
+package org.fsa_2026.company_fsa_captone_2026.loadtest;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Repository Probe
+ * Gọi mọi query method (derived + {@code @Query}) của repository trong ứng dụng với
+ * tham số tổng hợp, mỗi method một transaction rollback, và thu SQL Hibernate sinh ra.
+ * Giá trị tham số không quan trọng – chỉ cần đúng "hình dạng" câu lệnh để EXPLAIN.
+ */
+final class RepositoryProbe {
+
+    private static final String APP_PACKAGE = "org.fsa_2026.company_fsa_captone_2026.";
+
+    /** SQL của một repository method; {@code error} khác null nếu gọi thất bại */
+    static final class ProbedMethod {
+        private final String name;
+        private final List<String> statements;
+        private final String error;
+
+        private ProbedMethod(String name, List<String> statements, String error) {
+            this.name = name;
+            this.statements = statements;
+            this.error = error;
+        }
+
+        String name() {
+            return name;
+        }
+
+        List<String> statements() {
+            return statements;
+        }
+
+        String error() {
+            return error;
+        }
+    }
+
+    private final ApplicationContext context;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactions;
+
+    RepositoryProbe(ApplicationContext context) {
+        this.context = context;
+        this.entityManager = context.getBean(EntityManager.class);
+        this.transactions = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    List<ProbedMethod> probeAll() {
+        Repositories repositories = new Repositories(context);
+        List<ProbedMethod> probed = new ArrayList<>();
+        for (Class<?> domainType : repositories) {
+            RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+            Class<?> repositoryInterface = information.getRepositoryInterface();
+            if (!repositoryInterface.getName().startsWith(APP_PACKAGE)) {
+                continue;
+            }
+            Object repository = repositories.getRepositoryFor(domainType).orElseThrow();
+            information.getQueryMethods().stream()
+                    .sorted(Comparator.comparing(Method::getName).thenComparing(Method::getParameterCount))
+                    .forEach(method -> probed.add(probe(repositoryInterface.getSimpleName(), repository, method)));
+        }
+        probed.sort(Comparator.comparing(ProbedMethod::name));
+        return probed;
+    }
+
+    private ProbedMethod probe(String repositoryName, Object repository, Method method) {
+        String name = repositoryName + "." + method.getName() + "(" + method.getParameterCount() + ")";
+        StatementCapture.start();
+        String error = null;
+        try {
+            transactions.executeWithoutResult(status -> {
+                // rollback cả method @Modifying: dữ liệu seed không đổi giữa các lần probe
+                status.setRollbackOnly();
+                try {
+                    method.invoke(repository, arguments(method));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(e.getCause());
+                }
+            });
+        } catch (RuntimeException e) {
+            error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+        return new ProbedMethod(name, List.copyOf(StatementCapture.stop()), error);
+    }
+
+    private Object[] arguments(Method method) {
+        Type[] types = method.getGenericParameterTypes();
+        Object[] arguments = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            arguments[i] = sample(types[i]);
+        }
+        return arguments;
+    }
+
+    private Object sample(Type type) {
+        if (type instanceof ParameterizedType parameterized) {
+            Class<?> raw = (Class<?>) parameterized.getRawType();
+            if (Collection.class.isAssignableFrom(raw)) {
+                Object element = sample(parameterized.getActualTypeArguments()[0]);
+                return Set.class.isAssignableFrom(raw) ? Set.of(element) : List.of(element);
+            }
+            return sample(raw);
+        }
+        Class<?> raw = (Class<?>) type;
+        if (raw == UUID.class) {
+            return UUID.randomUUID();
+        }
+        if (raw == String.class) {
+            return "probe";
+        }
+        if (raw.isEnum()) {
+            return raw.getEnumConstants()[0];
+        }
+        if (raw == Pageable.class) {
+            return PageRequest.of(0, 20);
+        }
+        if (raw == Sort.class) {
+            return Sort.unsorted();
+        }
+        if (raw == Instant.class) {
+            return Instant.now().minus(30, ChronoUnit.DAYS);
+        }
+        if (raw == LocalDate.class) {
+            return LocalDate.now();
+        }
+        if (raw == LocalDateTime.class) {
+            return LocalDateTime.now();
+        }
+        if (raw == int.class || raw == Integer.class) {
+            return 10;
+        }
+        if (raw == long.class || raw == Long.class) {
+            return 10L;
+        }
+        if (raw == boolean.class || raw == Boolean.class) {
+            return true;
+        }
+        if (raw == byte[].class) {
+            return new byte[32];
+        }
+        if (raw.isAnnotationPresent(Entity.class)) {
+            return entityManager.getReference(raw, UUID.randomUUID());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,46 @@
+package org.fsa_2026.company_fsa_captone_2026.loadtest;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.DockerClientFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * RepositorySeqScanTest – mọi query method của repository, trên dữ liệu seed cỡ lớn, không
+ * được Seq Scan chọn lọc trên bảng lớn. Fail kèm index đề xuất; chạy bằng
+ * {@code mvn -Ploadtest test} (cần Docker hoặc {@code -Dloadtest.jdbc-url}).
+ */
+@DisplayName("Repository query plans – Integration Tests")
+class RepositorySeqScanTest {
+
+    private static IndexAdvisor.Result result;
+
+    @BeforeAll
+    static void analyze() throws Exception {
+        LoadTestConfig config = IndexAdvisor.config();
+        assumeTrue(!config.jdbcUrl().isEmpty() || DockerClientFactory.instance().isDockerAvailable(),
+                "Docker not available and no loadtest.jdbc-url given");
+        result = IndexAdvisor.analyze(config);
+    }
+
+    @Test
+    @DisplayName("Probe gọi được các query method nóng (attempt, lớp học, leaderboard)")
+    void probesHotRepositoryMethods() {
+        assertThat(result.probed())
+                .extracting(RepositoryProbe.ProbedMethod::name)
+                .contains("AttemptRepository.findByClassroomIdSince(2)",
+                        "ClassroomMemberRepository.findByStudentId(1)",
+                        "UserProfileRepository.findTop10ByOrderByTotalExperienceDesc(0)");
+    }
+
+    @Test
+    @DisplayName("Không có Seq Scan chọn lọc trên bảng lớn")
+    void noSelectiveSeqScanOnLargeTables() {
+        assertThat(result.seqScans())
+                .as("Add the suggested indexes (see target/index-advisor-changelog.xml via IndexAdvisor)")
+                .isEmpty();
+    }
+}
@@ -0,0 +1,39 @@
+package org.fsa_2026.company_fsa_captone_2026.loadtest;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Statement Capture
+ * StatementInspector của Hibernate: khi đang bật trên thread hiện tại thì ghi lại mọi
+ * câu SQL (đã có placeholder {@code ?}) mà repository sinh ra, không sửa câu lệnh.
+ * Hibernate tự khởi tạo lớp này qua
+ * {@code hibernate.session_factory.statement_inspector}.
+ */
+public final class StatementCapture implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> captured = CAPTURED.get();
+        if (captured != null) {
+            captured.add(sql);
+        }
+        return sql;
+    }
+
+    /** Bắt đầu ghi trên thread hiện tại (xoá kết quả cũ) */
+    static void start() {
+        CAPTURED.set(new ArrayList<>());
+    }
+
+    /** Dừng ghi, trả về câu SQL theo thứ tự thực thi */
+    static List<String> stop() {
+        List<String> captured = CAPTURED.get();
+        CAPTURED.remove();
+        return captured == null ? List.of() : captured;
+    }
+}
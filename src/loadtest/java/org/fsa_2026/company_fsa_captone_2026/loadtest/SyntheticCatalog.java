@@ -0,0 +1,211 @@
+package org.fsa_2026.company_fsa_captone_2026.loadtest;
+
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.DifficultyLevel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Synthetic Catalog
+ * Nội dung giả lập có phân bố gần tiếng Việt thật: phụ âm đầu, vần và thanh điệu
+ * được rút theo tần suất (thanh ngang/sắc phổ biến, ngã hiếm), độ phổ biến của
+ * challenge theo Zipf để vài bài "hot" chiếm phần lớn lượt làm – giống production.
+ */
+final class SyntheticCatalog {
+
+    static final String[] REGIONS = { "HN", "HCM", "DN", "HP", "CT", "HUE" };
+    private static final double[] REGION_WEIGHTS = { 0.34, 0.38, 0.09, 0.07, 0.07, 0.05 };
+
+    private static final String[] INITIALS = {
+            "ng", "nh", "tr", "ch", "kh", "th", "ph", "gi", "qu", "đ", "d", "r", "s", "x",
+            "l", "m", "n", "b", "c", "h", "t", "v", "g" };
+    private static final double[] INITIAL_WEIGHTS = {
+            0.080, 0.055, 0.060, 0.050, 0.040, 0.070, 0.030, 0.035, 0.025, 0.060, 0.040, 0.030, 0.030, 0.025,
+            0.055, 0.050, 0.060, 0.040, 0.060, 0.045, 0.045, 0.025, 0.010 };
+    /** Thời lượng nhiễu phụ âm đầu (ms): xát/bật hơi dài hơn âm mũi */
+    private static final int[] INITIAL_BURST_MS = {
+            20, 20, 60, 55, 70, 65, 70, 45, 35, 25, 40, 45, 80, 85,
+            15, 15, 15, 20, 30, 60, 30, 35, 25 };
+
+    private static final String[] RHYMES = {
+            "a", "an", "ang", "anh", "ai", "ao", "ăn", "âm", "ơi", "ương", "ươi", "iêng",
+            "uyên", "ênh", "ôi", "ong", "uôn", "inh", "ưa", "oai" };
+    private static final double[] RHYME_WEIGHTS = {
+            0.10, 0.08, 0.08, 0.07, 0.07, 0.05, 0.05, 0.04, 0.05, 0.05, 0.03, 0.02,
+            0.02, 0.02, 0.05, 0.06, 0.03, 0.05, 0.04, 0.04 };
+
+    private static final SyntheticSpeech.Tone[] TONES = SyntheticSpeech.Tone.values();
+    /** NGANG, HUYEN, SAC, HOI, NGA, NANG */
+    private static final double[] TONE_WEIGHTS = { 0.30, 0.18, 0.20, 0.10, 0.05, 0.17 };
+
+    /** Một challenge giả lập; index là vị trí trong catalog (cũng là đường dẫn audio) */
+    static final class ChallengeSpec {
+        private final int index;
+        private final int level;
+        private final String contentText;
+        private final String ipa;
+        private final String focusPhonemes;
+        private final SyntheticSpeech.Tone tone;
+        private final int onsetBurstMs;
+        private final DifficultyLevel difficulty;
+
+        private ChallengeSpec(int index, int level, String contentText, String ipa, String focusPhonemes,
+                SyntheticSpeech.Tone tone, int onsetBurstMs, DifficultyLevel difficulty) {
+            this.index = index;
+            this.level = level;
+            this.contentText = contentText;
+            this.ipa = ipa;
+            this.focusPhonemes = focusPhonemes;
+            this.tone = tone;
+            this.onsetBurstMs = onsetBurstMs;
+            this.difficulty = difficulty;
+        }
+
+        int index() {
+            return index;
+        }
+
+        int level() {
+            return level;
+        }
+
+        String contentText() {
+            return contentText;
+        }
+
+        String ipa() {
+            return ipa;
+        }
+
+        String focusPhonemes() {
+            return focusPhonemes;
+        }
+
+        SyntheticSpeech.Tone tone() {
+            return tone;
+        }
+
+        int onsetBurstMs() {
+            return onsetBurstMs;
+        }
+
+        DifficultyLevel difficulty() {
+            return difficulty;
+        }
+    }
+
+    private final List<ChallengeSpec> challenges;
+    /** Phân phối tích luỹ Zipf(s = 1.1) trên challenge đã xáo trộn */
+    private final double[] popularity;
+    private final int[] popularityOrder;
+
+    private SyntheticCatalog(List<ChallengeSpec> challenges, double[] popularity, int[] popularityOrder) {
+        this.challenges = challenges;
+        this.popularity = popularity;
+        this.popularityOrder = popularityOrder;
+    }
+
+    static SyntheticCatalog generate(LoadTestConfig config) {
+        SplittableRandom random = new SplittableRandom(config.seed());
+        List<ChallengeSpec> challenges = new ArrayList<>();
+        for (int level = 0; level < config.levels(); level++) {
+            for (int i = 0; i < config.challengesPerLevel(); i++) {
+                challenges.add(challenge(random, challenges.size(), level, config.levels()));
+            }
+        }
+
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < challenges.size(); i++) {
+            order.add(i);
+        }
+        Collections.shuffle(order, new Random(config.seed()));
+        double[] cumulative = new double[challenges.size()];
+        double total = 0;
+        for (int rank = 0; rank < cumulative.length; rank++) {
+            total += 1.0 / Math.pow(rank + 1, 1.1);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < cumulative.length; rank++) {
+            cumulative[rank] /= total;
+        }
+        return new SyntheticCatalog(List.copyOf(challenges), cumulative,
+                order.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private static ChallengeSpec challenge(SplittableRandom random, int index, int level, int levels) {
+        // level cao → nhiều âm tiết hơn
+        int syllables = 1 + (level * 3) / Math.max(1, levels);
+        Set<String> phonemes = new LinkedHashSet<>();
+        StringBuilder text = new StringBuilder();
+        StringBuilder ipa = new StringBuilder("/");
+        SyntheticSpeech.Tone firstTone = null;
+        int firstBurst = 0;
+        for (int s = 0; s < syllables; s++) {
+            int initial = pick(random, INITIAL_WEIGHTS);
+            String rhyme = RHYMES[pick(random, RHYME_WEIGHTS)];
+            SyntheticSpeech.Tone tone = TONES[pick(random, TONE_WEIGHTS)];
+            if (firstTone == null) {
+                firstTone = tone;
+                firstBurst = INITIAL_BURST_MS[initial];
+            }
+            phonemes.add(INITIALS[initial]);
+            phonemes.add(rhyme);
+            text.append(s == 0 ? "" : " ").append(INITIALS[initial]).append(rhyme);
+            ipa.append(s == 0 ? "" : ".").append(INITIALS[initial]).append(rhyme)
+                    .append(tone.ordinal() + 1);
+        }
+        ipa.append('/');
+        DifficultyLevel difficulty = level * 3 < levels ? DifficultyLevel.EASY
+                : level * 3 < levels * 2 ? DifficultyLevel.MEDIUM : DifficultyLevel.HARD;
+        return new ChallengeSpec(index, level, text.toString(), ipa.toString(), String.join(",", phonemes),
+                firstTone, firstBurst, difficulty);
+    }
+
+    static int pick(SplittableRandom random, double[] weights) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        double target = random.nextDouble() * total;
+        for (int i = 0; i < weights.length; i++) {
+            target -= weights[i];
+            if (target < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    static String region(SplittableRandom random) {
+        return REGIONS[pick(random, REGION_WEIGHTS)];
+    }
+
+    List<ChallengeSpec> challenges() {
+        return challenges;
+    }
+
+    ChallengeSpec challenge(int index) {
+        return challenges.get(index);
+    }
+
+    /** Rút một challenge theo độ phổ biến Zipf */
+    ChallengeSpec popular(SplittableRandom random) {
+        double target = random.nextDouble();
+        int low = 0;
+        int high = popularity.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (popularity[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return challenges.get(popularityOrder[low]);
+    }
+}
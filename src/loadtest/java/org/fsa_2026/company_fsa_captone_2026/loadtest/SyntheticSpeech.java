@@ -0,0 +1,117 @@
+package org.fsa_2026.company_fsa_captone_2026.loadtest;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.SplittableRandom;
+
+/**
+ * Synthetic Speech
+ * Sinh WAV 16 kHz mono cho một âm tiết: phụ âm đầu (nhiễu), vần hữu thanh với
+ * đường F0 theo thanh điệu. Bản "học viên" lệch cao độ, tốc độ, đôi khi sai thanh
+ * theo kỹ năng – đủ để DTW/tone analysis làm việc thật thay vì điểm giả lập.
+ */
+final class SyntheticSpeech {
+
+    static final int SAMPLE_RATE = 16000;
+
+    /** Đường F0 (semitone so với nền) theo thời gian chuẩn hoá 0..1 của 6 thanh */
+    enum Tone {
+        NGANG, HUYEN, SAC, HOI, NGA, NANG;
+
+        double semitones(double x) {
+            return switch (this) {
+                case NGANG -> 0.0;
+                case HUYEN -> -3.5 * x;
+                case SAC -> 5.0 * x * x;
+                case HOI -> x < 0.55 ? -5.0 * x / 0.55 : -5.0 + 4.0 * (x - 0.55) / 0.45;
+                case NGA -> x < 0.45 ? 1.5 * x : 2.0 + 5.0 * (x - 0.45);
+                case NANG -> -7.0 * x;
+            };
+        }
+
+        /** Ngã/nặng có tắc thanh hầu: giảm biên độ ở đoạn giữa/cuối */
+        double amplitude(double x) {
+            return switch (this) {
+                case NGA -> x > 0.4 && x < 0.5 ? 0.15 : 1.0;
+                case NANG -> x > 0.8 ? 0.2 : 1.0;
+                default -> 1.0;
+            };
+        }
+
+        double durationScale() {
+            return this == NANG ? 0.65 : 1.0;
+        }
+    }
+
+    private SyntheticSpeech() {
+    }
+
+    /** Giọng mẫu của challenge (giọng chuẩn, không lỗi) */
+    static byte[] reference(int challenge, Tone tone, int onsetBurstMs) {
+        return toWav(render(new SplittableRandom(challenge), tone, onsetBurstMs, 170.0, 1.0, 0.0));
+    }
+
+    /**
+     * Bản đọc của học viên: skill 0..1, càng thấp càng dễ đọc sai thanh và sai nhịp.
+     */
+    static byte[] learner(int challenge, Tone tone, int onsetBurstMs, long speaker, double skill) {
+        SplittableRandom random = new SplittableRandom(speaker * 31 + challenge);
+        double basePitch = 110.0 + random.nextDouble() * 140.0;
+        double tempo = 0.8 + random.nextDouble() * 0.45;
+        Tone spoken = random.nextDouble() > skill ? Tone.values()[random.nextInt(Tone.values().length)] : tone;
+        double noise = (1.0 - skill) * 0.08;
+        return toWav(render(random, spoken, onsetBurstMs, basePitch, tempo, noise));
+    }
+
+    private static float[] render(SplittableRandom random, Tone tone, int onsetBurstMs, double basePitch,
+            double tempo, double noise) {
+        int onset = SAMPLE_RATE * onsetBurstMs / 1000;
+        int voiced = (int) (SAMPLE_RATE * 0.55 * tone.durationScale() * tempo);
+        int silence = SAMPLE_RATE / 10;
+        float[] samples = new float[silence + onset + voiced + silence];
+
+        int position = silence;
+        for (int i = 0; i < onset; i++) {
+            double envelope = Math.sin(Math.PI * i / onset);
+            samples[position++] = (float) ((random.nextDouble() * 2 - 1) * 0.25 * envelope);
+        }
+        double phase = 0;
+        for (int i = 0; i < voiced; i++) {
+            double x = (double) i / voiced;
+            double f0 = basePitch * Math.pow(2, tone.semitones(x) / 12.0);
+            phase += 2 * Math.PI * f0 / SAMPLE_RATE;
+            double envelope = Math.min(1.0, Math.min(i, voiced - i) / (SAMPLE_RATE * 0.02)) * tone.amplitude(x);
+            double value = 0;
+            // vài harmonic với biên độ giảm dần ≈ nguồn thanh môn
+            for (int harmonic = 1; harmonic <= 6; harmonic++) {
+                value += Math.sin(phase * harmonic) / harmonic;
+            }
+            value = value * 0.3 * envelope + (random.nextDouble() * 2 - 1) * noise;
+            samples[position++] = (float) value;
+        }
+        return samples;
+    }
+
+    private static byte[] toWav(float[] samples) {
+        byte[] pcm = new byte[samples.length * 2];
+        for (int i = 0; i < samples.length; i++) {
+            int value = (int) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, samples[i] * Short.MAX_VALUE));
+            pcm[2 * i] = (byte) value;
+            pcm[2 * i + 1] = (byte) (value >> 8);
+        }
+        AudioFormat format = new AudioFormat(SAMPLE_RATE, 16, 1, true, false);
+        try (AudioInputStream stream = new AudioInputStream(new ByteArrayInputStream(pcm), format, samples.length)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(pcm.length + 44);
+            AudioSystem.write(stream, AudioFileFormat.Type.WAVE, out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package org.fsa_2026.company_fsa_captone_2026.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Virtual Learner
+ * Một học viên giả lập lặp lại hành trình thật: login → bắt đầu phiên → (gợi ý
+ * challenge → nộp attempt) × N → xem bảng xếp hạng → kết thúc phiên. Đăng nhập lại
+ * sau vài phiên để login chiếm tỉ lệ hợp lý trong tải.
+ */
+final class VirtualLearner implements Runnable {
+
+    private static final String API = "/api/v1";
+    private static final int SESSIONS_PER_LOGIN = 5;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final ObjectMapper json;
+    private final String baseUrl;
+    private final LoadTestSeeder.Learner learner;
+    private final LoadTestSeeder.SeedResult seed;
+    private final SyntheticCatalog catalog;
+    private final AudioFixtureServer audio;
+    private final LatencyReport report;
+    private final LoadTestConfig config;
+    private final long deadlineNanos;
+    private final SplittableRandom random;
+
+    private String accessToken;
+
+    VirtualLearner(HttpClient http, ObjectMapper json, String baseUrl, LoadTestSeeder.Learner learner,
+            LoadTestSeeder.SeedResult seed, SyntheticCatalog catalog, AudioFixtureServer audio, LatencyReport report,
+            LoadTestConfig config, long deadlineNanos) {
+        this.http = http;
+        this.json = json;
+        this.baseUrl = baseUrl;
+        this.learner = learner;
+        this.seed = seed;
+        this.catalog = catalog;
+        this.audio = audio;
+        this.report = report;
+        this.config = config;
+        this.deadlineNanos = deadlineNanos;
+        this.random = new SplittableRandom(learner.speaker());
+    }
+
+    @Override
+    public void run() {
+        int sessions = 0;
+        while (!expired() && !Thread.currentThread().isInterrupted()) {
+            try {
+                if (accessToken == null || sessions % SESSIONS_PER_LOGIN == 0) {
+                    login();
+                }
+                practiceSession();
+                sessions++;
+            } catch (IOException e) {
+                accessToken = null;
+                pause(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void login() throws IOException, InterruptedException {
+        JsonNode data = send("POST /auth/login", "POST", "/auth/login",
+                Map.of("email", learner.email(), "password", LoadTestSeeder.PASSWORD));
+        accessToken = data.path("accessToken").asText(null);
+        if (accessToken == null) {
+            throw new IOException("login failed for " + learner.email());
+        }
+    }
+
+    private void practiceSession() throws IOException, InterruptedException {
+        String sessionId = send("POST /gameplay/sessions", "POST", "/gameplay/sessions", null).path("id").asText(null);
+        if (sessionId == null) {
+            throw new IOException("could not start a session for " + learner.email());
+        }
+        for (int i = 0; i < config.attemptsPerSession() && !expired(); i++) {
+            think();
+            int challenge = nextChallenge();
+            send("POST /gameplay/attempts", "POST", "/gameplay/attempts", Map.of(
+                    "sessionId", sessionId,
+                    "challengeId", seed.challengeId(challenge).toString(),
+                    "audioUrl", audio.learnerUrl(challenge, learner.speaker(), learner.skill())));
+        }
+        think();
+        if (random.nextBoolean()) {
+            send("GET /leaderboards/global", "GET", "/leaderboards/global", null);
+        } else {
+            send("GET /leaderboards/region/{code}", "GET", "/leaderboards/region/" + learner.region(), null);
+        }
+        send("PUT /gameplay/sessions/{id}/end", "PUT", "/gameplay/sessions/" + sessionId + "/end", null);
+    }
+
+    /** Ưu tiên gợi ý của server; không có thì chọn theo độ phổ biến của nội dung */
+    private int nextChallenge() throws IOException, InterruptedException {
+        JsonNode recommended = send("GET /gameplay/challenges/next", "GET", "/gameplay/challenges/next", null)
+                .path("challenge").path("id");
+        if (recommended.isTextual() && random.nextDouble() < 0.7) {
+            int index = seed.challengeIndex(UUID.fromString(recommended.asText()));
+            if (index >= 0) {
+                return index;
+            }
+        }
+        return catalog.popular(random).index();
+    }
+
+    /**
+     * Gửi request và ghi latency; trả {@code data} của ApiResponse (MissingNode nếu lỗi).
+     * 401 → xoá token để vòng sau đăng nhập lại.
+     */
+    private JsonNode send(String endpoint, String method, String path, Object body)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + API + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (accessToken != null && !path.startsWith("/auth/")) {
+            request.header("Authorization", "Bearer " + accessToken);
+        }
+        if (body != null) {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(json.writeValueAsBytes(body)));
+        } else {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            report.record(endpoint, start, 0);
+            throw e;
+        }
+        report.record(endpoint, start, response.statusCode());
+
+        if (response.statusCode() == 401) {
+            throw new IOException(endpoint + " → 401");
+        }
+        if (response.statusCode() >= 300 || response.body().length == 0) {
+            return json.missingNode();
+        }
+        return json.readTree(response.body()).path("data");
+    }
+
+    private void think() throws InterruptedException {
+        Thread.sleep(random.nextLong(config.thinkTime().toMillis() / 2, config.thinkTime().toMillis() * 3 / 2 + 1));
+    }
+
+    private boolean expired() {
+        return System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
 
@@ -18,9 +19,11 @@ import org.springframework.web.filter.CorsFilter;
  * - Swagger/OpenAPI documentation
  * - PostgreSQL database
  * - Async email sending
+ * - Scheduled maintenance jobs (refresh token purge)
  */
 @SpringBootApplication
 @EnableAsync
+@EnableScheduling
 public class Application {
 
     public static void main(String[] args) {
@@ -0,0 +1,24 @@
+package org.fsa_2026.company_fsa_captone_2026.common;
+
+import java.io.Serializable;
+import java.security.Principal;
+import java.util.UUID;
+
+/**
+ * Authenticated User
+ * Principal của request đã xác thực, lấy từ access token (sub, email, role) –
+ * không cần tra account trong DB. Inject vào controller bằng
+ * {@code @AuthenticationPrincipal AuthenticatedUser user}.
+ *
+ * <p>
+ * {@link #getName()} trả về email nên {@code Authentication#getName()} (log, auditing
+ * created_by) giữ nguyên giá trị như trước.
+ * </p>
+ */
+public record AuthenticatedUser(UUID id, String email, String role) implements Principal, Serializable {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
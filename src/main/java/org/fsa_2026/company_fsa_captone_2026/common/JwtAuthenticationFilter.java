@@ -20,7 +20,8 @@ import java.util.List;
 /**
  * JWT Authentication Filter
  * Extracts JWT token from request, validates it, and sets SecurityContext
- * with userId as principal and role-based authorities
+ * with {@link AuthenticatedUser} (userId, email, role) as principal and
+ * role-based authorities
  */
 @Slf4j
 @Component
@@ -38,20 +39,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                String email = jwtTokenProvider.getEmailFromToken(jwt);
-                String role = jwtTokenProvider.getRoleFromToken(jwt);
-
+            // parse + verify một lần cho cả sub, email và role
+            AuthenticatedUser user = StringUtils.hasText(jwt) ? jwtTokenProvider.parseAccessToken(jwt) : null;
+            if (user != null) {
                 // Build authorities from role claim (e.g., ROLE_USER, ROLE_ADMIN,
                 // ROLE_EDUCATOR)
                 List<SimpleGrantedAuthority> authorities = Collections.singletonList(
-                        new SimpleGrantedAuthority("ROLE_" + role));
+                        new SimpleGrantedAuthority("ROLE_" + user.role()));
 
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(email,
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(user,
                         null, authorities);
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.debug("Set authentication for user: {} with role: {}", email, role);
+                log.debug("Set authentication for user: {} with role: {}", user.email(), user.role());
             }
         } catch (Exception ex) {
             log.error("Error setting user authentication", ex);
@@ -80,6 +80,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (path.startsWith("/api/v1/auth") ||
                 path.startsWith("/api/v1/public") ||
                 path.startsWith("/api/v1/health") ||
+                path.startsWith("/ws/") ||
                 path.startsWith("/actuator") ||
                 path.equals("/error")) {
             return true;
@@ -2,6 +2,7 @@ package org.fsa_2026.company_fsa_captone_2026.common;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -33,8 +34,26 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-expiration:2592000000}") // Default 30 days
     private long refreshTokenExpirationMs;
 
+    /** Key + parser dựng một lần (thread-safe), không dựng lại mỗi request */
+    private volatile SecretKey signingKey;
+    private volatile JwtParser parser;
+
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        SecretKey key = signingKey;
+        if (key == null) {
+            key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+            signingKey = key;
+        }
+        return key;
+    }
+
+    private JwtParser parser() {
+        JwtParser current = parser;
+        if (current == null) {
+            current = Jwts.parser().verifyWith(getSigningKey()).build();
+            parser = current;
+        }
+        return current;
     }
 
     /**
@@ -75,11 +94,7 @@ public class JwtTokenProvider {
      */
     public String getUserIdFromToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parser().parseSignedClaims(token).getPayload();
             return claims.getSubject();
         } catch (Exception e) {
             log.error("Error getting userId from token", e);
@@ -92,11 +107,7 @@ public class JwtTokenProvider {
      */
     public String getEmailFromToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parser().parseSignedClaims(token).getPayload();
             return claims.get("email", String.class);
         } catch (Exception e) {
             log.error("Error getting email from token", e);
@@ -109,11 +120,7 @@ public class JwtTokenProvider {
      */
     public String getRoleFromToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parser().parseSignedClaims(token).getPayload();
             return claims.get("role", String.class);
         } catch (Exception e) {
             log.error("Error getting role from token", e);
@@ -121,15 +128,35 @@ public class JwtTokenProvider {
         }
     }
 
+    /**
+     * Validate access token và đọc sub / email / role trong một lần parse + verify
+     *
+     * @return principal, null nếu token không hợp lệ / hết hạn / thiếu claim
+     */
+    public AuthenticatedUser parseAccessToken(String token) {
+        try {
+            Claims claims = parser().parseSignedClaims(token).getPayload();
+            String email = claims.get("email", String.class);
+            String role = claims.get("role", String.class);
+            if (claims.getSubject() == null || email == null || role == null) {
+                log.error("JWT token is missing required claims");
+                return null;
+            }
+            return new AuthenticatedUser(UUID.fromString(claims.getSubject()), email, role);
+        } catch (ExpiredJwtException e) {
+            log.error("JWT token expired");
+        } catch (Exception e) {
+            log.error("JWT token validation failed: {}", e.getMessage());
+        }
+        return null;
+    }
+
     /**
      * Validate access token
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
+            parser().parseSignedClaims(token);
             return true;
         } catch (ExpiredJwtException e) {
             log.error("JWT token expired");
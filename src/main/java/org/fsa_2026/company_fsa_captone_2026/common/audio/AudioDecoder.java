@@ -0,0 +1,70 @@
+package org.fsa_2026.company_fsa_captone_2026.common.audio;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * Audio Decoder
+ * Chuyển file audio (WAV/AIFF/AU) thành mảng PCM mono 16 kHz dạng float [-1, 1]
+ */
+public final class AudioDecoder {
+
+    public static final int TARGET_SAMPLE_RATE = 16000;
+
+    private AudioDecoder() {
+    }
+
+    /**
+     * Decode an encoded audio file into mono 16 kHz samples
+     *
+     * @throws IOException if the container or codec is not supported
+     */
+    public static float[] decode(byte[] data) throws IOException {
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(new ByteArrayInputStream(data))) {
+            AudioFormat sourceFormat = source.getFormat();
+            int channels = Math.max(1, sourceFormat.getChannels());
+            AudioFormat pcmFormat = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED,
+                    sourceFormat.getSampleRate(), 16, channels, channels * 2, sourceFormat.getSampleRate(), false);
+
+            try (AudioInputStream pcm = AudioSystem.getAudioInputStream(pcmFormat, source)) {
+                byte[] bytes = pcm.readAllBytes();
+                int frames = bytes.length / (2 * channels);
+                float[] mono = new float[frames];
+                for (int frame = 0, offset = 0; frame < frames; frame++) {
+                    float sum = 0f;
+                    for (int ch = 0; ch < channels; ch++, offset += 2) {
+                        sum += (short) ((bytes[offset + 1] << 8) | (bytes[offset] & 0xff)) / 32768f;
+                    }
+                    mono[frame] = sum / channels;
+                }
+                return resample(mono, sourceFormat.getSampleRate(), TARGET_SAMPLE_RATE);
+            }
+        } catch (UnsupportedAudioFileException | IllegalArgumentException e) {
+            throw new IOException("Unsupported audio format: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Linear-interpolation resampler (đủ dùng cho MFCC/pitch ở dải tần giọng nói)
+     */
+    static float[] resample(float[] samples, float sourceRate, int targetRate) {
+        if (sourceRate <= 0 || Math.abs(sourceRate - targetRate) < 1f || samples.length == 0) {
+            return samples;
+        }
+        double ratio = sourceRate / targetRate;
+        int length = (int) (samples.length / ratio);
+        float[] out = new float[length];
+        for (int i = 0; i < length; i++) {
+            double position = i * ratio;
+            int index = (int) position;
+            double fraction = position - index;
+            float next = index + 1 < samples.length ? samples[index + 1] : samples[index];
+            out[i] = (float) (samples[index] + (next - samples[index]) * fraction);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,144 @@
+package org.fsa_2026.company_fsa_captone_2026.common.audio;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Audio Feature Loader
+ * Tải audio từ URL → decode → trích xuất đặc trưng
+ *
+ * <p>
+ * URL do client gửi lên nên chỉ tải từ host storage của hệ thống
+ * ({@code app.audio.allowed-hosts}, mặc định chỉ HTTPS), không theo redirect và dừng khi vượt
+ * {@code app.audio.max-download-bytes}.
+ * Chưa cấu hình host nào → không tải gì ({@link #isEnabled()} false), nơi gọi chấm mô
+ * phỏng thay vì từ chối request.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AudioFeatureLoader {
+
+    private static final ThreadLocal<FeatureExtractor> EXTRACTOR = ThreadLocal.withInitial(FeatureExtractor::new);
+
+    private final RestTemplate restTemplate;
+    private final Set<String> allowedSchemes;
+    private final Set<String> allowedHosts;
+    private final int maxDownloadBytes;
+
+    public AudioFeatureLoader(@Value("${app.audio.fetch-timeout-ms:5000}") int fetchTimeoutMs,
+            @Value("${app.audio.allowed-schemes:https}") Collection<String> allowedSchemes,
+            @Value("${app.audio.allowed-hosts:}") Collection<String> allowedHosts,
+            @Value("${app.audio.max-download-bytes:5242880}") int maxDownloadBytes) {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory() {
+            @Override
+            protected void prepareConnection(HttpURLConnection connection, String httpMethod) throws IOException {
+                super.prepareConnection(connection, httpMethod);
+                // redirect có thể trỏ sang host nội bộ
+                connection.setInstanceFollowRedirects(false);
+            }
+        };
+        factory.setConnectTimeout(fetchTimeoutMs);
+        factory.setReadTimeout(fetchTimeoutMs);
+        this.restTemplate = new RestTemplate(factory);
+        this.allowedSchemes = normalize(allowedSchemes);
+        this.allowedHosts = normalize(allowedHosts);
+        this.maxDownloadBytes = maxDownloadBytes;
+        if (this.allowedHosts.isEmpty()) {
+            log.warn("app.audio.allowed-hosts is not set: audio is not downloaded and attempts get simulated scores");
+        }
+    }
+
+    /**
+     * Có host storage được cấu hình (ngược lại không URL nào được tải)
+     */
+    public boolean isEnabled() {
+        return !allowedHosts.isEmpty();
+    }
+
+    /**
+     * URL trên host storage được cấu hình (không có user-info)
+     */
+    public boolean isAllowed(String url) {
+        if (url == null) {
+            return false;
+        }
+        try {
+            URI uri = new URI(url);
+            return uri.getScheme() != null
+                    && allowedSchemes.contains(uri.getScheme().toLowerCase(Locale.ROOT))
+                    && uri.getHost() != null
+                    && uri.getRawUserInfo() == null
+                    && allowedHosts.contains(uri.getHost().toLowerCase(Locale.ROOT));
+        } catch (URISyntaxException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Download and extract features from an audio URL
+     *
+     * @throws IOException nếu URL không được phép, không tải được, quá lớn hoặc không
+     *                     decode được
+     */
+    public AudioFeatures load(String url) throws IOException {
+        if (!isAllowed(url)) {
+            throw new IOException("Audio URL not allowed: " + url);
+        }
+        byte[] data;
+        try {
+            data = restTemplate.execute(URI.create(url), HttpMethod.GET, null, response -> {
+                if (!response.getStatusCode().is2xxSuccessful()) {
+                    throw new IOException("HTTP " + response.getStatusCode().value());
+                }
+                long contentLength = response.getHeaders().getContentLength();
+                if (contentLength > maxDownloadBytes) {
+                    throw new IOException("Audio too large: " + contentLength + " bytes");
+                }
+                try (InputStream body = response.getBody()) {
+                    byte[] bytes = body.readNBytes(maxDownloadBytes + 1);
+                    if (bytes.length > maxDownloadBytes) {
+                        throw new IOException("Audio too large: more than " + maxDownloadBytes + " bytes");
+                    }
+                    return bytes;
+                }
+            });
+        } catch (RestClientException e) {
+            throw new IOException("Cannot download audio: " + url, e);
+        }
+        if (data == null || data.length == 0) {
+            throw new IOException("Empty audio: " + url);
+        }
+        return extract(AudioDecoder.decode(data));
+    }
+
+    private static Set<String> normalize(Collection<String> values) {
+        return values.stream()
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .map(value -> value.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Extract features from already decoded 16 kHz mono samples
+     */
+    public AudioFeatures extract(float[] samples) {
+        return EXTRACTOR.get().extract(samples);
+    }
+}
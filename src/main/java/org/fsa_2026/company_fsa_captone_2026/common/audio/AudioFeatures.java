@@ -0,0 +1,64 @@
+package org.fsa_2026.company_fsa_captone_2026.common.audio;
+
+import java.nio.FloatBuffer;
+
+/**
+ * Audio Features
+ * Per-frame MFCC + pitch contour of one utterance (10 ms hop).
+ *
+ * <p>
+ * Backed by {@link FloatBuffer}s so the same type serves both heap features
+ * (learner audio) and memory-mapped reference features read straight from disk.
+ * Only absolute reads are used, so one instance can be shared between threads.
+ * </p>
+ */
+public final class AudioFeatures {
+
+    private final int frameCount;
+    private final int coeffCount;
+    private final FloatBuffer pitchHz;
+    private final FloatBuffer mfcc;
+
+    public AudioFeatures(int frameCount, int coeffCount, FloatBuffer pitchHz, FloatBuffer mfcc) {
+        if (pitchHz.limit() < frameCount || mfcc.limit() < frameCount * coeffCount) {
+            throw new IllegalArgumentException("Feature buffers are smaller than frameCount");
+        }
+        this.frameCount = frameCount;
+        this.coeffCount = coeffCount;
+        this.pitchHz = pitchHz;
+        this.mfcc = mfcc;
+    }
+
+    /**
+     * Wrap heap arrays (mfcc is row-major: frame * coeffCount + coeff)
+     */
+    public static AudioFeatures of(float[] pitchHz, float[] mfcc, int coeffCount) {
+        return new AudioFeatures(pitchHz.length, coeffCount, FloatBuffer.wrap(pitchHz), FloatBuffer.wrap(mfcc));
+    }
+
+    public int frameCount() {
+        return frameCount;
+    }
+
+    public int coeffCount() {
+        return coeffCount;
+    }
+
+    /**
+     * Fundamental frequency of a frame in Hz, 0 when unvoiced
+     */
+    public float pitchHz(int frame) {
+        return pitchHz.get(frame);
+    }
+
+    public float mfcc(int frame, int coeff) {
+        return mfcc.get(frame * coeffCount + coeff);
+    }
+
+    /**
+     * Duration in milliseconds, derived from the 10 ms hop
+     */
+    public int durationMs() {
+        return frameCount * FeatureExtractor.HOP_MS;
+    }
+}
@@ -0,0 +1,114 @@
+package org.fsa_2026.company_fsa_captone_2026.common.audio;
+
+/**
+ * DTW Aligner
+ * Căn chỉnh MFCC của learner với audio mẫu bằng Dynamic Time Warping.
+ *
+ * <p>
+ * Chỉ giữ 2 hàng chi phí (rolling rows) + ma trận bước 1 byte/ô để backtrack,
+ * nên bộ nhớ ~ N*M byte thay vì N*M double.
+ * </p>
+ */
+public final class DtwAligner {
+
+    /**
+     * Giới hạn số ô (~16 MB ma trận bước) — khoảng 2.5 phút x 2.5 phút audio
+     */
+    public static final long MAX_CELLS = 16L * 1024 * 1024;
+
+    private static final byte STEP_DIAGONAL = 0;
+    private static final byte STEP_UP = 1; // reference frame advances
+    private static final byte STEP_LEFT = 2; // learner frame advances
+
+    private DtwAligner() {
+    }
+
+    /**
+     * Align learner against reference.
+     *
+     * @return mean MFCC distance of the learner frames mapped onto each reference
+     *         frame (length = reference.frameCount())
+     * @throws IllegalArgumentException nếu một bên rỗng hoặc vượt MAX_CELLS
+     */
+    public static float[] align(AudioFeatures reference, AudioFeatures learner) {
+        int n = reference.frameCount();
+        int m = learner.frameCount();
+        if (n == 0 || m == 0) {
+            throw new IllegalArgumentException("Cannot align empty features");
+        }
+        if ((long) n * m > MAX_CELLS) {
+            throw new IllegalArgumentException("Utterance too long to align: " + n + "x" + m);
+        }
+        int coeffs = Math.min(reference.coeffCount(), learner.coeffCount());
+
+        byte[] steps = new byte[n * m];
+        double[] previous = new double[m];
+        double[] current = new double[m];
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < m; j++) {
+                double cost = distance(reference, i, learner, j, coeffs);
+                if (i == 0 && j == 0) {
+                    current[j] = cost;
+                    steps[0] = STEP_DIAGONAL;
+                    continue;
+                }
+                double diagonal = i > 0 && j > 0 ? previous[j - 1] : Double.POSITIVE_INFINITY;
+                double up = i > 0 ? previous[j] : Double.POSITIVE_INFINITY;
+                double left = j > 0 ? current[j - 1] : Double.POSITIVE_INFINITY;
+
+                byte step = STEP_DIAGONAL;
+                double best = diagonal;
+                if (up < best) {
+                    best = up;
+                    step = STEP_UP;
+                }
+                if (left < best) {
+                    best = left;
+                    step = STEP_LEFT;
+                }
+                current[j] = best + cost;
+                steps[i * m + j] = step;
+            }
+            double[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        // Backtrack: cộng dồn khoảng cách của từng ô trên đường đi vào reference frame tương ứng
+        float[] sums = new float[n];
+        int[] counts = new int[n];
+        int i = n - 1;
+        int j = m - 1;
+        while (true) {
+            sums[i] += (float) distance(reference, i, learner, j, coeffs);
+            counts[i]++;
+            if (i == 0 && j == 0) {
+                break;
+            }
+            byte step = steps[i * m + j];
+            if (step == STEP_DIAGONAL) {
+                i--;
+                j--;
+            } else if (step == STEP_UP) {
+                i--;
+            } else {
+                j--;
+            }
+        }
+
+        for (int k = 0; k < n; k++) {
+            sums[k] /= counts[k];
+        }
+        return sums;
+    }
+
+    private static double distance(AudioFeatures a, int frameA, AudioFeatures b, int frameB, int coeffs) {
+        double sum = 0.0;
+        for (int c = 0; c < coeffs; c++) {
+            double diff = a.mfcc(frameA, c) - b.mfcc(frameB, c);
+            sum += diff * diff;
+        }
+        return Math.sqrt(sum);
+    }
+}
@@ -0,0 +1,210 @@
+package org.fsa_2026.company_fsa_captone_2026.common.audio;
+
+/**
+ * Feature Extractor
+ * Tính MFCC (13 hệ số, cepstral mean normalization) và đường cao độ (pitch
+ * contour, YIN) cho từng frame 25 ms, bước 10 ms.
+ *
+ * <p>
+ * Giữ các buffer tạm (FFT, mel energies) trong instance để không cấp phát lại
+ * cho mỗi frame → <b>không thread-safe</b>, mỗi thread dùng một instance riêng.
+ * </p>
+ */
+public final class FeatureExtractor {
+
+    public static final int SAMPLE_RATE = AudioDecoder.TARGET_SAMPLE_RATE;
+    public static final int FRAME_LENGTH = 400; // 25 ms
+    public static final int HOP_LENGTH = 160; // 10 ms
+    public static final int HOP_MS = HOP_LENGTH * 1000 / SAMPLE_RATE;
+    public static final int FFT_SIZE = 512;
+    public static final int MEL_BANDS = 26;
+    public static final int MFCC_COEFFS = 13;
+
+    private static final double PRE_EMPHASIS = 0.97;
+    private static final double LOG_FLOOR = 1e-10;
+
+    // Pitch: cửa sổ 40 ms để chứa ít nhất 1 chu kỳ ở 60 Hz sau khi trừ max lag
+    public static final int PITCH_WINDOW = 640;
+
+    private final double[] window = new double[FRAME_LENGTH];
+    private final double[][] melFilters = new double[MEL_BANDS][FFT_SIZE / 2 + 1];
+    private final double[][] dct = new double[MFCC_COEFFS][MEL_BANDS];
+
+    private final double[] re = new double[FFT_SIZE];
+    private final double[] im = new double[FFT_SIZE];
+    private final double[] melEnergies = new double[MEL_BANDS];
+    private final YinPitchTracker pitchTracker = new YinPitchTracker(SAMPLE_RATE, PITCH_WINDOW);
+
+    public FeatureExtractor() {
+        for (int i = 0; i < FRAME_LENGTH; i++) {
+            window[i] = 0.54 - 0.46 * Math.cos(2 * Math.PI * i / (FRAME_LENGTH - 1));
+        }
+        buildMelFilters();
+        for (int k = 0; k < MFCC_COEFFS; k++) {
+            for (int m = 0; m < MEL_BANDS; m++) {
+                dct[k][m] = Math.cos(Math.PI * k * (m + 0.5) / MEL_BANDS);
+            }
+        }
+    }
+
+    /**
+     * Số frame cho một tín hiệu dài {@code sampleCount} mẫu
+     */
+    public static int frameCount(int sampleCount) {
+        return sampleCount < FRAME_LENGTH ? 0 : 1 + (sampleCount - FRAME_LENGTH) / HOP_LENGTH;
+    }
+
+    /**
+     * Extract MFCC + pitch contour from mono 16 kHz samples
+     */
+    public AudioFeatures extract(float[] samples) {
+        int frames = frameCount(samples.length);
+        float[] mfcc = new float[frames * MFCC_COEFFS];
+        float[] pitch = new float[frames];
+
+        for (int frame = 0; frame < frames; frame++) {
+            int start = frame * HOP_LENGTH;
+            computeMfcc(samples, start, mfcc, frame * MFCC_COEFFS);
+            pitch[frame] = pitchTracker.estimate(samples, start);
+        }
+
+        normalizeCepstralMean(mfcc, frames);
+        return AudioFeatures.of(pitch, mfcc, MFCC_COEFFS);
+    }
+
+    /**
+     * Một frame bắt đầu tại {@code start}: ghi MFCC (chưa trừ cepstral mean) vào
+     * {@code mfccOut}, trả về pitch (Hz). Dùng cho trích xuất tăng dần
+     * ({@link StreamingFeatureExtractor}); pre-emphasis đọc mẫu {@code start - 1} nếu có.
+     */
+    public float extractFrame(float[] samples, int start, float[] mfccOut, int outOffset) {
+        computeMfcc(samples, start, mfccOut, outOffset);
+        return pitchTracker.estimate(samples, start);
+    }
+
+    // ==========================================
+    // MFCC
+    // ==========================================
+
+    private void computeMfcc(float[] samples, int start, float[] out, int outOffset) {
+        for (int i = 0; i < FFT_SIZE; i++) {
+            if (i < FRAME_LENGTH) {
+                int index = start + i;
+                double previous = index > 0 ? samples[index - 1] : 0.0;
+                re[i] = (samples[index] - PRE_EMPHASIS * previous) * window[i];
+            } else {
+                re[i] = 0.0;
+            }
+            im[i] = 0.0;
+        }
+        fft(re, im);
+
+        for (int m = 0; m < MEL_BANDS; m++) {
+            double energy = 0.0;
+            double[] filter = melFilters[m];
+            for (int bin = 0; bin <= FFT_SIZE / 2; bin++) {
+                if (filter[bin] != 0.0) {
+                    energy += filter[bin] * (re[bin] * re[bin] + im[bin] * im[bin]);
+                }
+            }
+            melEnergies[m] = Math.log(Math.max(energy, LOG_FLOOR));
+        }
+
+        for (int k = 0; k < MFCC_COEFFS; k++) {
+            double sum = 0.0;
+            for (int m = 0; m < MEL_BANDS; m++) {
+                sum += dct[k][m] * melEnergies[m];
+            }
+            out[outOffset + k] = (float) sum;
+        }
+    }
+
+    static void normalizeCepstralMean(float[] mfcc, int frames) {
+        if (frames == 0) {
+            return;
+        }
+        for (int k = 0; k < MFCC_COEFFS; k++) {
+            double mean = 0.0;
+            for (int f = 0; f < frames; f++) {
+                mean += mfcc[f * MFCC_COEFFS + k];
+            }
+            mean /= frames;
+            for (int f = 0; f < frames; f++) {
+                mfcc[f * MFCC_COEFFS + k] -= (float) mean;
+            }
+        }
+    }
+
+    private void buildMelFilters() {
+        double melMax = hzToMel(SAMPLE_RATE / 2.0);
+        int[] bins = new int[MEL_BANDS + 2];
+        for (int i = 0; i < bins.length; i++) {
+            double hz = melToHz(melMax * i / (MEL_BANDS + 1));
+            bins[i] = (int) Math.floor((FFT_SIZE + 1) * hz / SAMPLE_RATE);
+        }
+        for (int m = 0; m < MEL_BANDS; m++) {
+            int left = bins[m];
+            int center = bins[m + 1];
+            int right = bins[m + 2];
+            for (int bin = left; bin < center; bin++) {
+                melFilters[m][bin] = (double) (bin - left) / Math.max(1, center - left);
+            }
+            for (int bin = center; bin <= right && bin <= FFT_SIZE / 2; bin++) {
+                melFilters[m][bin] = (double) (right - bin) / Math.max(1, right - center);
+            }
+        }
+    }
+
+    private static double hzToMel(double hz) {
+        return 2595.0 * Math.log10(1.0 + hz / 700.0);
+    }
+
+    private static double melToHz(double mel) {
+        return 700.0 * (Math.pow(10.0, mel / 2595.0) - 1.0);
+    }
+
+    /**
+     * In-place iterative radix-2 FFT
+     */
+    private static void fft(double[] re, double[] im) {
+        int n = re.length;
+        for (int i = 1, j = 0; i < n; i++) {
+            int bit = n >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                double tmp = re[i];
+                re[i] = re[j];
+                re[j] = tmp;
+                tmp = im[i];
+                im[i] = im[j];
+                im[j] = tmp;
+            }
+        }
+        for (int len = 2; len <= n; len <<= 1) {
+            double angle = -2 * Math.PI / len;
+            double stepRe = Math.cos(angle);
+            double stepIm = Math.sin(angle);
+            int half = len >> 1;
+            for (int i = 0; i < n; i += len) {
+                double wRe = 1.0;
+                double wIm = 0.0;
+                for (int k = 0; k < half; k++) {
+                    int a = i + k;
+                    int b = a + half;
+                    double tRe = re[b] * wRe - im[b] * wIm;
+                    double tIm = re[b] * wIm + im[b] * wRe;
+                    re[b] = re[a] - tRe;
+                    im[b] = im[a] - tIm;
+                    re[a] += tRe;
+                    im[a] += tIm;
+                    double nextRe = wRe * stepRe - wIm * stepIm;
+                    wIm = wRe * stepIm + wIm * stepRe;
+                    wRe = nextRe;
+                }
+            }
+        }
+    }
+}
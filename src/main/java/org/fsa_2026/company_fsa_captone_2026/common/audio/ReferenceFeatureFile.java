@@ -0,0 +1,120 @@
+package org.fsa_2026.company_fsa_captone_2026.common.audio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reference Feature File
+ * Định dạng nhị phân gọn cho đặc trưng audio mẫu của Challenge (.rfeat)
+ *
+ * <pre>
+ * offset  size  field
+ * 0       4     magic 'RFET'
+ * 4       2     version
+ * 6       2     coeffCount
+ * 8       4     sampleRate
+ * 12      4     hopLength
+ * 16      4     frameCount
+ * 20      12    reserved
+ * 32      4*N   pitchHz[frameCount]
+ * ...     4*N*C mfcc[frameCount][coeffCount]   (row-major)
+ * </pre>
+ *
+ * <p>
+ * Little-endian float32, đọc bằng memory-map → không parse, không copy lên heap.
+ * </p>
+ */
+public final class ReferenceFeatureFile {
+
+    public static final String EXTENSION = ".rfeat";
+    public static final int MAGIC = 0x54454652; // "RFET" little-endian
+    public static final short VERSION = 2; // v2: pitch contour từ YIN
+    public static final int HEADER_SIZE = 32;
+
+    private ReferenceFeatureFile() {
+    }
+
+    /**
+     * Ghi file qua file tạm rồi move atomically → reader không bao giờ thấy file dở
+     */
+    public static void write(Path target, AudioFeatures features) throws IOException {
+        int frames = features.frameCount();
+        int coeffs = features.coeffCount();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + 4 * frames * (1 + coeffs))
+                .order(ByteOrder.LITTLE_ENDIAN);
+
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort((short) coeffs);
+        buffer.putInt(FeatureExtractor.SAMPLE_RATE);
+        buffer.putInt(FeatureExtractor.HOP_LENGTH);
+        buffer.putInt(frames);
+        buffer.position(HEADER_SIZE);
+
+        for (int f = 0; f < frames; f++) {
+            buffer.putFloat(features.pitchHz(f));
+        }
+        for (int f = 0; f < frames; f++) {
+            for (int c = 0; c < coeffs; c++) {
+                buffer.putFloat(features.mfcc(f, c));
+            }
+        }
+        buffer.flip();
+
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Memory-map a feature file (read-only). The mapping stays valid after the
+     * channel is closed and even if the file is later replaced.
+     *
+     * @throws IOException nếu file hỏng hoặc khác version
+     */
+    public static AudioFeatures map(Path source) throws IOException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new IOException("Feature file too small: " + source);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (mapped.getInt(0) != MAGIC || mapped.getShort(4) != VERSION) {
+                throw new IOException("Unsupported feature file version: " + source);
+            }
+            int coeffs = mapped.getShort(6);
+            int frames = mapped.getInt(16);
+            long expected = HEADER_SIZE + 4L * frames * (1 + coeffs);
+            if (frames < 0 || coeffs <= 0 || expected != size) {
+                throw new IOException("Corrupted feature file: " + source);
+            }
+
+            FloatBuffer body = mapped.slice(HEADER_SIZE, (int) (size - HEADER_SIZE))
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .asFloatBuffer();
+            FloatBuffer pitch = body.slice(0, frames);
+            FloatBuffer mfcc = body.slice(frames, frames * coeffs);
+            return new AudioFeatures(frames, coeffs, pitch, mfcc);
+        }
+    }
+}
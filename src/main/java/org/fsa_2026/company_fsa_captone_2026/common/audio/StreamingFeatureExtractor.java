@@ -0,0 +1,132 @@
+package org.fsa_2026.company_fsa_captone_2026.common.audio;
+
+import java.util.Arrays;
+
+/**
+ * Streaming Feature Extractor
+ * Trích xuất MFCC + pitch tăng dần trong lúc learner đang nói: mẫu PCM đi qua
+ * một ring buffer nhỏ, mỗi frame được tính ngay khi đủ cửa sổ pitch (40 ms). Khi
+ * kết thúc chỉ còn vài frame cuối (cửa sổ bị cắt) và bước cepstral mean
+ * normalization, kết quả giống hệt {@link FeatureExtractor#extract} trên toàn bộ
+ * tín hiệu.
+ *
+ * <p>
+ * Không giữ audio thô: bộ nhớ là ring buffer + đặc trưng (14 float mỗi 10 ms),
+ * tối đa {@code maxFrames} frame. <b>Không thread-safe</b>, mỗi stream một instance.
+ * </p>
+ */
+public final class StreamingFeatureExtractor {
+
+    /** Đủ cho mẫu trước frame (pre-emphasis) + cửa sổ pitch + một hop */
+    private static final int RING_SIZE = 1024;
+    private static final int RING_MASK = RING_SIZE - 1;
+
+    private final FeatureExtractor extractor = new FeatureExtractor();
+    private final float[] ring = new float[RING_SIZE];
+    /** [mẫu trước frame, cửa sổ pitch...] liên tục cho FeatureExtractor */
+    private final float[] window = new float[FeatureExtractor.PITCH_WINDOW + 1];
+    private final int maxFrames;
+    private final float[] pitch;
+    private final float[] mfcc;
+
+    private long sampleCount;
+    private int frames;
+    /** Byte thấp còn dư khi chunk PCM có số byte lẻ */
+    private int pendingByte = -1;
+    private boolean finished;
+
+    public StreamingFeatureExtractor(int maxFrames) {
+        this.maxFrames = maxFrames;
+        this.pitch = new float[maxFrames];
+        this.mfcc = new float[maxFrames * FeatureExtractor.MFCC_COEFFS];
+    }
+
+    /**
+     * Nạp PCM 16-bit little-endian mono 16 kHz (chunk có thể cắt giữa một mẫu)
+     *
+     * @param out nếu khác null: nhận các mẫu đã chuyển sang float (cho VAD), đủ
+     *            {@code length / 2 + 1} phần tử
+     * @return số mẫu đã nạp
+     */
+    public int appendPcm16(byte[] data, int offset, int length, float[] out) {
+        int written = 0;
+        int index = offset;
+        int end = offset + length;
+        if (pendingByte >= 0 && index < end) {
+            written = appendPcmSample(pendingByte, data[index++], out, written);
+            pendingByte = -1;
+        }
+        for (; index + 1 < end; index += 2) {
+            written = appendPcmSample(data[index] & 0xFF, data[index + 1], out, written);
+        }
+        if (index < end) {
+            pendingByte = data[index] & 0xFF;
+        }
+        return written;
+    }
+
+    private int appendPcmSample(int low, byte high, float[] out, int written) {
+        float sample = (short) ((high << 8) | low) / 32768f;
+        if (out != null) {
+            out[written] = sample;
+        }
+        append(sample);
+        return written + 1;
+    }
+
+    public void append(float sample) {
+        if (finished) {
+            throw new IllegalStateException("Stream already finished");
+        }
+        ring[(int) (sampleCount & RING_MASK)] = sample;
+        sampleCount++;
+        // Frame kế tiếp đủ cửa sổ pitch đầy đủ → tính ngay, kết quả như khi có toàn bộ tín hiệu
+        if (frames < maxFrames
+                && sampleCount >= (long) frames * FeatureExtractor.HOP_LENGTH + FeatureExtractor.PITCH_WINDOW) {
+            computeFrame(FeatureExtractor.PITCH_WINDOW);
+        }
+    }
+
+    public long sampleCount() {
+        return sampleCount;
+    }
+
+    /** Số frame đã tính xong */
+    public int frameCount() {
+        return frames;
+    }
+
+    public boolean isFull() {
+        return frames >= maxFrames;
+    }
+
+    /**
+     * Tính các frame cuối (cửa sổ pitch bị cắt như khi trích xuất cả file) và chuẩn
+     * hoá cepstral mean
+     */
+    public AudioFeatures finish() {
+        if (!finished) {
+            finished = true;
+            int total = Math.min(FeatureExtractor.frameCount((int) Math.min(sampleCount, Integer.MAX_VALUE)),
+                    maxFrames);
+            while (frames < total) {
+                long start = (long) frames * FeatureExtractor.HOP_LENGTH;
+                computeFrame((int) Math.min(FeatureExtractor.PITCH_WINDOW, sampleCount - start));
+            }
+            FeatureExtractor.normalizeCepstralMean(mfcc, frames);
+        }
+        return AudioFeatures.of(Arrays.copyOf(pitch, frames),
+                Arrays.copyOf(mfcc, frames * FeatureExtractor.MFCC_COEFFS), FeatureExtractor.MFCC_COEFFS);
+    }
+
+    private void computeFrame(int available) {
+        long start = (long) frames * FeatureExtractor.HOP_LENGTH;
+        float[] samples = available == FeatureExtractor.PITCH_WINDOW ? window : new float[available + 1];
+        samples[0] = start > 0 ? ring[(int) ((start - 1) & RING_MASK)] : 0f;
+        for (int i = 0; i < available; i++) {
+            samples[i + 1] = ring[(int) ((start + i) & RING_MASK)];
+        }
+        pitch[frames] = extractor.extractFrame(samples, 1, mfcc, frames * FeatureExtractor.MFCC_COEFFS);
+        frames++;
+    }
+}
@@ -0,0 +1,268 @@
+package org.fsa_2026.company_fsa_captone_2026.common.audio;
+
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.VietnameseTone;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tone Analyzer
+ * Phân loại đường cao độ của từng âm tiết vào 1 trong 6 thanh điệu tiếng Việt
+ * và chấm điểm độ chính xác so với thanh điệu mong đợi (theo dấu trong văn bản).
+ *
+ * <p>
+ * Đường cao độ được đổi sang semitone so với cao độ trung bình của người nói
+ * (không phụ thuộc giọng nam/nữ), lấy mẫu lại thành 5 điểm rồi so khớp với
+ * template của từng thanh; thanh ngã/nặng có thêm đặc trưng ngắt giọng
+ * (glottalization). Buffer tạm được giữ trong instance → <b>không thread-safe</b>.
+ * </p>
+ */
+public final class ToneAnalyzer {
+
+    public static final int CONTOUR_POINTS = 5;
+
+    private static final VietnameseTone[] TONES = VietnameseTone.values();
+
+    /**
+     * Template contour (semitone so với trung bình người nói), theo thứ tự VietnameseTone
+     */
+    private static final float[][] TEMPLATES = {
+            { 1.0f, 1.0f, 1.0f, 1.0f, 1.0f }, // NGANG 33
+            { -0.5f, -1.2f, -2.0f, -2.7f, -3.5f }, // HUYEN 21
+            { 0.0f, 0.5f, 1.5f, 3.0f, 4.5f }, // SAC 35
+            { 0.0f, -1.5f, -3.0f, -2.0f, -0.5f }, // HOI 313
+            { 0.5f, 0.0f, 0.5f, 3.0f, 5.0f }, // NGA 3ʔ5
+            { -1.0f, -2.0f, -3.0f, -4.5f, -6.0f }, // NANG 21ʔ
+    };
+    private static final float[] GLOTTAL_BREAK = { 0f, 0f, 0f, 0f, 1f, 1f };
+    private static final float[] TEMPLATE_LEVELS = new float[TEMPLATES.length];
+
+    static {
+        for (int t = 0; t < TEMPLATES.length; t++) {
+            float sum = 0f;
+            for (float value : TEMPLATES[t]) {
+                sum += value;
+            }
+            TEMPLATE_LEVELS[t] = sum / CONTOUR_POINTS;
+        }
+    }
+
+    private static final double LEVEL_WEIGHT = 0.5;
+    private static final double BREAK_WEIGHT = 1.5;
+    private static final double SIGMA = 1.5;
+    private static final int MAX_GAP_FRAMES = 8;
+    private static final int MIN_RUN_FRAMES = 3;
+    private static final int NEIGHBOURHOOD = 2;
+
+    private final float[] contour = new float[CONTOUR_POINTS];
+    private final double[] likelihood = new double[TONES.length];
+    private int[] runStarts = new int[16];
+    private int[] runEnds = new int[16];
+
+    /**
+     * Analyze every syllable of {@code text} against the learner's pitch contour
+     */
+    public List<SyllableTone> analyze(String text, AudioFeatures features) {
+        List<String> syllables = syllables(text);
+        List<SyllableTone> result = new ArrayList<>(syllables.size());
+        int frames = features.frameCount();
+        if (syllables.isEmpty() || frames == 0) {
+            return result;
+        }
+
+        double reference = meanSemitone(features, 0, frames);
+        int runs = voicedRuns(features);
+
+        int first = runs > 0 ? runStarts[0] : 0;
+        int last = runs > 0 ? runEnds[runs - 1] : frames;
+        for (int i = 0; i < syllables.size(); i++) {
+            int from;
+            int to;
+            if (runs == syllables.size()) {
+                from = runStarts[i];
+                to = runEnds[i];
+            } else {
+                // Số đoạn hữu thanh không khớp số âm tiết → chia đều vùng hữu thanh
+                from = first + (last - first) * i / syllables.size();
+                to = first + (last - first) * (i + 1) / syllables.size();
+            }
+            String syllable = syllables.get(i);
+            result.add(classify(syllable, VietnameseTone.fromSyllable(syllable), features, from, to, reference));
+        }
+        return result;
+    }
+
+    /**
+     * Classify one syllable segment [from, to) of the pitch contour
+     */
+    public SyllableTone classify(String syllable, VietnameseTone expected, AudioFeatures features,
+            int from, int to, double reference) {
+        int startMs = from * FeatureExtractor.HOP_MS;
+        int endMs = to * FeatureExtractor.HOP_MS;
+
+        int firstVoiced = -1;
+        int lastVoiced = -1;
+        int voiced = 0;
+        for (int f = from; f < to; f++) {
+            if (features.pitchHz(f) > 0) {
+                if (firstVoiced < 0) {
+                    firstVoiced = f;
+                }
+                lastVoiced = f;
+                voiced++;
+            }
+        }
+        if (voiced < MIN_RUN_FRAMES || Double.isNaN(reference)) {
+            return new SyllableTone(syllable, expected, null, 0.0, startMs, endMs);
+        }
+
+        int span = lastVoiced - firstVoiced + 1;
+        double glottalBreak = Math.min(1.0, 4.0 * (span - voiced) / span);
+
+        for (int k = 0; k < CONTOUR_POINTS; k++) {
+            int center = firstVoiced + (span - 1) * k / (CONTOUR_POINTS - 1);
+            double value = meanSemitone(features, Math.max(firstVoiced, center - NEIGHBOURHOOD),
+                    Math.min(lastVoiced + 1, center + NEIGHBOURHOOD + 1));
+            if (Double.isNaN(value)) {
+                contour[k] = k > 0 ? contour[k - 1] : 0f;
+            } else {
+                contour[k] = (float) (value - reference);
+            }
+        }
+
+        double level = 0.0;
+        for (int k = 0; k < CONTOUR_POINTS; k++) {
+            level += contour[k];
+        }
+        level /= CONTOUR_POINTS;
+
+        // Khoảng cách = hình dạng (đã bỏ trung bình) + độ cao (trọng số thấp, vì câu
+        // một âm tiết thì trung bình người nói chính là âm tiết đó) + ngắt giọng
+        double total = 0.0;
+        int best = 0;
+        for (int t = 0; t < TONES.length; t++) {
+            double squared = 0.0;
+            for (int k = 0; k < CONTOUR_POINTS; k++) {
+                double diff = (contour[k] - level) - (TEMPLATES[t][k] - TEMPLATE_LEVELS[t]);
+                squared += diff * diff;
+            }
+            double distance = Math.sqrt(squared / CONTOUR_POINTS)
+                    + LEVEL_WEIGHT * Math.abs(level - TEMPLATE_LEVELS[t])
+                    + BREAK_WEIGHT * Math.abs(glottalBreak - GLOTTAL_BREAK[t]);
+            likelihood[t] = Math.exp(-distance * distance / (2 * SIGMA * SIGMA));
+            total += likelihood[t];
+            if (likelihood[t] > likelihood[best]) {
+                best = t;
+            }
+        }
+
+        double score = total > 0 ? 100.0 * likelihood[expected.ordinal()] / total : 0.0;
+        return new SyllableTone(syllable, expected, TONES[best], score, startMs, endMs);
+    }
+
+    /**
+     * Mean pitch in semitones (re 100 Hz) over voiced frames of [from, to), NaN if none
+     */
+    public static double meanSemitone(AudioFeatures features, int from, int to) {
+        double sum = 0.0;
+        int count = 0;
+        for (int f = from; f < to; f++) {
+            float hz = features.pitchHz(f);
+            if (hz > 0) {
+                sum += 12.0 * Math.log(hz / 100.0) / Math.log(2.0);
+                count++;
+            }
+        }
+        return count > 0 ? sum / count : Double.NaN;
+    }
+
+    /**
+     * Tìm các đoạn hữu thanh (gộp khoảng lặng ngắn bên trong âm tiết)
+     */
+    private int voicedRuns(AudioFeatures features) {
+        int runs = 0;
+        int start = -1;
+        int lastVoiced = -1;
+        for (int f = 0; f <= features.frameCount(); f++) {
+            boolean isVoiced = f < features.frameCount() && features.pitchHz(f) > 0;
+            if (isVoiced) {
+                if (start < 0) {
+                    start = f;
+                }
+                lastVoiced = f;
+            } else if (start >= 0 && (f - lastVoiced > MAX_GAP_FRAMES || f == features.frameCount())) {
+                if (lastVoiced + 1 - start >= MIN_RUN_FRAMES) {
+                    if (runs == runStarts.length) {
+                        runStarts = Arrays.copyOf(runStarts, runs * 2);
+                        runEnds = Arrays.copyOf(runEnds, runs * 2);
+                    }
+                    runStarts[runs] = start;
+                    runEnds[runs] = lastVoiced + 1;
+                    runs++;
+                }
+                start = -1;
+            }
+        }
+        return runs;
+    }
+
+    private static List<String> syllables(String text) {
+        List<String> syllables = new ArrayList<>();
+        if (text == null) {
+            return syllables;
+        }
+        for (String token : text.split("[\\s\\p{Punct}]+")) {
+            if (!token.isBlank()) {
+                syllables.add(token);
+            }
+        }
+        return syllables;
+    }
+
+    /**
+     * Kết quả thanh điệu của một âm tiết (detectedTone null nếu không đủ khung hữu thanh)
+     */
+    public static final class SyllableTone {
+        private final String syllable;
+        private final VietnameseTone expectedTone;
+        private final VietnameseTone detectedTone;
+        private final double score;
+        private final int startMs;
+        private final int endMs;
+
+        public SyllableTone(String syllable, VietnameseTone expectedTone, VietnameseTone detectedTone,
+                double score, int startMs, int endMs) {
+            this.syllable = syllable;
+            this.expectedTone = expectedTone;
+            this.detectedTone = detectedTone;
+            this.score = score;
+            this.startMs = startMs;
+            this.endMs = endMs;
+        }
+
+        public String syllable() {
+            return syllable;
+        }
+
+        public VietnameseTone expectedTone() {
+            return expectedTone;
+        }
+
+        public VietnameseTone detectedTone() {
+            return detectedTone;
+        }
+
+        public double score() {
+            return score;
+        }
+
+        public int startMs() {
+            return startMs;
+        }
+
+        public int endMs() {
+            return endMs;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.fsa_2026.company_fsa_captone_2026.common.audio;
+
+/**
+ * Voice Activity Detector
+ * VAD theo năng lượng cho audio streaming: mỗi hop 10 ms so RMS với ngưỡng
+ * {@code max(minRms, noiseFloor * ratio)}, noise floor học từ các hop im lặng.
+ *
+ * <ul>
+ * <li>{@code startHops} hop có tiếng liên tiếp → {@link State#SPEECH} (bỏ qua tiếng
+ * click ngắn).</li>
+ * <li>Đang nói mà {@code endHops} hop im lặng liên tiếp → {@link State#ENDED}: learner
+ * đã nói xong, có thể chấm điểm.</li>
+ * </ul>
+ *
+ * <b>Không thread-safe</b>.
+ */
+public final class VoiceActivityDetector {
+
+    public enum State {
+        SILENCE, SPEECH, ENDED
+    }
+
+    private static final float NOISE_RATIO = 3f;
+    private static final float NOISE_ADAPTATION = 0.05f;
+
+    private final int hopLength;
+    private final int startHops;
+    private final int endHops;
+    private final float minRms;
+
+    private State state = State.SILENCE;
+    private float noiseFloor;
+    private double hopEnergy;
+    private int hopSamples;
+    private int run;
+
+    public VoiceActivityDetector(int hopLength, int startHops, int endHops, float minRms) {
+        this.hopLength = hopLength;
+        this.startHops = startHops;
+        this.endHops = endHops;
+        this.minRms = minRms;
+    }
+
+    /**
+     * VAD mặc định cho audio 16 kHz theo thời lượng (ms)
+     */
+    public static VoiceActivityDetector of(int minSpeechMs, int endSilenceMs, float minRms) {
+        return new VoiceActivityDetector(FeatureExtractor.HOP_LENGTH,
+                Math.max(1, minSpeechMs / FeatureExtractor.HOP_MS),
+                Math.max(1, endSilenceMs / FeatureExtractor.HOP_MS), minRms);
+    }
+
+    public State accept(float[] samples, int offset, int length) {
+        for (int i = offset; i < offset + length && state != State.ENDED; i++) {
+            hopEnergy += samples[i] * samples[i];
+            if (++hopSamples == hopLength) {
+                classify((float) Math.sqrt(hopEnergy / hopLength));
+                hopEnergy = 0.0;
+                hopSamples = 0;
+            }
+        }
+        return state;
+    }
+
+    public State state() {
+        return state;
+    }
+
+    private void classify(float rms) {
+        boolean voiced = rms > Math.max(minRms, noiseFloor * NOISE_RATIO);
+        if (!voiced) {
+            noiseFloor += (rms - noiseFloor) * NOISE_ADAPTATION;
+        }
+        if (state == State.SILENCE) {
+            run = voiced ? run + 1 : 0;
+            if (run >= startHops) {
+                state = State.SPEECH;
+                run = 0;
+            }
+        } else if (state == State.SPEECH) {
+            run = voiced ? 0 : run + 1;
+            if (run >= endHops) {
+                state = State.ENDED;
+            }
+        }
+    }
+}
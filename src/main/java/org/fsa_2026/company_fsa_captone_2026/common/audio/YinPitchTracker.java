@@ -0,0 +1,129 @@
+package org.fsa_2026.company_fsa_captone_2026.common.audio;
+
+/**
+ * YIN Pitch Tracker
+ * Ước lượng tần số cơ bản (F0) theo thuật toán YIN (de Cheveigné &amp; Kawahara):
+ * difference function → cumulative mean normalized difference → absolute
+ * threshold → parabolic interpolation.
+ *
+ * <p>
+ * Chỉ dùng mảng primitive và một buffer tạm cấp phát sẵn trong constructor,
+ * không cấp phát trong vòng lặp → <b>không thread-safe</b>.
+ * </p>
+ */
+public final class YinPitchTracker {
+
+    public static final float DEFAULT_MIN_HZ = 60f;
+    public static final float DEFAULT_MAX_HZ = 500f;
+    public static final float DEFAULT_THRESHOLD = 0.15f;
+
+    private static final double SILENCE_RMS = 0.01;
+
+    private final int sampleRate;
+    private final int windowSize;
+    private final int minLag;
+    private final int maxLag;
+    private final float threshold;
+
+    /**
+     * d'(tau) cho tau trong [0, maxLag]
+     */
+    private final float[] difference;
+
+    public YinPitchTracker(int sampleRate, int windowSize) {
+        this(sampleRate, windowSize, DEFAULT_MIN_HZ, DEFAULT_MAX_HZ, DEFAULT_THRESHOLD);
+    }
+
+    public YinPitchTracker(int sampleRate, int windowSize, float minHz, float maxHz, float threshold) {
+        this.sampleRate = sampleRate;
+        this.windowSize = windowSize;
+        this.minLag = Math.max(2, (int) (sampleRate / maxHz));
+        this.maxLag = Math.min(windowSize - 1, (int) Math.ceil(sampleRate / minHz));
+        if (minLag >= maxLag) {
+            throw new IllegalArgumentException("Window too short for pitch range");
+        }
+        this.threshold = threshold;
+        this.difference = new float[maxLag + 1];
+    }
+
+    public int windowSize() {
+        return windowSize;
+    }
+
+    /**
+     * Estimate F0 of the window starting at {@code offset}.
+     *
+     * @return F0 in Hz, 0 if silent/unvoiced or the window runs past the end
+     */
+    public float estimate(float[] samples, int offset) {
+        // Cần windowSize mẫu cho so sánh + maxLag mẫu phía sau; cắt bớt ở cuối tín hiệu
+        int available = samples.length - offset;
+        int integration = Math.min(windowSize - maxLag, available - maxLag);
+        if (integration < minLag) {
+            return 0f;
+        }
+
+        double energy = 0.0;
+        for (int i = 0; i < integration; i++) {
+            float s = samples[offset + i];
+            energy += s * s;
+        }
+        if (Math.sqrt(energy / integration) < SILENCE_RMS) {
+            return 0f;
+        }
+
+        // Step 1-2: difference function + cumulative mean normalization
+        difference[0] = 1f;
+        double runningSum = 0.0;
+        for (int tau = 1; tau <= maxLag; tau++) {
+            double sum = 0.0;
+            for (int i = 0; i < integration; i++) {
+                float delta = samples[offset + i] - samples[offset + i + tau];
+                sum += delta * delta;
+            }
+            runningSum += sum;
+            difference[tau] = runningSum > 0 ? (float) (sum * tau / runningSum) : 1f;
+        }
+
+        // Step 3: first dip below threshold, then walk to its local minimum
+        int tau = -1;
+        for (int t = minLag; t <= maxLag; t++) {
+            if (difference[t] < threshold) {
+                while (t + 1 <= maxLag && difference[t + 1] < difference[t]) {
+                    t++;
+                }
+                tau = t;
+                break;
+            }
+        }
+        if (tau < 0) {
+            return 0f;
+        }
+
+        // Step 4: parabolic interpolation around the minimum
+        double refined = tau;
+        if (tau > minLag && tau < maxLag) {
+            float s0 = difference[tau - 1];
+            float s1 = difference[tau];
+            float s2 = difference[tau + 1];
+            double denominator = s0 + s2 - 2 * s1;
+            if (denominator != 0) {
+                refined = tau + (s0 - s2) / (2 * denominator);
+            }
+        }
+        return (float) (sampleRate / refined);
+    }
+
+    /**
+     * Track F0 for every hop into {@code out}
+     *
+     * @return number of frames written
+     */
+    public int track(float[] samples, int hopLength, float[] out) {
+        int frames = Math.min(out.length, samples.length < windowSize ? 0 : 1 + (samples.length - windowSize) / hopLength);
+        for (int frame = 0; frame < frames; frame++) {
+            out[frame] = estimate(samples, frame * hopLength);
+        }
+        return frames;
+    }
+}
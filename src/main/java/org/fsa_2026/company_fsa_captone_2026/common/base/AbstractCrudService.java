@@ -3,7 +3,15 @@ package org.fsa_2026.company_fsa_captone_2026.common.base;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.fsa_2026.company_fsa_captone_2026.common.paging.Paging;
+import org.fsa_2026.company_fsa_captone_2026.common.paging.SortFields;
+import org.fsa_2026.company_fsa_captone_2026.dto.PageQuery;
+import org.fsa_2026.company_fsa_captone_2026.dto.PageResponse;
 import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.ByteArrayOutputStream;
@@ -14,6 +22,7 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * Abstract CRUD Service – Base chuẩn để kế thừa
@@ -39,6 +48,10 @@ import java.util.UUID;
  *     &#64;Override public DialectResponse update(UUID id, DialectCreateRequest req) { ... }
  *     @Override public void delete(UUID id) { ... }
  *
+ *     // Phân trang: repository trả về Slice (không COUNT) + count riêng
+ *     &#64;Override protected Slice<DialectResponse> findSlice(Pageable p) { ... }
+ *     &#64;Override protected long countAll() { ... }
+ *
  *     // Excel: chỉ cần implement importFromExcel() nếu cần custom parse
  *     // exportToExcel() đã được implement tự động qua @ExcelColumn annotation
  * }
@@ -70,6 +83,38 @@ public abstract class AbstractCrudService<REQ, RES> implements BaseCrudService<R
     @Override
     public abstract void delete(UUID id);
 
+    /**
+     * Một trang dữ liệu, không COUNT(*) (repository method trả về {@link Slice})
+     */
+    protected abstract Slice<RES> findSlice(Pageable pageable);
+
+    /**
+     * Tổng số bản ghi – chỉ được gọi khi client cần totalElements
+     */
+    protected abstract long countAll();
+
+    // ==========================================
+    // Pagination – Template dùng chung
+    // ==========================================
+
+    /**
+     * Whitelist field sort; mặc định createdAt desc (id làm tie-breaker).
+     * Override để thêm field riêng của resource.
+     */
+    protected SortFields sortFields() {
+        return SortFields.defaultTo(Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by("id")))
+                .allow("createdAt")
+                .allow("updatedAt");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<RES> getPage(PageQuery query) {
+        PageQuery effective = query != null ? query : PageQuery.firstPage();
+        Pageable pageable = effective.toPageable(sortFields());
+        return Paging.of(findSlice(pageable), effective.countMode(), this::countAll, Function.identity());
+    }
+
     /**
      * Import từ Excel – mặc định throw UnsupportedOperation.
      * Override trong subclass nếu cần.
@@ -3,7 +3,10 @@ package org.fsa_2026.company_fsa_captone_2026.common.base;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
 import org.fsa_2026.company_fsa_captone_2026.dto.ApiResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.PageQuery;
+import org.fsa_2026.company_fsa_captone_2026.dto.PageResponse;
 import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
@@ -24,7 +27,7 @@ import java.util.UUID;
  * Cung cấp đầy đủ 7 endpoint chuẩn:
  * </p>
  * <ul>
- * <li>{@code GET  /} – Lấy toàn bộ danh sách</li>
+ * <li>{@code GET  /} – Lấy danh sách phân trang ({@link PageQuery})</li>
  * <li>{@code GET  /{id}} – Lấy chi tiết theo ID</li>
  * <li>{@code POST /} – Tạo mới</li>
  * <li>{@code PUT  /{id}} – Cập nhật</li>
@@ -66,13 +69,13 @@ public abstract class BaseCrudController<REQ, RES> {
     }
 
     // ==========================================
-    // GET / – Danh sách tất cả
+    // GET / – Danh sách phân trang
     // ==========================================
     @GetMapping
-    @Operation(summary = "Get All", description = "Lấy toàn bộ danh sách")
-    public ResponseEntity<ApiResponse<List<RES>>> getAll() {
-        log.info("[{}] Getting all records", resourceName);
-        return ResponseEntity.ok(ApiResponse.success("Lấy danh sách thành công", service.getAll()));
+    @Operation(summary = "Get Page", description = "Lấy danh sách phân trang (page, size, sort, count)")
+    public ResponseEntity<ApiResponse<PageResponse<RES>>> getAll(@ParameterObject PageQuery query) {
+        log.info("[{}] Getting page {} (size={})", resourceName, query.getPage(), query.getSize());
+        return ResponseEntity.ok(ApiResponse.success("Lấy danh sách thành công", service.getPage(query)));
     }
 
     // ==========================================
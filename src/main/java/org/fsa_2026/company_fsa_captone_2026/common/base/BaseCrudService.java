@@ -1,5 +1,7 @@
 package org.fsa_2026.company_fsa_captone_2026.common.base;
 
+import org.fsa_2026.company_fsa_captone_2026.dto.PageQuery;
+import org.fsa_2026.company_fsa_captone_2026.dto.PageResponse;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -31,9 +33,12 @@ import java.util.UUID;
  */
 public interface BaseCrudService<REQ, RES> {
 
-    /** Lấy toàn bộ danh sách */
+    /** Lấy toàn bộ danh sách (dùng cho export, không trả thẳng ra API) */
     List<RES> getAll();
 
+    /** Lấy một trang danh sách (sort theo whitelist, count theo CountMode) */
+    PageResponse<RES> getPage(PageQuery query);
+
     /** Lấy chi tiết theo ID */
     RES getById(UUID id);
 
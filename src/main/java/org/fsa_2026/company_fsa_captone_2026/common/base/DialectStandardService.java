@@ -6,11 +6,14 @@ import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.fsa_2026.company_fsa_captone_2026.common.paging.SortFields;
 import org.fsa_2026.company_fsa_captone_2026.dto.DialectCreateRequest;
 import org.fsa_2026.company_fsa_captone_2026.dto.DialectResponse;
 import org.fsa_2026.company_fsa_captone_2026.entity.Dialect;
 import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
 import org.fsa_2026.company_fsa_captone_2026.repository.DialectRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -33,7 +36,7 @@ import java.util.stream.Collectors;
  * <li>Controller: cần <b>0 dòng</b> logic CRUD – kế thừa
  * BaseCrudController</li>
  * <li>Service: chỉ cần implement 5 method (getAll, getById, create, update,
- * delete)</li>
+ * delete) + findSlice/countAll cho phân trang</li>
  * <li>Export Excel: <b>tự động</b> qua {@code @ExcelColumn} trên
  * {@link DialectResponse}</li>
  * <li>Import Excel: <b>chỉ cần override</b> {@code importFromExcel()} và viết
@@ -69,6 +72,21 @@ public class DialectStandardService extends AbstractCrudService<DialectCreateReq
                 .collect(Collectors.toList());
     }
 
+    @Override
+    protected Slice<DialectResponse> findSlice(Pageable pageable) {
+        return dialectRepository.findAllBy(pageable).map(DialectResponse::fromEntity);
+    }
+
+    @Override
+    protected long countAll() {
+        return dialectRepository.count();
+    }
+
+    @Override
+    protected SortFields sortFields() {
+        return super.sortFields().allow("name");
+    }
+
     @Override
     @Transactional(readOnly = true)
     public DialectResponse getById(UUID id) {
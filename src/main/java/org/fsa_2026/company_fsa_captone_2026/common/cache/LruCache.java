@@ -0,0 +1,76 @@
+package org.fsa_2026.company_fsa_captone_2026.common.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * LRU Cache
+ * Map có giới hạn theo thứ tự truy cập ({@link LinkedHashMap} access-order): get / put /
+ * remove O(1), vượt {@code maxSize} thì bỏ entry lâu không dùng nhất ngay trong lần put
+ * – không quét cả map khi đầy.
+ *
+ * <p>
+ * Một lock cho cả map; các thao tác đều ngắn, không làm I/O trong lock.
+ * {@code onEvict} chạy trong lock khi entry bị bỏ vì đầy (không gọi khi {@link #remove}).
+ * </p>
+ */
+public final class LruCache<K, V> {
+
+    private final LinkedHashMap<K, V> map;
+
+    public LruCache(int maxSize) {
+        this(maxSize, null);
+    }
+
+    public LruCache(int maxSize, BiConsumer<K, V> onEvict) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() <= maxSize) {
+                    return false;
+                }
+                if (onEvict != null) {
+                    onEvict.accept(eldest.getKey(), eldest.getValue());
+                }
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Lấy và đánh dấu vừa dùng
+     */
+    public synchronized V get(K key) {
+        return map.get(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        map.put(key, value);
+    }
+
+    /**
+     * @return giá trị đang có (giữ nguyên), null nếu vừa thêm {@code value}
+     */
+    public synchronized V putIfAbsent(K key, V value) {
+        return map.putIfAbsent(key, value);
+    }
+
+    public synchronized V remove(K key) {
+        return map.remove(key);
+    }
+
+    /**
+     * Chỉ bỏ nếu entry vẫn là {@code value}
+     */
+    public synchronized boolean remove(K key, V value) {
+        return map.remove(key, value);
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+}
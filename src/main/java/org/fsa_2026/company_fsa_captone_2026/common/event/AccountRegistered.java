@@ -0,0 +1,23 @@
+package org.fsa_2026.company_fsa_captone_2026.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Tài khoản learner vừa đăng ký (chưa xác thực email). Không mang OTP: listener đọc
+ * mã hiện hành từ account.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountRegistered implements DomainEvent {
+
+    private UUID accountId;
+    private String email;
+    private String fullName;
+}
@@ -0,0 +1,37 @@
+package org.fsa_2026.company_fsa_captone_2026.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Một attempt đã được chấm điểm và lưu
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttemptScored implements DomainEvent {
+
+    private UUID attemptId;
+    private UUID accountId;
+    private UUID sessionId;
+    private UUID challengeId;
+    private double overallScore;
+    private boolean passed;
+    private List<PhonemeResult> phonemeScores;
+    private Instant scoredAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PhonemeResult {
+        private String phoneme;
+        private double score;
+    }
+}
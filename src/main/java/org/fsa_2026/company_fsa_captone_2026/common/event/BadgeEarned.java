@@ -0,0 +1,24 @@
+package org.fsa_2026.company_fsa_captone_2026.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Learner vừa đạt một huy hiệu (dòng account_badge đã được ghi)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BadgeEarned implements DomainEvent {
+
+    private UUID accountId;
+    private UUID badgeId;
+    private String badgeName;
+    private Instant earnedAt;
+}
@@ -0,0 +1,28 @@
+package org.fsa_2026.company_fsa_captone_2026.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Nội dung (LEVEL / CHALLENGE / QUIZ) vừa ở trạng thái APPROVED – được duyệt, hoặc do
+ * admin tạo/sửa trực tiếp
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContentApproved implements DomainEvent {
+
+    public static final String LEVEL = "LEVEL";
+    public static final String CHALLENGE = "CHALLENGE";
+    public static final String QUIZ = "QUIZ";
+
+    private String contentType;
+    private UUID contentId;
+    /** Chỉ có với CHALLENGE */
+    private String referenceAudioUrl;
+}
@@ -0,0 +1,10 @@
+package org.fsa_2026.company_fsa_captone_2026.common.event;
+
+/**
+ * Domain Event
+ * Đánh dấu event được ghi vào event_publication cùng transaction phát ra và giao
+ * cho các {@link DomainEventListener} sau khi commit. Event được serialize JSON
+ * (Jackson) nên cần constructor rỗng + setter.
+ */
+public interface DomainEvent {
+}
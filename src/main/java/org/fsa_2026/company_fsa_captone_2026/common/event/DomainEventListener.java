@@ -0,0 +1,27 @@
+package org.fsa_2026.company_fsa_captone_2026.common.event;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Listener của {@link DomainEvent}: method public, một tham số là kiểu event (hoặc
+ * supertype). Chạy bất đồng bộ sau khi transaction phát event commit, trong transaction
+ * riêng; đánh dấu hoàn tất cùng transaction đó, lỗi thì publication còn dang dở và được
+ * giao lại (lúc khởi động / khi quá hạn) – listener phải chịu được giao lại.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DomainEventListener {
+
+    /**
+     * false: listener làm I/O ngoài (SMTP, HTTP) – chạy ngoài mọi transaction, không giữ khoá
+     * dòng publication hay connection trong lúc chờ. Publication được nhận (claim) trong một
+     * transaction ngắn, đánh dấu hoàn tất trong một transaction ngắn khác; lỗi giữa hai bước
+     * thì listener được gọi lại.
+     */
+    boolean transactional() default true;
+}
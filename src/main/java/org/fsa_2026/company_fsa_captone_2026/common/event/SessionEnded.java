@@ -0,0 +1,24 @@
+package org.fsa_2026.company_fsa_captone_2026.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Learner kết thúc một phiên luyện tập (chỉ phát ở lần kết thúc đầu tiên)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SessionEnded implements DomainEvent {
+
+    private UUID sessionId;
+    private UUID accountId;
+    private Instant startedAt;
+    private Instant endedAt;
+}
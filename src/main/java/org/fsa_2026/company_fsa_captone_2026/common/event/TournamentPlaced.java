@@ -0,0 +1,26 @@
+package org.fsa_2026.company_fsa_captone_2026.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Giải đấu kết thúc và thứ hạng của một người tham gia đã được chốt
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TournamentPlaced implements DomainEvent {
+
+    private UUID participantId;
+    private UUID accountId;
+    private UUID tournamentId;
+    private String tournamentName;
+    private int rankPosition;
+    private Instant finishedAt;
+}
@@ -0,0 +1,17 @@
+package org.fsa_2026.company_fsa_captone_2026.common.paging;
+
+/**
+ * Count Mode
+ * Chiến lược đếm tổng số bản ghi cho danh sách phân trang
+ */
+public enum CountMode {
+    /**
+     * Chạy COUNT(*) khi cần (bỏ qua nếu suy ra được từ trang hiện tại)
+     */
+    EXACT,
+
+    /**
+     * Không bao giờ đếm — chỉ trả về hasNext (bảng rất lớn, infinite scroll)
+     */
+    SKIP
+}
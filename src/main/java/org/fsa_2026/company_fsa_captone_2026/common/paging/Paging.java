@@ -0,0 +1,83 @@
+package org.fsa_2026.company_fsa_captone_2026.common.paging;
+
+import org.fsa_2026.company_fsa_captone_2026.dto.PageResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Paging
+ * Ghép một Slice (LIMIT size+1, không COUNT) với chiến lược đếm để tạo
+ * PageResponse.
+ *
+ * <p>
+ * COUNT(*) chỉ chạy khi {@link CountMode#EXACT} và không suy ra được tổng từ
+ * trang hiện tại (trang cuối / trang đầu chưa đầy) — giống
+ * {@code PageableExecutionUtils} nhưng cho phép bỏ hẳn count trên bảng lớn.
+ * </p>
+ */
+public final class Paging {
+
+    private Paging() {
+    }
+
+    public static <E, R> PageResponse<R> of(Slice<E> slice, CountMode countMode, LongSupplier counter,
+            Function<? super E, ? extends R> mapper) {
+        List<R> content = slice.getContent().stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+        return build(slice.getPageable(), content, slice.hasNext(), countMode, counter);
+    }
+
+    /**
+     * Trang 2 bước cho entity có collection fetch join (không thể LIMIT trực
+     * tiếp): lấy slice id đã sort, rồi load entity theo id và giữ nguyên thứ tự.
+     */
+    public static <E, R> PageResponse<R> ofIds(Slice<UUID> ids, CountMode countMode, LongSupplier counter,
+            Function<Collection<UUID>, List<E>> loader, Function<? super E, UUID> idOf,
+            Function<? super E, ? extends R> mapper) {
+        List<R> content = List.of();
+        if (ids.hasContent()) {
+            Map<UUID, E> byId = new HashMap<>();
+            for (E entity : loader.apply(ids.getContent())) {
+                byId.put(idOf.apply(entity), entity);
+            }
+            content = ids.getContent().stream()
+                    .map(byId::get)
+                    .filter(Objects::nonNull)
+                    .map(mapper)
+                    .collect(Collectors.toList());
+        }
+        return build(ids.getPageable(), content, ids.hasNext(), countMode, counter);
+    }
+
+    private static <R> PageResponse<R> build(Pageable pageable, List<R> content, boolean hasNext,
+            CountMode countMode, LongSupplier counter) {
+        Long total = null;
+        if (!hasNext && (pageable.getPageNumber() == 0 || !content.isEmpty())) {
+            // Trang cuối → tổng = offset + số bản ghi, không cần COUNT
+            total = pageable.getOffset() + content.size();
+        } else if (countMode == CountMode.EXACT) {
+            total = counter.getAsLong();
+        }
+        Integer totalPages = total != null ? (int) ((total + pageable.getPageSize() - 1) / pageable.getPageSize())
+                : null;
+        return PageResponse.<R>builder()
+                .content(content)
+                .page(pageable.getPageNumber())
+                .size(pageable.getPageSize())
+                .totalElements(total)
+                .totalPages(totalPages)
+                .hasNext(hasNext)
+                .build();
+    }
+}
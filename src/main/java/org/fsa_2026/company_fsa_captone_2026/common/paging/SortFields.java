@@ -0,0 +1,116 @@
+package org.fsa_2026.company_fsa_captone_2026.common.paging;
+
+import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Sort Fields
+ * Whitelist các field được phép sort của một danh sách, map tên field API →
+ * property của entity. Client không thể sort theo cột không có index hoặc
+ * property tuỳ ý.
+ *
+ * <p>
+ * Immutable, khai báo một lần dạng hằng số:
+ * </p>
+ *
+ * <pre>{@code
+ * SortFields.defaultTo(Sort.by(Sort.Direction.DESC, "createdAt"))
+ *         .allow("createdAt")
+ *         .allow("email");
+ * }</pre>
+ */
+public final class SortFields {
+
+    public static final int MAX_ORDERS = 3;
+
+    private final Sort defaultSort;
+    private final Map<String, String> properties;
+
+    private SortFields(Sort defaultSort, Map<String, String> properties) {
+        this.defaultSort = defaultSort;
+        this.properties = properties;
+    }
+
+    public static SortFields defaultTo(Sort defaultSort) {
+        return new SortFields(defaultSort, Collections.emptyMap());
+    }
+
+    /**
+     * Cho phép sort theo field cùng tên với property
+     */
+    public SortFields allow(String field) {
+        return allow(field, field);
+    }
+
+    /**
+     * Cho phép sort theo {@code field}, áp dụng lên {@code property} của entity
+     */
+    public SortFields allow(String field, String property) {
+        Map<String, String> copy = new LinkedHashMap<>(properties);
+        copy.put(field, property);
+        return new SortFields(defaultSort, Collections.unmodifiableMap(copy));
+    }
+
+    public Sort defaultSort() {
+        return defaultSort;
+    }
+
+    public boolean isAllowed(String field) {
+        return properties.containsKey(field);
+    }
+
+    /**
+     * Parse tham số sort dạng {@code field[,asc|desc]} (lặp lại được). Spring có
+     * thể đã tách "name,desc" thành 2 phần tử nên direction được gắn vào field
+     * đứng ngay trước nó.
+     *
+     * @throws ApiException BAD_REQUEST nếu field không nằm trong whitelist
+     */
+    public Sort resolve(List<String> params) {
+        if (params == null || params.isEmpty()) {
+            return defaultSort;
+        }
+        List<Sort.Order> orders = new ArrayList<>();
+        for (String param : params) {
+            if (param == null) {
+                continue;
+            }
+            for (String token : param.split(",")) {
+                String value = token.trim();
+                if (value.isEmpty()) {
+                    continue;
+                }
+                Optional<Sort.Direction> direction = Sort.Direction.fromOptionalString(value);
+                if (direction.isPresent()) {
+                    if (orders.isEmpty()) {
+                        throw new ApiException("BAD_REQUEST", "Chiều sắp xếp phải đi sau tên field: " + value);
+                    }
+                    Sort.Order last = orders.remove(orders.size() - 1);
+                    orders.add(last.with(direction.get()));
+                    continue;
+                }
+                String property = properties.get(value);
+                if (property == null) {
+                    throw new ApiException("BAD_REQUEST",
+                            "Không hỗ trợ sắp xếp theo '" + value + "'. Cho phép: " + properties.keySet());
+                }
+                orders.add(Sort.Order.asc(property));
+            }
+        }
+        if (orders.isEmpty()) {
+            return defaultSort;
+        }
+        if (orders.size() > MAX_ORDERS) {
+            throw new ApiException("BAD_REQUEST", "Chỉ được sắp xếp tối đa " + MAX_ORDERS + " field");
+        }
+        // Thêm sort mặc định làm tie-breaker → thứ tự ổn định giữa các trang
+        return Sort.by(orders).and(defaultSort);
+    }
+}
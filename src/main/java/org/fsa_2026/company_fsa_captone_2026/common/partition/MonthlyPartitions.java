@@ -0,0 +1,76 @@
+package org.fsa_2026.company_fsa_captone_2026.common.partition;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Monthly Partitions
+ * Quy ước tên và mốc thời gian của partition theo tháng (UTC), khớp với hàm
+ * SQL {@code f_ensure_monthly_partition}: {@code <bảng>_pYYYY_MM} chứa
+ * {@code [đầu tháng, đầu tháng sau)}.
+ */
+public final class MonthlyPartitions {
+
+    private static final Pattern SUFFIX = Pattern.compile("_p(\\d{4})_(\\d{2})$");
+
+    private MonthlyPartitions() {
+    }
+
+    public static String name(String parent, YearMonth month) {
+        return String.format("%s_p%04d_%02d", parent, month.getYear(), month.getMonthValue());
+    }
+
+    /**
+     * Tháng của partition, rỗng nếu tên không thuộc bảng cha hoặc sai quy ước
+     */
+    public static Optional<YearMonth> monthOf(String parent, String partition) {
+        if (!partition.startsWith(parent + "_p") || partition.length() != parent.length() + 9) {
+            return Optional.empty();
+        }
+        Matcher matcher = SUFFIX.matcher(partition);
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+        int month = Integer.parseInt(matcher.group(2));
+        return month >= 1 && month <= 12
+                ? Optional.of(YearMonth.of(Integer.parseInt(matcher.group(1)), month))
+                : Optional.empty();
+    }
+
+    public static YearMonth monthOf(Instant instant) {
+        return YearMonth.from(instant.atOffset(ZoneOffset.UTC));
+    }
+
+    /** Đầu tháng (UTC) cách tháng của {@code now} {@code monthsBack} tháng */
+    public static Instant startOfMonth(Instant now, int monthsBack) {
+        return monthOf(now).minusMonths(monthsBack).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+    }
+
+    /** Tháng hiện tại và {@code monthsAhead} tháng kế tiếp */
+    public static List<YearMonth> upcoming(Instant now, int monthsAhead) {
+        YearMonth current = monthOf(now);
+        List<YearMonth> months = new ArrayList<>(monthsAhead + 1);
+        for (int i = 0; i <= monthsAhead; i++) {
+            months.add(current.plusMonths(i));
+        }
+        return months;
+    }
+
+    /**
+     * Partition cũ hơn {@code hotMonths} tháng gần nhất, tháng cũ nhất trước
+     */
+    public static List<String> cold(String parent, List<String> partitions, Instant now, int hotMonths) {
+        YearMonth oldestHot = monthOf(now).minusMonths(Math.max(1, hotMonths) - 1L);
+        return partitions.stream()
+                .filter(partition -> monthOf(parent, partition).filter(month -> month.isBefore(oldestHot)).isPresent())
+                .sorted(Comparator.comparing(partition -> monthOf(parent, partition).orElseThrow()))
+                .toList();
+    }
+}
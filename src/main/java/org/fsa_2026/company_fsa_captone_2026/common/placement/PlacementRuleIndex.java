@@ -0,0 +1,209 @@
+package org.fsa_2026.company_fsa_captone_2026.common.placement;
+
+import org.fsa_2026.company_fsa_captone_2026.entity.PlacementRule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Placement Rule Index
+ * Bản biên dịch bất biến của toàn bộ PlacementRule:
+ * <ul>
+ * <li>errorTag → rules sắp theo priority (nhỏ = ưu tiên cao), rồi threshold tăng dần
+ * (cùng điểm lỗi: threshold nhỏ hơn = biên vượt ngưỡng lớn hơn)</li>
+ * <li>(errorTag, dialect) → rule (khóa duy nhất, giống unique constraint trong DB)</li>
+ * </ul>
+ * Được build lại nguyên khối khi rule thay đổi và thay thế qua volatile reference.
+ */
+public final class PlacementRuleIndex {
+
+    public static final PlacementRuleIndex EMPTY = new PlacementRuleIndex(List.of());
+
+    private static final Comparator<CompiledRule> ORDER = Comparator
+            .comparingInt(CompiledRule::priority)
+            .thenComparingInt(CompiledRule::threshold);
+
+    private final Map<UUID, List<CompiledRule>> byErrorTag;
+    private final Map<Key, CompiledRule> byKey;
+    private final int size;
+
+    private PlacementRuleIndex(List<CompiledRule> rules) {
+        Map<UUID, List<CompiledRule>> grouped = new HashMap<>();
+        Map<Key, CompiledRule> keyed = new HashMap<>();
+        for (CompiledRule rule : rules) {
+            grouped.computeIfAbsent(rule.errorTagId(), id -> new ArrayList<>()).add(rule);
+            keyed.put(new Key(rule.errorTagId(), rule.dialectId()), rule);
+        }
+        for (List<CompiledRule> group : grouped.values()) {
+            group.sort(ORDER);
+        }
+        grouped.replaceAll((id, group) -> Collections.unmodifiableList(group));
+        this.byErrorTag = Collections.unmodifiableMap(grouped);
+        this.byKey = Collections.unmodifiableMap(keyed);
+        this.size = rules.size();
+    }
+
+    /**
+     * Compile rules (errorTag / targetDialect may be lazy proxies, only ids are read)
+     */
+    public static PlacementRuleIndex compile(List<PlacementRule> rules) {
+        List<CompiledRule> compiled = new ArrayList<>(rules.size());
+        for (PlacementRule rule : rules) {
+            if (rule.getErrorTag() == null || rule.getTargetDialect() == null) {
+                continue;
+            }
+            compiled.add(new CompiledRule(rule.getId(), rule.getErrorTag().getId(),
+                    rule.getTargetDialect().getId(),
+                    rule.getThreshold() != null ? rule.getThreshold() : 0,
+                    rule.getPriority() != null ? rule.getPriority() : Integer.MAX_VALUE,
+                    rule.getCheckpoint()));
+        }
+        return new PlacementRuleIndex(compiled);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public CompiledRule find(UUID errorTagId, UUID dialectId) {
+        return byKey.get(new Key(errorTagId, dialectId));
+    }
+
+    public List<CompiledRule> rulesFor(UUID errorTagId) {
+        return byErrorTag.getOrDefault(errorTagId, List.of());
+    }
+
+    /**
+     * Chọn rule thắng cho bộ điểm lỗi (0–100, cao = sai nhiều) theo error tag:
+     * rule khớp khi điểm lỗi ≥ threshold; ưu tiên priority nhỏ nhất, rồi
+     * biên vượt ngưỡng (score - threshold) lớn nhất.
+     *
+     * @return matched rule or null if none fires
+     */
+    public Match match(Map<UUID, Double> errorScores) {
+        Match best = null;
+        for (Map.Entry<UUID, Double> entry : errorScores.entrySet()) {
+            double score = entry.getValue();
+            for (CompiledRule rule : rulesFor(entry.getKey())) {
+                if (best != null && rule.priority() > best.rule().priority()) {
+                    break; // sorted by priority: nothing better in this group
+                }
+                if (score < rule.threshold()) {
+                    continue;
+                }
+                double margin = score - rule.threshold();
+                if (best == null || rule.priority() < best.rule().priority() || margin > best.margin()) {
+                    best = new Match(rule, score, margin);
+                }
+                break; // lowest firing threshold of the group = its largest margin
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Compiled, immutable view of a PlacementRule
+     */
+    public static final class CompiledRule {
+        private final UUID ruleId;
+        private final UUID errorTagId;
+        private final UUID dialectId;
+        private final int threshold;
+        private final int priority;
+        private final String checkpoint;
+
+        public CompiledRule(UUID ruleId, UUID errorTagId, UUID dialectId, int threshold, int priority,
+                String checkpoint) {
+            this.ruleId = ruleId;
+            this.errorTagId = errorTagId;
+            this.dialectId = dialectId;
+            this.threshold = threshold;
+            this.priority = priority;
+            this.checkpoint = checkpoint;
+        }
+
+        public UUID ruleId() {
+            return ruleId;
+        }
+
+        public UUID errorTagId() {
+            return errorTagId;
+        }
+
+        public UUID dialectId() {
+            return dialectId;
+        }
+
+        public int threshold() {
+            return threshold;
+        }
+
+        public int priority() {
+            return priority;
+        }
+
+        public String checkpoint() {
+            return checkpoint;
+        }
+    }
+
+    /**
+     * Rule thắng kèm điểm lỗi và biên vượt ngưỡng
+     */
+    public static final class Match {
+        private final CompiledRule rule;
+        private final double errorScore;
+        private final double margin;
+
+        public Match(CompiledRule rule, double errorScore, double margin) {
+            this.rule = rule;
+            this.errorScore = errorScore;
+            this.margin = margin;
+        }
+
+        public CompiledRule rule() {
+            return rule;
+        }
+
+        public double errorScore() {
+            return errorScore;
+        }
+
+        public double margin() {
+            return margin;
+        }
+    }
+
+    private static final class Key {
+        private final UUID errorTagId;
+        private final UUID dialectId;
+
+        private Key(UUID errorTagId, UUID dialectId) {
+            this.errorTagId = errorTagId;
+            this.dialectId = dialectId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return errorTagId.equals(other.errorTagId) && dialectId.equals(other.dialectId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(errorTagId, dialectId);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package org.fsa_2026.company_fsa_captone_2026.common.push;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Kênh đẩy của một kết nối, hàng đợi gửi có giới hạn.
+ *
+ * <ul>
+ * <li>{@link #offer} không bao giờ chặn thread gọi (request chấm điểm, listener):
+ * message vào queue, một task drain trên executor chung ghi tuần tự ra
+ * {@link Sink} – mỗi kênh nhiều nhất một task tại một thời điểm nên thứ tự được
+ * giữ.</li>
+ * <li>Backpressure: client đọc chậm làm queue đầy → kênh bị đóng (slow consumer)
+ * thay vì giữ bộ nhớ không giới hạn; client kết nối lại, kết quả cuối vẫn có qua
+ * REST.</li>
+ * <li>Ghi lỗi (client đã ngắt) cũng đóng kênh; {@code onClose} chạy đúng một lần.</li>
+ * <li>{@link #close} không chờ lần ghi đang dở: nếu task drain đang chạy, chính nó
+ * đóng {@link Sink} khi lần ghi trả về (đóng SseEmitter phải chờ lock ghi).</li>
+ * <li>{@link #writingSince} cho biết lần ghi hiện tại bắt đầu từ khi nào để nơi quản lý
+ * phát hiện kết nối treo (write timeout).</li>
+ * </ul>
+ */
+public final class PushChannel {
+
+    /**
+     * Đích ghi thật (SseEmitter, WebSocket session, ...)
+     */
+    public interface Sink {
+        void send(PushMessage message) throws IOException;
+
+        void close();
+    }
+
+    private final ArrayBlockingQueue<PushMessage> queue;
+    private final Sink sink;
+    private final Executor executor;
+    private final Consumer<PushChannel> onClose;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicBoolean sinkClosed = new AtomicBoolean();
+    /** System.nanoTime() lúc bắt đầu lần ghi hiện tại, 0 nếu không ghi */
+    private volatile long writingSince;
+
+    public PushChannel(int capacity, Sink sink, Executor executor, Consumer<PushChannel> onClose) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.sink = sink;
+        this.executor = executor;
+        this.onClose = onClose;
+    }
+
+    /**
+     * @return false nếu kênh đã đóng hoặc vừa bị đóng vì queue đầy
+     */
+    public boolean offer(PushMessage message) {
+        if (closed.get()) {
+            return false;
+        }
+        if (!queue.offer(message)) {
+            close();
+            return false;
+        }
+        schedule();
+        return true;
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    /**
+     * @return {@link System#nanoTime()} lúc lần ghi đang dở bắt đầu, 0 nếu không ghi
+     */
+    public long writingSince() {
+        return writingSince;
+    }
+
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        queue.clear();
+        try {
+            if (!draining.get()) {
+                closeSink();
+            }
+            // còn task drain: nó đóng sink sau lần ghi hiện tại
+        } finally {
+            onClose.accept(this);
+        }
+    }
+
+    private void closeSink() {
+        if (sinkClosed.compareAndSet(false, true)) {
+            sink.close();
+        }
+    }
+
+    private void schedule() {
+        if (!draining.compareAndSet(false, true)) {
+            return; // task đang drain sẽ thấy message mới
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            close();
+        }
+    }
+
+    private void drain() {
+        try {
+            PushMessage message;
+            while (!closed.get() && (message = queue.poll()) != null) {
+                long now = System.nanoTime();
+                writingSince = now != 0 ? now : 1;
+                sink.send(message);
+                writingSince = 0;
+            }
+        } catch (IOException | RuntimeException e) {
+            close();
+        } finally {
+            writingSince = 0;
+            draining.set(false);
+        }
+        if (closed.get()) {
+            closeSink();
+            return;
+        }
+        // message đến giữa lúc poll trả null và lúc bỏ cờ draining
+        if (!queue.isEmpty()) {
+            schedule();
+        }
+    }
+}
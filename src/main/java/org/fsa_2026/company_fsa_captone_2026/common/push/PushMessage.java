@@ -0,0 +1,14 @@
+package org.fsa_2026.company_fsa_captone_2026.common.push;
+
+/**
+ * Một message đẩy xuống client: tên event (SSE {@code event:}) và payload JSON.
+ * {@link #HEARTBEAT} được gửi dưới dạng comment, client không nhận event nào.
+ */
+public record PushMessage(String event, Object data) {
+
+    public static final PushMessage HEARTBEAT = new PushMessage(null, null);
+
+    public boolean isHeartbeat() {
+        return event == null;
+    }
+}
@@ -0,0 +1,137 @@
+package org.fsa_2026.company_fsa_captone_2026.common.quiz;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Quiz Session
+ * Trạng thái một lượt làm bài đang diễn ra: snapshot câu hỏi dùng chung, hạn
+ * nộp phía server và câu trả lời đã chấm. Chỉ là cache: mỗi câu trả lời đã được ghi
+ * thành QuizAttemptAnswer, mất session thì dựng lại từ DB.
+ */
+public final class QuizSession {
+
+    private final UUID attemptId;
+    private final UUID accountId;
+    private final QuizSnapshot snapshot;
+    private final Instant startedAt;
+    private final Instant deadline;
+    private final Map<UUID, GradedAnswer> answers = new ConcurrentHashMap<>();
+    private final AtomicBoolean finished = new AtomicBoolean();
+
+    public QuizSession(UUID attemptId, UUID accountId, QuizSnapshot snapshot, Instant startedAt, Instant deadline) {
+        this.attemptId = attemptId;
+        this.accountId = accountId;
+        this.snapshot = snapshot;
+        this.startedAt = startedAt;
+        this.deadline = deadline;
+    }
+
+    public UUID attemptId() {
+        return attemptId;
+    }
+
+    public UUID accountId() {
+        return accountId;
+    }
+
+    public QuizSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public Instant startedAt() {
+        return startedAt;
+    }
+
+    public Instant deadline() {
+        return deadline;
+    }
+
+    public boolean isExpired(Instant now, long graceSeconds) {
+        return now.isAfter(deadline.plusSeconds(graceSeconds));
+    }
+
+    public boolean isFinished() {
+        return finished.get();
+    }
+
+    /**
+     * Đánh dấu kết thúc đúng một lần (chống nộp bài trùng)
+     */
+    public boolean markFinished() {
+        return finished.compareAndSet(false, true);
+    }
+
+    /**
+     * Ghi (hoặc ghi đè) câu trả lời của một câu hỏi
+     */
+    public void record(GradedAnswer answer) {
+        answers.put(answer.questionId(), answer);
+    }
+
+    public int answeredCount() {
+        return answers.size();
+    }
+
+    public GradedAnswer answer(UUID questionId) {
+        return answers.get(questionId);
+    }
+
+    /**
+     * Câu trả lời theo thứ tự câu hỏi của snapshot
+     */
+    public List<GradedAnswer> orderedAnswers() {
+        List<GradedAnswer> ordered = new ArrayList<>(answers.size());
+        for (QuizSnapshot.Question question : snapshot.questions()) {
+            GradedAnswer answer = answers.get(question.id());
+            if (answer != null) {
+                ordered.add(answer);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Câu trả lời đã chấm (score 0-100)
+     */
+    public static final class GradedAnswer {
+        private final UUID questionId;
+        private final String answerText;
+        private final String audioUrl;
+        private final double score;
+        private final Instant answeredAt;
+
+        public GradedAnswer(UUID questionId, String answerText, String audioUrl, double score, Instant answeredAt) {
+            this.questionId = questionId;
+            this.answerText = answerText;
+            this.audioUrl = audioUrl;
+            this.score = score;
+            this.answeredAt = answeredAt;
+        }
+
+        public UUID questionId() {
+            return questionId;
+        }
+
+        public String answerText() {
+            return answerText;
+        }
+
+        public String audioUrl() {
+            return audioUrl;
+        }
+
+        public double score() {
+            return score;
+        }
+
+        public Instant answeredAt() {
+            return answeredAt;
+        }
+    }
+}
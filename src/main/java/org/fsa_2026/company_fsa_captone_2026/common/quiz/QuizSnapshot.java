@@ -0,0 +1,213 @@
+package org.fsa_2026.company_fsa_captone_2026.common.quiz;
+
+import org.fsa_2026.company_fsa_captone_2026.entity.Challenge;
+import org.fsa_2026.company_fsa_captone_2026.entity.Quiz;
+import org.fsa_2026.company_fsa_captone_2026.entity.QuizQuestion;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.QuizType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Quiz Snapshot
+ * Bộ câu hỏi của một quiz đã duyệt, chụp một lần từ DB và dùng chung (bất biến)
+ * cho mọi learner đang làm bài. Không giữ entity JPA nên an toàn giữa các thread.
+ */
+public final class QuizSnapshot {
+
+    private final UUID quizId;
+    private final String title;
+    private final String instructions;
+    private final Integer passingScore;
+    private final Integer timeLimitMinutes;
+    private final QuizType quizType;
+    private final UUID levelId;
+    private final List<Question> questions;
+    private final Map<UUID, Question> byId;
+    private final int totalPoints;
+
+    private QuizSnapshot(Quiz quiz, List<Question> questions) {
+        this.quizId = quiz.getId();
+        this.title = quiz.getTitle();
+        this.instructions = quiz.getInstructions();
+        this.passingScore = quiz.getPassingScore();
+        this.timeLimitMinutes = quiz.getTimeLimitMinutes();
+        this.quizType = quiz.getQuizType() != null ? quiz.getQuizType() : QuizType.ASSESSMENT;
+        this.levelId = quiz.getLevel() != null ? quiz.getLevel().getId() : null;
+        this.questions = Collections.unmodifiableList(questions);
+        Map<UUID, Question> index = new HashMap<>();
+        int points = 0;
+        for (Question question : questions) {
+            index.put(question.id(), question);
+            points += question.points();
+        }
+        this.byId = Collections.unmodifiableMap(index);
+        this.totalPoints = points;
+    }
+
+    /**
+     * Chụp quiz (questions + challenge phải được fetch sẵn hoặc còn trong session)
+     */
+    public static QuizSnapshot of(Quiz quiz) {
+        List<QuizQuestion> source = quiz.getQuestions() != null ? new ArrayList<>(quiz.getQuestions())
+                : new ArrayList<>();
+        source.sort(Comparator.comparing(QuizQuestion::getQuestionOrder,
+                Comparator.nullsLast(Comparator.naturalOrder())));
+        List<Question> questions = new ArrayList<>(source.size());
+        for (QuizQuestion question : source) {
+            questions.add(new Question(question));
+        }
+        return new QuizSnapshot(quiz, questions);
+    }
+
+    public UUID quizId() {
+        return quizId;
+    }
+
+    public String title() {
+        return title;
+    }
+
+    public String instructions() {
+        return instructions;
+    }
+
+    public Integer passingScore() {
+        return passingScore;
+    }
+
+    public Integer timeLimitMinutes() {
+        return timeLimitMinutes;
+    }
+
+    public QuizType quizType() {
+        return quizType;
+    }
+
+    public UUID levelId() {
+        return levelId;
+    }
+
+    public List<Question> questions() {
+        return questions;
+    }
+
+    public Question question(UUID questionId) {
+        return byId.get(questionId);
+    }
+
+    public int totalPoints() {
+        return totalPoints;
+    }
+
+    /**
+     * Một câu hỏi đã chụp (kèm nội dung challenge cần để chấm)
+     */
+    public static final class Question {
+        private final UUID id;
+        private final int order;
+        private final String skillType;
+        private final String difficulty;
+        private final int points;
+        private final UUID challengeId;
+        private final String contentText;
+        private final String phoneticTranscriptionIpa;
+        private final String referenceAudioUrl;
+        private final String focusPhonemes;
+        private final String answerKey;
+
+        private Question(QuizQuestion question) {
+            this.id = question.getId();
+            this.order = question.getQuestionOrder() != null ? question.getQuestionOrder() : 0;
+            this.skillType = question.getSkillType();
+            this.difficulty = question.getDifficulty() != null ? question.getDifficulty().name() : null;
+            this.points = question.getPoints() != null ? question.getPoints() : 0;
+            Challenge challenge = question.getChallenge();
+            this.challengeId = challenge != null ? challenge.getId() : null;
+            this.contentText = challenge != null ? challenge.getContentText() : null;
+            this.phoneticTranscriptionIpa = challenge != null ? challenge.getPhoneticTranscriptionIpa() : null;
+            this.referenceAudioUrl = challenge != null ? challenge.getReferenceAudioUrl() : null;
+            this.focusPhonemes = challenge != null ? challenge.getFocusPhonemes() : null;
+            // LISTENING/WRITING: nghe / viết lại nội dung đã ẩn → nội dung là đáp án mặc định
+            this.answerKey = question.getAnswerKey() != null && !question.getAnswerKey().isBlank()
+                    ? question.getAnswerKey()
+                    : isTextHidden() ? contentText : null;
+        }
+
+        public UUID id() {
+            return id;
+        }
+
+        public int order() {
+            return order;
+        }
+
+        public String skillType() {
+            return skillType;
+        }
+
+        public String difficulty() {
+            return difficulty;
+        }
+
+        public int points() {
+            return points;
+        }
+
+        public UUID challengeId() {
+            return challengeId;
+        }
+
+        public String contentText() {
+            return contentText;
+        }
+
+        public String phoneticTranscriptionIpa() {
+            return phoneticTranscriptionIpa;
+        }
+
+        public String referenceAudioUrl() {
+            return referenceAudioUrl;
+        }
+
+        public String focusPhonemes() {
+            return focusPhonemes;
+        }
+
+        /**
+         * Đáp án văn bản để chấm (null nếu câu hỏi chưa có đáp án)
+         */
+        public String answerKey() {
+            return answerKey;
+        }
+
+        /**
+         * Câu LISTENING/WRITING: không lộ nội dung (và challenge) cho learner khi làm bài
+         */
+        public boolean isTextHidden() {
+            return "LISTENING".equalsIgnoreCase(skillType) || "WRITING".equalsIgnoreCase(skillType);
+        }
+
+        public boolean isSpeaking() {
+            return "SPEAKING".equalsIgnoreCase(skillType);
+        }
+
+        /**
+         * Challenge tạm (không managed) cho PronunciationScorer
+         */
+        public Challenge toChallenge() {
+            Challenge challenge = new Challenge();
+            challenge.setId(challengeId);
+            challenge.setContentText(contentText);
+            challenge.setPhoneticTranscriptionIpa(phoneticTranscriptionIpa);
+            challenge.setReferenceAudioUrl(referenceAudioUrl);
+            challenge.setFocusPhonemes(focusPhonemes);
+            return challenge;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.fsa_2026.company_fsa_captone_2026.common.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Giới hạn "capacity request mỗi period" (burst tối đa = capacity)
+ */
+public final class RateLimit {
+
+    private final int capacity;
+    private final Duration period;
+    private final long intervalNanos;
+    private final long burstNanos;
+
+    public RateLimit(int capacity, Duration period) {
+        if (capacity < 1 || period == null || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Rate limit requires capacity >= 1 and a positive period");
+        }
+        this.capacity = capacity;
+        this.period = period;
+        this.intervalNanos = Math.max(1, period.toNanos() / capacity);
+        this.burstNanos = intervalNanos * capacity;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public Duration period() {
+        return period;
+    }
+
+    long intervalNanos() {
+        return intervalNanos;
+    }
+
+    long burstNanos() {
+        return burstNanos;
+    }
+
+    @Override
+    public String toString() {
+        return capacity + "/" + period;
+    }
+}
@@ -0,0 +1,257 @@
+package org.fsa_2026.company_fsa_captone_2026.common.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.config.RateLimitProperties;
+import org.fsa_2026.company_fsa_captone_2026.dto.ApiResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate Limit Filter
+ * Giới hạn login / OTP / quên mật khẩu theo IP và theo email, chạy trước
+ * Spring Security → request vượt giới hạn bị trả 429 trước mọi truy vấn DB,
+ * BCrypt hay gửi email.
+ *
+ * <p>IP lấy từ {@code request.getRemoteAddr()}; sau reverse proxy cần bật
+ * {@code server.forward-headers-strategy} để đây là IP thật của client.</p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final RateLimiter rateLimiter;
+    private final Map<String, Policy> policies = new HashMap<>();
+    private final byte[] rejectedBody;
+    private final byte[] tooLargeBody;
+    private final Counter rejectedByIp;
+    private final Counter rejectedByEmail;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry)
+            throws IOException {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.rateLimiter = new RateLimiter(properties.getMaxKeys());
+        for (RateLimitProperties.Endpoint endpoint : properties.getEndpoints()) {
+            policies.put(endpoint.getPath(), new Policy(endpoint.getPath(),
+                    endpoint.getPerIp() != null ? endpoint.getPerIp().toRateLimit() : null,
+                    endpoint.getPerEmail() != null ? endpoint.getPerEmail().toRateLimit() : null));
+        }
+        // Body 429 cố định → serialize một lần
+        this.rejectedBody = objectMapper.writeValueAsBytes(
+                ApiResponse.error("Bạn thao tác quá nhanh, vui lòng thử lại sau"));
+        this.tooLargeBody = objectMapper.writeValueAsBytes(ApiResponse.error("Yêu cầu quá lớn"));
+
+        Gauge.builder("http.rate_limit.keys", rateLimiter, RateLimiter::size)
+                .description("Số key IP/email đang được theo dõi").register(meterRegistry);
+        this.rejectedByIp = Counter.builder("http.rate_limit.rejected").tag("key", "ip").register(meterRegistry);
+        this.rejectedByEmail = Counter.builder("http.rate_limit.rejected").tag("key", "email").register(meterRegistry);
+
+        log.info("Rate limiting {} on {} endpoint(s), maxKeys={}",
+                properties.isEnabled() ? "enabled" : "disabled", policies.size(), properties.getMaxKeys());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !HttpMethod.POST.matches(request.getMethod())
+                || !policies.containsKey(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Policy policy = policies.get(request.getRequestURI());
+
+        // IP trước: không cần đọc body
+        if (policy.perIp() != null) {
+            long waitNanos = rateLimiter.tryAcquire(policy.path() + "|ip|" + request.getRemoteAddr(), policy.perIp());
+            if (waitNanos > 0) {
+                rejectedByIp.increment();
+                reject(response, waitNanos);
+                return;
+            }
+        }
+
+        if (policy.perEmail() != null) {
+            CachedBodyRequest cached = CachedBodyRequest.of(request, properties.getMaxBodyBytes());
+            if (cached == null) {
+                // Body lớn không được bỏ qua giới hạn theo email; request auth không cần body lớn
+                write(response, HttpStatus.CONTENT_TOO_LARGE, tooLargeBody);
+                return;
+            }
+            request = cached;
+            String email = extractEmail(cached.body);
+            if (email != null) {
+                long waitNanos = rateLimiter.tryAcquire(policy.path() + "|email|" + email, policy.perEmail());
+                if (waitNanos > 0) {
+                    rejectedByEmail.increment();
+                    log.warn("Rate limit exceeded for email on {}", policy.path());
+                    reject(response, waitNanos);
+                    return;
+                }
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.sweep-interval:PT1M}")
+    public void sweep() {
+        rateLimiter.sweep();
+    }
+
+    private String extractEmail(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return email != null && email.isTextual() ? email.asText().trim().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException e) {
+            // Body không phải JSON hợp lệ → để controller trả 400
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        response.setHeader("Retry-After", String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1)));
+        write(response, HttpStatus.TOO_MANY_REQUESTS, rejectedBody);
+    }
+
+    private static void write(HttpServletResponse response, HttpStatus status, byte[] body) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static final class Policy {
+        private final String path;
+        private final RateLimit perIp;
+        private final RateLimit perEmail;
+
+        private Policy(String path, RateLimit perIp, RateLimit perEmail) {
+            this.path = path;
+            this.perIp = perIp;
+            this.perEmail = perEmail;
+        }
+
+        String path() {
+            return path;
+        }
+
+        RateLimit perIp() {
+            return perIp;
+        }
+
+        RateLimit perEmail() {
+            return perEmail;
+        }
+    }
+
+    /**
+     * Đọc body (tối đa maxBytes) một lần và phát lại cho controller
+     */
+    static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        /**
+         * @return null nếu body vượt quá maxBytes (theo Content-Length, hoặc chunked đọc quá
+         *         maxBytes) → trả 413
+         */
+        static CachedBodyRequest of(HttpServletRequest request, int maxBytes) throws IOException {
+            long length = request.getContentLengthLong();
+            if (length > maxBytes) {
+                return null;
+            }
+            byte[] body = request.getInputStream().readNBytes(maxBytes + 1);
+            if (body.length > maxBytes) {
+                return null;
+            }
+            return new CachedBodyRequest(request, body);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.fsa_2026.company_fsa_captone_2026.common.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Tập token bucket theo key (IP, email, ...) trong bộ nhớ, có giới hạn số key.
+ *
+ * <ul>
+ * <li>Bucket đã hồi đầy là "hết hạn": xoá đi không làm thay đổi kết quả, nên
+ * {@link #sweep()} định kỳ giữ map chỉ chứa key đang hoạt động.</li>
+ * <li>Khi đủ {@code maxKeys}, key mới đẩy ra một key cũ: lấy mẫu vài bucket,
+ * ưu tiên bucket đã hồi đầy, không có thì bỏ bucket đầu tiên trong mẫu. Key mới
+ * không bao giờ bị từ chối (không khoá được người dùng thật bằng cách lấp đầy
+ * map) và bộ nhớ không tăng thêm; mỗi lần chỉ xem tối đa
+ * {@value #EVICTION_SAMPLE} bucket, không quét cả map.</li>
+ * </ul>
+ */
+@Slf4j
+public class RateLimiter {
+
+    static final int EVICTION_SAMPLE = 8;
+
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final int maxKeys;
+    private final LongSupplier clock;
+
+    public RateLimiter(int maxKeys) {
+        this(maxKeys, System::nanoTime);
+    }
+
+    RateLimiter(int maxKeys, LongSupplier clock) {
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+    }
+
+    /**
+     * @return 0 nếu được phép, ngược lại số nano giây nên chờ (Retry-After)
+     */
+    public long tryAcquire(String key, RateLimit limit) {
+        long now = clock.getAsLong();
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            while (buckets.size() >= maxKeys && evictOne(now)) {
+                // đẩy ra tới khi còn chỗ (thread khác có thể vừa thêm key)
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket());
+        }
+        return bucket.tryAcquire(limit, now);
+    }
+
+    /**
+     * Bỏ một bucket trong mẫu {@value #EVICTION_SAMPLE} phần tử đầu (ưu tiên bucket đã hồi đầy)
+     */
+    private boolean evictOne(long now) {
+        String victim = null;
+        int seen = 0;
+        for (Map.Entry<String, TokenBucket> entry : buckets.entrySet()) {
+            if (victim == null || entry.getValue().isIdle(now)) {
+                victim = entry.getKey();
+            }
+            if (entry.getValue().isIdle(now) || ++seen >= EVICTION_SAMPLE) {
+                break;
+            }
+        }
+        return victim != null && buckets.remove(victim) != null;
+    }
+
+    /**
+     * Xoá các bucket đã hồi đầy; chỉ một thread sweep tại một thời điểm
+     *
+     * @return số key đã xoá
+     */
+    public int sweep() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            long now = clock.getAsLong();
+            int before = buckets.size();
+            buckets.values().removeIf(bucket -> bucket.isIdle(now));
+            int removed = before - buckets.size();
+            if (removed > 0) {
+                log.debug("Rate limiter sweep removed {} idle keys, {} remaining", removed, buckets.size());
+            }
+            return removed;
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
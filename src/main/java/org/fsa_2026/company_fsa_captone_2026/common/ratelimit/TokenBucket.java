@@ -0,0 +1,44 @@
+package org.fsa_2026.company_fsa_captone_2026.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket lock-free, cài đặt theo GCRA: chỉ lưu một số long là "thời điểm
+ * bucket đầy trở lại" (theoretical arrival time), cập nhật bằng CAS.
+ *
+ * <p>Với limit {@code capacity} / {@code period}: mỗi token hồi sau
+ * {@code period / capacity}; request được chấp nhận khi lượng token đã dùng
+ * (tat - now) chưa vượt quá capacity.</p>
+ */
+public final class TokenBucket {
+
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * @return 0 nếu được lấy token, ngược lại số nano giây cần chờ tới token kế tiếp
+     */
+    public long tryAcquire(RateLimit limit, long nowNanos) {
+        long interval = limit.intervalNanos();
+        long burst = limit.burstNanos();
+        while (true) {
+            long current = theoreticalArrival.get();
+            long tat = current == Long.MIN_VALUE || current - nowNanos < 0 ? nowNanos : current;
+            long next = tat + interval;
+            long used = next - nowNanos;
+            if (used > burst) {
+                return used - burst;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Bucket đã hồi đầy → giữ lại hay xoá đi đều cho cùng kết quả
+     */
+    public boolean isIdle(long nowNanos) {
+        long current = theoreticalArrival.get();
+        return current == Long.MIN_VALUE || current - nowNanos <= 0;
+    }
+}
@@ -0,0 +1,193 @@
+package org.fsa_2026.company_fsa_captone_2026.common.recommendation;
+
+import org.fsa_2026.company_fsa_captone_2026.dto.ChallengeResponse;
+import org.fsa_2026.company_fsa_captone_2026.entity.Challenge;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.DifficultyLevel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Challenge Index
+ * Snapshot bất biến của các Challenge đã duyệt: inverted index phoneme → challenge,
+ * posting list theo level và theo độ khó. Mỗi challenge được đánh số 0..n-1 và
+ * mọi posting list là int[] → tra cứu không cấp phát, không truy vấn DB.
+ *
+ * <p>
+ * Được build lại toàn bộ khi nội dung thay đổi rồi thay thế nguyên khối
+ * (volatile reference), nên reader không cần lock.
+ * </p>
+ */
+public final class ChallengeIndex {
+
+    private static final int[] NONE = new int[0];
+
+    public static final ChallengeIndex EMPTY = build(List.of(), new PhonemeDictionary());
+
+    private final UUID[] ids;
+    private final ChallengeResponse[] responses;
+    private final byte[] difficulty;
+    private final int[] level;
+    private final int[][] phonemes;
+    private final Map<UUID, Integer> positions;
+    private final Map<UUID, Integer> levels;
+    private final int[][] byPhoneme;
+    private final int[][] byLevel;
+    private final int[][] byDifficulty;
+
+    private ChallengeIndex(int size, int phonemeCount, int levelCount) {
+        this.ids = new UUID[size];
+        this.responses = new ChallengeResponse[size];
+        this.difficulty = new byte[size];
+        this.level = new int[size];
+        this.phonemes = new int[size][];
+        this.positions = new HashMap<>(size * 2);
+        this.levels = new HashMap<>();
+        this.byPhoneme = new int[phonemeCount][];
+        this.byLevel = new int[levelCount][];
+        this.byDifficulty = new int[DifficultyLevel.values().length][];
+    }
+
+    /**
+     * Build the index from approved challenges (level must be at least a proxy)
+     */
+    public static ChallengeIndex build(List<Challenge> challenges, PhonemeDictionary dictionary) {
+        Map<UUID, Integer> levelIds = new HashMap<>();
+        int[][] phonemeIds = new int[challenges.size()][];
+        for (int i = 0; i < challenges.size(); i++) {
+            Challenge challenge = challenges.get(i);
+            phonemeIds[i] = internPhonemes(challenge.getFocusPhonemes(), dictionary);
+            if (challenge.getLevel() != null) {
+                levelIds.putIfAbsent(challenge.getLevel().getId(), levelIds.size());
+            }
+        }
+
+        ChallengeIndex index = new ChallengeIndex(challenges.size(), dictionary.size(), levelIds.size());
+        index.levels.putAll(levelIds);
+
+        List<List<Integer>> phonemePostings = newBuckets(dictionary.size());
+        List<List<Integer>> levelPostings = newBuckets(levelIds.size());
+        List<List<Integer>> difficultyPostings = newBuckets(index.byDifficulty.length);
+
+        for (int i = 0; i < challenges.size(); i++) {
+            Challenge challenge = challenges.get(i);
+            index.ids[i] = challenge.getId();
+            index.responses[i] = ChallengeResponse.fromEntity(challenge);
+            index.difficulty[i] = (byte) difficultyOf(challenge);
+            index.level[i] = challenge.getLevel() != null ? levelIds.get(challenge.getLevel().getId()) : -1;
+            index.phonemes[i] = phonemeIds[i];
+            index.positions.put(challenge.getId(), i);
+
+            for (int phoneme : phonemeIds[i]) {
+                phonemePostings.get(phoneme).add(i);
+            }
+            if (index.level[i] >= 0) {
+                levelPostings.get(index.level[i]).add(i);
+            }
+            difficultyPostings.get(index.difficulty[i]).add(i);
+        }
+
+        fill(index.byPhoneme, phonemePostings);
+        fill(index.byLevel, levelPostings);
+        fill(index.byDifficulty, difficultyPostings);
+        return index;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public UUID id(int position) {
+        return ids[position];
+    }
+
+    public ChallengeResponse response(int position) {
+        return responses[position];
+    }
+
+    /**
+     * Difficulty ordinal (EASY=0, MEDIUM=1, HARD=2; chưa đặt → MEDIUM)
+     */
+    public int difficulty(int position) {
+        return difficulty[position];
+    }
+
+    public int level(int position) {
+        return level[position];
+    }
+
+    public int[] phonemes(int position) {
+        return phonemes[position];
+    }
+
+    /**
+     * Position of a challenge or -1 if not (or no longer) approved
+     */
+    public int position(UUID challengeId) {
+        Integer position = positions.get(challengeId);
+        return position != null ? position : -1;
+    }
+
+    /**
+     * Internal level number or -1 if the level has no approved challenge
+     */
+    public int levelNumber(UUID levelId) {
+        Integer number = levels.get(levelId);
+        return number != null ? number : -1;
+    }
+
+    public int[] byPhoneme(int phonemeId) {
+        return phonemeId >= 0 && phonemeId < byPhoneme.length ? byPhoneme[phonemeId] : NONE;
+    }
+
+    public int[] byLevel(int levelNumber) {
+        return levelNumber >= 0 && levelNumber < byLevel.length ? byLevel[levelNumber] : NONE;
+    }
+
+    public int[] byDifficulty(int difficultyOrdinal) {
+        return byDifficulty[difficultyOrdinal];
+    }
+
+    private static int difficultyOf(Challenge challenge) {
+        return challenge.getDifficulty() != null ? challenge.getDifficulty().ordinal()
+                : DifficultyLevel.MEDIUM.ordinal();
+    }
+
+    private static int[] internPhonemes(String focusPhonemes, PhonemeDictionary dictionary) {
+        if (focusPhonemes == null || focusPhonemes.isBlank()) {
+            return NONE;
+        }
+        String[] parts = focusPhonemes.split(","); // E.g., "tr,ch"
+        int[] result = new int[parts.length];
+        int count = 0;
+        for (String part : parts) {
+            if (!part.isBlank()) {
+                result[count++] = dictionary.intern(part);
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    private static List<List<Integer>> newBuckets(int count) {
+        List<List<Integer>> buckets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        return buckets;
+    }
+
+    private static void fill(int[][] target, List<List<Integer>> buckets) {
+        for (int i = 0; i < target.length; i++) {
+            List<Integer> bucket = i < buckets.size() ? buckets.get(i) : List.of();
+            int[] postings = new int[bucket.size()];
+            for (int j = 0; j < postings.length; j++) {
+                postings[j] = bucket.get(j);
+            }
+            target[i] = postings;
+        }
+    }
+}
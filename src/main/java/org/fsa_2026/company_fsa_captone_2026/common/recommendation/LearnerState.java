@@ -0,0 +1,157 @@
+package org.fsa_2026.company_fsa_captone_2026.common.recommendation;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Learner State
+ * Trạng thái gọn của một learner cho engine gợi ý:
+ * <ul>
+ * <li>điểm trung bình trượt (EWMA) theo phoneme id → float[]</li>
+ * <li>điểm tổng EWMA để chọn độ khó</li>
+ * <li>lịch ôn tập (spaced repetition) cho tối đa {@link #MAX_REVIEWS} challenge,
+ * lưu dạng mảng song song long/int thay vì object</li>
+ * </ul>
+ * Vài KB mỗi learner, cập nhật tăng dần sau mỗi attempt → không quét lịch sử khi gợi ý.
+ * Mọi method đồng bộ trên instance (tranh chấp chỉ trong cùng một learner).
+ */
+public final class LearnerState {
+
+    public static final int MAX_REVIEWS = 128;
+
+    private static final float ALPHA = 0.3f;
+    private static final int RETRY_MINUTES = 10;
+    private static final int FIRST_INTERVAL_MINUTES = 24 * 60;
+    private static final int MAX_INTERVAL_MINUTES = 60 * 24 * 60;
+    private static final float INTERVAL_GROWTH = 2.5f;
+
+    private float[] phonemeScores = new float[0];
+    private float overallScore = Float.NaN;
+
+    private final long[] reviewHigh = new long[MAX_REVIEWS];
+    private final long[] reviewLow = new long[MAX_REVIEWS];
+    private final int[] reviewDue = new int[MAX_REVIEWS];
+    private final int[] reviewInterval = new int[MAX_REVIEWS];
+    private int reviewCount;
+
+    public synchronized void recordPhoneme(int phonemeId, float score) {
+        if (phonemeId >= phonemeScores.length) {
+            int oldLength = phonemeScores.length;
+            phonemeScores = Arrays.copyOf(phonemeScores, Math.max(phonemeId + 1, oldLength * 2));
+            Arrays.fill(phonemeScores, oldLength, phonemeScores.length, Float.NaN);
+        }
+        float previous = phonemeScores[phonemeId];
+        phonemeScores[phonemeId] = Float.isNaN(previous) ? score : previous + ALPHA * (score - previous);
+    }
+
+    public synchronized void recordOverall(float score) {
+        overallScore = Float.isNaN(overallScore) ? score : overallScore + ALPHA * (score - overallScore);
+    }
+
+    /**
+     * Cập nhật lịch ôn: đạt → giãn khoảng cách (x2.5, tối đa 60 ngày), chưa đạt → ôn lại sau 10 phút
+     */
+    public synchronized void recordReview(UUID challengeId, boolean passed, int nowMinute) {
+        int slot = find(challengeId);
+        if (slot < 0) {
+            slot = reviewCount < MAX_REVIEWS ? reviewCount++ : leastUrgent();
+            reviewHigh[slot] = challengeId.getMostSignificantBits();
+            reviewLow[slot] = challengeId.getLeastSignificantBits();
+            reviewInterval[slot] = 0;
+        }
+        int interval;
+        if (passed) {
+            interval = reviewInterval[slot] == 0 ? FIRST_INTERVAL_MINUTES
+                    : (int) Math.min(MAX_INTERVAL_MINUTES, reviewInterval[slot] * INTERVAL_GROWTH);
+        } else {
+            interval = 0;
+        }
+        reviewInterval[slot] = interval;
+        reviewDue[slot] = nowMinute + (passed ? interval : RETRY_MINUTES);
+    }
+
+    /**
+     * Minute the challenge is due for review, or -1 if never attempted
+     */
+    public synchronized int dueMinute(UUID challengeId) {
+        int slot = find(challengeId);
+        return slot >= 0 ? reviewDue[slot] : -1;
+    }
+
+    /**
+     * Copy challenge ids whose review is due into {@code out}
+     *
+     * @return number of ids written
+     */
+    public synchronized int dueReviews(int nowMinute, UUID[] out) {
+        int count = 0;
+        for (int i = 0; i < reviewCount && count < out.length; i++) {
+            if (reviewDue[i] <= nowMinute) {
+                out[count++] = new UUID(reviewHigh[i], reviewLow[i]);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Điểm yếu của phoneme: 100 - EWMA (0 nếu chưa có dữ liệu)
+     */
+    public synchronized float weakness(int phonemeId) {
+        if (phonemeId < 0 || phonemeId >= phonemeScores.length || Float.isNaN(phonemeScores[phonemeId])) {
+            return 0f;
+        }
+        return Math.max(0f, 100f - phonemeScores[phonemeId]);
+    }
+
+    /**
+     * Ghi id của {@code out.length} phoneme yếu nhất (điểm &lt; threshold) vào out
+     *
+     * @return number of ids written
+     */
+    public synchronized int weakest(float threshold, int[] out) {
+        int count = 0;
+        for (int id = 0; id < phonemeScores.length; id++) {
+            float score = phonemeScores[id];
+            if (Float.isNaN(score) || score >= threshold) {
+                continue;
+            }
+            // insertion into a tiny sorted array (ascending score)
+            int position = count < out.length ? count++ : out.length;
+            while (position > 0 && phonemeScores[out[position - 1]] > score) {
+                if (position < out.length) {
+                    out[position] = out[position - 1];
+                }
+                position--;
+            }
+            if (position < out.length) {
+                out[position] = id;
+            }
+        }
+        return count;
+    }
+
+    public synchronized float overallScore() {
+        return overallScore;
+    }
+
+    private int find(UUID challengeId) {
+        long high = challengeId.getMostSignificantBits();
+        long low = challengeId.getLeastSignificantBits();
+        for (int i = 0; i < reviewCount; i++) {
+            if (reviewHigh[i] == high && reviewLow[i] == low) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int leastUrgent() {
+        int slot = 0;
+        for (int i = 1; i < reviewCount; i++) {
+            if (reviewDue[i] > reviewDue[slot]) {
+                slot = i;
+            }
+        }
+        return slot;
+    }
+}
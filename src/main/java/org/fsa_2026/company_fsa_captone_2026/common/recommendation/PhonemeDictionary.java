@@ -0,0 +1,48 @@
+package org.fsa_2026.company_fsa_captone_2026.common.recommendation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Phoneme Dictionary
+ * Gán id int ổn định cho mỗi phoneme (append-only) để index và trạng thái learner
+ * dùng mảng primitive thay vì Map&lt;String, ...&gt;.
+ */
+public final class PhonemeDictionary {
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final Map<Integer, String> names = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Id of the phoneme, assigning a new one on first sight
+     */
+    public int intern(String phoneme) {
+        return ids.computeIfAbsent(normalize(phoneme), key -> {
+            int id = next.getAndIncrement();
+            names.put(id, key);
+            return id;
+        });
+    }
+
+    public String name(int id) {
+        return names.get(id);
+    }
+
+    /**
+     * Id of the phoneme or -1 if never seen
+     */
+    public int find(String phoneme) {
+        Integer id = ids.get(normalize(phoneme));
+        return id != null ? id : -1;
+    }
+
+    public int size() {
+        return next.get();
+    }
+
+    private static String normalize(String phoneme) {
+        return phoneme.trim().toLowerCase();
+    }
+}
@@ -0,0 +1,8 @@
+package org.fsa_2026.company_fsa_captone_2026.common.roster;
+
+/**
+ * Một dòng roster: số dòng trong file (bắt đầu từ 1, tính cả header) hoặc vị trí trong
+ * danh sách (bắt đầu từ 1), và email đã trim
+ */
+public record RosterEntry(int row, String email) {
+}
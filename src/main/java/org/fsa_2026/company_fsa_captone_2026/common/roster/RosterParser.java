@@ -0,0 +1,136 @@
+package org.fsa_2026.company_fsa_captone_2026.common.roster;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Roster Parser
+ * Đọc danh sách email học viên từ file CSV hoặc Excel (.xlsx/.xls, sheet đầu tiên).
+ *
+ * <p>
+ * Cột email là cột có header chứa "email" (bỏ qua hoa/thường, dấu gạch); không có
+ * header như vậy thì lấy cột đầu tiên từ dòng 1. Dòng trống bị bỏ qua. Không phải
+ * Spring bean.
+ * </p>
+ */
+public final class RosterParser {
+
+    public static final int MAX_ROWS = 1000;
+
+    private RosterParser() {
+    }
+
+    public static List<RosterEntry> parse(String filename, InputStream input) throws IOException {
+        String name = filename != null ? filename.toLowerCase(Locale.ROOT) : "";
+        if (name.endsWith(".csv")) {
+            return parseCsv(input);
+        }
+        if (name.endsWith(".xlsx") || name.endsWith(".xls")) {
+            return parseExcel(input);
+        }
+        throw new ApiException("INVALID_FILE", "Chỉ hỗ trợ file .csv, .xlsx hoặc .xls");
+    }
+
+    public static List<RosterEntry> parseCsv(InputStream input) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        List<RosterEntry> entries = new ArrayList<>();
+        String line;
+        int row = 0;
+        int column = -1;
+        char delimiter = ',';
+        while ((line = reader.readLine()) != null) {
+            row++;
+            if (row == 1) {
+                line = stripBom(line);
+                delimiter = line.indexOf(';') >= 0 && line.indexOf(',') < 0 ? ';' : ',';
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] cells = line.split(String.valueOf(delimiter), -1);
+            if (column < 0) {
+                column = headerColumn(cells);
+                if (column >= 0) {
+                    continue; // dòng header
+                }
+                column = 0;
+            }
+            add(entries, row, column < cells.length ? unquote(cells[column]) : "");
+        }
+        return entries;
+    }
+
+    public static List<RosterEntry> parseExcel(InputStream input) throws IOException {
+        try (Workbook workbook = WorkbookFactory.create(input)) {
+            if (workbook.getNumberOfSheets() == 0) {
+                return List.of();
+            }
+            Sheet sheet = workbook.getSheetAt(0);
+            DataFormatter formatter = new DataFormatter();
+            List<RosterEntry> entries = new ArrayList<>();
+            int column = -1;
+            for (Row row : sheet) {
+                String[] cells = new String[Math.max(0, row.getLastCellNum())];
+                for (int i = 0; i < cells.length; i++) {
+                    Cell cell = row.getCell(i);
+                    cells[i] = cell != null ? formatter.formatCellValue(cell).trim() : "";
+                }
+                if (String.join("", cells).isBlank()) {
+                    continue;
+                }
+                if (column < 0) {
+                    column = headerColumn(cells);
+                    if (column >= 0) {
+                        continue;
+                    }
+                    column = 0;
+                }
+                add(entries, row.getRowNum() + 1, column < cells.length ? cells[column] : "");
+            }
+            return entries;
+        }
+    }
+
+    private static void add(List<RosterEntry> entries, int row, String email) {
+        if (entries.size() >= MAX_ROWS) {
+            throw new ApiException("BAD_REQUEST", "Roster tối đa " + MAX_ROWS + " học viên");
+        }
+        entries.add(new RosterEntry(row, email.trim()));
+    }
+
+    private static int headerColumn(String[] cells) {
+        for (int i = 0; i < cells.length; i++) {
+            String header = unquote(cells[i]).toLowerCase(Locale.ROOT).replaceAll("[^a-z]", "");
+            if (header.contains("email")) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String unquote(String cell) {
+        String value = cell.trim();
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1).replace("\"\"", "\"").trim();
+        }
+        return value;
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+}
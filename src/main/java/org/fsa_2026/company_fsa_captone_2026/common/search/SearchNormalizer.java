@@ -0,0 +1,82 @@
+package org.fsa_2026.company_fsa_captone_2026.common.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Search Normalizer
+ * Chuẩn hoá từ khoá tìm kiếm giống hệt hàm SQL {@code f_search_norm}
+ * (lower + unaccent): bỏ dấu tiếng Việt, đ → d, gộp khoảng trắng.
+ *
+ * <p>
+ * Nhờ đó "Nguyễn Văn Đức", "nguyen van duc" và "NGUYEN VAN ĐUC" khớp cùng một
+ * index trigram / tsvector.
+ * </p>
+ */
+public final class SearchNormalizer {
+
+    /**
+     * pg_trgm không trích được trigram từ pattern &lt; 3 ký tự → index vô dụng
+     */
+    public static final int MIN_TERM_LENGTH = 3;
+    public static final int MAX_TERM_LENGTH = 100;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchNormalizer() {
+    }
+
+    /**
+     * Chuẩn hoá từ khoá; trả về chuỗi rỗng nếu null/blank
+     */
+    public static String normalize(String raw) {
+        if (raw == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(raw, Normalizer.Form.NFD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("")
+                .replace('đ', 'd')
+                .replace('Đ', 'D');
+        return WHITESPACE.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Pattern {@code %term%} cho LIKE ... ESCAPE '\' (escape sẵn % _ \ do người dùng nhập)
+     */
+    public static String containsPattern(String normalized) {
+        StringBuilder pattern = new StringBuilder(normalized.length() + 2).append('%');
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c == '%' || c == '_' || c == '\\') {
+                pattern.append('\\');
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+
+    /**
+     * tsquery cho typeahead: các từ AND nhau, từ cuối match theo prefix
+     * ({@code "xin chao ba"} → {@code "xin & chao & ba:*"}). Chỉ giữ chữ/số nên
+     * không thể inject toán tử tsquery.
+     *
+     * @return null nếu không còn từ nào
+     */
+    public static String prefixTsQuery(String normalized) {
+        List<String> words = new ArrayList<>();
+        for (String word : NON_WORD.split(normalized)) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        if (words.isEmpty()) {
+            return null;
+        }
+        return String.join(" & ", words) + ":*";
+    }
+}
@@ -0,0 +1,11 @@
+package org.fsa_2026.company_fsa_captone_2026.common.search;
+
+/**
+ * Search Scope
+ * Loại đối tượng cho typeahead của admin console
+ */
+public enum SearchScope {
+    USER, // account.email + user_profile.full_name (trigram)
+    CHALLENGE, // challenge.content_text (full-text)
+    LEVEL // level.name (trigram)
+}
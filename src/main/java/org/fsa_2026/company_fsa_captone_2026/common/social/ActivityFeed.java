@@ -0,0 +1,112 @@
+package org.fsa_2026.company_fsa_captone_2026.common.social;
+
+import org.fsa_2026.company_fsa_captone_2026.common.cache.LruCache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Activity Feed
+ * Timeline theo kiểu fan-out-on-read: mỗi account chỉ có ring buffer activity của
+ * chính mình ({@link ActivityRing}); feed của learner = trộn k-way các ring của bạn bè
+ * theo id giảm dần. Ghi activity chỉ chạm một ring, không nhân bản ra từng follower.
+ *
+ * <ul>
+ * <li>Ring được nạp lười từ DB và giữ tối đa {@code ttlMs}: activity ghi ở instance khác
+ * chỉ thấy được sau khi ring hết hạn.</li>
+ * <li>Ring nằm trong {@link LruCache} giới hạn {@code maxAccounts}: đầy thì bỏ ring lâu
+ * không dùng nhất, O(1) mỗi lần nạp.</li>
+ * </ul>
+ */
+public final class ActivityFeed {
+
+    private final LruCache<UUID, ActivityRing> rings;
+    private final int ringCapacity;
+    private final long ttlMs;
+
+    public ActivityFeed(int ringCapacity, int maxAccounts, long ttlMs) {
+        this.rings = new LruCache<>(maxAccounts);
+        this.ringCapacity = ringCapacity;
+        this.ttlMs = ttlMs;
+    }
+
+    public int ringCapacity() {
+        return ringCapacity;
+    }
+
+    /**
+     * @return ring còn hạn, null nếu cần nạp từ DB
+     */
+    public ActivityRing ring(UUID accountId, long nowMs) {
+        ActivityRing ring = rings.get(accountId);
+        if (ring == null || nowMs - ring.loadedAtMs() >= ttlMs) {
+            return null;
+        }
+        return ring;
+    }
+
+    /**
+     * Nạp ring từ {@code latest} (id giảm dần, tối đa ringCapacity)
+     */
+    public ActivityRing load(UUID accountId, List<ActivityRecord> latest, long nowMs) {
+        ActivityRing ring = new ActivityRing(ringCapacity, latest, nowMs);
+        rings.put(accountId, ring);
+        return ring;
+    }
+
+    /**
+     * Activity vừa commit; account chưa có ring thì bỏ qua (lần nạp sau đọc từ DB)
+     */
+    public void append(ActivityRecord record) {
+        ActivityRing ring = rings.get(record.accountId());
+        if (ring != null) {
+            ring.add(record);
+        }
+    }
+
+    public int size() {
+        return rings.size();
+    }
+
+    /**
+     * Trộn k danh sách đã sắp id giảm dần, lấy {@code limit} phần tử đầu, O(limit · log k)
+     */
+    public static List<ActivityRecord> merge(List<List<ActivityRecord>> sources, int limit) {
+        PriorityQueue<Cursor> heads = new PriorityQueue<>(Math.max(1, sources.size()),
+                Comparator.comparingLong((Cursor cursor) -> cursor.current().id()).reversed());
+        for (List<ActivityRecord> source : sources) {
+            if (!source.isEmpty()) {
+                heads.add(new Cursor(source));
+            }
+        }
+        List<ActivityRecord> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Cursor cursor = heads.poll();
+            merged.add(cursor.current());
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    private static final class Cursor {
+        private final List<ActivityRecord> source;
+        private int index;
+
+        private Cursor(List<ActivityRecord> source) {
+            this.source = source;
+        }
+
+        private ActivityRecord current() {
+            return source.get(index);
+        }
+
+        private boolean advance() {
+            return ++index < source.size();
+        }
+    }
+}
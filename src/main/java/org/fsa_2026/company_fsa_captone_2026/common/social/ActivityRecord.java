@@ -0,0 +1,14 @@
+package org.fsa_2026.company_fsa_captone_2026.common.social;
+
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.ActivityType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Một activity trong ring buffer / feed; {@code id} tăng dần theo thời điểm ghi
+ */
+public record ActivityRecord(long id, UUID accountId, ActivityType type, UUID sourceId, String detail,
+        BigDecimal metric, Instant createdAt) {
+}
@@ -0,0 +1,110 @@
+package org.fsa_2026.company_fsa_captone_2026.common.social;
+
+import java.util.List;
+
+/**
+ * Activity Ring
+ * Ring buffer {@code capacity} activity mới nhất của một account, giữ thứ tự id giảm
+ * dần khi đọc. {@code complete} = ring chứa toàn bộ lịch sử của account (lúc nạp DB
+ * trả về ít hơn capacity và chưa có phần tử nào bị đẩy ra) → không bao giờ cần đọc DB
+ * cho account này.
+ */
+public final class ActivityRing {
+
+    private final ActivityRecord[] slots;
+    private final long loadedAtMs;
+    /** vị trí ghi tiếp theo */
+    private int head;
+    private int size;
+    private boolean complete;
+
+    /**
+     * @param latest activity mới nhất từ DB, id giảm dần, tối đa capacity phần tử
+     */
+    public ActivityRing(int capacity, List<ActivityRecord> latest, long loadedAtMs) {
+        this.slots = new ActivityRecord[capacity];
+        this.loadedAtMs = loadedAtMs;
+        this.complete = latest.size() < capacity;
+        for (int i = Math.min(latest.size(), capacity) - 1; i >= 0; i--) {
+            slots[head] = latest.get(i);
+            head = (head + 1) % capacity;
+            size++;
+        }
+    }
+
+    public long loadedAtMs() {
+        return loadedAtMs;
+    }
+
+    /**
+     * Thêm activity mới (đã commit); bỏ qua nếu đã có – ghi sau commit có thể đến
+     * muộn hơn activity có id lớn hơn nên chèn đúng vị trí
+     */
+    public synchronized void add(ActivityRecord record) {
+        for (int i = 0; i < size; i++) {
+            if (at(i).id() == record.id()) {
+                return;
+            }
+        }
+        if (size == slots.length) {
+            if (oldest().id() > record.id()) {
+                complete = false;
+                return; // cũ hơn mọi phần tử đang giữ
+            }
+            size--; // đẩy phần tử cũ nhất ra
+            complete = false;
+        }
+        // chèn từ đầu mới nhất, dời các phần tử mới hơn về phía head
+        int position = head;
+        int shifted = 0;
+        while (shifted < size && at(shifted).id() > record.id()) {
+            shifted++;
+        }
+        for (int i = 0; i < shifted; i++) {
+            int to = position;
+            int from = Math.floorMod(position - 1, slots.length);
+            slots[to] = slots[from];
+            position = from;
+        }
+        slots[position] = record;
+        head = (head + 1) % slots.length;
+        size++;
+    }
+
+    /**
+     * Thêm vào {@code out} tối đa {@code limit} activity có id < {@code beforeId}, id
+     * giảm dần
+     *
+     * @return false nếu ring không đủ sâu để trả lời (có thể còn activity cũ hơn
+     *         trong DB) → đọc DB cho account này
+     */
+    public synchronized boolean collectBefore(long beforeId, int limit, List<ActivityRecord> out) {
+        int added = 0;
+        for (int i = 0; i < size && added < limit; i++) {
+            ActivityRecord record = at(i);
+            if (record.id() < beforeId) {
+                out.add(record);
+                added++;
+            }
+        }
+        if (added == limit || complete) {
+            return true;
+        }
+        // trả lại phần đã thêm: account này sẽ lấy hoàn toàn từ DB
+        out.subList(out.size() - added, out.size()).clear();
+        return false;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /** phần tử thứ {@code i} tính từ mới nhất */
+    private ActivityRecord at(int i) {
+        return slots[Math.floorMod(head - 1 - i, slots.length)];
+    }
+
+    private ActivityRecord oldest() {
+        return at(size - 1);
+    }
+}
@@ -0,0 +1,288 @@
+package org.fsa_2026.company_fsa_captone_2026.common.social;
+
+import org.fsa_2026.company_fsa_captone_2026.common.cache.LruCache;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Friend Graph
+ * Cache danh sách kề (bạn bè ACCEPTED) theo account trong bộ nhớ.
+ *
+ * <ul>
+ * <li>Account UUID được intern thành id int; danh sách kề là mảng int đã sắp xếp –
+ * tập int primitive: contains = binary search, bạn chung = giao hai mảng đã sắp xếp,
+ * không boxing.</li>
+ * <li>Intern có đếm tham chiếu: id chỉ sống khi còn danh sách kề trong cache (hoặc lần
+ * load đang dở) chứa nó; hết tham chiếu thì được giải phóng và chỉ cấp lại sau
+ * {@link #REUSE_DELAY_MS} nên mảng request đang giữ không đọc nhầm sang account khác.
+ * Tra cứu ({@link #id}) không intern.</li>
+ * <li>Danh sách kề nằm trong {@link LruCache} giới hạn {@code maxAccounts}; đầy thì bỏ
+ * account lâu không dùng nhất, O(1).</li>
+ * <li>Thay đổi quan hệ → {@link #invalidate} (sau commit). Mỗi account có version
+ * riêng: lần load lấy {@link #stamp} trước khi đọc DB và {@link #put} bỏ kết quả nếu
+ * version của chính account đó đã đổi; invalidate account khác không ảnh hưởng. TTL
+ * giới hạn độ cũ khi chạy nhiều instance.</li>
+ * </ul>
+ */
+public final class FriendGraph {
+
+    private static final int[] EMPTY = new int[0];
+    /** Id vừa giải phóng chưa được cấp lại trong khoảng này */
+    static final long REUSE_DELAY_MS = 60_000;
+
+    private final Map<UUID, Interned> ids = new ConcurrentHashMap<>();
+    /** Giữ cả id đang chờ cấp lại để mảng cũ vẫn dịch ra đúng account */
+    private final Map<Integer, UUID> accounts = new ConcurrentHashMap<>();
+    /** {id, releasedAtMs} theo thứ tự giải phóng; lock cho cả {@link #next} */
+    private final ArrayDeque<long[]> released = new ArrayDeque<>();
+    private int next;
+
+    private final LruCache<UUID, Entry> adjacency;
+    private final AtomicLong versions = new AtomicLong();
+    private final long ttlMs;
+
+    public FriendGraph(int maxAccounts, long ttlMs) {
+        this.adjacency = new LruCache<>(maxAccounts, (accountId, entry) -> entry.evict());
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * Id int của account nếu đang được intern, -1 nếu không (khi đó account không nằm
+     * trong danh sách kề nào đang cache)
+     */
+    public int id(UUID accountId) {
+        Interned interned = ids.get(accountId);
+        return interned != null ? interned.id : -1;
+    }
+
+    public UUID account(int id) {
+        return accounts.get(id);
+    }
+
+    /**
+     * Intern + sắp xếp thành tập int; tập giữ tham chiếu tới các id cho tới khi được
+     * {@link #put} (cache giải phóng khi bỏ entry) hoặc {@link #release}
+     */
+    public int[] acquire(Collection<UUID> accountIds) {
+        if (accountIds.isEmpty()) {
+            return EMPTY;
+        }
+        int[] set = new int[accountIds.size()];
+        int size = 0;
+        for (UUID accountId : accountIds) {
+            set[size++] = ids.compute(accountId, (key, current) -> {
+                Interned interned = current != null ? current : new Interned(allocate(key));
+                interned.refs++;
+                return interned;
+            }).id;
+        }
+        Arrays.sort(set);
+        int distinct = 0;
+        for (int i = 0; i < set.length; i++) {
+            if (i == 0 || set[i] != set[i - 1]) {
+                set[distinct++] = set[i];
+            } else {
+                release(set[i]); // trùng: chỉ giữ một tham chiếu
+            }
+        }
+        return distinct == set.length ? set : Arrays.copyOf(set, distinct);
+    }
+
+    /**
+     * Trả tham chiếu của một tập từ {@link #acquire} không được đưa vào cache
+     */
+    public void release(int[] set) {
+        for (int id : set) {
+            release(id);
+        }
+    }
+
+    public UUID[] toAccounts(int[] set) {
+        UUID[] result = new UUID[set.length];
+        for (int i = 0; i < set.length; i++) {
+            result[i] = accounts.get(set[i]);
+        }
+        return result;
+    }
+
+    /**
+     * @return danh sách kề đã cache (không được sửa mảng), null nếu chưa có / hết hạn
+     */
+    public int[] cached(UUID accountId, long nowMs) {
+        Entry entry = adjacency.get(accountId);
+        return entry != null ? entry.friends(nowMs, ttlMs) : null;
+    }
+
+    /**
+     * Version của account để {@link #put}: lấy trước khi đọc DB
+     */
+    public long stamp(UUID accountId) {
+        Entry entry = adjacency.get(accountId);
+        if (entry == null) {
+            Entry created = new Entry(versions.incrementAndGet());
+            entry = adjacency.putIfAbsent(accountId, created);
+            if (entry == null) {
+                entry = created;
+            }
+        }
+        return entry.version();
+    }
+
+    /**
+     * Ghi danh sách kề vừa load (tập từ {@link #acquire}) nếu account không bị
+     * invalidate / bỏ khỏi cache từ {@code stamp}; ngược lại trả tham chiếu ngay
+     */
+    public void put(UUID accountId, int[] friends, long stamp, long nowMs) {
+        Entry entry = adjacency.get(accountId);
+        if (entry == null || !entry.load(friends, stamp, nowMs)) {
+            release(friends);
+        }
+    }
+
+    public void invalidate(UUID accountId) {
+        Entry entry = adjacency.get(accountId);
+        if (entry != null) {
+            entry.invalidate(versions.incrementAndGet());
+        }
+    }
+
+    public int size() {
+        return adjacency.size();
+    }
+
+    /**
+     * Số account đang được intern
+     */
+    public int internedCount() {
+        return ids.size();
+    }
+
+    private int allocate(UUID accountId) {
+        int id;
+        synchronized (released) {
+            long[] oldest = released.peekFirst();
+            if (oldest != null && System.currentTimeMillis() - oldest[1] >= REUSE_DELAY_MS) {
+                released.pollFirst();
+                id = (int) oldest[0];
+            } else {
+                id = next++;
+            }
+        }
+        accounts.put(id, accountId);
+        return id;
+    }
+
+    private void release(int id) {
+        UUID accountId = accounts.get(id);
+        if (accountId == null) {
+            return;
+        }
+        ids.computeIfPresent(accountId, (key, interned) -> {
+            if (interned.id != id || --interned.refs > 0) {
+                return interned;
+            }
+            synchronized (released) {
+                released.addLast(new long[] { id, System.currentTimeMillis() });
+            }
+            return null;
+        });
+    }
+
+    // ==========================================
+    // Tập int đã sắp xếp
+    // ==========================================
+
+    public static boolean contains(int[] set, int id) {
+        return Arrays.binarySearch(set, id) >= 0;
+    }
+
+    /**
+     * Giao hai tập đã sắp xếp, O(|a| + |b|)
+     */
+    public static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    private static final class Interned {
+        private final int id;
+        private int refs; // đổi trong ids.compute
+
+        private Interned(int id) {
+            this.id = id;
+        }
+    }
+
+    /**
+     * Danh sách kề + version của một account; entry chỉ có version (chưa load xong) cũng
+     * chiếm chỗ trong LRU
+     */
+    private final class Entry {
+        private long version;
+        private int[] friends;
+        private long loadedAtMs;
+        private boolean evicted;
+
+        private Entry(long version) {
+            this.version = version;
+        }
+
+        synchronized long version() {
+            return version;
+        }
+
+        synchronized int[] friends(long nowMs, long ttlMs) {
+            return friends != null && nowMs - loadedAtMs < ttlMs ? friends : null;
+        }
+
+        synchronized boolean load(int[] loaded, long stamp, long nowMs) {
+            if (evicted || version != stamp) {
+                return false;
+            }
+            int[] previous = friends;
+            friends = loaded;
+            loadedAtMs = nowMs;
+            if (previous != null) {
+                release(previous);
+            }
+            return true;
+        }
+
+        synchronized void invalidate(long newVersion) {
+            version = newVersion;
+            clear();
+        }
+
+        synchronized void evict() {
+            evicted = true;
+            clear();
+        }
+
+        private void clear() {
+            if (friends != null) {
+                release(friends);
+                friends = null;
+            }
+        }
+    }
+}
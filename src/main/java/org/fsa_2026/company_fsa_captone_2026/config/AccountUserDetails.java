@@ -0,0 +1,43 @@
+package org.fsa_2026.company_fsa_captone_2026.config;
+
+import org.fsa_2026.company_fsa_captone_2026.entity.Account;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Principal của Spring Security bọc Account (đã fetch kèm UserProfile).
+ * AuthService.login lấy lại Account từ principal thay vì query lần hai.
+ */
+public class AccountUserDetails implements UserDetails {
+
+    private final transient Account account;
+    private final List<GrantedAuthority> authorities;
+
+    public AccountUserDetails(Account account) {
+        this.account = account;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + account.getRoleCode().name()));
+    }
+
+    public Account getAccount() {
+        return account;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return account.getPasswordHash();
+    }
+
+    @Override
+    public String getUsername() {
+        return account.getEmail();
+    }
+}
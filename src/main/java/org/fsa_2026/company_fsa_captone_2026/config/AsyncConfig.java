@@ -2,6 +2,8 @@ package org.fsa_2026.company_fsa_captone_2026.config;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.system.JavaVersion;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
@@ -14,11 +16,17 @@ import java.util.concurrent.Executor;
  * Async Configuration
  * Cấu hình thread pool cho @Async methods (gửi email, v.v.)
  * Xử lý exception không bắt được từ async methods
+ * Khi bật spring.threads.virtual.enabled (Java 21+): worker là virtual thread, còn
+ * pool (tối đa 5 kết nối SMTP) và hàng đợi có giới hạn giữ nguyên – caller của @Async
+ * không bị chặn; hàng đợi đầy thì task bị từ chối (TaskRejectedException).
  */
 @Slf4j
 @Configuration
 public class AsyncConfig implements AsyncConfigurer {
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Override
     @Bean(name = "taskExecutor")
     public Executor getAsyncExecutor() {
@@ -27,6 +35,15 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.setMaxPoolSize(5);
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("async-email-");
+        if (virtualThreads) {
+            if (JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+                executor.setVirtualThreads(true);
+                executor.setThreadNamePrefix("async-vt-");
+            } else {
+                log.warn("spring.threads.virtual.enabled=true requires Java 21+, running on {}; "
+                        + "falling back to platform threads", JavaVersion.getJavaVersion());
+            }
+        }
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(30);
         executor.initialize();
@@ -0,0 +1,37 @@
+package org.fsa_2026.company_fsa_captone_2026.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Audio Stream Properties (app.audio.stream)
+ * Nhận audio PCM qua WebSocket trong lúc learner nói: VAD phát hiện kết thúc câu,
+ * giới hạn thời lượng và số stream đồng thời.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.audio.stream")
+public class AudioStreamProperties {
+
+    /** Stream đồng thời; vượt thì kết nối mới bị đóng ngay (TRY_AGAIN_LATER) */
+    private int maxConnections = 500;
+
+    /** Thời lượng audio tối đa một attempt; đạt ngưỡng thì chấm luôn */
+    private int maxDurationMs = 30_000;
+
+    /** Tiếng nói liên tục tối thiểu để tính là bắt đầu nói */
+    private int minSpeechMs = 60;
+
+    /** Im lặng sau khi nói bao lâu thì coi là nói xong và chấm điểm */
+    private int endSilenceMs = 700;
+
+    /** RMS tối thiểu của một hop 10 ms được coi là có tiếng (audio chuẩn hoá [-1, 1]) */
+    private float minRms = 0.02f;
+
+    /** Đóng stream không nhận được dữ liệu trong khoảng này */
+    private int idleTimeoutMs = 15_000;
+
+    /** Kích thước tối đa một message nhị phân (chunk PCM) */
+    private int maxMessageBytes = 64 * 1024;
+}
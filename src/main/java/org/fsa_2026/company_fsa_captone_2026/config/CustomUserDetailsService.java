@@ -4,25 +4,23 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.fsa_2026.company_fsa_captone_2026.entity.Account;
 import org.fsa_2026.company_fsa_captone_2026.repository.AccountRepository;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.Collection;
-import java.util.Collections;
-
 /**
  * Custom UserDetailsService Implementation
- * Loads user from database by email for Spring Security authentication
+ * Loads user from database by email for Spring Security authentication.
+ * Account + UserProfile được load trong một query (fetch join) và trả về
+ * trong principal để login không phải query lại.
+ * Cũng là UserDetailsPasswordService: hash mật khẩu cost cũ được thay khi login.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final AccountRepository accountRepository;
 
@@ -30,26 +28,31 @@ public class CustomUserDetailsService implements UserDetailsService {
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         log.debug("Loading user details for email: {}", email);
 
-        Account account = accountRepository.findByEmail(email)
+        Account account = accountRepository.findWithProfileByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("Không tìm thấy người dùng với email: " + email));
 
         if (!account.getIsActive()) {
             throw new UsernameNotFoundException("Tài khoản đã bị vô hiệu hóa: " + email);
         }
 
-        return User.builder()
-                .username(account.getEmail())
-                .password(account.getPasswordHash())
-                .authorities(getAuthorities(account.getRoleCode().name()))
-                .accountExpired(false)
-                .accountLocked(false)
-                .credentialsExpired(false)
-                .disabled(false)
-                .build();
+        return new AccountUserDetails(account);
     }
 
-    private Collection<? extends GrantedAuthority> getAuthorities(String role) {
-        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role));
+    /**
+     * Gọi bởi DaoAuthenticationProvider sau khi login thành công nếu hash cần
+     * nâng cost. AuthService.login không mở transaction nên account trong principal
+     * đã detached: save() merge (SELECT theo id + UPDATE) trong transaction riêng
+     * của repository – chỉ xảy ra một lần cho mỗi hash cũ.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Account account = user instanceof AccountUserDetails details
+                ? details.getAccount()
+                : accountRepository.findByEmail(user.getUsername())
+                        .orElseThrow(() -> new UsernameNotFoundException("Không tìm thấy người dùng: " + user.getUsername()));
+        account.setPasswordHash(newPassword);
+        accountRepository.save(account);
+        log.info("Password hash upgraded for account: {}", account.getId());
+        return new AccountUserDetails(account);
     }
 }
-
@@ -0,0 +1,45 @@
+package org.fsa_2026.company_fsa_captone_2026.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Domain Event Properties (app.events)
+ * Thread giao event cho listener, giao lại publication dang dở và dọn publication
+ * đã hoàn tất trong bảng event_publication.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.events")
+public class DomainEventProperties {
+
+    /** Số thread chạy listener */
+    private int threads = 4;
+
+    /** Publication chờ thread; đầy thì để dang dở, lần quét sau giao lại */
+    private int queueCapacity = 1000;
+
+    /** Giao lại mọi publication dang dở khi ứng dụng khởi động */
+    private boolean republishOnRestart = true;
+
+    /** Publication dang dở lâu hơn mức này được giao lại (listener lỗi, queue đầy) */
+    private Duration resubmitAfter = Duration.ofMinutes(5);
+
+    private Duration resubmitInterval = Duration.ofMinutes(1);
+
+    /** Listener lỗi quá số lần này → publication chuyển sang dead letter (failed_date) */
+    private int maxAttempts = 8;
+
+    /** Chờ tối đa giữa hai lần giao lại (resubmitAfter × 2^(lần lỗi - 1), chặn trên ở mức này) */
+    private Duration maxBackoff = Duration.ofHours(6);
+
+    /** Publication đã hoàn tất được giữ bao lâu trước khi xoá */
+    private Duration completedRetention = Duration.ofDays(7);
+
+    private String purgeCron = "0 45 3 * * *";
+
+    private int purgeBatchSize = 5000;
+}
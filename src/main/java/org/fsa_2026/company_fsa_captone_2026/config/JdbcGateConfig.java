@@ -0,0 +1,56 @@
+package org.fsa_2026.company_fsa_captone_2026.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.jdbc.ConcurrencyLimitedDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * JDBC Gate Configuration
+ * Bọc DataSource bằng ConcurrencyLimitedDataSource khi bật
+ * {@code app.jdbc.gate.enabled} (mặc định bật cùng virtual threads).
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.jdbc.gate.enabled", havingValue = "true")
+public class JdbcGateConfig {
+
+    @Bean
+    static BeanPostProcessor jdbcConcurrencyGate(
+            @Value("${app.jdbc.gate.max-concurrency:0}") int configuredConcurrency,
+            @Value("${app.jdbc.gate.acquire-timeout:PT30S}") Duration acquireTimeout,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+                // 0 = đúng bằng kích thước pool Hikari (kể cả khi pool được tính từ số core)
+                int maxConcurrency = configuredConcurrency > 0 ? configuredConcurrency
+                        : dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 10;
+                ConcurrencyLimitedDataSource gated = new ConcurrencyLimitedDataSource(dataSource, maxConcurrency,
+                        acquireTimeout);
+                meterRegistry.ifAvailable(registry -> {
+                    Gauge.builder("jdbc.gate.waiting", gated, ConcurrencyLimitedDataSource::getWaiting)
+                            .description("Thread đang chờ cổng JDBC").register(registry);
+                    Gauge.builder("jdbc.gate.in_use", gated, ConcurrencyLimitedDataSource::getInUse)
+                            .description("Connection đang được mượn qua cổng").register(registry);
+                });
+                log.info("JDBC concurrency gate on '{}': maxConcurrency={}, acquireTimeout={}",
+                        beanName, maxConcurrency, acquireTimeout);
+                return gated;
+            }
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package org.fsa_2026.company_fsa_captone_2026.config;
+
+import lombok.Data;
+import org.fsa_2026.company_fsa_captone_2026.common.partition.MonthlyPartitions;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Partitioning Properties (app.partitioning)
+ * Partition theo tháng của attempt / attempt_phoneme_feedback: tạo trước, giữ
+ * "nóng" bao lâu, archive ở đâu, và cửa sổ dữ liệu mà màn hình thống kê đọc.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.partitioning")
+public class PartitioningProperties {
+
+    /** Bật job bảo trì partition (chỉ có ý nghĩa trên PostgreSQL) */
+    private boolean enabled = true;
+
+    /** Bảng cha đã partition theo tháng (xem changelog 23) */
+    private List<String> tables = new ArrayList<>(List.of("attempt", "attempt_phoneme_feedback"));
+
+    /** Số tháng tới được tạo partition trước */
+    private int monthsAhead = 3;
+
+    /** Số tháng gần nhất (kể cả tháng hiện tại) còn attach; cũ hơn thì archive */
+    private int hotMonths = 12;
+
+    /** Thống kê của giáo viên chỉ đọc N tháng gần nhất → Postgres chỉ quét N partition */
+    private int analyticsMonths = 6;
+
+    /**
+     * Thư mục chứa file archive (.csv.gz), phải là đường dẫn tuyệt đối trên volume bền / dùng
+     * chung. Trống hoặc tương đối → không archive (partition nguội vẫn attach).
+     */
+    private String archiveDir = "";
+
+    /**
+     * Xoá bảng đã detach sau khi export và kiểm tra đủ số dòng. Mặc định giữ lại (nạp lại
+     * được bằng ATTACH PARTITION) cho tới khi archive đã được kiểm chứng trên môi trường thật.
+     */
+    private boolean dropAfterExport = false;
+
+    /**
+     * Bảng con trỏ vào từng bảng cha (FK đã bỏ ở changelog 23): partition rời bảng cha thì
+     * các dòng con của nó được archive; xoá / gỡ liên kết chỉ khi partition bị DROP
+     */
+    private Map<String, List<Dependent>> dependents = new LinkedHashMap<>(Map.of("attempt", List.of(
+            Dependent.of("attempt_tone_feedback", OnArchive.DELETE),
+            Dependent.of("prediction", OnArchive.DELETE),
+            Dependent.of("educator_feedback", OnArchive.DELETE),
+            Dependent.of("account_daily_challenge", OnArchive.SET_NULL))));
+
+    private String cron = "0 30 2 * * *";
+
+    public List<Dependent> dependentsOf(String table) {
+        return dependents.getOrDefault(table, List.of());
+    }
+
+    /** Mốc created_at mà truy vấn thống kê dùng để partition pruning */
+    public Instant analyticsSince(Instant now) {
+        return MonthlyPartitions.startOfMonth(now, analyticsMonths - 1);
+    }
+
+    @Data
+    public static class Dependent {
+        private String table;
+
+        /** Cột trỏ vào bảng cha; trống = {@code <bảng cha>_id} */
+        private String column;
+
+        private OnArchive onArchive = OnArchive.DELETE;
+
+        static Dependent of(String table, OnArchive onArchive) {
+            Dependent dependent = new Dependent();
+            dependent.setTable(table);
+            dependent.setOnArchive(onArchive);
+            return dependent;
+        }
+
+        public String columnFor(String parent) {
+            return column != null && !column.isBlank() ? column : parent + "_id";
+        }
+    }
+
+    public enum OnArchive {
+        /** Dòng con chỉ có nghĩa cùng attempt (feedback, prediction) */
+        DELETE,
+        /** Dòng con có giá trị riêng (hoàn thành thử thách ngày): chỉ gỡ liên kết */
+        SET_NULL
+    }
+}
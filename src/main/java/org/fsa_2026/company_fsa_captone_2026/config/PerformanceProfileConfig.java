@@ -0,0 +1,46 @@
+package org.fsa_2026.company_fsa_captone_2026.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Performance Profile Configuration (profile "prod", xem application-prod.yaml)
+ * Kích thước pool Hikari tính theo số core khi không cấu hình cố định.
+ */
+@Slf4j
+@Configuration
+@Profile("prod")
+public class PerformanceProfileConfig {
+
+    /**
+     * Công thức của PostgreSQL wiki: connections = cores * 2 + effective_spindle_count
+     * (SSD/cloud → 1). Pool cố định (minimumIdle = maximum) để tránh tạo connection
+     * giữa giờ cao điểm.
+     */
+    public static int recommendedPoolSize(int cores) {
+        return cores * 2 + 1;
+    }
+
+    @Bean
+    static BeanPostProcessor hikariPoolSizing(@Value("${app.perf.pool-size:0}") int configuredPoolSize) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    int size = configuredPoolSize > 0 ? configuredPoolSize
+                            : recommendedPoolSize(Runtime.getRuntime().availableProcessors());
+                    hikari.setMaximumPoolSize(size);
+                    hikari.setMinimumIdle(size);
+                    log.info("Hikari pool '{}' sized to {} connections ({})", beanName, size,
+                            configuredPoolSize > 0 ? "app.perf.pool-size" : "derived from CPU cores");
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,138 @@
+package org.fsa_2026.company_fsa_captone_2026.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Performance Self-Check
+ * Khi ứng dụng sẵn sàng, log WARN từng cấu hình làm giảm throughput
+ * (OSIV, thiếu JDBC batching, log SQL/DEBUG, pool quá lớn/nhỏ, ...).
+ * Chỉ log, không chặn khởi động.
+ */
+@Slf4j
+@Component
+public class PerformanceSelfCheck {
+
+    private static final String[] NOISY_LOGGERS = {
+            "root", "org.springframework", "org.springframework.security", "org.springframework.web",
+            "org.hibernate.SQL", "org.hibernate.orm.jdbc.bind", "org.fsa_2026" };
+
+    private final Environment environment;
+    private final ObjectProvider<DataSource> dataSource;
+
+    public PerformanceSelfCheck(Environment environment, ObjectProvider<DataSource> dataSource) {
+        this.environment = environment;
+        this.dataSource = dataSource;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        List<String> issues = check(Runtime.getRuntime().availableProcessors());
+        if (issues.isEmpty()) {
+            log.info("Performance self-check: OK");
+            return;
+        }
+        issues.forEach(issue -> log.warn("Performance self-check: {}", issue));
+        log.warn("Performance self-check: {} issue(s); see application-prod.yaml for tuned defaults", issues.size());
+    }
+
+    public List<String> check(int cores) {
+        List<String> issues = new ArrayList<>();
+
+        if (environment.getProperty("spring.jpa.open-in-view", Boolean.class, true)) {
+            issues.add("spring.jpa.open-in-view=true keeps a JDBC connection for the whole request incl. JSON rendering");
+        }
+        int batchSize = environment.getProperty("spring.jpa.properties.hibernate.jdbc.batch_size", Integer.class, 0);
+        if (batchSize <= 1) {
+            issues.add("hibernate.jdbc.batch_size not set: every INSERT/UPDATE is its own round trip");
+        } else {
+            if (!isTrue("spring.jpa.properties.hibernate.order_inserts")
+                    || !isTrue("spring.jpa.properties.hibernate.order_updates")) {
+                issues.add("hibernate.order_inserts/order_updates disabled: mixed-entity flushes break JDBC batches");
+            }
+            if (!reWriteBatchedInserts()) {
+                issues.add("Postgres reWriteBatchedInserts=false: batched INSERTs are sent row by row");
+            }
+        }
+        if (isTrue("spring.jpa.show-sql") || isTrue("spring.jpa.properties.hibernate.format_sql")
+                || isTrue("spring.jpa.properties.hibernate.use_sql_comments")) {
+            issues.add("SQL logging/formatting/comments enabled (show-sql, format_sql or use_sql_comments)");
+        }
+        for (String logger : NOISY_LOGGERS) {
+            String level = environment.getProperty("logging.level." + logger);
+            if (level != null && (level.equalsIgnoreCase("DEBUG") || level.equalsIgnoreCase("TRACE"))) {
+                issues.add("logging.level." + logger + "=" + level.toUpperCase(Locale.ROOT) + " logs on every request");
+            }
+        }
+        if ("0".equals(driverProperty("preparedStatementCacheQueries")) || "0".equals(driverProperty("prepareThreshold"))) {
+            issues.add("Postgres prepared-statement cache disabled (preparedStatementCacheQueries/prepareThreshold = 0)");
+        }
+
+        HikariDataSource hikari = hikari();
+        if (hikari != null) {
+            int poolSize = hikari.getMaximumPoolSize();
+            if (poolSize > cores * 4) {
+                issues.add("Hikari maximum-pool-size=" + poolSize + " is far above " + cores
+                        + " cores; extra connections only add contention (recommended "
+                        + PerformanceProfileConfig.recommendedPoolSize(cores) + ")");
+            }
+            if (poolSize < 2) {
+                issues.add("Hikari maximum-pool-size=" + poolSize + " serializes all database work");
+            }
+        }
+        if (isTrue("spring.threads.virtual.enabled") && !isTrue("app.jdbc.gate.enabled")) {
+            issues.add("virtual threads enabled without app.jdbc.gate: unbounded threads will queue on Hikari");
+        }
+        return issues;
+    }
+
+    private boolean isTrue(String key) {
+        return environment.getProperty(key, Boolean.class, false);
+    }
+
+    private String driverProperty(String name) {
+        String value = environment.getProperty("spring.datasource.hikari.data-source-properties." + name);
+        if (value != null) {
+            return value;
+        }
+        String url = environment.getProperty("spring.datasource.url", "");
+        int index = url.indexOf(name + "=");
+        if (index < 0) {
+            return null;
+        }
+        String rest = url.substring(index + name.length() + 1);
+        int end = rest.indexOf('&');
+        return end < 0 ? rest : rest.substring(0, end);
+    }
+
+    private boolean reWriteBatchedInserts() {
+        return "true".equalsIgnoreCase(driverProperty("reWriteBatchedInserts"));
+    }
+
+    private HikariDataSource hikari() {
+        DataSource ds = dataSource.getIfAvailable();
+        if (ds == null) {
+            return null;
+        }
+        if (ds instanceof HikariDataSource hikari) {
+            return hikari;
+        }
+        try {
+            // ConcurrencyLimitedDataSource (DelegatingDataSource) unwrap tới pool bên trong
+            return ds.isWrapperFor(HikariDataSource.class) ? ds.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.fsa_2026.company_fsa_captone_2026.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Push Properties (app.push)
+ * Kênh đẩy real-time (SSE) theo account: giới hạn kết nối, hàng đợi mỗi kết nối,
+ * heartbeat.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.push")
+public class PushProperties {
+
+    /** Thread ghi message ra các kết nối */
+    private int threads = 4;
+
+    /** Một lần ghi lâu hơn mức này → kết nối bị đóng (client không đọc, TCP window đầy) */
+    private Duration writeTimeout = Duration.ofSeconds(10);
+
+    /** Chu kỳ kiểm tra lần ghi quá hạn */
+    private Duration writeCheckInterval = Duration.ofSeconds(1);
+
+    /** Thread bù tối đa cho các lần ghi treo chưa trả về */
+    private int maxStalledWriters = 64;
+
+    /** Message chờ gửi tối đa của một kết nối; đầy thì kết nối bị đóng (client quá chậm) */
+    private int queueCapacity = 64;
+
+    /** Tổng số kết nối mở đồng thời; vượt thì trả 429 */
+    private int maxConnections = 10_000;
+
+    /** Kết nối mỗi account (nhiều tab/thiết bị); vượt thì đóng kết nối cũ nhất */
+    private int maxConnectionsPerAccount = 3;
+
+    /** Thời gian sống của một kết nối SSE, client tự kết nối lại sau đó */
+    private Duration connectionTimeout = Duration.ofMinutes(30);
+
+    /** Comment giữ kết nối qua proxy và phát hiện client đã ngắt */
+    private Duration heartbeatInterval = Duration.ofSeconds(25);
+}
@@ -0,0 +1,52 @@
+package org.fsa_2026.company_fsa_captone_2026.config;
+
+import lombok.Data;
+import org.fsa_2026.company_fsa_captone_2026.common.ratelimit.RateLimit;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rate Limit Properties (app.rate-limit)
+ * Chính sách giới hạn request cho từng endpoint, theo IP và/hoặc theo email
+ * trong body JSON.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** Số key (IP/email) tối đa giữ trong bộ nhớ */
+    private int maxKeys = 100_000;
+
+    /** Tần suất dọn bucket đã hồi đầy */
+    private Duration sweepInterval = Duration.ofMinutes(1);
+
+    /** Kích thước body tối đa được đọc để lấy email */
+    private int maxBodyBytes = 4096;
+
+    private List<Endpoint> endpoints = new ArrayList<>();
+
+    @Data
+    public static class Endpoint {
+        /** Đường dẫn chính xác, chỉ áp dụng cho POST */
+        private String path;
+        private Limit perIp;
+        private Limit perEmail;
+    }
+
+    @Data
+    public static class Limit {
+        private int capacity;
+        private Duration period;
+
+        public RateLimit toRateLimit() {
+            return new RateLimit(capacity, period);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.fsa_2026.company_fsa_captone_2026.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.fsa_2026.company_fsa_captone_2026.common.JwtAuthenticationFilter;
 import org.springframework.context.annotation.Bean;
@@ -11,8 +12,6 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -31,18 +30,18 @@ import org.springframework.boot.web.servlet.FilterRegistrationBean;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
-    private final UserDetailsService userDetailsService;
+    private final CustomUserDetailsService userDetailsService;
     private final CorsConfigurationSource corsConfigurationSource;
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
+    /**
+     * PasswordEncoder là PasswordHashingService (BCrypt trên pool riêng);
+     * hash có cost cũ được nâng cấp qua UserDetailsPasswordService khi login
+     */
     @Bean
     public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
@@ -73,6 +72,8 @@ public class SecurityConfig {
                             .accessDeniedHandler(new JwtAccessDeniedHandler()))
                     .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                     .authorizeHttpRequests(authz -> authz
+                            // Async dispatch khi SSE kết thúc: request gốc đã được xác thực
+                            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                             // DEVELOPMENT MODE: Allow all access to Swagger and API docs
                             .requestMatchers(
                                     // Swagger UI endpoints
@@ -88,6 +89,8 @@ public class SecurityConfig {
                                     "/api/v1/auth/**",
                                     "/api/v1/public/**",
                                     "/api/v1/health/**",
+                                    // WebSocket: JWT xác thực lúc handshake (WebSocketConfig)
+                                    "/ws/**",
 
                                     // Development actuator
                                     "/actuator/**",
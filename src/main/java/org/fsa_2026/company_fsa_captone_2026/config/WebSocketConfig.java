@@ -0,0 +1,87 @@
+package org.fsa_2026.company_fsa_captone_2026.config;
+
+import jakarta.websocket.DeploymentException;
+import jakarta.websocket.HandshakeResponse;
+import jakarta.websocket.server.HandshakeRequest;
+import jakarta.websocket.server.ServerContainer;
+import jakarta.websocket.server.ServerEndpointConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tomcat.websocket.server.WsSci;
+import org.fsa_2026.company_fsa_captone_2026.common.AuthenticatedUser;
+import org.fsa_2026.company_fsa_captone_2026.common.JwtTokenProvider;
+import org.fsa_2026.company_fsa_captone_2026.controller.AttemptStreamEndpoint;
+import org.springframework.boot.web.servlet.ServletContextInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * WebSocket Configuration
+ * Đăng ký endpoint Jakarta WebSocket của Tomcat nhúng (không dùng spring-websocket):
+ * bật WsSci nếu container chưa có ServerContainer, rồi thêm endpoint với instance
+ * là Spring bean.
+ *
+ * <p>
+ * Trình duyệt không gửi được header Authorization khi mở WebSocket nên JWT được
+ * nhận qua header hoặc query {@code access_token}; xác thực ngay lúc handshake,
+ * endpoint đóng kết nối nếu không có principal hợp lệ. Đường dẫn {@code /ws/**} được
+ * permitAll trong SecurityConfig vì lý do này.
+ * </p>
+ */
+@Slf4j
+@Configuration
+public class WebSocketConfig {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String TOKEN_PARAMETER = "access_token";
+
+    @Bean
+    public ServletContextInitializer attemptStreamEndpointRegistration(AttemptStreamEndpoint endpoint,
+            JwtTokenProvider jwtTokenProvider) {
+        return servletContext -> {
+            if (servletContext.getAttribute(ServerContainer.class.getName()) == null) {
+                new WsSci().onStartup(Set.of(), servletContext);
+            }
+            ServerContainer container = (ServerContainer) servletContext.getAttribute(ServerContainer.class.getName());
+            ServerEndpointConfig config = ServerEndpointConfig.Builder
+                    .create(AttemptStreamEndpoint.class, AttemptStreamEndpoint.PATH)
+                    .configurator(new ServerEndpointConfig.Configurator() {
+                        @Override
+                        public <T> T getEndpointInstance(Class<T> endpointClass) {
+                            return endpointClass.cast(endpoint);
+                        }
+
+                        @Override
+                        public void modifyHandshake(ServerEndpointConfig sec, HandshakeRequest request,
+                                HandshakeResponse response) {
+                            String token = token(request);
+                            AuthenticatedUser user = token != null ? jwtTokenProvider.parseAccessToken(token) : null;
+                            if (user != null) {
+                                sec.getUserProperties().put(AttemptStreamEndpoint.USER_PROPERTY, user);
+                            }
+                        }
+                    })
+                    .build();
+            try {
+                container.addEndpoint(config);
+            } catch (DeploymentException e) {
+                throw new IllegalStateException("Cannot register WebSocket endpoint " + AttemptStreamEndpoint.PATH, e);
+            }
+            log.info("WebSocket endpoint registered: {}", AttemptStreamEndpoint.PATH);
+        };
+    }
+
+    private static String token(HandshakeRequest request) {
+        List<String> authorization = request.getHeaders().get("Authorization");
+        if (authorization != null && !authorization.isEmpty() && authorization.get(0).startsWith(BEARER_PREFIX)) {
+            return authorization.get(0).substring(BEARER_PREFIX.length());
+        }
+        List<String> parameter = request.getParameterMap().get(TOKEN_PARAMETER);
+        return parameter != null && !parameter.isEmpty() && StringUtils.hasText(parameter.get(0))
+                ? parameter.get(0)
+                : null;
+    }
+}
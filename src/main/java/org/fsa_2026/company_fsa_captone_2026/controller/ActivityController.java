@@ -0,0 +1,37 @@
+package org.fsa_2026.company_fsa_captone_2026.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.AuthenticatedUser;
+import org.fsa_2026.company_fsa_captone_2026.common.Constants;
+import org.fsa_2026.company_fsa_captone_2026.dto.ActivityFeedResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.ApiResponse;
+import org.fsa_2026.company_fsa_captone_2026.service.ActivityService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping(Constants.API_PREFIX + "/activities")
+@RequiredArgsConstructor
+@Tag(name = "Activity Feed", description = "Friends Activity Feed APIs")
+public class ActivityController {
+
+    private final ActivityService activityService;
+
+    @GetMapping("/feed")
+    @Operation(summary = "Get Activity Feed", description = "Latest activities of the authenticated user and their friends; pass nextCursor as cursor for the next page", security = @SecurityRequirement(name = "bearer-jwt"))
+    public ResponseEntity<ApiResponse<ActivityFeedResponse>> getFeed(@AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = Constants.DEFAULT_PAGE_SIZE) int size) {
+        ActivityFeedResponse feed = activityService.getFeed(user.id(), cursor, size);
+        return ResponseEntity.ok(ApiResponse.success("Lấy bảng tin hoạt động thành công", feed));
+    }
+}
@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
 import org.fsa_2026.company_fsa_captone_2026.dto.ApiResponse;
 import org.fsa_2026.company_fsa_captone_2026.dto.EducatorCreateRequest;
 import org.fsa_2026.company_fsa_captone_2026.dto.RegisterResponse;
@@ -15,11 +16,15 @@ import org.fsa_2026.company_fsa_captone_2026.dto.DialectCreateRequest;
 import org.fsa_2026.company_fsa_captone_2026.dto.DialectResponse;
 import org.fsa_2026.company_fsa_captone_2026.dto.LevelCreateRequest;
 import org.fsa_2026.company_fsa_captone_2026.dto.LevelResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.PageQuery;
+import org.fsa_2026.company_fsa_captone_2026.dto.PageResponse;
 import org.fsa_2026.company_fsa_captone_2026.dto.UserManagementResponse;
 import org.fsa_2026.company_fsa_captone_2026.dto.UserStatusUpdateRequest;
 import org.fsa_2026.company_fsa_captone_2026.dto.UserUpdateRequest;
 import org.fsa_2026.company_fsa_captone_2026.dto.AnalyticsOverviewResponse;
 import org.fsa_2026.company_fsa_captone_2026.dto.SystemHealthResponse;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.ContentStatus;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.RoleCode;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -67,10 +72,12 @@ public class AdminController {
     // ==========================================
 
     @GetMapping("/users")
-    @Operation(summary = "Get All Users", description = "Retrieves a list of all users and educators")
-    public ResponseEntity<ApiResponse<List<UserManagementResponse>>> getAllUsers() {
-        log.info("Admin retrieving all users");
-        List<UserManagementResponse> responses = adminService.getAllUsers();
+    @Operation(summary = "Get All Users", description = "Retrieves a page of users and educators (filter by role; count=SKIP to avoid COUNT on large tables)")
+    public ResponseEntity<ApiResponse<PageResponse<UserManagementResponse>>> getAllUsers(
+            @RequestParam(required = false) RoleCode role,
+            @ParameterObject PageQuery query) {
+        log.info("Admin retrieving users page {} (role={})", query.getPage(), role);
+        PageResponse<UserManagementResponse> responses = adminService.getAllUsers(role, query);
         return ResponseEntity.ok(ApiResponse.success("Lấy danh sách người dùng thành công", responses));
     }
 
@@ -107,10 +114,13 @@ public class AdminController {
     // ==========================================
 
     @GetMapping("/content/challenges")
-    @Operation(summary = "Get All Challenges", description = "Retrieves a list of all challenges")
-    public ResponseEntity<ApiResponse<List<ChallengeResponse>>> getAllChallenges() {
-        log.info("Admin retrieving all challenges");
-        List<ChallengeResponse> responses = adminService.getAllChallenges();
+    @Operation(summary = "Get All Challenges", description = "Retrieves a page of challenges (filter by status, levelId)")
+    public ResponseEntity<ApiResponse<PageResponse<ChallengeResponse>>> getAllChallenges(
+            @RequestParam(required = false) ContentStatus status,
+            @RequestParam(required = false) UUID levelId,
+            @ParameterObject PageQuery query) {
+        log.info("Admin retrieving challenges page {} (status={}, levelId={})", query.getPage(), status, levelId);
+        PageResponse<ChallengeResponse> responses = adminService.getAllChallenges(status, levelId, query);
         return ResponseEntity.ok(ApiResponse.success("Lấy danh sách thử thách thành công", responses));
     }
 
@@ -229,10 +239,13 @@ public class AdminController {
     // ==========================================
 
     @GetMapping("/content/levels")
-    @Operation(summary = "Get All Levels", description = "Retrieves a list of all levels")
-    public ResponseEntity<ApiResponse<List<LevelResponse>>> getAllLevels() {
-        log.info("Admin retrieving all levels");
-        List<LevelResponse> responses = adminService.getAllLevels(); // Assuming this exists or needed
+    @Operation(summary = "Get All Levels", description = "Retrieves a page of levels (filter by status, dialectId)")
+    public ResponseEntity<ApiResponse<PageResponse<LevelResponse>>> getAllLevels(
+            @RequestParam(required = false) ContentStatus status,
+            @RequestParam(required = false) UUID dialectId,
+            @ParameterObject PageQuery query) {
+        log.info("Admin retrieving levels page {} (status={}, dialectId={})", query.getPage(), status, dialectId);
+        PageResponse<LevelResponse> responses = adminService.getAllLevels(status, dialectId, query);
         return ResponseEntity.ok(ApiResponse.success("Lấy danh sách cấp độ thành công", responses));
     }
 
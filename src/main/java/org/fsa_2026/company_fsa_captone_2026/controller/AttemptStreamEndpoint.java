@@ -0,0 +1,257 @@
+package org.fsa_2026.company_fsa_captone_2026.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.Endpoint;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.MessageHandler;
+import jakarta.websocket.Session;
+import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.AuthenticatedUser;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.AudioFeatures;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.FeatureExtractor;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.StreamingFeatureExtractor;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.VoiceActivityDetector;
+import org.fsa_2026.company_fsa_captone_2026.config.AudioStreamProperties;
+import org.fsa_2026.company_fsa_captone_2026.dto.AttemptResponse;
+import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
+import org.fsa_2026.company_fsa_captone_2026.service.GameplayService;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Attempt Stream Endpoint (WebSocket {@value #PATH})
+ * Nhận audio trong lúc learner đang nói để chấm điểm ngay khi nói xong.
+ *
+ * <p>
+ * Giao thức: kết nối {@code ?sessionId=..&challengeId=..} (JWT qua header
+ * Authorization hoặc {@code access_token}, xem WebSocketConfig), gửi message nhị
+ * phân PCM 16-bit little-endian mono 16 kHz. Server trả message JSON
+ * {@code {"type": ...}}: {@code ready}, {@code speech-start}, {@code speech-end},
+ * {@code phoneme} (từng phoneme khi chấm), {@code result} (AttemptResponse) hoặc
+ * {@code error}, rồi đóng kết nối. Client có thể gửi {@code {"type":"end"}} để chấm
+ * ngay hoặc {@code {"type":"cancel"}}.
+ * </p>
+ *
+ * <p>
+ * MFCC + pitch được tính tăng dần theo từng chunk ({@link StreamingFeatureExtractor});
+ * khi VAD báo hết câu chỉ còn vài frame cuối, DTW và ghi DB.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AttemptStreamEndpoint extends Endpoint {
+
+    public static final String PATH = "/ws/attempts";
+    /** userProperties: AuthenticatedUser của JWT đã xác thực lúc handshake */
+    public static final String USER_PROPERTY = "user";
+
+    private final GameplayService gameplayService;
+    private final ObjectMapper objectMapper;
+    private final AudioStreamProperties properties;
+    private final AtomicInteger activeStreams = new AtomicInteger();
+
+    public AttemptStreamEndpoint(GameplayService gameplayService, ObjectMapper objectMapper,
+            AudioStreamProperties properties) {
+        this.gameplayService = gameplayService;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    @Override
+    public void onOpen(Session session, EndpointConfig config) {
+        AuthenticatedUser user = (AuthenticatedUser) session.getUserProperties().get(USER_PROPERTY);
+        if (user == null) {
+            close(session, CloseReason.CloseCodes.VIOLATED_POLICY, "Unauthorized");
+            return;
+        }
+        if (activeStreams.incrementAndGet() > properties.getMaxConnections()) {
+            activeStreams.decrementAndGet();
+            close(session, CloseReason.CloseCodes.TRY_AGAIN_LATER, "Too many audio streams");
+            return;
+        }
+        session.getUserProperties().put(Stream.class.getName(), Boolean.TRUE);
+
+        String sessionId = parameter(session, "sessionId");
+        String challengeId = parameter(session, "challengeId");
+        try {
+            if (sessionId == null || challengeId == null) {
+                throw new ApiException("BAD_REQUEST", "sessionId and challengeId are required");
+            }
+            gameplayService.checkStreamTarget(user.id(), sessionId, challengeId);
+        } catch (ApiException | IllegalArgumentException e) {
+            sendError(session, e.getMessage());
+            close(session, CloseReason.CloseCodes.CANNOT_ACCEPT, "Rejected");
+            return;
+        }
+
+        session.setMaxIdleTimeout(properties.getIdleTimeoutMs());
+        session.setMaxBinaryMessageBufferSize(properties.getMaxMessageBytes());
+        Stream stream = new Stream(session, user.id(), sessionId, challengeId);
+        session.addMessageHandler(ByteBuffer.class, stream::onAudio);
+        session.addMessageHandler(String.class, stream::onCommand);
+        send(session, message("ready"));
+    }
+
+    @Override
+    public void onClose(Session session, CloseReason closeReason) {
+        if (session.getUserProperties().remove(Stream.class.getName()) != null) {
+            activeStreams.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void onError(Session session, Throwable error) {
+        log.debug("Audio stream {} failed: {}", session.getId(), error.getMessage());
+    }
+
+    /**
+     * Trạng thái một stream; Tomcat gọi handler tuần tự cho mỗi session nên không
+     * cần đồng bộ
+     */
+    private final class Stream {
+        private final Session session;
+        private final UUID accountId;
+        private final String sessionId;
+        private final String challengeId;
+        private final StreamingFeatureExtractor extractor;
+        private final VoiceActivityDetector vad;
+        private final long maxSamples;
+        private byte[] chunk = new byte[0];
+        private float[] samples = new float[0];
+        private VoiceActivityDetector.State reported = VoiceActivityDetector.State.SILENCE;
+        private boolean finished;
+
+        private Stream(Session session, UUID accountId, String sessionId, String challengeId) {
+            this.session = session;
+            this.accountId = accountId;
+            this.sessionId = sessionId;
+            this.challengeId = challengeId;
+            this.maxSamples = (long) properties.getMaxDurationMs() * FeatureExtractor.SAMPLE_RATE / 1000;
+            this.extractor = new StreamingFeatureExtractor(
+                    FeatureExtractor.frameCount((int) maxSamples) + 1);
+            this.vad = VoiceActivityDetector.of(properties.getMinSpeechMs(), properties.getEndSilenceMs(),
+                    properties.getMinRms());
+        }
+
+        private void onAudio(ByteBuffer buffer) {
+            if (finished) {
+                return;
+            }
+            int length = buffer.remaining();
+            if (chunk.length < length) {
+                chunk = new byte[length];
+                samples = new float[length / 2 + 1];
+            }
+            buffer.get(chunk, 0, length);
+            int count = extractor.appendPcm16(chunk, 0, length, samples);
+            VoiceActivityDetector.State state = vad.accept(samples, 0, count);
+
+            if (state != reported && state == VoiceActivityDetector.State.SPEECH) {
+                send(session, message("speech-start"));
+            }
+            reported = state;
+            if (state == VoiceActivityDetector.State.ENDED || extractor.sampleCount() >= maxSamples) {
+                finish();
+            }
+        }
+
+        private void onCommand(String text) {
+            String type;
+            try {
+                JsonNode command = objectMapper.readTree(text);
+                type = command.path("type").asText();
+            } catch (IOException e) {
+                sendError(session, "Invalid command");
+                return;
+            }
+            if ("end".equals(type)) {
+                finish();
+            } else if ("cancel".equals(type)) {
+                finished = true;
+                close(session, CloseReason.CloseCodes.NORMAL_CLOSURE, "Cancelled");
+            }
+        }
+
+        private void finish() {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            long endOfSpeech = System.nanoTime();
+            send(session, message("speech-end"));
+
+            AudioFeatures features = extractor.finish();
+            if (features.frameCount() == 0) {
+                sendError(session, "No audio received");
+                close(session, CloseReason.CloseCodes.NORMAL_CLOSURE, "No audio");
+                return;
+            }
+            try {
+                AttemptResponse attempt = gameplayService.submitStreamedAttempt(accountId, sessionId, challengeId,
+                        features, phoneme -> {
+                            Map<String, Object> push = message("phoneme");
+                            push.put("feedback", phoneme);
+                            send(session, push);
+                        });
+                Map<String, Object> result = message("result");
+                result.put("attempt", attempt);
+                send(session, result);
+                log.debug("Streamed attempt {} scored {} ms after end of speech ({} frames)", attempt.getId(),
+                        (System.nanoTime() - endOfSpeech) / 1_000_000, features.frameCount());
+                close(session, CloseReason.CloseCodes.NORMAL_CLOSURE, "Scored");
+            } catch (ApiException e) {
+                sendError(session, e.getMessage());
+                close(session, CloseReason.CloseCodes.CANNOT_ACCEPT, "Rejected");
+            } catch (RuntimeException e) {
+                log.error("Scoring streamed attempt failed (session {}, challenge {})", sessionId, challengeId, e);
+                sendError(session, "Scoring failed");
+                close(session, CloseReason.CloseCodes.UNEXPECTED_CONDITION, "Scoring failed");
+            }
+        }
+    }
+
+    private static Map<String, Object> message(String type) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("type", type);
+        return message;
+    }
+
+    private void sendError(Session session, String error) {
+        Map<String, Object> message = message("error");
+        message.put("message", error);
+        send(session, message);
+    }
+
+    private void send(Session session, Map<String, Object> message) {
+        if (!session.isOpen()) {
+            return;
+        }
+        try {
+            session.getBasicRemote().sendText(objectMapper.writeValueAsString(message));
+        } catch (IOException e) {
+            log.debug("Sending to audio stream {} failed: {}", session.getId(), e.getMessage());
+        }
+    }
+
+    private static String parameter(Session session, String name) {
+        List<String> values = session.getRequestParameterMap().get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    private static void close(Session session, CloseReason.CloseCode code, String reason) {
+        try {
+            session.close(new CloseReason(code, reason));
+        } catch (IOException e) {
+            log.debug("Closing audio stream {} failed: {}", session.getId(), e.getMessage());
+        }
+    }
+}
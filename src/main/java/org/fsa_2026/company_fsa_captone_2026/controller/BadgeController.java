@@ -5,13 +5,17 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
+import org.fsa_2026.company_fsa_captone_2026.common.AuthenticatedUser;
 import org.fsa_2026.company_fsa_captone_2026.common.Constants;
 import org.fsa_2026.company_fsa_captone_2026.dto.AccountBadgeResponse;
 import org.fsa_2026.company_fsa_captone_2026.dto.ApiResponse;
 import org.fsa_2026.company_fsa_captone_2026.dto.BadgeResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.PageQuery;
+import org.fsa_2026.company_fsa_captone_2026.dto.PageResponse;
 import org.fsa_2026.company_fsa_captone_2026.service.BadgeService;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -29,17 +33,17 @@ public class BadgeController {
 
     @GetMapping
     @Operation(summary = "Get All Badges", description = "List all possible badges in the game")
-    public ResponseEntity<ApiResponse<List<BadgeResponse>>> getAllBadges() {
-        log.info("Get all possible badges");
-        List<BadgeResponse> badges = badgeService.getAllBadges();
+    public ResponseEntity<ApiResponse<PageResponse<BadgeResponse>>> getAllBadges(@ParameterObject PageQuery query) {
+        log.info("Get badges page {}", query.getPage());
+        PageResponse<BadgeResponse> badges = badgeService.getAllBadges(query);
         return ResponseEntity.ok(ApiResponse.success("Lấy danh sách huy hiệu thành công", badges));
     }
 
     @GetMapping("/my-badges")
     @Operation(summary = "Get My Badges", description = "Get badges earned by the currently authenticated user", security = @SecurityRequirement(name = "bearer-jwt"))
-    public ResponseEntity<ApiResponse<List<AccountBadgeResponse>>> getMyBadges(Authentication authentication) {
-        log.info("Get earned badges for user: {}", authentication.getName());
-        List<AccountBadgeResponse> myBadges = badgeService.getMyBadges(authentication.getName());
+    public ResponseEntity<ApiResponse<List<AccountBadgeResponse>>> getMyBadges(@AuthenticationPrincipal AuthenticatedUser user) {
+        log.info("Get earned badges for user: {}", user.email());
+        List<AccountBadgeResponse> myBadges = badgeService.getMyBadges(user.id());
         return ResponseEntity.ok(ApiResponse.success("Lấy danh sách huy hiệu đã đạt được thành công", myBadges));
     }
 }
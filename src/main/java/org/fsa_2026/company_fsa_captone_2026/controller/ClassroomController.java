@@ -5,13 +5,14 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.AuthenticatedUser;
 import org.fsa_2026.company_fsa_captone_2026.common.Constants;
 import org.fsa_2026.company_fsa_captone_2026.dto.ApiResponse;
 import org.fsa_2026.company_fsa_captone_2026.dto.ClassroomMemberResponse;
 import org.fsa_2026.company_fsa_captone_2026.dto.ClassroomResponse;
 import org.fsa_2026.company_fsa_captone_2026.service.ClassroomService;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -30,9 +31,9 @@ public class ClassroomController {
 
     @GetMapping
     @Operation(summary = "Get My Classrooms", description = "List classrooms the current user is a member of", security = @SecurityRequirement(name = "bearer-jwt"))
-    public ResponseEntity<ApiResponse<List<ClassroomResponse>>> getMyClassrooms(Authentication authentication) {
-        log.info("Fetching classrooms for user: {}", authentication.getName());
-        List<ClassroomResponse> classrooms = classroomService.getMyClassrooms(authentication.getName());
+    public ResponseEntity<ApiResponse<List<ClassroomResponse>>> getMyClassrooms(@AuthenticationPrincipal AuthenticatedUser user) {
+        log.info("Fetching classrooms for user: {}", user.email());
+        List<ClassroomResponse> classrooms = classroomService.getMyClassrooms(user.id());
         return ResponseEntity.ok(ApiResponse.success("Lấy danh sách lớp học thành công", classrooms));
     }
 
@@ -40,9 +41,9 @@ public class ClassroomController {
     @Operation(summary = "Get Classroom Members", description = "List all members of a specific classroom", security = @SecurityRequirement(name = "bearer-jwt"))
     public ResponseEntity<ApiResponse<List<ClassroomMemberResponse>>> getClassroomMembers(
             @PathVariable String classroomId,
-            Authentication authentication) {
-        log.info("Fetching members for classroom {} by user: {}", classroomId, authentication.getName());
-        List<ClassroomMemberResponse> members = classroomService.getClassroomMembers(authentication.getName(),
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        log.info("Fetching members for classroom {} by user: {}", classroomId, user.email());
+        List<ClassroomMemberResponse> members = classroomService.getClassroomMembers(user.id(),
                 classroomId);
         return ResponseEntity.ok(ApiResponse.success("Lấy danh sách thành viên lớp học thành công", members));
     }
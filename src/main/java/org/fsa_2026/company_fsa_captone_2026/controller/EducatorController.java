@@ -6,13 +6,18 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
+import org.fsa_2026.company_fsa_captone_2026.common.AuthenticatedUser;
 import org.fsa_2026.company_fsa_captone_2026.dto.*;
 import org.fsa_2026.company_fsa_captone_2026.service.EducatorService;
 import org.fsa_2026.company_fsa_captone_2026.service.ErrorTagService;
+import org.fsa_2026.company_fsa_captone_2026.service.PlacementService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.UUID;
@@ -27,32 +32,33 @@ public class EducatorController {
 
         private final EducatorService educatorService;
         private final ErrorTagService errorTagService;
+        private final PlacementService placementService;
 
         @GetMapping("/dashboard/summary")
         @Operation(summary = "Get Dashboard Summary", description = "Overview stats for educator")
         public ResponseEntity<ApiResponse<EducatorDashboardSummaryResponse>> getDashboardSummary(
-                        Authentication authentication) {
+                        @AuthenticationPrincipal AuthenticatedUser user) {
                 return ResponseEntity
                                 .ok(ApiResponse.success("Thành công",
-                                                educatorService.getDashboardSummary(authentication.getName())));
+                                                educatorService.getDashboardSummary(user.id())));
         }
 
         @GetMapping("/classrooms")
         @Operation(summary = "Get Classrooms", description = "List all classrooms managed by the educator")
-        public ResponseEntity<ApiResponse<List<ClassroomResponse>>> getClassrooms(Authentication authentication) {
+        public ResponseEntity<ApiResponse<List<ClassroomResponse>>> getClassrooms(@AuthenticationPrincipal AuthenticatedUser user) {
                 return ResponseEntity
                                 .ok(ApiResponse.success("Thành công",
-                                                educatorService.getClassrooms(authentication.getName())));
+                                                educatorService.getClassrooms(user.id())));
         }
 
         @PostMapping("/classrooms")
         @Operation(summary = "Create Classroom", description = "Create a new classroom")
         public ResponseEntity<ApiResponse<ClassroomResponse>> createClassroom(
-                        Authentication authentication,
+                        @AuthenticationPrincipal AuthenticatedUser user,
                         @Valid @RequestBody ClassroomCreateRequest request) {
                 return ResponseEntity.status(HttpStatus.CREATED)
                                 .body(ApiResponse.success("Tạo lớp học thành công",
-                                                educatorService.createClassroom(authentication.getName(), request)));
+                                                educatorService.createClassroom(user.id(), request)));
         }
 
         @PatchMapping("/classrooms/{id}")
@@ -60,28 +66,30 @@ public class EducatorController {
         public ResponseEntity<ApiResponse<ClassroomResponse>> updateClassroom(
                         @PathVariable UUID id,
                         @Valid @RequestBody ClassroomCreateRequest request,
-                        Authentication authentication) {
+                        @AuthenticationPrincipal AuthenticatedUser user) {
                 return ResponseEntity.ok(ApiResponse.success("Cập nhật lớp học thành công",
-                                educatorService.updateClassroom(authentication.getName(), id, request)));
+                                educatorService.updateClassroom(user.id(), id, request)));
         }
 
         @DeleteMapping("/classrooms/{id}")
         @Operation(summary = "Delete Classroom", description = "Remove a classroom")
         public ResponseEntity<ApiResponse<Void>> deleteClassroom(
                         @PathVariable UUID id,
-                        Authentication authentication) {
-                educatorService.deleteClassroom(authentication.getName(), id);
+                        @AuthenticationPrincipal AuthenticatedUser user) {
+                educatorService.deleteClassroom(user.id(), id);
                 return ResponseEntity.ok(ApiResponse.success("Xóa lớp học thành công", null));
         }
 
         @GetMapping("/classrooms/{id}/students")
-        @Operation(summary = "Get Classroom Students", description = "List all students in a classroom")
-        public ResponseEntity<ApiResponse<List<UserManagementResponse>>> getClassroomStudents(
+        @Operation(summary = "Get Classroom Students", description = "List a page of students in a classroom")
+        public ResponseEntity<ApiResponse<PageResponse<UserManagementResponse>>> getClassroomStudents(
                         @PathVariable UUID id,
-                        Authentication authentication) {
+                        @ParameterObject PageQuery query,
+                        @AuthenticationPrincipal AuthenticatedUser user) {
                 return ResponseEntity.ok(
                                 ApiResponse.success("Thành công",
-                                                educatorService.getClassroomStudents(authentication.getName(), id)));
+                                                educatorService.getClassroomStudents(user.id(), id,
+                                                                query)));
         }
 
         @PostMapping("/classrooms/{id}/students")
@@ -89,18 +97,43 @@ public class EducatorController {
         public ResponseEntity<ApiResponse<Void>> addStudentToClassroom(
                         @PathVariable UUID id,
                         @Valid @RequestBody AddStudentRequest request,
-                        Authentication authentication) {
-                educatorService.addStudentToClassroom(authentication.getName(), id, request);
+                        @AuthenticationPrincipal AuthenticatedUser user) {
+                educatorService.addStudentToClassroom(user.id(), id, request);
                 return ResponseEntity.ok(ApiResponse.success("Thêm học viên vào lớp thành công", null));
         }
 
+        @PostMapping("/classrooms/{id}/students/bulk")
+        @Operation(summary = "Bulk Add Students", description = "Enroll many students by email, returns a per-row result")
+        public ResponseEntity<ApiResponse<RosterImportResponse>> addStudentsToClassroom(
+                        @PathVariable UUID id,
+                        @Valid @RequestBody BulkAddStudentsRequest request,
+                        @AuthenticationPrincipal AuthenticatedUser user) {
+                RosterImportResponse report = educatorService.addStudentsToClassroom(user.id(), id,
+                                request);
+                return ResponseEntity.ok(ApiResponse.success(
+                                "Đã thêm " + report.getAdded() + "/" + report.getTotal() + " học viên", report));
+        }
+
+        @PostMapping(value = "/classrooms/{id}/students/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+        @Operation(summary = "Import Roster", description = "Enroll students from a .csv/.xlsx/.xls roster (email column), returns a per-row result")
+        public ResponseEntity<ApiResponse<RosterImportResponse>> importRoster(
+                        @PathVariable UUID id,
+                        @RequestParam("file") MultipartFile file,
+                        @AuthenticationPrincipal AuthenticatedUser user) {
+                log.info("Importing roster for classroom {}, filename={}, size={} bytes", id,
+                                file.getOriginalFilename(), file.getSize());
+                RosterImportResponse report = educatorService.importRoster(user.id(), id, file);
+                return ResponseEntity.ok(ApiResponse.success(
+                                "Đã thêm " + report.getAdded() + "/" + report.getTotal() + " học viên", report));
+        }
+
         @DeleteMapping("/classrooms/{id}/students/{studentId}")
         @Operation(summary = "Remove Student from Classroom", description = "Unenroll a student")
         public ResponseEntity<ApiResponse<Void>> removeStudentFromClassroom(
                         @PathVariable UUID id,
                         @PathVariable UUID studentId,
-                        Authentication authentication) {
-                educatorService.removeStudentFromClassroom(authentication.getName(), id, studentId);
+                        @AuthenticationPrincipal AuthenticatedUser user) {
+                educatorService.removeStudentFromClassroom(user.id(), id, studentId);
                 return ResponseEntity.ok(ApiResponse.success("Xóa học viên khỏi lớp thành công", null));
         }
 
@@ -108,27 +141,27 @@ public class EducatorController {
         @Operation(summary = "Get Student Analytics", description = "Detailed pronunciation report for a student")
         public ResponseEntity<ApiResponse<StudentAnalyticsResponse>> getStudentAnalytics(
                         @PathVariable UUID id,
-                        Authentication authentication) {
+                        @AuthenticationPrincipal AuthenticatedUser user) {
                 return ResponseEntity.ok(
                                 ApiResponse.success("Thành công",
-                                                educatorService.getStudentAnalytics(authentication.getName(), id)));
+                                                educatorService.getStudentAnalytics(user.id(), id)));
         }
 
         @GetMapping("/classrooms/{id}/performance")
         @Operation(summary = "Get Classroom Performance", description = "Aggregated performance stats for a classroom")
         public ResponseEntity<ApiResponse<ClassroomPerformanceResponse>> getClassroomPerformance(
                         @PathVariable UUID id,
-                        Authentication authentication) {
+                        @AuthenticationPrincipal AuthenticatedUser user) {
                 return ResponseEntity.ok(
                                 ApiResponse.success("Thành công",
-                                                educatorService.getClassroomPerformance(authentication.getName(), id)));
+                                                educatorService.getClassroomPerformance(user.id(), id)));
         }
 
         @GetMapping("/curriculum/{region}")
         @Operation(summary = "Get Curriculum by Region", description = "List levels filtered by region")
         public ResponseEntity<ApiResponse<List<LevelResponse>>> getCurriculumByRegion(
                         @PathVariable String region,
-                        Authentication authentication) {
+                        @AuthenticationPrincipal AuthenticatedUser user) {
                 return ResponseEntity.ok(
                                 ApiResponse.success("Thành công", educatorService.getCurriculumByRegion(region)));
         }
@@ -137,10 +170,10 @@ public class EducatorController {
         @Operation(summary = "Create Level", description = "Create a new learning level")
         public ResponseEntity<ApiResponse<LevelResponse>> createLevel(
                         @Valid @RequestBody LevelCreateRequest request,
-                        Authentication authentication) {
+                        @AuthenticationPrincipal AuthenticatedUser user) {
                 return ResponseEntity.status(HttpStatus.CREATED)
                                 .body(ApiResponse.success("Tạo cấp độ thành công",
-                                                educatorService.createLevel(authentication.getName(), request)));
+                                                educatorService.createLevel(user.id(), request)));
         }
 
         @GetMapping("/content/{id}/history")
@@ -156,10 +189,10 @@ public class EducatorController {
         public ResponseEntity<ApiResponse<LevelResponse>> updateLevel(
                         @PathVariable UUID levelId,
                         @Valid @RequestBody LevelUpdateRequest request,
-                        Authentication authentication) {
+                        @AuthenticationPrincipal AuthenticatedUser user) {
                 return ResponseEntity.ok(
                                 ApiResponse.success("Cập nhật cấp độ thành công",
-                                                educatorService.updateLevel(authentication.getName(), levelId,
+                                                educatorService.updateLevel(user.id(), levelId,
                                                                 request)));
         }
 
@@ -167,8 +200,8 @@ public class EducatorController {
         @Operation(summary = "Delete Level", description = "Delete a level and cascade delete its challenges")
         public ResponseEntity<ApiResponse<Void>> deleteLevel(
                         @PathVariable UUID levelId,
-                        Authentication authentication) {
-                educatorService.deleteLevel(authentication.getName(), levelId);
+                        @AuthenticationPrincipal AuthenticatedUser user) {
+                educatorService.deleteLevel(user.id(), levelId);
                 return ResponseEntity.ok(ApiResponse.success("Level deleted successfully", null));
         }
 
@@ -176,10 +209,10 @@ public class EducatorController {
         @Operation(summary = "Create Challenge", description = "Create a new pronunciation challenge")
         public ResponseEntity<ApiResponse<ChallengeResponse>> createChallenge(
                         @Valid @RequestBody ChallengeCreateRequest request,
-                        Authentication authentication) {
+                        @AuthenticationPrincipal AuthenticatedUser user) {
                 return ResponseEntity.status(HttpStatus.CREATED)
                                 .body(ApiResponse.success("Đã thêm thử thách mới thành công",
-                                                educatorService.createChallenge(authentication.getName(), request)));
+                                                educatorService.createChallenge(user.id(), request)));
         }
 
         @PutMapping("/curriculum/challenges/{challengeId}")
@@ -187,17 +220,17 @@ public class EducatorController {
         public ResponseEntity<ApiResponse<ChallengeResponse>> updateChallenge(
                         @PathVariable UUID challengeId,
                         @Valid @RequestBody ChallengeCreateRequest request,
-                        Authentication authentication) {
+                        @AuthenticationPrincipal AuthenticatedUser user) {
                 return ResponseEntity.ok(ApiResponse.success("Cập nhật thử thách thành công",
-                                educatorService.updateChallenge(authentication.getName(), challengeId, request)));
+                                educatorService.updateChallenge(user.id(), challengeId, request)));
         }
 
         @DeleteMapping("/curriculum/challenges/{id}")
         @Operation(summary = "Delete Challenge", description = "Delete a challenge by ID")
         public ResponseEntity<ApiResponse<Void>> deleteChallenge(
                         @PathVariable UUID id,
-                        Authentication authentication) {
-                educatorService.deleteChallenge(authentication.getName(), id);
+                        @AuthenticationPrincipal AuthenticatedUser user) {
+                educatorService.deleteChallenge(user.id(), id);
                 return ResponseEntity.ok(ApiResponse.success("Xóa thử thách thành công", null));
         }
 
@@ -223,29 +256,43 @@ public class EducatorController {
         public ResponseEntity<ApiResponse<Void>> submitFeedback(
                         @PathVariable UUID id,
                         @Valid @RequestBody FeedbackCreateRequest request,
-                        Authentication authentication) {
-                educatorService.submitFeedback(authentication.getName(), id, request);
+                        @AuthenticationPrincipal AuthenticatedUser user) {
+                educatorService.submitFeedback(user.id(), id, request);
                 return ResponseEntity.ok(ApiResponse.success("Gửi phản hồi thành công", null));
         }
 
         @GetMapping("/placement/rules")
-        @Operation(summary = "Get Placement Rules", description = "List all student routing rules")
-        public ResponseEntity<ApiResponse<List<PlacementRuleResponse>>> getPlacementRules(
-                        Authentication authentication) {
+        @Operation(summary = "Get Placement Rules", description = "List a page of student routing rules (filter by dialectId, errorTagId)")
+        public ResponseEntity<ApiResponse<PageResponse<PlacementRuleResponse>>> getPlacementRules(
+                        @RequestParam(required = false) UUID dialectId,
+                        @RequestParam(required = false) UUID errorTagId,
+                        @ParameterObject PageQuery query,
+                        @AuthenticationPrincipal AuthenticatedUser user) {
                 return ResponseEntity.ok(
-                                ApiResponse.success("Thành công", educatorService.getPlacementRules()));
+                                ApiResponse.success("Thành công",
+                                                educatorService.getPlacementRules(dialectId, errorTagId, query)));
         }
 
         @PostMapping("/placement/rules")
         @Operation(summary = "Update/Create Placement Rule", description = "Configure evaluation thresholds")
         public ResponseEntity<ApiResponse<PlacementRuleResponse>> updatePlacementRule(
                         @Valid @RequestBody PlacementRuleRequest request,
-                        Authentication authentication) {
+                        @AuthenticationPrincipal AuthenticatedUser user) {
                 return ResponseEntity.ok(
                                 ApiResponse.success("Cấu hình quy tắc thành công",
                                                 educatorService.updateOrCreatePlacementRule(request)));
         }
 
+        @PostMapping("/classrooms/{id}/placement")
+        @Operation(summary = "Re-place Classroom", description = "Re-evaluate every student's latest diagnostic test against the current placement rules")
+        public ResponseEntity<ApiResponse<List<PlacementResultResponse>>> replaceClassroom(
+                        @PathVariable UUID id,
+                        @AuthenticationPrincipal AuthenticatedUser user) {
+                return ResponseEntity.ok(
+                                ApiResponse.success("Xếp lớp lại thành công",
+                                                placementService.replaceClassroom(user.id(), id)));
+        }
+
         @GetMapping("/levels")
         @Operation(summary = "Get Levels for Selection", description = "List all approved levels for quiz assignment")
         public ResponseEntity<ApiResponse<List<LevelSelectionResponse>>> getLevelsForSelection() {
@@ -6,13 +6,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.AuthenticatedUser;
 import org.fsa_2026.company_fsa_captone_2026.dto.ApiResponse;
 import org.fsa_2026.company_fsa_captone_2026.dto.QuizCreateRequest;
 import org.fsa_2026.company_fsa_captone_2026.dto.QuizResponse;
 import org.fsa_2026.company_fsa_captone_2026.service.EducatorService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -30,28 +31,28 @@ public class EducatorQuizController {
 
     @GetMapping
     @Operation(summary = "Get Educator Quizzes", description = "List all quizzes managed by the educator")
-    public ResponseEntity<ApiResponse<List<QuizResponse>>> getEducatorQuizzes(Authentication authentication) {
+    public ResponseEntity<ApiResponse<List<QuizResponse>>> getEducatorQuizzes(@AuthenticationPrincipal AuthenticatedUser user) {
         return ResponseEntity.ok(ApiResponse.success("Lấy danh sách bài kiểm tra thành công",
-                educatorService.getEducatorQuizzes(authentication.getName())));
+                educatorService.getEducatorQuizzes(user.id())));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get Quiz Details", description = "View quiz details including questions")
     public ResponseEntity<ApiResponse<QuizResponse>> getQuizById(
             @PathVariable UUID id,
-            Authentication authentication) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         return ResponseEntity.ok(ApiResponse.success("Lấy thông tin bài kiểm tra thành công",
-                educatorService.getQuizById(authentication.getName(), id)));
+                educatorService.getQuizById(user.id(), id)));
     }
 
     @PostMapping
     @Operation(summary = "Create Quiz", description = "Create a new Input Test (Quiz) with PENDING status")
     public ResponseEntity<ApiResponse<QuizResponse>> createQuiz(
             @Valid @RequestBody QuizCreateRequest request,
-            Authentication authentication) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("Tạo bài kiểm tra thành công",
-                        educatorService.createQuiz(authentication.getName(), request)));
+                        educatorService.createQuiz(user.id(), request)));
     }
 
     @PutMapping("/{id}")
@@ -59,8 +60,8 @@ public class EducatorQuizController {
     public ResponseEntity<ApiResponse<QuizResponse>> updateQuiz(
             @PathVariable UUID id,
             @Valid @RequestBody QuizCreateRequest request,
-            Authentication authentication) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         return ResponseEntity.ok(ApiResponse.success("Cập nhật bài kiểm tra thành công",
-                educatorService.updateQuiz(authentication.getName(), id, request)));
+                educatorService.updateQuiz(user.id(), id, request)));
     }
 }
@@ -0,0 +1,98 @@
+package org.fsa_2026.company_fsa_captone_2026.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.AuthenticatedUser;
+import org.fsa_2026.company_fsa_captone_2026.common.Constants;
+import org.fsa_2026.company_fsa_captone_2026.dto.ApiResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.FriendRequestResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.FriendResponse;
+import org.fsa_2026.company_fsa_captone_2026.service.FriendService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping(Constants.API_PREFIX + "/friends")
+@RequiredArgsConstructor
+@Tag(name = "Friend", description = "Friend Requests and Friend List APIs")
+public class FriendController {
+
+    private final FriendService friendService;
+
+    @GetMapping
+    @Operation(summary = "Get My Friends", description = "List accepted friends of the authenticated user", security = @SecurityRequirement(name = "bearer-jwt"))
+    public ResponseEntity<ApiResponse<List<FriendResponse>>> getFriends(@AuthenticationPrincipal AuthenticatedUser user) {
+        List<FriendResponse> friends = friendService.getFriends(user.id());
+        return ResponseEntity.ok(ApiResponse.success("Lấy danh sách bạn bè thành công", friends));
+    }
+
+    @GetMapping("/requests")
+    @Operation(summary = "Get Incoming Friend Requests", description = "List pending friend requests sent to the authenticated user", security = @SecurityRequirement(name = "bearer-jwt"))
+    public ResponseEntity<ApiResponse<List<FriendRequestResponse>>> getIncomingRequests(
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        List<FriendRequestResponse> requests = friendService.getIncomingRequests(user.id());
+        return ResponseEntity.ok(ApiResponse.success("Lấy danh sách lời mời kết bạn thành công", requests));
+    }
+
+    @PostMapping("/requests/{accountId}")
+    @Operation(summary = "Send Friend Request", description = "Send a friend request (accepted immediately if the other user already sent one)", security = @SecurityRequirement(name = "bearer-jwt"))
+    public ResponseEntity<ApiResponse<FriendRequestResponse>> sendRequest(@AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable UUID accountId) {
+        log.info("User {} sends friend request to {}", user.email(), accountId);
+        FriendRequestResponse request = friendService.sendRequest(user.id(), accountId);
+        return ResponseEntity.ok(ApiResponse.success("Gửi lời mời kết bạn thành công", request));
+    }
+
+    @PutMapping("/requests/{friendshipId}/accept")
+    @Operation(summary = "Accept Friend Request", security = @SecurityRequirement(name = "bearer-jwt"))
+    public ResponseEntity<ApiResponse<FriendRequestResponse>> acceptRequest(@AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable UUID friendshipId) {
+        FriendRequestResponse request = friendService.acceptRequest(user.id(), friendshipId);
+        return ResponseEntity.ok(ApiResponse.success("Chấp nhận lời mời kết bạn thành công", request));
+    }
+
+    @PutMapping("/requests/{friendshipId}/decline")
+    @Operation(summary = "Decline Friend Request", security = @SecurityRequirement(name = "bearer-jwt"))
+    public ResponseEntity<ApiResponse<FriendRequestResponse>> declineRequest(@AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable UUID friendshipId) {
+        FriendRequestResponse request = friendService.declineRequest(user.id(), friendshipId);
+        return ResponseEntity.ok(ApiResponse.success("Từ chối lời mời kết bạn thành công", request));
+    }
+
+    @PostMapping("/{accountId}/block")
+    @Operation(summary = "Block User", security = @SecurityRequirement(name = "bearer-jwt"))
+    public ResponseEntity<ApiResponse<Void>> block(@AuthenticationPrincipal AuthenticatedUser user, @PathVariable UUID accountId) {
+        log.info("User {} blocks {}", user.email(), accountId);
+        friendService.block(user.id(), accountId);
+        return ResponseEntity.ok(ApiResponse.success("Chặn người dùng thành công", null));
+    }
+
+    @DeleteMapping("/{accountId}")
+    @Operation(summary = "Remove Friend", description = "Unfriend, cancel a sent request or unblock", security = @SecurityRequirement(name = "bearer-jwt"))
+    public ResponseEntity<ApiResponse<Void>> remove(@AuthenticationPrincipal AuthenticatedUser user, @PathVariable UUID accountId) {
+        friendService.remove(user.id(), accountId);
+        return ResponseEntity.ok(ApiResponse.success("Xoá quan hệ bạn bè thành công", null));
+    }
+
+    @GetMapping("/{accountId}/mutual")
+    @Operation(summary = "Get Mutual Friends", security = @SecurityRequirement(name = "bearer-jwt"))
+    public ResponseEntity<ApiResponse<List<FriendResponse>>> getMutualFriends(@AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable UUID accountId) {
+        List<FriendResponse> mutual = friendService.getMutualFriends(user.id(), accountId);
+        return ResponseEntity.ok(ApiResponse.success("Lấy danh sách bạn chung thành công", mutual));
+    }
+}
@@ -5,17 +5,23 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.AuthenticatedUser;
 import org.fsa_2026.company_fsa_captone_2026.common.Constants;
 import org.fsa_2026.company_fsa_captone_2026.dto.ApiResponse;
 import org.fsa_2026.company_fsa_captone_2026.dto.AttemptRequest;
 import org.fsa_2026.company_fsa_captone_2026.dto.AttemptResponse;
 import org.fsa_2026.company_fsa_captone_2026.dto.PracticeSessionResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.RecommendedChallengeResponse;
 import org.fsa_2026.company_fsa_captone_2026.service.GameplayService;
+import org.fsa_2026.company_fsa_captone_2026.service.RecommendationService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @RestController
@@ -25,12 +31,13 @@ import java.util.List;
 public class GameplayController {
 
     private final GameplayService gameplayService;
+    private final RecommendationService recommendationService;
 
     @PostMapping("/sessions")
     @Operation(summary = "Start Practice Session", description = "Start a new gameplay practice session", security = @SecurityRequirement(name = "bearer-jwt"))
-    public ResponseEntity<ApiResponse<PracticeSessionResponse>> startSession(Authentication authentication) {
-        log.info("Starting session for user: {}", authentication.getName());
-        PracticeSessionResponse session = gameplayService.startSession(authentication.getName());
+    public ResponseEntity<ApiResponse<PracticeSessionResponse>> startSession(@AuthenticationPrincipal AuthenticatedUser user) {
+        log.info("Starting session for user: {}", user.email());
+        PracticeSessionResponse session = gameplayService.startSession(user.id());
         return ResponseEntity.ok(ApiResponse.success("Bắt đầu phiên học thành công", session));
     }
 
@@ -38,27 +45,42 @@ public class GameplayController {
     @Operation(summary = "End Practice Session", description = "End an active gameplay practice session", security = @SecurityRequirement(name = "bearer-jwt"))
     public ResponseEntity<ApiResponse<PracticeSessionResponse>> endSession(
             @PathVariable String sessionId,
-            Authentication authentication) {
-        log.info("Ending session {} for user: {}", sessionId, authentication.getName());
-        PracticeSessionResponse session = gameplayService.endSession(authentication.getName(), sessionId);
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        log.info("Ending session {} for user: {}", sessionId, user.email());
+        PracticeSessionResponse session = gameplayService.endSession(user.id(), sessionId);
         return ResponseEntity.ok(ApiResponse.success("Kết thúc phiên học thành công", session));
     }
 
+    @GetMapping("/challenges/next")
+    @Operation(summary = "Get Next Recommended Challenge", description = "Pick the next challenge from weakest phonemes, difficulty and spaced-repetition schedule", security = @SecurityRequirement(name = "bearer-jwt"))
+    public ResponseEntity<ApiResponse<RecommendedChallengeResponse>> getNextChallenge(
+            @RequestParam(required = false) UUID levelId,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        RecommendedChallengeResponse next = recommendationService.getNextChallenge(user.id(), levelId);
+        return ResponseEntity.ok(ApiResponse.success("Lấy thử thách gợi ý thành công", next));
+    }
+
     @PostMapping("/attempts")
     @Operation(summary = "Submit Pronunciation Attempt", description = "Submit audio for a challenge and receive AI-based scoring feedback", security = @SecurityRequirement(name = "bearer-jwt"))
     public ResponseEntity<ApiResponse<AttemptResponse>> submitAttempt(
             @RequestBody AttemptRequest request,
-            Authentication authentication) {
-        log.info("Evaluating attempt for user: {}", authentication.getName());
-        AttemptResponse attempt = gameplayService.submitAttempt(authentication.getName(), request);
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        log.info("Evaluating attempt for user: {}", user.email());
+        AttemptResponse attempt = gameplayService.submitAttempt(user.id(), request);
         return ResponseEntity.ok(ApiResponse.success("Chấm điểm thành công", attempt));
     }
 
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Real-time Feedback Stream", description = "Server-Sent Events: attempt.phoneme while scoring, attempt.scored, progress, leaderboard.changed", security = @SecurityRequirement(name = "bearer-jwt"))
+    public SseEmitter stream(@AuthenticationPrincipal AuthenticatedUser user) {
+        return gameplayService.openFeedbackStream(user.id());
+    }
+
     @GetMapping("/attempts/history")
     @Operation(summary = "Get Attempt History", description = "View past pronunciation attempts for the current user", security = @SecurityRequirement(name = "bearer-jwt"))
-    public ResponseEntity<ApiResponse<List<AttemptResponse>>> getAttemptHistory(Authentication authentication) {
-        log.info("Getting attempt history for user: {}", authentication.getName());
-        List<AttemptResponse> history = gameplayService.getAttemptHistory(authentication.getName());
+    public ResponseEntity<ApiResponse<List<AttemptResponse>>> getAttemptHistory(@AuthenticationPrincipal AuthenticatedUser user) {
+        log.info("Getting attempt history for user: {}", user.email());
+        List<AttemptResponse> history = gameplayService.getAttemptHistory(user.id());
         return ResponseEntity.ok(ApiResponse.success("Lấy lịch sử học tập thành công", history));
     }
 }
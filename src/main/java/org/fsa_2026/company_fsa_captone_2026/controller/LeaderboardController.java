@@ -1,14 +1,17 @@
 package org.fsa_2026.company_fsa_captone_2026.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.AuthenticatedUser;
 import org.fsa_2026.company_fsa_captone_2026.common.Constants;
 import org.fsa_2026.company_fsa_captone_2026.dto.ApiResponse;
 import org.fsa_2026.company_fsa_captone_2026.dto.LeaderboardEntryResponse;
 import org.fsa_2026.company_fsa_captone_2026.service.LeaderboardService;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -41,4 +44,12 @@ public class LeaderboardController {
         List<LeaderboardEntryResponse> board = leaderboardService.getRegionalLeaderboard(regionCode);
         return ResponseEntity.ok(ApiResponse.success("Lấy bảng xếp hạng khu vực thành công", board));
     }
+
+    @GetMapping("/friends")
+    @Operation(summary = "Get Friends Leaderboard", description = "Rank the authenticated user and their friends by experience", security = @SecurityRequirement(name = "bearer-jwt"))
+    public ResponseEntity<ApiResponse<List<LeaderboardEntryResponse>>> getFriendsLeaderboard(
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        List<LeaderboardEntryResponse> board = leaderboardService.getFriendsLeaderboard(user.id());
+        return ResponseEntity.ok(ApiResponse.success("Lấy bảng xếp hạng bạn bè thành công", board));
+    }
 }
@@ -0,0 +1,37 @@
+package org.fsa_2026.company_fsa_captone_2026.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.fsa_2026.company_fsa_captone_2026.common.AuthenticatedUser;
+import org.fsa_2026.company_fsa_captone_2026.common.Constants;
+import org.fsa_2026.company_fsa_captone_2026.dto.ApiResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.PlacementResultResponse;
+import org.fsa_2026.company_fsa_captone_2026.service.PlacementService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping(Constants.API_PREFIX + "/placement")
+@RequiredArgsConstructor
+@Tag(name = "Placement", description = "Placement test evaluation APIs")
+public class PlacementController {
+
+    private final PlacementService placementService;
+
+    @PostMapping("/quiz-attempts/{quizAttemptId}")
+    @Operation(summary = "Evaluate Placement", description = "Assign starting dialect and level from a completed diagnostic quiz attempt", security = @SecurityRequirement(name = "bearer-jwt"))
+    public ResponseEntity<ApiResponse<PlacementResultResponse>> evaluate(
+            @PathVariable UUID quizAttemptId,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        PlacementResultResponse result = placementService.placeFromQuizAttempt(user.id(), quizAttemptId);
+        return ResponseEntity.ok(ApiResponse.success("Xếp lớp thành công", result));
+    }
+}
@@ -0,0 +1,68 @@
+package org.fsa_2026.company_fsa_captone_2026.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.fsa_2026.company_fsa_captone_2026.common.AuthenticatedUser;
+import org.fsa_2026.company_fsa_captone_2026.common.Constants;
+import org.fsa_2026.company_fsa_captone_2026.dto.ApiResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.QuizAnswerRequest;
+import org.fsa_2026.company_fsa_captone_2026.dto.QuizAnswerResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.QuizAttemptResultResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.QuizSessionResponse;
+import org.fsa_2026.company_fsa_captone_2026.service.QuizRuntimeService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping(Constants.API_PREFIX + "/learner/quizzes")
+@RequiredArgsConstructor
+@Tag(name = "Learner Quiz", description = "Take quizzes: start, answer, submit")
+@SecurityRequirement(name = "bearer-jwt")
+public class QuizController {
+
+    private final QuizRuntimeService quizRuntimeService;
+
+    @PostMapping("/{quizId}/attempts")
+    @Operation(summary = "Start Quiz", description = "Start (or resume) a timed attempt of an approved quiz")
+    public ResponseEntity<ApiResponse<QuizSessionResponse>> startQuiz(
+            @PathVariable UUID quizId,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(ApiResponse.success("Bắt đầu làm bài thành công",
+                quizRuntimeService.startQuiz(user.id(), quizId)));
+    }
+
+    @GetMapping("/attempts/{attemptId}")
+    @Operation(summary = "Get Quiz Attempt", description = "Current state of an in-progress attempt")
+    public ResponseEntity<ApiResponse<QuizSessionResponse>> getAttempt(
+            @PathVariable UUID attemptId,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(ApiResponse.success("Thành công",
+                quizRuntimeService.getSession(user.id(), attemptId)));
+    }
+
+    @PutMapping("/attempts/{attemptId}/answers/{questionId}")
+    @Operation(summary = "Answer Question", description = "Submit or replace the answer of one question; graded immediately")
+    public ResponseEntity<ApiResponse<QuizAnswerResponse>> answer(
+            @PathVariable UUID attemptId,
+            @PathVariable UUID questionId,
+            @Valid @RequestBody QuizAnswerRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(ApiResponse.success("Ghi nhận câu trả lời thành công",
+                quizRuntimeService.submitAnswer(user.id(), attemptId, questionId, request)));
+    }
+
+    @PostMapping("/attempts/{attemptId}/submit")
+    @Operation(summary = "Submit Quiz", description = "Finish the attempt and record the final grade")
+    public ResponseEntity<ApiResponse<QuizAttemptResultResponse>> submit(
+            @PathVariable UUID attemptId,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(ApiResponse.success("Nộp bài thành công",
+                quizRuntimeService.finishQuiz(user.id(), attemptId)));
+    }
+}
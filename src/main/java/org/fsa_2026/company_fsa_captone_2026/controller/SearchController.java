@@ -0,0 +1,74 @@
+package org.fsa_2026.company_fsa_captone_2026.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.search.SearchScope;
+import org.fsa_2026.company_fsa_captone_2026.dto.ApiResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.ChallengeResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.LevelResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.PageQuery;
+import org.fsa_2026.company_fsa_captone_2026.dto.PageResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.SearchSuggestionResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.UserManagementResponse;
+import org.fsa_2026.company_fsa_captone_2026.service.SearchService;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Search Controller
+ * Tìm kiếm không dấu cho admin console
+ * Base: /api/v1/admin/search
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/search")
+@RequiredArgsConstructor
+@Tag(name = "Admin Search", description = "Search users and content (trigram / full-text)")
+@SecurityRequirement(name = "bearer-jwt")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping("/users")
+    @Operation(summary = "Search Users", description = "Search accounts by email or full name, diacritic-insensitive")
+    public ResponseEntity<ApiResponse<PageResponse<UserManagementResponse>>> searchUsers(
+            @RequestParam String q,
+            @ParameterObject PageQuery query) {
+        return ResponseEntity.ok(ApiResponse.success("Tìm kiếm thành công", searchService.searchUsers(q, query)));
+    }
+
+    @GetMapping("/challenges")
+    @Operation(summary = "Search Challenges", description = "Full-text search over challenge content")
+    public ResponseEntity<ApiResponse<PageResponse<ChallengeResponse>>> searchChallenges(
+            @RequestParam String q,
+            @ParameterObject PageQuery query) {
+        return ResponseEntity.ok(
+                ApiResponse.success("Tìm kiếm thành công", searchService.searchChallenges(q, query)));
+    }
+
+    @GetMapping("/levels")
+    @Operation(summary = "Search Levels", description = "Search levels by name, diacritic-insensitive")
+    public ResponseEntity<ApiResponse<PageResponse<LevelResponse>>> searchLevels(
+            @RequestParam String q,
+            @ParameterObject PageQuery query) {
+        return ResponseEntity.ok(ApiResponse.success("Tìm kiếm thành công", searchService.searchLevels(q, query)));
+    }
+
+    @GetMapping("/typeahead")
+    @Operation(summary = "Typeahead", description = "Top suggestions (id + label) for the search box")
+    public ResponseEntity<ApiResponse<List<SearchSuggestionResponse>>> typeahead(
+            @RequestParam SearchScope scope,
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(ApiResponse.success("Thành công", searchService.suggest(scope, q, limit)));
+    }
+}
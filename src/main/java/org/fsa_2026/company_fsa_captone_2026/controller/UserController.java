@@ -5,12 +5,13 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.AuthenticatedUser;
 import org.fsa_2026.company_fsa_captone_2026.common.Constants;
 import org.fsa_2026.company_fsa_captone_2026.dto.ApiResponse;
 import org.fsa_2026.company_fsa_captone_2026.dto.UserProfileResponse;
 import org.fsa_2026.company_fsa_captone_2026.service.AuthService;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -39,10 +40,10 @@ public class UserController {
      */
     @GetMapping("/me")
     @Operation(summary = "Get User Profile", description = "Retrieve the currently authenticated user's profile", security = @SecurityRequirement(name = "bearer-jwt"))
-    public ResponseEntity<ApiResponse<UserProfileResponse>> getCurrentUserProfile(Authentication authentication) {
-        log.info("Get profile for user: {}", authentication.getName());
+    public ResponseEntity<ApiResponse<UserProfileResponse>> getCurrentUserProfile(@AuthenticationPrincipal AuthenticatedUser user) {
+        log.info("Get profile for user: {}", user.email());
 
-        UserProfileResponse profile = authService.getUserProfile(authentication.getName());
+        UserProfileResponse profile = authService.getUserProfile(user.id());
 
         return ResponseEntity.ok(ApiResponse.success("Lấy thông tin cá nhân thành công", profile));
     }
@@ -54,12 +55,12 @@ public class UserController {
     @PutMapping("/me")
     @Operation(summary = "Update User Profile", description = "Update the currently authenticated user's profile information", security = @SecurityRequirement(name = "bearer-jwt"))
     public ResponseEntity<ApiResponse<UserProfileResponse>> updateCurrentUserProfile(
-            Authentication authentication,
+            @AuthenticationPrincipal AuthenticatedUser user,
             @RequestBody org.fsa_2026.company_fsa_captone_2026.dto.UserProfileRequest request) {
 
-        log.info("Update profile for user: {}", authentication.getName());
+        log.info("Update profile for user: {}", user.email());
 
-        UserProfileResponse updatedProfile = userProfileService.updateProfile(authentication.getName(), request);
+        UserProfileResponse updatedProfile = userProfileService.updateProfile(user.id(), request);
 
         return ResponseEntity.ok(ApiResponse.success("Cập nhật thông tin thành công", updatedProfile));
     }
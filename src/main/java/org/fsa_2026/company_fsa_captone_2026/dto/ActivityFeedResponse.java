@@ -0,0 +1,24 @@
+package org.fsa_2026.company_fsa_captone_2026.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Activity Feed Response
+ * Một trang feed; truyền {@code nextCursor} vào {@code ?cursor=} để lấy trang tiếp
+ * (keyset theo id, không OFFSET / COUNT)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ActivityFeedResponse implements Serializable {
+    private List<ActivityResponse> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
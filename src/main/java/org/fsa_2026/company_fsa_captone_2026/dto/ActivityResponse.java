@@ -0,0 +1,46 @@
+package org.fsa_2026.company_fsa_captone_2026.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.fsa_2026.company_fsa_captone_2026.common.social.ActivityRecord;
+import org.fsa_2026.company_fsa_captone_2026.entity.UserProfile;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Activity Response DTO – một dòng trong feed
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ActivityResponse implements Serializable {
+
+    private String id;
+    private String accountId;
+    private String fullName;
+    private String avatarUrl;
+    private String type;
+    private String detail;
+    /** Điểm attempt (CHALLENGE_PASSED) hoặc thứ hạng (TOURNAMENT_PLACED) */
+    private BigDecimal metric;
+    private String createdAt;
+
+    public static ActivityResponse fromRecord(ActivityRecord record, UserProfile actor) {
+        if (record == null)
+            return null;
+        return ActivityResponse.builder()
+                .id(String.valueOf(record.id()))
+                .accountId(record.accountId().toString())
+                .fullName(actor != null ? actor.getFullName() : null)
+                .avatarUrl(actor != null ? actor.getAvatarUrl() : null)
+                .type(record.type().name())
+                .detail(record.detail())
+                .metric(record.metric())
+                .createdAt(record.createdAt() != null ? record.createdAt().toString() : null)
+                .build();
+    }
+}
@@ -32,6 +32,9 @@ public class AttemptResponse implements Serializable {
     // Optional list of feedback
     private List<PhonemeFeedbackResponse> feedback;
 
+    // Optional per-syllable tone feedback
+    private List<ToneFeedbackResponse> toneFeedback;
+
     public static AttemptResponse fromEntity(Attempt attempt) {
         if (attempt == null)
             return null;
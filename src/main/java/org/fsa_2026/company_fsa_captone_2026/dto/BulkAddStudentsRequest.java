@@ -0,0 +1,23 @@
+package org.fsa_2026.company_fsa_captone_2026.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.fsa_2026.company_fsa_captone_2026.common.roster.RosterParser;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAddStudentsRequest implements Serializable {
+
+    @NotEmpty(message = "Danh sách email không được để trống")
+    @Size(max = RosterParser.MAX_ROWS, message = "Roster tối đa " + RosterParser.MAX_ROWS + " học viên")
+    private List<String> emails;
+}
@@ -0,0 +1,43 @@
+package org.fsa_2026.company_fsa_captone_2026.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.fsa_2026.company_fsa_captone_2026.entity.Account;
+import org.fsa_2026.company_fsa_captone_2026.entity.Friendship;
+import org.fsa_2026.company_fsa_captone_2026.entity.UserProfile;
+
+import java.io.Serializable;
+
+/**
+ * Friend Request Response DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FriendRequestResponse implements Serializable {
+
+    private String id;
+    private String requesterId;
+    private String fullName;
+    private String avatarUrl;
+    private String status;
+    private String createdAt;
+
+    public static FriendRequestResponse fromEntity(Friendship friendship) {
+        if (friendship == null)
+            return null;
+        Account requester = friendship.getRequester();
+        UserProfile profile = requester != null ? requester.getUserProfile() : null;
+        return FriendRequestResponse.builder()
+                .id(friendship.getId() != null ? friendship.getId().toString() : null)
+                .requesterId(requester != null ? requester.getId().toString() : null)
+                .fullName(profile != null ? profile.getFullName() : null)
+                .avatarUrl(profile != null ? profile.getAvatarUrl() : null)
+                .status(friendship.getStatus() != null ? friendship.getStatus().name() : null)
+                .createdAt(friendship.getCreatedAt() != null ? friendship.getCreatedAt().toString() : null)
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package org.fsa_2026.company_fsa_captone_2026.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.fsa_2026.company_fsa_captone_2026.entity.UserProfile;
+
+import java.io.Serializable;
+
+/**
+ * Friend Response DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FriendResponse implements Serializable {
+
+    private String accountId;
+    private String fullName;
+    private String avatarUrl;
+    private Integer totalExperience;
+    private Integer currentStreakDays;
+
+    public static FriendResponse fromEntity(UserProfile profile) {
+        if (profile == null)
+            return null;
+        return FriendResponse.builder()
+                .accountId(profile.getAccount() != null ? profile.getAccount().getId().toString() : null)
+                .fullName(profile.getFullName())
+                .avatarUrl(profile.getAvatarUrl())
+                .totalExperience(profile.getTotalExperience())
+                .currentStreakDays(profile.getCurrentStreakDays())
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package org.fsa_2026.company_fsa_captone_2026.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.fsa_2026.company_fsa_captone_2026.common.Constants;
+import org.fsa_2026.company_fsa_captone_2026.common.paging.CountMode;
+import org.fsa_2026.company_fsa_captone_2026.common.paging.SortFields;
+import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * Page Query
+ * Tham số phân trang chung cho mọi endpoint danh sách
+ * ({@code ?page=0&size=20&sort=createdAt,desc&count=SKIP})
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PageQuery {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    @Schema(description = "Số trang (bắt đầu từ 0)", defaultValue = Constants.DEFAULT_PAGE_NUMBER)
+    @Builder.Default
+    private Integer page = Integer.valueOf(Constants.DEFAULT_PAGE_NUMBER);
+
+    @Schema(description = "Số bản ghi mỗi trang (tối đa 100)", defaultValue = Constants.DEFAULT_PAGE_SIZE)
+    @Builder.Default
+    private Integer size = Integer.valueOf(Constants.DEFAULT_PAGE_SIZE);
+
+    @Schema(description = "field[,asc|desc], lặp lại được; chỉ nhận các field trong whitelist")
+    private List<String> sort;
+
+    @Schema(description = "EXACT: trả về totalElements; SKIP: bỏ COUNT(*), chỉ trả về hasNext", defaultValue = "EXACT")
+    @Builder.Default
+    private CountMode count = CountMode.EXACT;
+
+    public static PageQuery firstPage() {
+        return PageQuery.builder().build();
+    }
+
+    public CountMode countMode() {
+        return count != null ? count : CountMode.EXACT;
+    }
+
+    /**
+     * Validate + chuyển sang Pageable với sort đã qua whitelist
+     *
+     * @throws ApiException BAD_REQUEST nếu page/size/sort không hợp lệ
+     */
+    public Pageable toPageable(SortFields sortFields) {
+        int pageNumber = page != null ? page : Integer.parseInt(Constants.DEFAULT_PAGE_NUMBER);
+        int pageSize = size != null ? size : Integer.parseInt(Constants.DEFAULT_PAGE_SIZE);
+        if (pageNumber < 0) {
+            throw new ApiException("BAD_REQUEST", "page phải >= 0");
+        }
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new ApiException("BAD_REQUEST", "size phải trong khoảng 1-" + MAX_PAGE_SIZE);
+        }
+        return PageRequest.of(pageNumber, pageSize, sortFields.resolve(sort));
+    }
+}
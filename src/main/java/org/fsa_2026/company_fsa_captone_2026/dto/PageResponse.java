@@ -0,0 +1,29 @@
+package org.fsa_2026.company_fsa_captone_2026.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Page Response
+ * Một trang dữ liệu; totalElements/totalPages = null khi count bị bỏ qua
+ * (CountMode.SKIP)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PageResponse<T> implements Serializable {
+    private List<T> content;
+    private int page;
+    private int size;
+    private Long totalElements;
+    private Integer totalPages;
+    private boolean hasNext;
+}
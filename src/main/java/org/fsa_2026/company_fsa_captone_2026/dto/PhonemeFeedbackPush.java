@@ -0,0 +1,29 @@
+package org.fsa_2026.company_fsa_captone_2026.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Phoneme Feedback Push DTO
+ * Điểm một phoneme sau bước căn chỉnh (chưa có id attempt): socket streaming nhận ngay,
+ * kênh SSE nhận sau khi attempt commit
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PhonemeFeedbackPush implements Serializable {
+
+    private String sessionId;
+    private String challengeId;
+    private Integer sequenceOrder;
+    private String phonemeIpa;
+    private BigDecimal score;
+    private Integer startTimeMs;
+    private Integer endTimeMs;
+}
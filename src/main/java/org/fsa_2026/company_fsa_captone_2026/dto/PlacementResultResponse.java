@@ -0,0 +1,42 @@
+package org.fsa_2026.company_fsa_captone_2026.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Placement Result Response DTO
+ * Dialect + level bắt đầu được xếp cho learner từ bài DIAGNOSTIC
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlacementResultResponse implements Serializable {
+
+    private String studentId;
+
+    private String quizAttemptId;
+
+    // false nếu học viên chưa có bài DIAGNOSTIC hoàn thành
+    private boolean placed;
+
+    private String dialectId;
+
+    private String levelId;
+
+    private String levelName;
+
+    // Rule đã khớp (null → mặc định theo dialect của quiz)
+    private String matchedRuleId;
+
+    private String matchedErrorTagId;
+
+    // Điểm lỗi (0-100, cao = sai nhiều) theo error tag id
+    private Map<String, BigDecimal> errorScores;
+}
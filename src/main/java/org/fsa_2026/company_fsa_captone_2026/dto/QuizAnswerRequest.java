@@ -0,0 +1,29 @@
+package org.fsa_2026.company_fsa_captone_2026.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Quiz Answer Request DTO
+ * Câu trả lời một câu hỏi: văn bản (LISTENING/READING/WRITING) hoặc audio (SPEAKING)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizAnswerRequest implements Serializable {
+
+    /**
+     * Chấm bằng khoảng cách Levenshtein (O(n·m)) → giới hạn độ dài
+     */
+    @Size(max = 1000, message = "Câu trả lời tối đa 1000 ký tự")
+    private String answerText;
+
+    @Size(max = 2048, message = "audioUrl tối đa 2048 ký tự")
+    private String audioUrl;
+}
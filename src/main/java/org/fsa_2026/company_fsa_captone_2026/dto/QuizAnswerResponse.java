@@ -0,0 +1,25 @@
+package org.fsa_2026.company_fsa_captone_2026.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Quiz Answer Response DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizAnswerResponse implements Serializable {
+
+    private String questionId;
+    private BigDecimal score;
+    private Integer answeredCount;
+    private Integer totalQuestions;
+    private Long remainingSeconds;
+}
@@ -0,0 +1,25 @@
+package org.fsa_2026.company_fsa_captone_2026.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Quiz Answer Snapshot
+ * Một phần tử trong quiz_attempt.answers_snapshot (JSON array), điểm đã chấm của từng câu
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizAnswerSnapshot implements Serializable {
+
+    private UUID questionId;
+
+    // Điểm câu hỏi 0-100
+    private Integer score;
+}
@@ -0,0 +1,32 @@
+package org.fsa_2026.company_fsa_captone_2026.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Quiz Attempt Result Response DTO
+ * Kết quả chấm cuối cùng của một lượt làm quiz
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizAttemptResultResponse implements Serializable {
+
+    private String attemptId;
+    private String quizId;
+    private String quizType;
+    private Integer score;
+    private Boolean passed;
+    private Integer answeredCount;
+    private Integer totalQuestions;
+    private Integer timeTakenSeconds;
+    private Instant completedAt;
+    private List<QuizAnswerSnapshot> answers;
+}
@@ -36,6 +36,11 @@ public class QuizCreateRequest implements Serializable {
 
     private Integer questionCount;
 
+    /**
+     * Loại bài kiểm tra (mặc định ASSESSMENT); lượt làm của learner lấy loại từ quiz
+     */
+    private org.fsa_2026.company_fsa_captone_2026.entity.enums.QuizType quizType;
+
     private String comment;
 
     @jakarta.validation.Valid
@@ -27,4 +27,6 @@ public class QuizQuestionRequest implements Serializable {
     private Integer points;
 
     private java.util.UUID challengeId;
+
+    private String answerKey;
 }
@@ -20,6 +20,7 @@ public class QuizQuestionResponse implements Serializable {
     private Integer questionOrder;
     private Integer points;
     private String challengeId;
+    private String answerKey;
 
     // Standardized fields mapped from Challenge
     private String contentText;
@@ -35,6 +36,7 @@ public class QuizQuestionResponse implements Serializable {
                 .difficulty(entity.getDifficulty() != null ? entity.getDifficulty().name() : null)
                 .questionOrder(entity.getQuestionOrder())
                 .points(entity.getPoints())
+                .answerKey(entity.getAnswerKey())
                 .build();
 
         if (entity.getChallenge() != null) {
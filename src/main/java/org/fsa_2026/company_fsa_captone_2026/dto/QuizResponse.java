@@ -26,6 +26,7 @@ public class QuizResponse implements Serializable {
     private Integer passingScore;
     private Integer timeLimitMinutes;
     private Integer questionCount;
+    private String quizType;
     private String status;
     private String rejectionReason;
     private List<QuizQuestionResponse> questions;
@@ -41,6 +42,7 @@ public class QuizResponse implements Serializable {
                 .passingScore(entity.getPassingScore())
                 .timeLimitMinutes(entity.getTimeLimitMinutes())
                 .questionCount(entity.getQuestionCount())
+                .quizType(entity.getQuizType() != null ? entity.getQuizType().name() : null)
                 .status(entity.getStatus() != null ? entity.getStatus().name() : null)
                 .rejectionReason(entity.getRejectionReason())
                 .questions(entity.getQuestions() != null ? 
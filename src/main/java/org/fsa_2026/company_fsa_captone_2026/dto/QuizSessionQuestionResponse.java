@@ -0,0 +1,46 @@
+package org.fsa_2026.company_fsa_captone_2026.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.fsa_2026.company_fsa_captone_2026.common.quiz.QuizSnapshot;
+
+import java.io.Serializable;
+
+/**
+ * Quiz Session Question Response DTO
+ * Câu hỏi hiển thị cho learner khi làm bài (ẩn nội dung và challengeId với câu
+ * LISTENING/WRITING; không bao giờ trả đáp án)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizSessionQuestionResponse implements Serializable {
+
+    private String id;
+    private Integer questionOrder;
+    private String skillType;
+    private String difficulty;
+    private Integer points;
+    private String challengeId;
+    private String contentText;
+    private String phoneticTranscriptionIpa;
+    private String referenceAudioUrl;
+
+    public static QuizSessionQuestionResponse fromSnapshot(QuizSnapshot.Question question) {
+        boolean hideText = question.isTextHidden();
+        return QuizSessionQuestionResponse.builder()
+                .id(question.id().toString())
+                .questionOrder(question.order())
+                .skillType(question.skillType())
+                .difficulty(question.difficulty())
+                .points(question.points())
+                .challengeId(hideText || question.challengeId() == null ? null : question.challengeId().toString())
+                .contentText(hideText ? null : question.contentText())
+                .phoneticTranscriptionIpa(hideText ? null : question.phoneticTranscriptionIpa())
+                .referenceAudioUrl(question.referenceAudioUrl())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package org.fsa_2026.company_fsa_captone_2026.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Quiz Session Response DTO
+ * Lượt làm bài vừa bắt đầu (hoặc đang tiếp tục) kèm hạn nộp phía server
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizSessionResponse implements Serializable {
+
+    private String attemptId;
+    private String quizId;
+    private String title;
+    private String instructions;
+    private Integer timeLimitMinutes;
+    private Integer passingScore;
+    private Instant startedAt;
+    private Instant deadline;
+    private Integer answeredCount;
+    private List<QuizSessionQuestionResponse> questions;
+}
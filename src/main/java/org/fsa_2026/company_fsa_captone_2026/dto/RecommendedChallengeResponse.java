@@ -0,0 +1,30 @@
+package org.fsa_2026.company_fsa_captone_2026.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Recommended Challenge Response DTO
+ * Challenge tiếp theo được gợi ý cho learner
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecommendedChallengeResponse implements Serializable {
+
+    private ChallengeResponse challenge;
+
+    // WEAK_PHONEME / REVIEW_DUE / NEW_CONTENT
+    private String reason;
+
+    // Phoneme yếu mà challenge này luyện tập
+    private List<String> targetPhonemes;
+
+    private String targetDifficulty;
+}
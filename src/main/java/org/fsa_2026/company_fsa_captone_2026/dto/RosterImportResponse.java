@@ -0,0 +1,37 @@
+package org.fsa_2026.company_fsa_captone_2026.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Roster Import Response
+ * Kết quả thêm học viên hàng loạt: tổng hợp + kết quả từng dòng theo thứ tự roster
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RosterImportResponse implements Serializable {
+
+    private int total;
+    private int added;
+    private int skipped;
+    private List<RowResult> rows;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RowResult implements Serializable {
+        private int row;
+        private String email;
+        /** ADDED / ALREADY_MEMBER / DUPLICATE / NOT_FOUND / INVALID_EMAIL */
+        private String status;
+        private String accountId;
+    }
+}
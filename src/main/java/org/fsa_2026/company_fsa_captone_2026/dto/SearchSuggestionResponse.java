@@ -0,0 +1,33 @@
+package org.fsa_2026.company_fsa_captone_2026.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.fsa_2026.company_fsa_captone_2026.common.search.SearchScope;
+import org.fsa_2026.company_fsa_captone_2026.repository.SearchHit;
+
+import java.io.Serializable;
+
+/**
+ * Gợi ý typeahead cho admin console (chỉ id + nhãn, không load entity)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchSuggestionResponse implements Serializable {
+    private SearchScope scope;
+    private String id;
+    private String label;
+    private String detail;
+
+    public static SearchSuggestionResponse fromHit(SearchScope scope, SearchHit hit) {
+        return SearchSuggestionResponse.builder()
+                .scope(scope)
+                .id(hit.getId().toString())
+                .label(hit.getLabel())
+                .detail(hit.getDetail())
+                .build();
+    }
+}
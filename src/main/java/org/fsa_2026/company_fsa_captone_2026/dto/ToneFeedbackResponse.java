@@ -0,0 +1,45 @@
+package org.fsa_2026.company_fsa_captone_2026.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.fsa_2026.company_fsa_captone_2026.entity.AttemptToneFeedback;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.VietnameseTone;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Tone Feedback Response DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ToneFeedbackResponse implements Serializable {
+
+    private String id;
+    private Integer sequenceOrder;
+    private String syllable;
+    private VietnameseTone expectedTone;
+    private VietnameseTone detectedTone;
+    private BigDecimal score;
+    private Integer startTimeMs;
+    private Integer endTimeMs;
+
+    public static ToneFeedbackResponse fromEntity(AttemptToneFeedback feedback) {
+        if (feedback == null)
+            return null;
+        return ToneFeedbackResponse.builder()
+                .id(feedback.getId().toString())
+                .sequenceOrder(feedback.getSequenceOrder())
+                .syllable(feedback.getSyllable())
+                .expectedTone(feedback.getExpectedTone())
+                .detectedTone(feedback.getDetectedTone())
+                .score(feedback.getScore())
+                .startTimeMs(feedback.getStartTimeMs())
+                .endTimeMs(feedback.getEndTimeMs())
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package org.fsa_2026.company_fsa_captone_2026.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.ActivityType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Activity Entity
+ * Table: activity
+ * Một hoạt động của learner hiển thị trong feed bạn bè; ghi qua
+ * ActivityRepository#insertIgnoringDuplicate
+ */
+@Entity
+@Table(name = "activity", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_activity_source", columnNames = { "account_id", "type", "source_id" })
+}, indexes = {
+        @Index(name = "idx_activity_account_id", columnList = "account_id, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Activity {
+
+    /** Tăng dần – khoá keyset của feed */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false, nullable = false)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private UUID accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 30)
+    private ActivityType type;
+
+    /** Attempt / badge / tournament participant sinh ra hoạt động */
+    @Column(name = "source_id", nullable = false)
+    private UUID sourceId;
+
+    /** Tên level / huy hiệu / giải đấu tại thời điểm ghi */
+    @Column(name = "detail", length = 255)
+    private String detail;
+
+    /** Điểm attempt hoặc thứ hạng giải đấu */
+    @Column(name = "metric", precision = 10, scale = 2)
+    private BigDecimal metric;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,50 @@
+package org.fsa_2026.company_fsa_captone_2026.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.VietnameseTone;
+
+import java.math.BigDecimal;
+
+/**
+ * AttemptToneFeedback Entity
+ * Table: attempt_tone_feedback
+ * Per-syllable tone (thanh điệu) accuracy from pitch contour analysis
+ */
+@Entity
+@Table(name = "attempt_tone_feedback")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttemptToneFeedback extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "attempt_id", nullable = false)
+    private Attempt attempt;
+
+    @Column(name = "sequence_order", nullable = false)
+    private Integer sequenceOrder;
+
+    @Column(name = "syllable", nullable = false, length = 50)
+    private String syllable;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "expected_tone", nullable = false, length = 10)
+    private VietnameseTone expectedTone;
+
+    // null khi âm tiết không đủ khung hữu thanh để phân loại
+    @Enumerated(EnumType.STRING)
+    @Column(name = "detected_tone", length = 10)
+    private VietnameseTone detectedTone;
+
+    @Column(name = "score", nullable = false, precision = 5, scale = 2)
+    private BigDecimal score;
+
+    @Column(name = "start_time_ms")
+    private Integer startTimeMs;
+
+    @Column(name = "end_time_ms")
+    private Integer endTimeMs;
+}
@@ -25,7 +25,7 @@ public class Challenge extends BaseEntity {
     private Level level;
 
     @Deprecated
-    @Column(name = "type", nullable = false, length = 255)
+    @Column(name = "type", length = 255) // nullable từ changelog 17 (thay bằng skillType)
     private String type;
 
     @Column(name = "skill_type", length = 50)
@@ -11,7 +11,8 @@ import java.time.Instant;
  * Students enrolled in classrooms
  */
 @Entity
-@Table(name = "classroom_member")
+@Table(name = "classroom_member", uniqueConstraints = @UniqueConstraint(name = "uk_classroom_member_classroom_account", columnNames = {
+        "classroom_id", "student_id" }))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -9,7 +9,8 @@ import lombok.*;
  * Configuration for student routing based on placement test performance
  */
 @Entity
-@Table(name = "placement_rule")
+@Table(name = "placement_rule", uniqueConstraints = @UniqueConstraint(name = "uk_placement_rule_error_tag_dialect", columnNames = {
+        "error_tag_id", "dialect_id" }))
 @Getter
 @Setter
 @NoArgsConstructor
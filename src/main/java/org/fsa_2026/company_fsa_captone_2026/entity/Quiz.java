@@ -44,6 +44,11 @@ public class Quiz extends BaseEntity {
     @Column(name = "question_count")
     private Integer questionCount;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "quiz_type", length = 20, nullable = false)
+    @Builder.Default
+    private org.fsa_2026.company_fsa_captone_2026.entity.enums.QuizType quizType = org.fsa_2026.company_fsa_captone_2026.entity.enums.QuizType.ASSESSMENT;
+
     // Relationships
     @OneToMany(mappedBy = "quiz", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<QuizAttempt> attempts;
@@ -40,6 +40,12 @@ public class QuizAttempt extends BaseEntity {
     @Column(name = "started_at")
     private Instant startedAt;
 
+    /**
+     * Hạn nộp phía server (started_at + thời gian làm bài)
+     */
+    @Column(name = "deadline_at")
+    private Instant deadlineAt;
+
     @Column(name = "completed_at")
     private Instant completedAt;
 
@@ -0,0 +1,42 @@
+package org.fsa_2026.company_fsa_captone_2026.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * QuizAttemptAnswer Entity
+ * Table: quiz_attempt_answer
+ * Câu trả lời đã chấm của từng câu hỏi trong một lượt làm quiz
+ */
+@Entity
+@Table(name = "quiz_attempt_answer")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizAttemptAnswer extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "quiz_attempt_id", nullable = false)
+    private QuizAttempt quizAttempt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "quiz_question_id", nullable = false)
+    private QuizQuestion question;
+
+    @Column(name = "answer_text", columnDefinition = "TEXT")
+    private String answerText;
+
+    @Column(name = "audio_url", length = 500)
+    private String audioUrl;
+
+    @Column(name = "score", nullable = false, precision = 5, scale = 2)
+    private BigDecimal score;
+
+    @Column(name = "answered_at", nullable = false)
+    private Instant answeredAt;
+}
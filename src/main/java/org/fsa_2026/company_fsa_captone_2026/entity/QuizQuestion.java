@@ -41,4 +41,10 @@ public class QuizQuestion extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "challenge_id")
     private Challenge challenge;
+
+    /**
+     * Đáp án văn bản (READING bắt buộc; LISTENING/WRITING bỏ trống = nội dung challenge)
+     */
+    @Column(name = "answer_key", columnDefinition = "TEXT")
+    private String answerKey;
 }
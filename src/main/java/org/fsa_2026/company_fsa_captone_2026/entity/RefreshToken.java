@@ -9,6 +9,12 @@ import java.util.UUID;
 /**
  * RefreshToken Entity
  * Stores refresh tokens for JWT token rotation
+ *
+ * <p>
+ * Chỉ lưu SHA-256 của token (32 byte, index cố định) — không lưu token gốc.
+ * Các token sinh ra từ cùng một lần login cùng {@code familyId}; dùng lại một
+ * token đã bị rotate → thu hồi cả family.
+ * </p>
  */
 @Entity
 @Table(name = "refresh_token")
@@ -24,8 +30,11 @@ public class RefreshToken {
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
-    @Column(name = "token", nullable = false, unique = true, length = 500)
-    private String token;
+    @Column(name = "token_hash", nullable = false, unique = true, length = 32)
+    private byte[] tokenHash;
+
+    @Column(name = "family_id", nullable = false)
+    private UUID familyId;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "account_id", nullable = false)
@@ -38,6 +47,9 @@ public class RefreshToken {
     @Builder.Default
     private Boolean revoked = false;
 
+    @Column(name = "revoked_at")
+    private Instant revokedAt;
+
     @Column(name = "created_at", nullable = false)
     @Builder.Default
     private Instant createdAt = Instant.now();
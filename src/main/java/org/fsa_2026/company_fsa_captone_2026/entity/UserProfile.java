@@ -3,6 +3,8 @@ package org.fsa_2026.company_fsa_captone_2026.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.Instant;
+
 /**
  * UserProfile Entity (ISO Compliant)
  * Table: user_profile (singular)
@@ -38,5 +40,16 @@ public class UserProfile extends BaseEntity {
     @Column(name = "total_experience", nullable = false)
     @Builder.Default
     private Integer totalExperience = 0;
-}
 
+    // Kết quả placement test (dialect + level bắt đầu)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "placement_dialect_id")
+    private Dialect placementDialect;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "placement_level_id")
+    private Level placementLevel;
+
+    @Column(name = "placed_at")
+    private Instant placedAt;
+}
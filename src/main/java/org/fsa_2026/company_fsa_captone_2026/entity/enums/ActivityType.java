@@ -0,0 +1,7 @@
+package org.fsa_2026.company_fsa_captone_2026.entity.enums;
+
+public enum ActivityType {
+    CHALLENGE_PASSED,
+    BADGE_EARNED,
+    TOURNAMENT_PLACED
+}
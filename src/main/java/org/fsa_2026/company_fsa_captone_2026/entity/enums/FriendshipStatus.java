@@ -0,0 +1,8 @@
+package org.fsa_2026.company_fsa_captone_2026.entity.enums;
+
+public enum FriendshipStatus {
+    PENDING,
+    ACCEPTED,
+    DECLINED,
+    BLOCKED
+}
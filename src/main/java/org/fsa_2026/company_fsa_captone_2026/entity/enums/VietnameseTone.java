@@ -0,0 +1,43 @@
+package org.fsa_2026.company_fsa_captone_2026.entity.enums;
+
+import java.text.Normalizer;
+
+/**
+ * Vietnamese Tone Enum
+ * 6 thanh điệu tiếng Việt, valid values for attempt_tone_feedback.expected_tone / detected_tone
+ */
+public enum VietnameseTone {
+    NGANG, // a  - ngang (level)
+    HUYEN, // à  - huyền (low falling)
+    SAC, // á  - sắc (rising)
+    HOI, // ả  - hỏi (dipping)
+    NGA, // ã  - ngã (broken rising)
+    NANG; // ạ  - nặng (low, glottalized)
+
+    /**
+     * Xác định thanh điệu từ dấu của một âm tiết viết (vd: "việt" → NANG)
+     */
+    public static VietnameseTone fromSyllable(String syllable) {
+        if (syllable == null) {
+            return NGANG;
+        }
+        String decomposed = Normalizer.normalize(syllable, Normalizer.Form.NFD);
+        for (int i = 0; i < decomposed.length(); i++) {
+            switch (decomposed.charAt(i)) {
+                case '̀':
+                    return HUYEN;
+                case '́':
+                    return SAC;
+                case '̉':
+                    return HOI;
+                case '̃':
+                    return NGA;
+                case '̣':
+                    return NANG;
+                default:
+                    break;
+            }
+        }
+        return NGANG;
+    }
+}
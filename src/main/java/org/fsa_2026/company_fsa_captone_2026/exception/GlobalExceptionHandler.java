@@ -65,6 +65,7 @@ public class GlobalExceptionHandler {
             case "UNAUTHORIZED" -> HttpStatus.UNAUTHORIZED;
             case "NOT_FOUND" -> HttpStatus.NOT_FOUND;
             case "FORBIDDEN" -> HttpStatus.FORBIDDEN;
+            case "TOO_MANY_REQUESTS" -> HttpStatus.TOO_MANY_REQUESTS;
             default -> HttpStatus.BAD_REQUEST;
         };
 
@@ -0,0 +1,12 @@
+package org.fsa_2026.company_fsa_captone_2026.repository;
+
+import java.util.UUID;
+
+/**
+ * Projection id + email (tra cứu email hàng loạt, không load Account / UserProfile)
+ */
+public interface AccountEmailView {
+    UUID getId();
+
+    String getEmail();
+}
@@ -1,11 +1,17 @@
 package org.fsa_2026.company_fsa_captone_2026.repository;
 
+import jakarta.persistence.LockModeType;
 import org.fsa_2026.company_fsa_captone_2026.entity.Account;
 import org.fsa_2026.company_fsa_captone_2026.entity.enums.RoleCode;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,14 +23,66 @@ import java.util.UUID;
 public interface AccountRepository extends JpaRepository<Account, UUID> {
     Optional<Account> findByEmail(String email);
 
+    /**
+     * Khoá account khi dùng mã đặt lại mật khẩu (mỗi mã chỉ dùng được một lần)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.email = :email")
+    Optional<Account> findForUpdateByEmail(@Param("email") String email);
+
+    /**
+     * Account + UserProfile trong một SELECT (login, xem/sửa profile)
+     */
+    @Query("SELECT a FROM Account a LEFT JOIN FETCH a.userProfile WHERE a.email = :email")
+    Optional<Account> findWithProfileByEmail(@Param("email") String email);
+
+    @Query("SELECT a FROM Account a LEFT JOIN FETCH a.userProfile WHERE a.id = :id")
+    Optional<Account> findWithProfileById(@Param("id") UUID id);
+
     boolean existsByEmail(String email);
 
+    /**
+     * Tra nhiều email trong một query (roster lớp học)
+     */
+    List<AccountEmailView> findByEmailIn(Collection<String> emails);
+
     boolean existsByPhone(String phone);
 
     /**
-     * Lấy danh sách Account theo roleCode và trạng thái active.
-     * Filter tại DB thay vì load-all vào memory.
+     * Lấy một trang Account theo roleCode và trạng thái active.
+     * Filter + LIMIT tại DB thay vì load-all vào memory; Slice → không COUNT.
      */
-    @Query("SELECT a FROM Account a WHERE a.roleCode IN :roleCodes AND a.isActive = true")
-    List<Account> findAllActiveByRoleCodeIn(List<RoleCode> roleCodes);
+    @Query("SELECT a FROM Account a LEFT JOIN FETCH a.userProfile "
+            + "WHERE a.roleCode IN :roleCodes AND a.isActive = true")
+    Slice<Account> findAllActiveByRoleCodeIn(@Param("roleCodes") Collection<RoleCode> roleCodes, Pageable pageable);
+
+    long countByRoleCodeInAndIsActiveTrue(Collection<RoleCode> roleCodes);
+
+    @Query("SELECT a FROM Account a LEFT JOIN FETCH a.userProfile WHERE a.id IN :ids")
+    List<Account> findWithProfileByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // ==========================================
+    // Search (pg_trgm, xem 21-add-search-indexes.xml)
+    // UNION để mỗi nhánh dùng index GIN riêng của account / user_profile
+    // ==========================================
+
+    @Query(value = "SELECT a.id FROM account a LEFT JOIN user_profile p ON p.account_id = a.id "
+            + "WHERE a.id IN (SELECT id FROM account WHERE f_search_norm(email) LIKE :pattern ESCAPE '\\' "
+            + "UNION SELECT account_id FROM user_profile WHERE f_search_norm(full_name) LIKE :pattern ESCAPE '\\') "
+            + "ORDER BY GREATEST(similarity(f_search_norm(a.email), :term), "
+            + "COALESCE(similarity(f_search_norm(p.full_name), :term), 0)) DESC, a.id", nativeQuery = true)
+    Slice<UUID> searchIds(@Param("term") String term, @Param("pattern") String pattern, Pageable pageable);
+
+    @Query(value = "SELECT COUNT(*) FROM (SELECT id FROM account WHERE f_search_norm(email) LIKE :pattern ESCAPE '\\' "
+            + "UNION SELECT account_id FROM user_profile WHERE f_search_norm(full_name) LIKE :pattern ESCAPE '\\') m",
+            nativeQuery = true)
+    long countSearch(@Param("pattern") String pattern);
+
+    @Query(value = "SELECT a.id AS id, a.email AS label, p.full_name AS detail "
+            + "FROM account a LEFT JOIN user_profile p ON p.account_id = a.id "
+            + "WHERE a.id IN (SELECT id FROM account WHERE f_search_norm(email) LIKE :pattern ESCAPE '\\' "
+            + "UNION SELECT account_id FROM user_profile WHERE f_search_norm(full_name) LIKE :pattern ESCAPE '\\') "
+            + "ORDER BY GREATEST(similarity(f_search_norm(a.email), :term), "
+            + "COALESCE(similarity(f_search_norm(p.full_name), :term), 0)) DESC, a.id", nativeQuery = true)
+    List<SearchHit> suggest(@Param("term") String term, @Param("pattern") String pattern, Pageable pageable);
 }
@@ -0,0 +1,55 @@
+package org.fsa_2026.company_fsa_captone_2026.repository;
+
+import org.fsa_2026.company_fsa_captone_2026.entity.Activity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Activity Repository (xem 26-add-activity.xml)
+ */
+@Repository
+public interface ActivityRepository extends JpaRepository<Activity, Long> {
+
+    /**
+     * Ghi một activity; trùng (account, type, source) khi listener được giao lại → bỏ qua
+     *
+     * @return id mới, null nếu đã tồn tại
+     */
+    @Query(value = "INSERT INTO activity (account_id, type, source_id, detail, metric, created_at) "
+            + "VALUES (:accountId, :type, :sourceId, :detail, :metric, :createdAt) "
+            + "ON CONFLICT ON CONSTRAINT uk_activity_source DO NOTHING RETURNING id", nativeQuery = true)
+    Long insertIgnoringDuplicate(@Param("accountId") UUID accountId, @Param("type") String type,
+            @Param("sourceId") UUID sourceId, @Param("detail") String detail, @Param("metric") BigDecimal metric,
+            @Param("createdAt") Instant createdAt);
+
+    /**
+     * {@code perAccount} activity mới nhất của mỗi account – nạp ring buffer cho nhiều
+     * account trong một query (idx_activity_account_id)
+     */
+    @Query(value = "SELECT t.id AS id, t.account_id AS accountId, t.type AS type, t.source_id AS sourceId, "
+            + "t.detail AS detail, t.metric AS metric, t.created_at AS createdAt FROM ("
+            + "SELECT a.*, row_number() OVER (PARTITION BY a.account_id ORDER BY a.id DESC) AS rn "
+            + "FROM activity a WHERE a.account_id IN (:accountIds)) t "
+            + "WHERE t.rn <= :perAccount ORDER BY t.account_id, t.id DESC", nativeQuery = true)
+    List<ActivityRow> findLatestPerAccount(@Param("accountIds") Collection<UUID> accountIds,
+            @Param("perAccount") int perAccount);
+
+    /**
+     * Trang keyset của nhiều account, cũ hơn {@code beforeId} (fallback khi ring buffer
+     * không đủ sâu)
+     */
+    @Query(value = "SELECT a.id AS id, a.account_id AS accountId, a.type AS type, a.source_id AS sourceId, "
+            + "a.detail AS detail, a.metric AS metric, a.created_at AS createdAt FROM activity a "
+            + "WHERE a.account_id IN (:accountIds) AND a.id < :beforeId ORDER BY a.id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<ActivityRow> findPageBefore(@Param("accountIds") Collection<UUID> accountIds,
+            @Param("beforeId") long beforeId, @Param("limit") int limit);
+}
@@ -0,0 +1,24 @@
+package org.fsa_2026.company_fsa_captone_2026.repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Projection một dòng activity cho feed (native query, không load entity)
+ */
+public interface ActivityRow {
+    Long getId();
+
+    UUID getAccountId();
+
+    String getType();
+
+    UUID getSourceId();
+
+    String getDetail();
+
+    BigDecimal getMetric();
+
+    Instant getCreatedAt();
+}
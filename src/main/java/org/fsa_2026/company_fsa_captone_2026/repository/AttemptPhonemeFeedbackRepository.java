@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,8 +16,12 @@ import java.util.UUID;
 public interface AttemptPhonemeFeedbackRepository extends JpaRepository<AttemptPhonemeFeedback, UUID> {
     List<AttemptPhonemeFeedback> findByAttemptIdOrderBySequenceOrderAsc(UUID attemptId);
 
-    List<AttemptPhonemeFeedback> findByAttemptIdIn(List<UUID> attemptIds);
+    /**
+     * Feedback của các attempt cho trước; {@code since} = created_at nhỏ nhất của các attempt đó
+     * (feedback được ghi sau attempt) → chỉ quét partition từ tháng đó trở đi
+     */
+    List<AttemptPhonemeFeedback> findByAttemptIdInAndCreatedAtGreaterThanEqual(List<UUID> attemptIds, Instant since);
 
-    @Query("SELECT f FROM AttemptPhonemeFeedback f WHERE f.attempt.account.id = :studentId")
-    List<AttemptPhonemeFeedback> findByStudentId(UUID studentId);
+    @Query("SELECT f FROM AttemptPhonemeFeedback f JOIN f.attempt a WHERE a.account.id = :studentId AND a.createdAt >= :since AND f.createdAt >= :since")
+    List<AttemptPhonemeFeedback> findByStudentIdSince(UUID studentId, Instant since);
 }
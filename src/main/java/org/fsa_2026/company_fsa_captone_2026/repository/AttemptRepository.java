@@ -14,10 +14,16 @@ import java.util.UUID;
 public interface AttemptRepository extends JpaRepository<Attempt, UUID> {
     List<Attempt> findByAccountIdOrderByCreatedAtDesc(UUID accountId);
 
+    List<Attempt> findTop200ByAccountIdOrderByCreatedAtDesc(UUID accountId);
+
     List<Attempt> findBySessionId(UUID sessionId);
 
-    @org.springframework.data.jpa.repository.Query("SELECT a FROM Attempt a WHERE a.account.id IN (SELECT cm.student.id FROM ClassroomMember cm WHERE cm.classroom.id = :classroomId)")
-    List<Attempt> findByClassroomId(@org.springframework.data.repository.query.Param("classroomId") UUID classroomId);
+    /**
+     * Attempt của học viên trong lớp từ {@code since} (cận dưới created_at → Postgres chỉ quét partition các tháng đó)
+     */
+    @org.springframework.data.jpa.repository.Query("SELECT a FROM Attempt a WHERE a.createdAt >= :since AND a.account.id IN (SELECT cm.student.id FROM ClassroomMember cm WHERE cm.classroom.id = :classroomId)")
+    List<Attempt> findByClassroomIdSince(@org.springframework.data.repository.query.Param("classroomId") UUID classroomId,
+            @org.springframework.data.repository.query.Param("since") java.time.Instant since);
 
     @org.springframework.data.jpa.repository.Query("SELECT AVG(a.scoreOverall) FROM Attempt a")
     Double findAverageScore();
@@ -0,0 +1,16 @@
+package org.fsa_2026.company_fsa_captone_2026.repository;
+
+import org.fsa_2026.company_fsa_captone_2026.entity.AttemptToneFeedback;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * AttemptToneFeedback Repository
+ */
+@Repository
+public interface AttemptToneFeedbackRepository extends JpaRepository<AttemptToneFeedback, UUID> {
+    List<AttemptToneFeedback> findByAttemptIdOrderBySequenceOrderAsc(UUID attemptId);
+}
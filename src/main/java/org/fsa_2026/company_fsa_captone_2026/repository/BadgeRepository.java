@@ -1,6 +1,8 @@
 package org.fsa_2026.company_fsa_captone_2026.repository;
 
 import org.fsa_2026.company_fsa_captone_2026.entity.Badge;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,4 +13,5 @@ import java.util.UUID;
  */
 @Repository
 public interface BadgeRepository extends JpaRepository<Badge, UUID> {
+    Slice<Badge> findAllBy(Pageable pageable);
 }
@@ -1,9 +1,16 @@
 package org.fsa_2026.company_fsa_captone_2026.repository;
 
 import org.fsa_2026.company_fsa_captone_2026.entity.Challenge;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.ContentStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,4 +20,43 @@ import java.util.UUID;
 @Repository
 public interface ChallengeRepository extends JpaRepository<Challenge, UUID> {
     List<Challenge> findByLevelId(UUID levelId);
+
+    @EntityGraph(attributePaths = "level")
+    List<Challenge> findByStatus(ContentStatus status);
+
+    // Filter null = bỏ qua điều kiện; ChallengeResponse chỉ cần level.id nên không fetch level
+    @Query("SELECT c FROM Challenge c WHERE (:status IS NULL OR c.status = :status) "
+            + "AND (:levelId IS NULL OR c.level.id = :levelId)")
+    Slice<Challenge> findSliceByFilter(@Param("status") ContentStatus status, @Param("levelId") UUID levelId,
+            Pageable pageable);
+
+    @Query("SELECT COUNT(c) FROM Challenge c WHERE (:status IS NULL OR c.status = :status) "
+            + "AND (:levelId IS NULL OR c.level.id = :levelId)")
+    long countByFilter(@Param("status") ContentStatus status, @Param("levelId") UUID levelId);
+
+    @EntityGraph(attributePaths = "level")
+    List<Challenge> findByIdIn(Collection<UUID> ids);
+
+    // ==========================================
+    // Full-text search nội dung (expression phải khớp idx_challenge_content_tsv)
+    // ==========================================
+
+    @Query(value = "SELECT c.id FROM challenge c "
+            + "WHERE to_tsvector(CAST('simple' AS regconfig), f_search_norm(c.content_text)) "
+            + "@@ plainto_tsquery(CAST('simple' AS regconfig), :term) "
+            + "ORDER BY ts_rank(to_tsvector(CAST('simple' AS regconfig), f_search_norm(c.content_text)), "
+            + "plainto_tsquery(CAST('simple' AS regconfig), :term)) DESC, c.id", nativeQuery = true)
+    Slice<UUID> searchIds(@Param("term") String term, Pageable pageable);
+
+    @Query(value = "SELECT COUNT(*) FROM challenge c "
+            + "WHERE to_tsvector(CAST('simple' AS regconfig), f_search_norm(c.content_text)) "
+            + "@@ plainto_tsquery(CAST('simple' AS regconfig), :term)", nativeQuery = true)
+    long countSearch(@Param("term") String term);
+
+    @Query(value = "SELECT c.id AS id, LEFT(c.content_text, 80) AS label, c.skill_type AS detail FROM challenge c "
+            + "WHERE to_tsvector(CAST('simple' AS regconfig), f_search_norm(c.content_text)) "
+            + "@@ to_tsquery(CAST('simple' AS regconfig), :tsquery) "
+            + "ORDER BY ts_rank(to_tsvector(CAST('simple' AS regconfig), f_search_norm(c.content_text)), "
+            + "to_tsquery(CAST('simple' AS regconfig), :tsquery)) DESC, c.id", nativeQuery = true)
+    List<SearchHit> suggest(@Param("tsquery") String tsquery, Pageable pageable);
 }
@@ -1,9 +1,15 @@
 package org.fsa_2026.company_fsa_captone_2026.repository;
 
 import org.fsa_2026.company_fsa_captone_2026.entity.ClassroomMember;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,7 +19,20 @@ public interface ClassroomMemberRepository extends JpaRepository<ClassroomMember
 
     List<ClassroomMember> findByClassroomId(UUID classroomId);
 
+    @EntityGraph(attributePaths = { "student", "student.userProfile" })
+    Slice<ClassroomMember> findByClassroomId(UUID classroomId, Pageable pageable);
+
+    long countByClassroomId(UUID classroomId);
+
     boolean existsByClassroomIdAndStudentId(UUID classroomId, UUID studentId);
 
+    /**
+     * Trong {@code studentIds}, những học viên đã ở trong lớp (uk_classroom_member_classroom_account)
+     */
+    @Query("SELECT m.student.id FROM ClassroomMember m WHERE m.classroom.id = :classroomId "
+            + "AND m.student.id IN :studentIds")
+    List<UUID> findMemberIdsIn(@Param("classroomId") UUID classroomId,
+            @Param("studentIds") Collection<UUID> studentIds);
+
     void deleteByClassroomIdAndStudentId(UUID classroomId, UUID studentId);
 }
@@ -1,6 +1,8 @@
 package org.fsa_2026.company_fsa_captone_2026.repository;
 
 import org.fsa_2026.company_fsa_captone_2026.entity.Dialect;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,4 +12,6 @@ import java.util.UUID;
 @Repository
 public interface DialectRepository extends JpaRepository<Dialect, UUID> {
     Optional<Dialect> findByNameIgnoreCase(String name);
+
+    Slice<Dialect> findAllBy(Pageable pageable);
 }
@@ -0,0 +1,37 @@
+package org.fsa_2026.company_fsa_captone_2026.repository;
+
+import org.fsa_2026.company_fsa_captone_2026.entity.Friendship;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.FriendshipStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Friendship Repository
+ * Mỗi cặp account có nhiều nhất một dòng (theo một trong hai chiều)
+ */
+@Repository
+public interface FriendshipRepository extends JpaRepository<Friendship, UUID> {
+
+    @Query("SELECT f FROM Friendship f WHERE (f.requester.id = :a AND f.addressee.id = :b) "
+            + "OR (f.requester.id = :b AND f.addressee.id = :a)")
+    Optional<Friendship> findBetween(@Param("a") UUID a, @Param("b") UUID b);
+
+    /**
+     * Id của phía còn lại trong các quan hệ có status (idx_friendship_requester /
+     * idx_friendship_addressee), không join account
+     */
+    @Query("SELECT CASE WHEN f.requester.id = :accountId THEN f.addressee.id ELSE f.requester.id END "
+            + "FROM Friendship f WHERE f.status = :status "
+            + "AND (f.requester.id = :accountId OR f.addressee.id = :accountId)")
+    List<UUID> findOtherIds(@Param("accountId") UUID accountId, @Param("status") FriendshipStatus status);
+
+    @EntityGraph(attributePaths = { "requester", "requester.userProfile" })
+    List<Friendship> findByAddresseeIdAndStatusOrderByCreatedAtDesc(UUID addresseeId, FriendshipStatus status);
+}
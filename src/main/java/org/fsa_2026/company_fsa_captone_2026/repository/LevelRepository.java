@@ -1,9 +1,17 @@
 package org.fsa_2026.company_fsa_captone_2026.repository;
 
+import org.fsa_2026.company_fsa_captone_2026.dto.LevelSelectionResponse;
 import org.fsa_2026.company_fsa_captone_2026.entity.Level;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.ContentStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,7 +20,53 @@ import java.util.UUID;
  */
 @Repository
 public interface LevelRepository extends JpaRepository<Level, UUID> {
+
+    // LevelResponse cần errorTag + regions (errorTag.placementRules → dialect)
+    @EntityGraph(attributePaths = { "errorTag", "errorTag.placementRules", "errorTag.placementRules.targetDialect" })
     List<Level> findByDialectIdOrderByLevelOrderAsc(UUID dialectId);
 
+    @EntityGraph(attributePaths = { "errorTag", "errorTag.placementRules", "errorTag.placementRules.targetDialect" })
+    List<Level> findByIdIn(Collection<UUID> ids);
+
+    /**
+     * Phân trang 2 bước: fetch join collection không LIMIT được ở DB (Hibernate
+     * cắt trang trong memory) nên chỉ page trên id rồi load bằng findByIdIn
+     */
+    @Query("SELECT l.id FROM Level l WHERE (:status IS NULL OR l.status = :status) "
+            + "AND (:dialectId IS NULL OR l.dialect.id = :dialectId)")
+    Slice<UUID> findIdSliceByFilter(@Param("status") ContentStatus status, @Param("dialectId") UUID dialectId,
+            Pageable pageable);
+
+    @Query("SELECT COUNT(l) FROM Level l WHERE (:status IS NULL OR l.status = :status) "
+            + "AND (:dialectId IS NULL OR l.dialect.id = :dialectId)")
+    long countByFilter(@Param("status") ContentStatus status, @Param("dialectId") UUID dialectId);
+
+    @EntityGraph(attributePaths = { "errorTag", "errorTag.placementRules", "errorTag.placementRules.targetDialect" })
+    List<Level> findByStatus(ContentStatus status);
+
+    /**
+     * Projection trực tiếp sang DTO (không load entity)
+     */
+    @Query("SELECT new org.fsa_2026.company_fsa_captone_2026.dto.LevelSelectionResponse("
+            + "CAST(l.id AS String), l.name, CAST(l.dialect.id AS String)) "
+            + "FROM Level l WHERE l.status = :status")
+    List<LevelSelectionResponse> findSelectionsByStatus(@Param("status") ContentStatus status);
+
+    List<Level> findByDialectIdInAndStatusOrderByLevelOrderAsc(Collection<UUID> dialectIds, ContentStatus status);
+
     boolean existsByErrorTagId(UUID errorTagId);
+
+    // Search tên level (pg_trgm)
+    @Query(value = "SELECT l.id FROM level l WHERE f_search_norm(l.name) LIKE :pattern ESCAPE '\\' "
+            + "ORDER BY similarity(f_search_norm(l.name), :term) DESC, l.id", nativeQuery = true)
+    Slice<UUID> searchIds(@Param("term") String term, @Param("pattern") String pattern, Pageable pageable);
+
+    @Query(value = "SELECT COUNT(*) FROM level l WHERE f_search_norm(l.name) LIKE :pattern ESCAPE '\\'",
+            nativeQuery = true)
+    long countSearch(@Param("pattern") String pattern);
+
+    @Query(value = "SELECT l.id AS id, l.name AS label, l.status AS detail FROM level l "
+            + "WHERE f_search_norm(l.name) LIKE :pattern ESCAPE '\\' "
+            + "ORDER BY similarity(f_search_norm(l.name), :term) DESC, l.id", nativeQuery = true)
+    List<SearchHit> suggest(@Param("term") String term, @Param("pattern") String pattern, Pageable pageable);
 }
@@ -1,13 +1,39 @@
 package org.fsa_2026.company_fsa_captone_2026.repository;
 
 import org.fsa_2026.company_fsa_captone_2026.entity.PlacementRule;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface PlacementRuleRepository extends JpaRepository<PlacementRule, UUID> {
-    List<PlacementRule> findByTargetDialectId(UUID dialectId);
+    // ErrorTagResponse cần regions (errorTag.placementRules → dialect)
+    @Query("SELECT DISTINCT r FROM PlacementRule r JOIN FETCH r.errorTag e "
+            + "LEFT JOIN FETCH e.placementRules er LEFT JOIN FETCH er.targetDialect "
+            + "WHERE r.targetDialect.id = :dialectId")
+    List<PlacementRule> findByTargetDialectId(@Param("dialectId") UUID dialectId);
+
+    @Query("SELECT DISTINCT r FROM PlacementRule r JOIN FETCH r.targetDialect JOIN FETCH r.errorTag e "
+            + "LEFT JOIN FETCH e.placementRules er LEFT JOIN FETCH er.targetDialect WHERE r.id IN :ids")
+    List<PlacementRule> findForResponseByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Phân trang 2 bước (id → findForResponseByIdIn), như LevelRepository
+    @Query("SELECT r.id FROM PlacementRule r WHERE (:dialectId IS NULL OR r.targetDialect.id = :dialectId) "
+            + "AND (:errorTagId IS NULL OR r.errorTag.id = :errorTagId)")
+    Slice<UUID> findIdSliceByFilter(@Param("dialectId") UUID dialectId, @Param("errorTagId") UUID errorTagId,
+            Pageable pageable);
+
+    @Query("SELECT COUNT(r) FROM PlacementRule r WHERE (:dialectId IS NULL OR r.targetDialect.id = :dialectId) "
+            + "AND (:errorTagId IS NULL OR r.errorTag.id = :errorTagId)")
+    long countByFilter(@Param("dialectId") UUID dialectId, @Param("errorTagId") UUID errorTagId);
+
+    Optional<PlacementRule> findByErrorTagIdAndTargetDialectId(UUID errorTagId, UUID dialectId);
 }
@@ -0,0 +1,19 @@
+package org.fsa_2026.company_fsa_captone_2026.repository;
+
+import org.fsa_2026.company_fsa_captone_2026.entity.QuizAttemptAnswer;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Quiz Attempt Answer Repository
+ */
+@Repository
+public interface QuizAttemptAnswerRepository extends JpaRepository<QuizAttemptAnswer, UUID> {
+    List<QuizAttemptAnswer> findByQuizAttemptId(UUID quizAttemptId);
+
+    Optional<QuizAttemptAnswer> findByQuizAttemptIdAndQuestionId(UUID quizAttemptId, UUID questionId);
+}
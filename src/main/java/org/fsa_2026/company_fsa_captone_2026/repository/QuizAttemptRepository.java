@@ -1,10 +1,19 @@
 package org.fsa_2026.company_fsa_captone_2026.repository;
 
+import jakarta.persistence.LockModeType;
 import org.fsa_2026.company_fsa_captone_2026.entity.QuizAttempt;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.QuizType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -14,4 +23,33 @@ import java.util.UUID;
 public interface QuizAttemptRepository extends JpaRepository<QuizAttempt, UUID> {
     List<QuizAttempt> findByQuizId(UUID quizId);
     List<QuizAttempt> findByStudentId(UUID studentId);
-}
\ No newline at end of file
+
+    /**
+     * Bài làm đã hoàn thành theo loại của nhiều học viên, mới nhất trước (dùng cho bulk placement)
+     */
+    @Query("SELECT qa FROM QuizAttempt qa JOIN FETCH qa.quiz q LEFT JOIN FETCH q.level l "
+            + "WHERE qa.student.id IN :studentIds AND qa.quizType = :quizType AND qa.completed = true "
+            + "ORDER BY qa.completedAt DESC")
+    List<QuizAttempt> findCompletedByStudentIdsAndType(@Param("studentIds") Collection<UUID> studentIds,
+            @Param("quizType") QuizType quizType);
+
+    /**
+     * Khoá lượt làm khi ghi câu trả lời / nộp bài (không cho ghi câu trả lời vào bài đã nộp)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT qa FROM QuizAttempt qa WHERE qa.id = :id")
+    Optional<QuizAttempt> findForUpdateById(@Param("id") UUID id);
+
+    /**
+     * Lượt làm dang dở gần nhất của học viên (tiếp tục sau restart / trên instance khác)
+     */
+    Optional<QuizAttempt> findFirstByStudentIdAndQuizIdAndCompletedFalseOrderByStartedAtDesc(UUID studentId,
+            UUID quizId);
+
+    /**
+     * Lượt làm dang dở đã quá hạn nộp, hạn sớm nhất trước (job tự nộp bài)
+     */
+    @Query("SELECT qa.id FROM QuizAttempt qa WHERE qa.completed = false AND qa.deadlineAt < :cutoff "
+            + "ORDER BY qa.deadlineAt")
+    List<UUID> findExpiredIncompleteIds(@Param("cutoff") Instant cutoff, Pageable pageable);
+}
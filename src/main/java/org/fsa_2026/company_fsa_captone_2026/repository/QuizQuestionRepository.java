@@ -0,0 +1,32 @@
+package org.fsa_2026.company_fsa_captone_2026.repository;
+
+import org.fsa_2026.company_fsa_captone_2026.entity.QuizQuestion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Quiz Question Repository
+ */
+@Repository
+public interface QuizQuestionRepository extends JpaRepository<QuizQuestion, UUID> {
+
+    /**
+     * Map câu hỏi → error tag (qua challenge.level.errorTag) của các quiz
+     */
+    @Query("SELECT qq.id AS questionId, l.errorTag.id AS errorTagId FROM QuizQuestion qq "
+            + "JOIN qq.challenge c JOIN c.level l "
+            + "WHERE qq.quiz.id IN :quizIds AND l.errorTag IS NOT NULL")
+    List<QuestionErrorTag> findErrorTagsByQuizIdIn(@Param("quizIds") Collection<UUID> quizIds);
+
+    interface QuestionErrorTag {
+        UUID getQuestionId();
+
+        UUID getErrorTagId();
+    }
+}
@@ -1,10 +1,15 @@
 package org.fsa_2026.company_fsa_captone_2026.repository;
 
 import org.fsa_2026.company_fsa_captone_2026.entity.Quiz;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.ContentStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -12,6 +17,19 @@ import java.util.UUID;
  */
 @Repository
 public interface QuizRepository extends JpaRepository<Quiz, UUID> {
+    // QuizResponse cần questions + challenge của từng câu
+    @EntityGraph(attributePaths = { "questions", "questions.challenge" })
     List<Quiz> findByCreatedByOrderByCreatedAtDesc(String createdBy);
+
+    @EntityGraph(attributePaths = { "questions", "questions.challenge" })
+    List<Quiz> findByStatus(ContentStatus status);
+
     List<Quiz> findByLevelId(UUID levelId);
+
+    /**
+     * Quiz kèm câu hỏi + challenge trong một query (dùng để chụp snapshot làm bài)
+     */
+    @Query("SELECT DISTINCT q FROM Quiz q LEFT JOIN FETCH q.level LEFT JOIN FETCH q.questions qq "
+            + "LEFT JOIN FETCH qq.challenge WHERE q.id = :id")
+    Optional<Quiz> findWithQuestionsById(@Param("id") UUID id);
 }
\ No newline at end of file
@@ -1,12 +1,14 @@
 package org.fsa_2026.company_fsa_captone_2026.repository;
 
 import org.fsa_2026.company_fsa_captone_2026.entity.RefreshToken;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,12 +18,40 @@ import java.util.UUID;
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
 
-    Optional<RefreshToken> findByToken(String token);
+    // Refresh cần account (email, role) để ký access token mới → fetch cùng lúc
+    @EntityGraph(attributePaths = "account")
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
 
     @Modifying
-    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.account.id = :accountId AND rt.revoked = false")
-    void revokeAllByAccountId(@Param("accountId") UUID accountId);
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true, rt.revokedAt = :now "
+            + "WHERE rt.account.id = :accountId AND rt.revoked = false")
+    int revokeAllByAccountId(@Param("accountId") UUID accountId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true, rt.revokedAt = :now "
+            + "WHERE rt.familyId = :familyId AND rt.revoked = false")
+    int revokeFamily(@Param("familyId") UUID familyId, @Param("now") Instant now);
+
+    /**
+     * Compare-and-set: chỉ một request rotate được token → 0 nghĩa là token đã
+     * bị dùng (request song song hoặc reuse)
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true, rt.revokedAt = :now "
+            + "WHERE rt.id = :id AND rt.revoked = false")
+    int markRotated(@Param("id") UUID id, @Param("now") Instant now);
+
+    /**
+     * Xoá một lô token hết hạn / đã thu hồi quá thời gian giữ. SKIP LOCKED + LIMIT
+     * → không chờ row lock, không khoá cả bảng, nhiều instance chạy song song an toàn.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM refresh_token WHERE id IN ("
+            + "SELECT id FROM refresh_token WHERE expires_at < :now "
+            + "OR (revoked = true AND revoked_at < :revokedBefore) "
+            + "LIMIT :batchSize FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") Instant now, @Param("revokedBefore") Instant revokedBefore,
+            @Param("batchSize") int batchSize);
 
     void deleteByAccountId(UUID accountId);
 }
-
@@ -0,0 +1,14 @@
+package org.fsa_2026.company_fsa_captone_2026.repository;
+
+import java.util.UUID;
+
+/**
+ * Projection nhẹ cho typeahead (native query alias: id, label, detail)
+ */
+public interface SearchHit {
+    UUID getId();
+
+    String getLabel();
+
+    String getDetail();
+}
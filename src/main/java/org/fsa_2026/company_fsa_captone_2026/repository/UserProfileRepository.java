@@ -2,8 +2,12 @@ package org.fsa_2026.company_fsa_captone_2026.repository;
 
 import org.fsa_2026.company_fsa_captone_2026.entity.UserProfile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,7 +19,27 @@ import java.util.UUID;
 public interface UserProfileRepository extends JpaRepository<UserProfile, UUID> {
     Optional<UserProfile> findByAccountId(UUID accountId);
 
+    List<UserProfile> findByAccountIdIn(Collection<UUID> accountIds);
+
+    /**
+     * Profile + Account trong một SELECT theo danh sách account id (bạn bè, BXH bạn bè)
+     */
+    @Query("SELECT p FROM UserProfile p JOIN FETCH p.account a WHERE a.id IN :accountIds")
+    List<UserProfile> findWithAccountByAccountIdIn(@Param("accountIds") Collection<UUID> accountIds);
+
     List<UserProfile> findTop10ByOrderByTotalExperienceDesc();
 
     List<UserProfile> findTop10ByAccountRegionOrderByTotalExperienceDesc(String region);
+
+    long countByTotalExperienceGreaterThan(Integer totalExperience);
+
+    /**
+     * Cộng sao/XP ngay trong UPDATE – listener chạy song song cho cùng learner không
+     * ghi đè lên nhau
+     */
+    @Modifying
+    @Query("UPDATE UserProfile p SET p.totalStars = p.totalStars + :stars, "
+            + "p.totalExperience = p.totalExperience + :experience WHERE p.account.id = :accountId")
+    int addProgress(@Param("accountId") UUID accountId, @Param("stars") int stars,
+            @Param("experience") int experience);
 }
@@ -0,0 +1,225 @@
+package org.fsa_2026.company_fsa_captone_2026.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.event.AttemptScored;
+import org.fsa_2026.company_fsa_captone_2026.common.event.BadgeEarned;
+import org.fsa_2026.company_fsa_captone_2026.common.event.DomainEventListener;
+import org.fsa_2026.company_fsa_captone_2026.common.event.TournamentPlaced;
+import org.fsa_2026.company_fsa_captone_2026.common.social.ActivityFeed;
+import org.fsa_2026.company_fsa_captone_2026.common.social.ActivityRecord;
+import org.fsa_2026.company_fsa_captone_2026.common.social.ActivityRing;
+import org.fsa_2026.company_fsa_captone_2026.dto.ActivityFeedResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.ActivityResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.PageQuery;
+import org.fsa_2026.company_fsa_captone_2026.entity.UserProfile;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.ActivityType;
+import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
+import org.fsa_2026.company_fsa_captone_2026.repository.ActivityRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.ActivityRow;
+import org.fsa_2026.company_fsa_captone_2026.repository.ChallengeRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.UserProfileRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Activity Service
+ * Ghi activity từ domain event (qua challenge, đạt huy hiệu, xếp hạng giải đấu) và
+ * đọc feed bạn bè.
+ *
+ * <p>
+ * Đọc feed (fan-out-on-read): danh sách bạn từ cache của FriendService, ring buffer
+ * của từng bạn trong {@link ActivityFeed}; ring chưa nạp được nạp chung một query,
+ * ring không đủ sâu cho trang đang đọc gộp chung một query keyset. Trang đầu của
+ * learner có vài trăm bạn thường không chạm DB ngoài query profile của người trong trang.
+ * </p>
+ */
+@Slf4j
+@Service
+public class ActivityService {
+
+    private final ActivityRepository activityRepository;
+    private final UserProfileRepository userProfileRepository;
+    private final ChallengeRepository challengeRepository;
+    private final FriendService friendService;
+    private final ActivityFeed feed;
+
+    public ActivityService(ActivityRepository activityRepository, UserProfileRepository userProfileRepository,
+            ChallengeRepository challengeRepository, FriendService friendService,
+            @Value("${app.activity.ring-capacity:32}") int ringCapacity,
+            @Value("${app.activity.max-cached-accounts:20000}") int maxCachedAccounts,
+            @Value("${app.activity.ring-ttl:PT2M}") Duration ringTtl) {
+        this.activityRepository = activityRepository;
+        this.userProfileRepository = userProfileRepository;
+        this.challengeRepository = challengeRepository;
+        this.friendService = friendService;
+        this.feed = new ActivityFeed(ringCapacity, maxCachedAccounts, ringTtl.toMillis());
+    }
+
+    // ==========================================
+    // Ghi activity
+    // ==========================================
+
+    @DomainEventListener
+    @Transactional
+    public void onAttemptScored(AttemptScored event) {
+        if (!event.isPassed()) {
+            return;
+        }
+        String levelName = challengeRepository.findById(event.getChallengeId())
+                .map(challenge -> challenge.getLevel() != null ? challenge.getLevel().getName() : null)
+                .orElse(null);
+        record(event.getAccountId(), ActivityType.CHALLENGE_PASSED, event.getAttemptId(), levelName,
+                BigDecimal.valueOf(event.getOverallScore()).setScale(2, RoundingMode.HALF_UP),
+                event.getScoredAt());
+    }
+
+    @DomainEventListener
+    @Transactional
+    public void onBadgeEarned(BadgeEarned event) {
+        record(event.getAccountId(), ActivityType.BADGE_EARNED, event.getBadgeId(), event.getBadgeName(), null,
+                event.getEarnedAt());
+    }
+
+    @DomainEventListener
+    @Transactional
+    public void onTournamentPlaced(TournamentPlaced event) {
+        record(event.getAccountId(), ActivityType.TOURNAMENT_PLACED, event.getParticipantId(),
+                event.getTournamentName(), BigDecimal.valueOf(event.getRankPosition()), event.getFinishedAt());
+    }
+
+    private void record(UUID accountId, ActivityType type, UUID sourceId, String detail, BigDecimal metric,
+            Instant createdAt) {
+        Instant at = createdAt != null ? createdAt : Instant.now();
+        Long id = activityRepository.insertIgnoringDuplicate(accountId, type.name(), sourceId, detail, metric, at);
+        if (id == null) {
+            return; // event giao lại, đã ghi
+        }
+        ActivityRecord record = new ActivityRecord(id, accountId, type, sourceId, detail, metric, at);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            feed.append(record);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                feed.append(record);
+            }
+        });
+    }
+
+    // ==========================================
+    // Đọc feed
+    // ==========================================
+
+    /**
+     * Feed của learner và bạn bè, mới nhất trước
+     *
+     * @param cursor {@code nextCursor} của trang trước, null = trang đầu
+     */
+    @Transactional(readOnly = true)
+    public ActivityFeedResponse getFeed(UUID accountId, String cursor, int size) {
+        if (size < 1 || size > PageQuery.MAX_PAGE_SIZE) {
+            throw new ApiException("BAD_REQUEST", "size phải trong khoảng 1-" + PageQuery.MAX_PAGE_SIZE);
+        }
+        long beforeId = parseCursor(cursor);
+        Set<UUID> accountIds = new LinkedHashSet<>(friendService.friendAccountIds(accountId));
+        accountIds.add(accountId);
+
+        // lấy dư một phần tử để biết còn trang sau
+        List<ActivityRecord> merged = ActivityFeed.merge(collect(accountIds, beforeId, size + 1), size + 1);
+        boolean hasNext = merged.size() > size;
+        List<ActivityRecord> page = hasNext ? merged.subList(0, size) : merged;
+
+        Map<UUID, UserProfile> actors = page.isEmpty() ? Map.of()
+                : userProfileRepository.findWithAccountByAccountIdIn(
+                        page.stream().map(ActivityRecord::accountId).collect(Collectors.toSet()))
+                        .stream()
+                        .collect(Collectors.toMap(profile -> profile.getAccount().getId(), Function.identity()));
+        return ActivityFeedResponse.builder()
+                .content(page.stream()
+                        .map(record -> ActivityResponse.fromRecord(record, actors.get(record.accountId())))
+                        .toList())
+                .nextCursor(hasNext ? String.valueOf(page.get(page.size() - 1).id()) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * Mỗi phần tử là danh sách id giảm dần của một nguồn: ring của một account, hoặc
+     * kết quả DB chung cho các account có ring không đủ sâu
+     */
+    private List<List<ActivityRecord>> collect(Set<UUID> accountIds, long beforeId, int limit) {
+        long now = System.currentTimeMillis();
+        Map<UUID, ActivityRing> rings = new HashMap<>();
+        List<UUID> cold = new ArrayList<>();
+        for (UUID accountId : accountIds) {
+            ActivityRing ring = feed.ring(accountId, now);
+            if (ring != null) {
+                rings.put(accountId, ring);
+            } else {
+                cold.add(accountId);
+            }
+        }
+        if (!cold.isEmpty()) {
+            Map<UUID, List<ActivityRecord>> latest = activityRepository
+                    .findLatestPerAccount(cold, feed.ringCapacity()).stream()
+                    .map(ActivityService::toRecord)
+                    .collect(Collectors.groupingBy(ActivityRecord::accountId));
+            for (UUID accountId : cold) {
+                rings.put(accountId, feed.load(accountId, latest.getOrDefault(accountId, List.of()), now));
+            }
+        }
+
+        List<List<ActivityRecord>> sources = new ArrayList<>();
+        List<UUID> deep = new ArrayList<>();
+        for (Map.Entry<UUID, ActivityRing> entry : rings.entrySet()) {
+            List<ActivityRecord> records = new ArrayList<>();
+            if (entry.getValue().collectBefore(beforeId, limit, records)) {
+                if (!records.isEmpty()) {
+                    sources.add(records);
+                }
+            } else {
+                deep.add(entry.getKey());
+            }
+        }
+        if (!deep.isEmpty()) {
+            sources.add(activityRepository.findPageBefore(deep, beforeId, limit).stream()
+                    .map(ActivityService::toRecord)
+                    .toList());
+        }
+        return sources;
+    }
+
+    private static long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new ApiException("BAD_REQUEST", "cursor không hợp lệ");
+        }
+    }
+
+    private static ActivityRecord toRecord(ActivityRow row) {
+        return new ActivityRecord(row.getId(), row.getAccountId(), ActivityType.valueOf(row.getType()),
+                row.getSourceId(), row.getDetail(), row.getMetric(), row.getCreatedAt());
+    }
+}
@@ -3,11 +3,18 @@ package org.fsa_2026.company_fsa_captone_2026.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.event.ContentApproved;
+import org.fsa_2026.company_fsa_captone_2026.common.paging.Paging;
+import org.fsa_2026.company_fsa_captone_2026.common.paging.SortFields;
 import org.fsa_2026.company_fsa_captone_2026.dto.*;
 import org.fsa_2026.company_fsa_captone_2026.entity.*;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.ContentStatus;
 import org.fsa_2026.company_fsa_captone_2026.entity.enums.RoleCode;
 import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
 import org.fsa_2026.company_fsa_captone_2026.repository.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +32,22 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AdminService {
 
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by("id"));
+    private static final SortFields USER_SORT = SortFields.defaultTo(NEWEST_FIRST)
+            .allow("createdAt")
+            .allow("email")
+            .allow("roleCode");
+    private static final SortFields CHALLENGE_SORT = SortFields.defaultTo(NEWEST_FIRST)
+            .allow("createdAt")
+            .allow("updatedAt")
+            .allow("status")
+            .allow("difficulty");
+    private static final SortFields LEVEL_SORT = SortFields.defaultTo(Sort.by("levelOrder").and(Sort.by("id")))
+            .allow("levelOrder")
+            .allow("name")
+            .allow("status")
+            .allow("createdAt");
+
     private final AccountRepository accountRepository;
     private final UserProfileRepository userProfileRepository;
     private final ChallengeRepository challengeRepository;
@@ -38,6 +61,9 @@ public class AdminService {
     private final QuizRepository quizRepository;
     private final DailyAnalyticsRepository dailyAnalyticsRepository;
     private final ObjectMapper objectMapper;
+    private final RecommendationService recommendationService;
+    private final QuizRuntimeService quizRuntimeService;
+    private final ApplicationEventPublisher events;
 
     /**
      * Create a new Educator account
@@ -106,14 +132,21 @@ public class AdminService {
     // User Management
     // ==========================================
 
+    /**
+     * Danh sách USER/EDUCATOR đang active, phân trang tại DB
+     *
+     * @param role null = cả USER và EDUCATOR
+     */
     @Transactional(readOnly = true)
-    public List<UserManagementResponse> getAllUsers() {
-        // Filter tại DB thay vì load toàn bộ rồi filter bằng Java
-        return accountRepository
-                .findAllActiveByRoleCodeIn(List.of(RoleCode.USER, RoleCode.EDUCATOR))
-                .stream()
-                .map(UserManagementResponse::fromEntity)
-                .collect(Collectors.toList());
+    public PageResponse<UserManagementResponse> getAllUsers(RoleCode role, PageQuery query) {
+        if (role == RoleCode.ADMIN) {
+            throw new ApiException("BAD_REQUEST", "Không hỗ trợ lọc theo role ADMIN");
+        }
+        List<RoleCode> roles = role != null ? List.of(role) : List.of(RoleCode.USER, RoleCode.EDUCATOR);
+        Pageable pageable = query.toPageable(USER_SORT);
+        return Paging.of(accountRepository.findAllActiveByRoleCodeIn(roles, pageable), query.countMode(),
+                () -> accountRepository.countByRoleCodeInAndIsActiveTrue(roles),
+                UserManagementResponse::fromEntity);
     }
 
     @Transactional(readOnly = true)
@@ -161,10 +194,11 @@ public class AdminService {
     // 1a. Content Management: Challenges
     // ==========================================
     @Transactional(readOnly = true)
-    public List<ChallengeResponse> getAllChallenges() {
-        return challengeRepository.findAll().stream()
-                .map(ChallengeResponse::fromEntity)
-                .collect(Collectors.toList());
+    public PageResponse<ChallengeResponse> getAllChallenges(ContentStatus status, UUID levelId, PageQuery query) {
+        Pageable pageable = query.toPageable(CHALLENGE_SORT);
+        return Paging.of(challengeRepository.findSliceByFilter(status, levelId, pageable), query.countMode(),
+                () -> challengeRepository.countByFilter(status, levelId),
+                ChallengeResponse::fromEntity);
     }
 
     /**
@@ -185,6 +219,7 @@ public class AdminService {
         challenge.setFocusPhonemes(request.getFocusPhonemes());
 
         challenge = challengeRepository.save(challenge);
+        publishIfApproved(challenge);
         return ChallengeResponse.fromEntity(challenge);
     }
 
@@ -208,6 +243,7 @@ public class AdminService {
         challenge.setFocusPhonemes(request.getFocusPhonemes());
 
         challenge = challengeRepository.save(challenge);
+        publishIfApproved(challenge);
         return ChallengeResponse.fromEntity(challenge);
     }
 
@@ -261,10 +297,11 @@ public class AdminService {
     // ==========================================
 
     @Transactional(readOnly = true)
-    public List<LevelResponse> getAllLevels() {
-        return levelRepository.findAll().stream()
-                .map(LevelResponse::fromEntity)
-                .collect(Collectors.toList());
+    public PageResponse<LevelResponse> getAllLevels(ContentStatus status, UUID dialectId, PageQuery query) {
+        Pageable pageable = query.toPageable(LEVEL_SORT);
+        return Paging.ofIds(levelRepository.findIdSliceByFilter(status, dialectId, pageable), query.countMode(),
+                () -> levelRepository.countByFilter(status, dialectId),
+                levelRepository::findByIdIn, Level::getId, LevelResponse::fromEntity);
     }
 
     @Transactional(readOnly = true)
@@ -329,18 +366,16 @@ public class AdminService {
 
     @Transactional(readOnly = true)
     public List<LevelResponse> getPendingLevels() {
-        return levelRepository.findAll().stream()
-                .filter(level -> org.fsa_2026.company_fsa_captone_2026.entity.enums.ContentStatus.PENDING
-                        .equals(level.getStatus()))
+        return levelRepository.findByStatus(org.fsa_2026.company_fsa_captone_2026.entity.enums.ContentStatus.PENDING)
+                .stream()
                 .map(LevelResponse::fromEntity)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<ChallengeResponse> getPendingChallenges() {
-        return challengeRepository.findAll().stream()
-                .filter(challenge -> org.fsa_2026.company_fsa_captone_2026.entity.enums.ContentStatus.PENDING
-                        .equals(challenge.getStatus()))
+        return challengeRepository.findByStatus(org.fsa_2026.company_fsa_captone_2026.entity.enums.ContentStatus.PENDING)
+                .stream()
                 .map(ChallengeResponse::fromEntity)
                 .collect(Collectors.toList());
     }
@@ -379,6 +414,12 @@ public class AdminService {
         }
 
         targetLevel = levelRepository.save(targetLevel);
+        if (ContentStatus.APPROVED.equals(targetLevel.getStatus())) {
+            events.publishEvent(ContentApproved.builder()
+                    .contentType(ContentApproved.LEVEL)
+                    .contentId(targetLevel.getId())
+                    .build());
+        }
 
         String contentSnapshot = "";
         try {
@@ -435,6 +476,10 @@ public class AdminService {
         }
 
         targetChallenge = challengeRepository.save(targetChallenge);
+        if (!publishIfApproved(targetChallenge)) {
+            // có thể vừa rời trạng thái APPROVED → index gợi ý phải bỏ challenge này
+            recommendationService.requestRebuild();
+        }
 
         String contentSnapshot = "";
         try {
@@ -459,9 +504,8 @@ public class AdminService {
 
     @Transactional(readOnly = true)
     public List<QuizResponse> getPendingQuizzes() {
-        return quizRepository.findAll().stream()
-                .filter(quiz -> org.fsa_2026.company_fsa_captone_2026.entity.enums.ContentStatus.PENDING
-                        .equals(quiz.getStatus()))
+        return quizRepository.findByStatus(org.fsa_2026.company_fsa_captone_2026.entity.enums.ContentStatus.PENDING)
+                .stream()
                 .map(QuizResponse::fromEntity)
                 .collect(Collectors.toList());
     }
@@ -489,6 +533,7 @@ public class AdminService {
                 targetQuiz.setPassingScore(quiz.getPassingScore());
                 targetQuiz.setTimeLimitMinutes(quiz.getTimeLimitMinutes());
                 targetQuiz.setQuestionCount(quiz.getQuestionCount());
+                targetQuiz.setQuizType(quiz.getQuizType());
                 
                 if (targetQuiz.getQuestions() != null) {
                     targetQuiz.getQuestions().clear();
@@ -506,6 +551,7 @@ public class AdminService {
                             .questionOrder(q.getQuestionOrder())
                             .points(q.getPoints())
                             .challenge(q.getChallenge())
+                            .answerKey(q.getAnswerKey())
                             .build())
                         .collect(Collectors.toList());
                     targetQuiz.getQuestions().addAll(newQs);
@@ -526,6 +572,13 @@ public class AdminService {
         }
 
         targetQuiz = quizRepository.save(targetQuiz);
+        quizRuntimeService.evictSnapshot(targetQuiz.getId());
+        if (ContentStatus.APPROVED.equals(targetQuiz.getStatus())) {
+            events.publishEvent(ContentApproved.builder()
+                    .contentType(ContentApproved.QUIZ)
+                    .contentId(targetQuiz.getId())
+                    .build());
+        }
 
         String contentSnapshot = "";
         try {
@@ -604,6 +657,24 @@ public class AdminService {
                 .build();
     }
 
+    /**
+     * Challenge đang APPROVED → phát ContentApproved (tính trước audio mẫu, build lại
+     * index gợi ý chạy trong listener sau commit)
+     *
+     * @return true nếu đã phát event
+     */
+    private boolean publishIfApproved(Challenge challenge) {
+        if (!ContentStatus.APPROVED.equals(challenge.getStatus())) {
+            return false;
+        }
+        events.publishEvent(ContentApproved.builder()
+                .contentType(ContentApproved.CHALLENGE)
+                .contentId(challenge.getId())
+                .referenceAudioUrl(challenge.getReferenceAudioUrl())
+                .build());
+        return true;
+    }
+
     /**
      * Generate DiceBear avatar URL from name
      */
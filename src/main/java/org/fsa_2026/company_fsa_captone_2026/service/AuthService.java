@@ -3,24 +3,30 @@ package org.fsa_2026.company_fsa_captone_2026.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.fsa_2026.company_fsa_captone_2026.common.JwtTokenProvider;
+import org.fsa_2026.company_fsa_captone_2026.common.event.AccountRegistered;
+import org.fsa_2026.company_fsa_captone_2026.common.event.DomainEventListener;
+import org.fsa_2026.company_fsa_captone_2026.config.AccountUserDetails;
 import org.fsa_2026.company_fsa_captone_2026.dto.*;
 import org.fsa_2026.company_fsa_captone_2026.entity.Account;
-import org.fsa_2026.company_fsa_captone_2026.entity.RefreshToken;
 import org.fsa_2026.company_fsa_captone_2026.entity.UserProfile;
 import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
 import org.fsa_2026.company_fsa_captone_2026.repository.AccountRepository;
-import org.fsa_2026.company_fsa_captone_2026.repository.RefreshTokenRepository;
 import org.fsa_2026.company_fsa_captone_2026.repository.UserProfileRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Authentication Service
@@ -33,16 +39,22 @@ public class AuthService {
 
     private final AccountRepository accountRepository;
     private final UserProfileRepository userProfileRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
     private final EmailService emailService;
+    private final ApplicationEventPublisher events;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Register a new user account
+     *
+     * <p>
+     * Không @Transactional: BCrypt chạy trước khi mở transaction (không giữ connection
+     * trong lúc hash); chỉ phần ghi account, profile và event nằm trong transaction.
+     * </p>
      */
-    @Transactional
     public RegisterResponse register(RegisterRequest request) {
         // Validate uniqueness
         Map<String, String> errors = new HashMap<>();
@@ -58,13 +70,18 @@ public class AuthService {
             throw new ValidationException("Xác thực dữ liệu thất bại", errors);
         }
 
+        String passwordHash = passwordEncoder.encode(request.getPassword());
+        return transactionTemplate.execute(status -> createUserAccount(request, passwordHash));
+    }
+
+    private RegisterResponse createUserAccount(RegisterRequest request, String passwordHash) {
         // Tạo mã OTP 6 số để xác thực email
         String verifyCode = generateOtpCode();
 
         // Create Account với role USER (đăng ký thường)
         Account account = Account.createUserAccount(
                 request.getEmail(),
-                passwordEncoder.encode(request.getPassword()),
+                passwordHash,
                 request.getPhone(),
                 request.getRegion());
         // Set OTP ngay trước khi save lần đầu (tránh save 2 lần)
@@ -92,23 +109,36 @@ public class AuthService {
                 .role(account.getRoleCode().name())
                 .build();
 
-        // Gửi email xác thực (async - không block response, không ảnh hưởng
-        // transaction)
-        try {
-            emailService.sendEmailVerification(request.getEmail(), request.getFullName(), verifyCode);
-        } catch (Exception e) {
-            // @Async method: exception thường không tới đây, nhưng phòng trường hợp proxy
-            // lỗi
-            log.error("Lỗi khi gửi email xác thực đến: {} - {}", request.getEmail(), e.getMessage(), e);
-        }
+        // Email xác thực gửi trong listener sau commit (không block response, không gửi
+        // OTP cho account bị rollback)
+        events.publishEvent(AccountRegistered.builder()
+                .accountId(account.getId())
+                .email(account.getEmail())
+                .fullName(request.getFullName())
+                .build());
 
         return response;
     }
 
     /**
-     * Create a new Admin account
+     * Gửi email xác thực cho account vừa đăng ký; OTP đọc lại từ DB (không nằm
+     * trong event đã lưu), bỏ qua nếu đã xác thực hoặc mã đã hết hạn. Gửi đồng bộ để
+     * lỗi SMTP làm publication thất bại và được gửi lại; chạy ngoài transaction nên
+     * không giữ connection / khoá publication trong lúc chờ SMTP
+     */
+    @DomainEventListener(transactional = false)
+    public void onAccountRegistered(AccountRegistered event) {
+        accountRepository.findById(event.getAccountId())
+                .filter(account -> !Boolean.TRUE.equals(account.getEmailVerified()))
+                .filter(account -> account.getEmailVerifyCode() != null && account.getEmailVerifyExpiresAt() != null
+                        && account.getEmailVerifyExpiresAt().isAfter(Instant.now()))
+                .ifPresent(account -> emailService.deliverEmailVerification(event.getEmail(), event.getFullName(),
+                        account.getEmailVerifyCode()));
+    }
+
+    /**
+     * Create a new Admin account (hash ngoài transaction như {@link #register})
      */
-    @Transactional
     public RegisterResponse createAdmin(AdminCreateRequest request) {
         // Validate uniqueness
         Map<String, String> errors = new HashMap<>();
@@ -121,10 +151,15 @@ public class AuthService {
             throw new ValidationException("Xác thực dữ liệu thất bại", errors);
         }
 
+        String passwordHash = passwordEncoder.encode(request.getPassword());
+        return transactionTemplate.execute(status -> createAdminAccount(request, passwordHash));
+    }
+
+    private RegisterResponse createAdminAccount(AdminCreateRequest request, String passwordHash) {
         // Create Account với role ADMIN
         Account account = Account.createUserAccount(
                 request.getEmail(),
-                passwordEncoder.encode(request.getPassword()),
+                passwordHash,
                 null,
                 null);
 
@@ -155,20 +190,23 @@ public class AuthService {
 
     /**
      * Authenticate user and return tokens
+     *
+     * <p>
+     * Không @Transactional: BCrypt (kể cả thời gian chờ trong hàng đợi hash) chạy khi chưa
+     * giữ connection nào; chỉ {@link RefreshTokenService#issue} mở transaction để ghi token.
+     * </p>
      */
-    @Transactional
     public LoginResponse login(LoginRequest request) {
+        Authentication authentication;
         try {
-            // Authenticate with Spring Security
-            authenticationManager.authenticate(
+            // Authenticate with Spring Security (principal chứa Account + UserProfile đã load)
+            authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword()));
         } catch (BadCredentialsException e) {
             throw new ApiException("UNAUTHORIZED", "Email hoặc mật khẩu không đúng");
         }
 
-        // Load account
-        Account account = accountRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new ApiException("UNAUTHORIZED", "Email hoặc mật khẩu không đúng"));
+        Account account = ((AccountUserDetails) authentication.getPrincipal()).getAccount();
 
         // Kiểm tra email đã xác thực chưa
         if (!account.getEmailVerified()) {
@@ -176,27 +214,14 @@ public class AuthService {
                     "Email chưa được xác thực. Vui lòng kiểm tra hộp thư để xác nhận email");
         }
 
-        // Load profile
-        UserProfile profile = userProfileRepository.findByAccountId(account.getId())
-                .orElse(null);
+        UserProfile profile = account.getUserProfile();
 
         // Generate tokens
         String accessToken = jwtTokenProvider.generateAccessToken(
                 account.getId(), account.getEmail(), account.getRoleCode().name());
 
-        // Revoke existing refresh tokens and create new one
-        refreshTokenRepository.revokeAllByAccountId(account.getId());
-
-        String refreshTokenStr = jwtTokenProvider.generateRefreshToken();
-        RefreshToken refreshToken = RefreshToken.builder()
-                .token(refreshTokenStr)
-                .account(account)
-                .expiresAt(Instant.now().plusMillis(jwtTokenProvider.getRefreshTokenExpirationMs()))
-                .revoked(false)
-                .createdAt(Instant.now())
-                .build();
-
-        refreshTokenRepository.save(refreshToken);
+        // Revoke existing refresh tokens and start a new rotation family
+        String refreshTokenStr = refreshTokenService.issue(account);
 
         log.info("User logged in successfully: {}", request.getEmail());
 
@@ -217,66 +242,45 @@ public class AuthService {
     /**
      * Refresh access token using refresh token with rotation
      */
-    @Transactional
     public RefreshTokenResponse refreshToken(String refreshTokenStr) {
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(refreshTokenStr)
-                .orElseThrow(() -> new ApiException("UNAUTHORIZED", "Refresh token không hợp lệ"));
-
-        if (!refreshToken.isUsable()) {
-            throw new ApiException("UNAUTHORIZED", "Refresh token đã hết hạn hoặc bị thu hồi");
-        }
-
-        Account account = refreshToken.getAccount();
+        // Rotate refresh token: revoke old (reuse → revoke family), create new in same family
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshTokenStr);
+        Account account = rotation.account();
 
         // Generate new access token
         String newAccessToken = jwtTokenProvider.generateAccessToken(
                 account.getId(), account.getEmail(), account.getRoleCode().name());
 
-        // Rotate refresh token: revoke old, create new
-        refreshToken.setRevoked(true);
-        refreshTokenRepository.save(refreshToken);
-
-        String newRefreshTokenStr = jwtTokenProvider.generateRefreshToken();
-        RefreshToken newRefreshToken = RefreshToken.builder()
-                .token(newRefreshTokenStr)
-                .account(account)
-                .expiresAt(Instant.now().plusMillis(jwtTokenProvider.getRefreshTokenExpirationMs()))
-                .revoked(false)
-                .createdAt(Instant.now())
-                .build();
-
-        refreshTokenRepository.save(newRefreshToken);
-
         log.info("Token refreshed for user: {}", account.getEmail());
 
         return RefreshTokenResponse.builder()
                 .accessToken(newAccessToken)
-                .refreshToken(newRefreshTokenStr)
+                .refreshToken(rotation.refreshToken())
                 .build();
     }
 
     /**
      * Logout user by revoking their refresh token
      */
-    @Transactional
     public void logout(String refreshTokenStr) {
-        refreshTokenRepository.findByToken(refreshTokenStr).ifPresent(refreshToken -> {
-            refreshToken.setRevoked(true);
-            refreshTokenRepository.save(refreshToken);
-            log.info("Token revoked during logout for user: {}", refreshToken.getAccount().getEmail());
-        });
+        refreshTokenService.revoke(refreshTokenStr);
     }
 
     /**
-     * Get user profile by email
+     * Get user profile by account id
      */
     @Transactional(readOnly = true)
-    public UserProfileResponse getUserProfile(String email) {
-        Account account = accountRepository.findByEmail(email)
+    public UserProfileResponse getUserProfile(UUID accountId) {
+        Account account = accountRepository.findWithProfileById(accountId)
                 .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy người dùng"));
+        return toUserProfileResponse(account);
+    }
 
-        UserProfile profile = userProfileRepository.findByAccountId(account.getId())
-                .orElse(null);
+    /**
+     * Map Account (đã fetch kèm UserProfile) → UserProfileResponse
+     */
+    UserProfileResponse toUserProfileResponse(Account account) {
+        UserProfile profile = account.getUserProfile();
 
         return UserProfileResponse.builder()
                 .id(account.getId().toString())
@@ -401,11 +405,27 @@ public class AuthService {
     }
 
     /**
-     * Đặt lại mật khẩu bằng mã OTP
+     * Đặt lại mật khẩu bằng mã OTP. Kiểm tra mã rồi hash ngoài transaction; transaction ghi
+     * kiểm tra lại mã (lock account) để hai request cùng mã không cùng đặt được mật khẩu.
      */
-    @Transactional
     public void resetPassword(String email, String resetCode, String newPassword) {
-        Account account = accountRepository.findByEmail(email)
+        requireValidResetCode(accountRepository.findByEmail(email), resetCode);
+
+        String passwordHash = passwordEncoder.encode(newPassword);
+        transactionTemplate.executeWithoutResult(status -> {
+            Account account = requireValidResetCode(accountRepository.findForUpdateByEmail(email), resetCode);
+            // Cập nhật mật khẩu mới
+            account.setPasswordHash(passwordHash);
+            account.setResetCode(null);
+            account.setResetExpiresAt(null);
+            accountRepository.save(account);
+        });
+
+        log.info("Đặt lại mật khẩu thành công cho: {}", email);
+    }
+
+    private static Account requireValidResetCode(Optional<Account> found, String resetCode) {
+        Account account = found
                 .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy tài khoản với email này"));
 
         // Kiểm tra mã
@@ -417,14 +437,7 @@ public class AuthService {
         if (account.getResetExpiresAt() == null || Instant.now().isAfter(account.getResetExpiresAt())) {
             throw new ApiException("BAD_REQUEST", "Mã xác nhận đã hết hạn");
         }
-
-        // Cập nhật mật khẩu mới
-        account.setPasswordHash(passwordEncoder.encode(newPassword));
-        account.setResetCode(null);
-        account.setResetExpiresAt(null);
-        accountRepository.save(account);
-
-        log.info("Đặt lại mật khẩu thành công cho: {}", email);
+        return account;
     }
 
     /**
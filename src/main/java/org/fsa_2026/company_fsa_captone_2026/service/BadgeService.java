@@ -2,17 +2,21 @@ package org.fsa_2026.company_fsa_captone_2026.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.paging.Paging;
+import org.fsa_2026.company_fsa_captone_2026.common.paging.SortFields;
 import org.fsa_2026.company_fsa_captone_2026.dto.AccountBadgeResponse;
 import org.fsa_2026.company_fsa_captone_2026.dto.BadgeResponse;
-import org.fsa_2026.company_fsa_captone_2026.entity.Account;
-import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
+import org.fsa_2026.company_fsa_captone_2026.dto.PageQuery;
+import org.fsa_2026.company_fsa_captone_2026.dto.PageResponse;
 import org.fsa_2026.company_fsa_captone_2026.repository.AccountBadgeRepository;
-import org.fsa_2026.company_fsa_captone_2026.repository.AccountRepository;
 import org.fsa_2026.company_fsa_captone_2026.repository.BadgeRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -20,24 +24,24 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BadgeService {
 
+    private static final SortFields BADGE_SORT = SortFields.defaultTo(Sort.by("name").and(Sort.by("id")))
+            .allow("name")
+            .allow("code")
+            .allow("createdAt");
+
     private final BadgeRepository badgeRepository;
     private final AccountBadgeRepository accountBadgeRepository;
-    private final AccountRepository accountRepository;
 
     @Transactional(readOnly = true)
-    public List<BadgeResponse> getAllBadges() {
-        return badgeRepository.findAll()
-                .stream()
-                .map(BadgeResponse::fromEntity)
-                .collect(Collectors.toList());
+    public PageResponse<BadgeResponse> getAllBadges(PageQuery query) {
+        Pageable pageable = query.toPageable(BADGE_SORT);
+        return Paging.of(badgeRepository.findAllBy(pageable), query.countMode(), badgeRepository::count,
+                BadgeResponse::fromEntity);
     }
 
     @Transactional(readOnly = true)
-    public List<AccountBadgeResponse> getMyBadges(String email) {
-        Account account = accountRepository.findByEmail(email)
-                .orElseThrow(() -> new ApiException("NOT_FOUND", "Người dùng không tồn tại"));
-
-        return accountBadgeRepository.findByAccountId(account.getId())
+    public List<AccountBadgeResponse> getMyBadges(UUID accountId) {
+        return accountBadgeRepository.findByAccountId(accountId)
                 .stream()
                 .map(AccountBadgeResponse::fromEntity)
                 .collect(Collectors.toList());
@@ -4,10 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.fsa_2026.company_fsa_captone_2026.dto.ClassroomMemberResponse;
 import org.fsa_2026.company_fsa_captone_2026.dto.ClassroomResponse;
-import org.fsa_2026.company_fsa_captone_2026.entity.Account;
 import org.fsa_2026.company_fsa_captone_2026.entity.ClassroomMember;
-import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
-import org.fsa_2026.company_fsa_captone_2026.repository.AccountRepository;
 import org.fsa_2026.company_fsa_captone_2026.repository.ClassroomMemberRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,14 +19,10 @@ import java.util.stream.Collectors;
 public class ClassroomService {
 
         private final ClassroomMemberRepository classroomMemberRepository;
-        private final AccountRepository accountRepository;
 
         @Transactional(readOnly = true)
-        public List<ClassroomResponse> getMyClassrooms(String email) {
-                Account account = accountRepository.findByEmail(email)
-                                .orElseThrow(() -> new ApiException("NOT_FOUND", "Account not found"));
-
-                return classroomMemberRepository.findByStudentId(account.getId())
+        public List<ClassroomResponse> getMyClassrooms(UUID accountId) {
+                return classroomMemberRepository.findByStudentId(accountId)
                                 .stream()
                                 .map(ClassroomMember::getClassroom)
                                 .map(ClassroomResponse::fromEntity)
@@ -37,12 +30,8 @@ public class ClassroomService {
         }
 
         @Transactional(readOnly = true)
-        public List<ClassroomMemberResponse> getClassroomMembers(String email, String classroomId) {
-                // Authenticate the request implicitly by ensuring the user exists (or we could
-                // enforce they belong to the room)
-                accountRepository.findByEmail(email)
-                                .orElseThrow(() -> new ApiException("NOT_FOUND", "Account not found"));
-
+        public List<ClassroomMemberResponse> getClassroomMembers(UUID accountId, String classroomId) {
+                // Request đã được xác thực bằng JWT (principal mang account id), không cần tra account
                 return classroomMemberRepository.findByClassroomId(UUID.fromString(classroomId))
                                 .stream()
                                 .map(ClassroomMemberResponse::fromEntity)
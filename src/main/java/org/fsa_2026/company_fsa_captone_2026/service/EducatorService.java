@@ -2,15 +2,33 @@ package org.fsa_2026.company_fsa_captone_2026.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.paging.Paging;
+import org.fsa_2026.company_fsa_captone_2026.common.roster.RosterEntry;
+import org.fsa_2026.company_fsa_captone_2026.common.roster.RosterParser;
+import org.fsa_2026.company_fsa_captone_2026.common.paging.SortFields;
 import org.fsa_2026.company_fsa_captone_2026.dto.*;
 import org.fsa_2026.company_fsa_captone_2026.entity.*;
 import org.fsa_2026.company_fsa_captone_2026.entity.enums.ContentStatus;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.QuizType;
 import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
 import org.fsa_2026.company_fsa_captone_2026.repository.*;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.regex.Pattern;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -21,6 +39,17 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 @RequiredArgsConstructor
 public class EducatorService {
 
+        private static final SortFields PLACEMENT_RULE_SORT = SortFields
+                        .defaultTo(Sort.by("priority").and(Sort.by("id")))
+                        .allow("priority")
+                        .allow("threshold")
+                        .allow("createdAt");
+        private static final SortFields CLASSROOM_MEMBER_SORT = SortFields
+                        .defaultTo(Sort.by(Sort.Direction.DESC, "joinedAt").and(Sort.by("id")))
+                        .allow("joinedAt")
+                        .allow("email", "student.email");
+        private static final Pattern ROSTER_EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
         private final ClassroomRepository classroomRepository;
         private final ClassroomMemberRepository classroomMemberRepository;
         private final AccountRepository accountRepository;
@@ -35,14 +64,20 @@ public class EducatorService {
         private final QuizRepository quizRepository;
         private final org.fsa_2026.company_fsa_captone_2026.repository.ContentApprovalHistoryRepository contentApprovalHistoryRepository;
         private final ObjectMapper objectMapper;
+        private final RecommendationService recommendationService;
+        private final PlacementService placementService;
+        private final org.fsa_2026.company_fsa_captone_2026.config.PartitioningProperties partitioningProperties;
+        private final JdbcTemplate jdbcTemplate;
+        private final AuditorAware<String> auditorAware;
+        private final TransactionTemplate transactionTemplate;
 
         @Transactional(readOnly = true)
-        public ClassroomPerformanceResponse getClassroomPerformance(String educatorEmail, UUID classroomId) {
+        public ClassroomPerformanceResponse getClassroomPerformance(UUID educatorId, UUID classroomId) {
                 Classroom classroom = classroomRepository.findById(classroomId)
                                 .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy lớp học"));
-                validateEducatorOwnership(educatorEmail, classroom);
+                validateEducatorOwnership(educatorId, classroom);
 
-                List<Attempt> attempts = attemptRepository.findByClassroomId(classroomId);
+                List<Attempt> attempts = attemptRepository.findByClassroomIdSince(classroomId, analyticsSince());
 
                 if (attempts.isEmpty()) {
                         return ClassroomPerformanceResponse.builder()
@@ -76,8 +111,25 @@ public class EducatorService {
 
         private List<ClassroomPerformanceResponse.CommonErrorResponse> getCommonErrors(List<Attempt> attempts) {
                 List<UUID> attemptIds = attempts.stream().map(Attempt::getId).collect(Collectors.toList());
-                List<AttemptPhonemeFeedback> allFeedback = phonemeFeedbackRepository.findByAttemptIdIn(attemptIds);
+                java.time.Instant oldest = attempts.stream().map(Attempt::getCreatedAt)
+                                .min(Comparator.naturalOrder()).orElseThrow();
+                return summarizeCommonErrors(
+                                phonemeFeedbackRepository.findByAttemptIdInAndCreatedAtGreaterThanEqual(attemptIds, oldest));
+        }
 
+        /**
+         * Thống kê chỉ đọc app.partitioning.analytics-months tháng gần nhất (partition pruning)
+         */
+        private java.time.Instant analyticsSince() {
+                return partitioningProperties.analyticsSince(java.time.Instant.now());
+        }
+
+        /**
+         * Gom feedback theo phoneme → 5 phoneme có điểm trung bình thấp nhất
+         * (tách khỏi truy vấn để benchmark riêng, xem CommonErrorsBenchmark)
+         */
+        static List<ClassroomPerformanceResponse.CommonErrorResponse> summarizeCommonErrors(
+                        List<AttemptPhonemeFeedback> allFeedback) {
                 Map<String, List<AttemptPhonemeFeedback>> groupedByPhoneme = allFeedback.stream()
                                 .collect(Collectors.groupingBy(AttemptPhonemeFeedback::getPhonemeIpa));
 
@@ -115,8 +167,8 @@ public class EducatorService {
         }
 
         @Transactional
-        public LevelResponse createLevel(String educatorEmail, LevelCreateRequest request) {
-                Account educator = getAccountByEmail(educatorEmail);
+        public LevelResponse createLevel(UUID educatorId, LevelCreateRequest request) {
+                Account educator = accountRepository.getReferenceById(educatorId);
                 Dialect dialect = dialectRepository.findById(request.getDialectId())
                                 .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy Dialect"));
 
@@ -149,8 +201,8 @@ public class EducatorService {
         }
 
         @Transactional
-        public LevelResponse updateLevel(String educatorEmail, UUID levelId, LevelUpdateRequest request) {
-                Account educator = getAccountByEmail(educatorEmail);
+        public LevelResponse updateLevel(UUID educatorId, UUID levelId, LevelUpdateRequest request) {
+                Account educator = accountRepository.getReferenceById(educatorId);
                 Level level = levelRepository.findById(levelId)
                                 .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy cấp độ"));
 
@@ -207,10 +259,7 @@ public class EducatorService {
         }
 
         @Transactional
-        public void deleteLevel(String educatorEmail, UUID levelId) {
-                // Assert educator exists
-                getAccountByEmail(educatorEmail);
-
+        public void deleteLevel(UUID educatorId, UUID levelId) {
                 Level level = levelRepository.findById(levelId)
                                 .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy cấp độ"));
 
@@ -221,11 +270,12 @@ public class EducatorService {
                 }
 
                 levelRepository.delete(level);
+                recommendationService.requestRebuild();
         }
 
         @Transactional
-        public ChallengeResponse createChallenge(String educatorEmail, ChallengeCreateRequest request) {
-                Account educator = getAccountByEmail(educatorEmail);
+        public ChallengeResponse createChallenge(UUID educatorId, ChallengeCreateRequest request) {
+                Account educator = accountRepository.getReferenceById(educatorId);
                 Level level = levelRepository.findById(request.getLevelId())
                                 .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy Level"));
 
@@ -253,9 +303,9 @@ public class EducatorService {
         }
 
         @Transactional
-        public ChallengeResponse updateChallenge(String educatorEmail, UUID challengeId,
+        public ChallengeResponse updateChallenge(UUID educatorId, UUID challengeId,
                         ChallengeCreateRequest request) {
-                Account educator = getAccountByEmail(educatorEmail);
+                Account educator = accountRepository.getReferenceById(educatorId);
                 Challenge challenge = challengeRepository.findById(challengeId)
                                 .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy Challenge"));
 
@@ -303,14 +353,12 @@ public class EducatorService {
         }
 
         @Transactional
-        public void deleteChallenge(String educatorEmail, UUID id) {
-                // Assert educator exists
-                getAccountByEmail(educatorEmail);
-
+        public void deleteChallenge(UUID educatorId, UUID id) {
                 if (!challengeRepository.existsById(id)) {
                         throw new ApiException("NOT_FOUND", "Không tìm thấy Challenge");
                 }
                 challengeRepository.deleteById(id);
+                recommendationService.requestRebuild();
         }
 
         @Transactional
@@ -323,8 +371,8 @@ public class EducatorService {
         }
 
         @Transactional
-        public void submitFeedback(String educatorEmail, UUID studentId, FeedbackCreateRequest request) {
-                Account educator = getAccountByEmail(educatorEmail);
+        public void submitFeedback(UUID educatorId, UUID studentId, FeedbackCreateRequest request) {
+                Account educator = accountRepository.getReferenceById(educatorId);
                 Attempt attempt = attemptRepository.findById(request.getAttemptId())
                                 .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy lượt luyện tập"));
 
@@ -339,10 +387,14 @@ public class EducatorService {
         }
 
         @Transactional(readOnly = true)
-        public List<PlacementRuleResponse> getPlacementRules() {
-                return placementRuleRepository.findAll().stream()
-                                .map(PlacementRuleResponse::fromEntity)
-                                .collect(Collectors.toList());
+        public PageResponse<PlacementRuleResponse> getPlacementRules(UUID dialectId, UUID errorTagId,
+                        PageQuery query) {
+                Pageable pageable = query.toPageable(PLACEMENT_RULE_SORT);
+                return Paging.ofIds(placementRuleRepository.findIdSliceByFilter(dialectId, errorTagId, pageable),
+                                query.countMode(),
+                                () -> placementRuleRepository.countByFilter(dialectId, errorTagId),
+                                placementRuleRepository::findForResponseByIdIn, PlacementRule::getId,
+                                PlacementRuleResponse::fromEntity);
         }
 
         @Transactional
@@ -353,11 +405,8 @@ public class EducatorService {
                 Dialect dialect = dialectRepository.findById(request.getDialectId())
                                 .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy Dialect cấu hình"));
 
-                List<PlacementRule> existing = placementRuleRepository.findAll();
-                PlacementRule rule = existing.stream()
-                                .filter(r -> r.getErrorTag().getId().equals(request.getErrorTagId())
-                                                && r.getTargetDialect().getId().equals(request.getDialectId()))
-                                .findFirst()
+                PlacementRule rule = placementRuleRepository
+                                .findByErrorTagIdAndTargetDialectId(request.getErrorTagId(), request.getDialectId())
                                 .orElse(new PlacementRule());
 
                 rule.setErrorTag(errorTag);
@@ -366,13 +415,14 @@ public class EducatorService {
                 rule.setCheckpoint(request.getCheckpoint());
                 rule.setPriority(request.getPriority());
 
-                return PlacementRuleResponse.fromEntity(placementRuleRepository.save(rule));
+                PlacementRule saved = placementRuleRepository.save(rule);
+                placementService.requestRebuild();
+                return PlacementRuleResponse.fromEntity(saved);
         }
 
         @Transactional(readOnly = true)
-        public EducatorDashboardSummaryResponse getDashboardSummary(String educatorEmail) {
-                Account educator = getAccountByEmail(educatorEmail);
-                List<Classroom> classrooms = classroomRepository.findByEducatorId(educator.getId());
+        public EducatorDashboardSummaryResponse getDashboardSummary(UUID educatorId) {
+                List<Classroom> classrooms = classroomRepository.findByEducatorId(educatorId);
 
                 long totalStudents = classrooms.stream()
                                 .flatMap(c -> classroomMemberRepository.findByClassroomId(c.getId()).stream())
@@ -380,8 +430,9 @@ public class EducatorService {
                                 .distinct()
                                 .count();
 
+                java.time.Instant since = analyticsSince();
                 List<Attempt> classroomAttempts = classrooms.stream()
-                                .flatMap(c -> attemptRepository.findByClassroomId(c.getId()).stream())
+                                .flatMap(c -> attemptRepository.findByClassroomIdSince(c.getId(), since).stream())
                                 .collect(Collectors.toList());
 
                 long totalAttempts = classroomAttempts.size();
@@ -399,9 +450,8 @@ public class EducatorService {
         }
 
         @Transactional(readOnly = true)
-        public List<ClassroomResponse> getClassrooms(String educatorEmail) {
-                Account educator = getAccountByEmail(educatorEmail);
-                return classroomRepository.findByEducatorId(educator.getId())
+        public List<ClassroomResponse> getClassrooms(UUID educatorId) {
+                return classroomRepository.findByEducatorId(educatorId)
                                 .stream()
                                 .map(ClassroomResponse::fromEntity)
                                 .collect(Collectors.toList());
@@ -409,15 +459,12 @@ public class EducatorService {
 
         @Transactional(readOnly = true)
         public List<LevelSelectionResponse> getAllLevelsForSelection() {
-                return levelRepository.findAll().stream()
-                                .filter(level -> ContentStatus.APPROVED.equals(level.getStatus()))
-                                .map(LevelSelectionResponse::fromEntity)
-                                .collect(Collectors.toList());
+                return levelRepository.findSelectionsByStatus(ContentStatus.APPROVED);
         }
 
         @Transactional
-        public ClassroomResponse createClassroom(String educatorEmail, ClassroomCreateRequest request) {
-                Account educator = getAccountByEmail(educatorEmail);
+        public ClassroomResponse createClassroom(UUID educatorId, ClassroomCreateRequest request) {
+                Account educator = accountRepository.getReferenceById(educatorId);
 
                 Classroom classroom = Classroom.builder()
                                 .educator(educator)
@@ -429,11 +476,11 @@ public class EducatorService {
         }
 
         @Transactional
-        public ClassroomResponse updateClassroom(String educatorEmail, UUID id, ClassroomCreateRequest request) {
+        public ClassroomResponse updateClassroom(UUID educatorId, UUID id, ClassroomCreateRequest request) {
                 Classroom classroom = classroomRepository.findById(id)
                                 .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy lớp học"));
 
-                validateEducatorOwnership(educatorEmail, classroom);
+                validateEducatorOwnership(educatorId, classroom);
 
                 if (request.getName() != null) {
                         classroom.setName(request.getName());
@@ -443,32 +490,35 @@ public class EducatorService {
         }
 
         @Transactional
-        public void deleteClassroom(String educatorEmail, UUID id) {
+        public void deleteClassroom(UUID educatorId, UUID id) {
                 Classroom classroom = classroomRepository.findById(id)
                                 .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy lớp học"));
 
-                validateEducatorOwnership(educatorEmail, classroom);
+                validateEducatorOwnership(educatorId, classroom);
                 classroomRepository.delete(classroom);
         }
 
         @Transactional(readOnly = true)
-        public List<UserManagementResponse> getClassroomStudents(String educatorEmail, UUID classroomId) {
+        public PageResponse<UserManagementResponse> getClassroomStudents(UUID educatorId, UUID classroomId,
+                        PageQuery query) {
                 Classroom classroom = classroomRepository.findById(classroomId)
                                 .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy lớp học"));
 
-                validateEducatorOwnership(educatorEmail, classroom);
+                validateEducatorOwnership(educatorId, classroom);
 
-                return classroomMemberRepository.findByClassroomId(classroomId).stream()
-                                .map(member -> UserManagementResponse.fromEntity(member.getStudent()))
-                                .collect(Collectors.toList());
+                Pageable pageable = query.toPageable(CLASSROOM_MEMBER_SORT);
+                return Paging.of(classroomMemberRepository.findByClassroomId(classroomId, pageable),
+                                query.countMode(),
+                                () -> classroomMemberRepository.countByClassroomId(classroomId),
+                                member -> UserManagementResponse.fromEntity(member.getStudent()));
         }
 
         @Transactional
-        public void addStudentToClassroom(String educatorEmail, UUID classroomId, AddStudentRequest request) {
+        public void addStudentToClassroom(UUID educatorId, UUID classroomId, AddStudentRequest request) {
                 Classroom classroom = classroomRepository.findById(classroomId)
                                 .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy lớp học"));
 
-                validateEducatorOwnership(educatorEmail, classroom);
+                validateEducatorOwnership(educatorId, classroom);
 
                 Account student = accountRepository.findByEmail(request.getEmail())
                                 .orElseThrow(() -> new ApiException("NOT_FOUND",
@@ -486,23 +536,161 @@ public class EducatorService {
                 classroomMemberRepository.save(member);
         }
 
+        /**
+         * Thêm học viên hàng loạt từ file roster CSV / Excel. Không @Transactional: đọc và
+         * parse file (Excel có thể lớn) trước, chỉ phần ghi DB chạy trong transaction
+         */
+        public RosterImportResponse importRoster(UUID educatorId, UUID classroomId, MultipartFile file) {
+                if (file == null || file.isEmpty()) {
+                        throw new ApiException("INVALID_FILE", "File roster không được rỗng");
+                }
+                List<RosterEntry> entries;
+                try (InputStream input = file.getInputStream()) {
+                        entries = RosterParser.parse(file.getOriginalFilename(), input);
+                } catch (IOException e) {
+                        throw new ApiException("IMPORT_FAILED", "Không đọc được file roster: " + e.getMessage());
+                }
+                return transactionTemplate.execute(status -> addStudentsToClassroom(educatorId, classroomId, entries));
+        }
+
         @Transactional
-        public void removeStudentFromClassroom(String educatorEmail, UUID classroomId, UUID studentId) {
+        public RosterImportResponse addStudentsToClassroom(UUID educatorId, UUID classroomId,
+                        BulkAddStudentsRequest request) {
+                List<RosterEntry> entries = new ArrayList<>(request.getEmails().size());
+                for (int i = 0; i < request.getEmails().size(); i++) {
+                        String email = request.getEmails().get(i);
+                        entries.add(new RosterEntry(i + 1, email != null ? email.trim() : ""));
+                }
+                return addStudentsToClassroom(educatorId, classroomId, entries);
+        }
+
+        /**
+         * Số query cố định bất kể số dòng: classroom + ownership, một IN tra email, một IN
+         * tra thành viên hiện có, một JDBC batch INSERT ... WHERE NOT EXISTS
+         */
+        private RosterImportResponse addStudentsToClassroom(UUID educatorId, UUID classroomId,
+                        List<RosterEntry> entries) {
                 Classroom classroom = classroomRepository.findById(classroomId)
                                 .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy lớp học"));
 
-                validateEducatorOwnership(educatorEmail, classroom);
+                validateEducatorOwnership(educatorId, classroom);
+
+                Set<String> emails = entries.stream()
+                                .map(RosterEntry::email)
+                                .filter(email -> ROSTER_EMAIL.matcher(email).matches())
+                                .collect(Collectors.toCollection(LinkedHashSet::new));
+                Map<String, UUID> accountIds = emails.isEmpty() ? Map.of()
+                                : accountRepository.findByEmailIn(emails).stream()
+                                                .collect(Collectors.toMap(AccountEmailView::getEmail,
+                                                                AccountEmailView::getId));
+                Set<UUID> existing = accountIds.isEmpty() ? Set.of()
+                                : new HashSet<>(classroomMemberRepository.findMemberIdsIn(classroomId,
+                                                accountIds.values()));
+
+                List<RosterImportResponse.RowResult> rows = new ArrayList<>(entries.size());
+                List<RosterImportResponse.RowResult> toInsert = new ArrayList<>();
+                Set<String> seen = new HashSet<>();
+                for (RosterEntry entry : entries) {
+                        UUID accountId = accountIds.get(entry.email());
+                        String status;
+                        if (!ROSTER_EMAIL.matcher(entry.email()).matches()) {
+                                status = "INVALID_EMAIL";
+                        } else if (!seen.add(entry.email())) {
+                                status = "DUPLICATE";
+                        } else if (accountId == null) {
+                                status = "NOT_FOUND";
+                        } else if (existing.contains(accountId)) {
+                                status = "ALREADY_MEMBER";
+                        } else {
+                                status = "ADDED";
+                        }
+                        RosterImportResponse.RowResult row = RosterImportResponse.RowResult.builder()
+                                        .row(entry.row())
+                                        .email(entry.email())
+                                        .status(status)
+                                        .accountId(accountId != null ? accountId.toString() : null)
+                                        .build();
+                        rows.add(row);
+                        if ("ADDED".equals(status)) {
+                                toInsert.add(row);
+                        }
+                }
+
+                insertMembers(classroomId, toInsert);
+                int added = (int) rows.stream().filter(row -> "ADDED".equals(row.getStatus())).count();
+                log.info("Roster import for classroom {}: {} rows, {} added", classroomId, rows.size(), added);
+                return RosterImportResponse.builder()
+                                .total(rows.size())
+                                .added(added)
+                                .skipped(rows.size() - added)
+                                .rows(rows)
+                                .build();
+        }
+
+        /**
+         * Ghi thành viên mới trong một batch; dòng đã có trong lớp được đánh dấu
+         * ALREADY_MEMBER. Dùng INSERT ... SELECT ... WHERE NOT EXISTS (chạy được cả trên
+         * H2 của test); hai lần thêm đồng thời va vào uk_classroom_member_classroom_account
+         * → CONFLICT. Driver gộp batch (reWriteBatchedInserts) trả SUCCESS_NO_INFO
+         * → coi như đã thêm, kết quả cuối cùng như nhau: học viên ở trong lớp.
+         * Ghi thẳng JDBC nên created_by / updated_by lấy từ cùng {@link AuditorAware} như
+         * JPA auditing.
+         */
+        private void insertMembers(UUID classroomId, List<RosterImportResponse.RowResult> rows) {
+                if (rows.isEmpty()) {
+                        return;
+                }
+                Timestamp now = Timestamp.from(Instant.now());
+                String auditor = auditorAware.getCurrentAuditor().orElse(null);
+                int[][] counts;
+                try {
+                        counts = jdbcTemplate.batchUpdate("INSERT INTO classroom_member "
+                                        + "(id, classroom_id, student_id, joined_at, created_at, updated_at, created_by, "
+                                        + "updated_by) SELECT ?, ?, ?, ?, ?, ?, ?, ? WHERE NOT EXISTS (SELECT 1 FROM "
+                                        + "classroom_member WHERE classroom_id = ? AND student_id = ?)",
+                                        rows, rows.size(), (statement, row) -> {
+                                                UUID studentId = UUID.fromString(row.getAccountId());
+                                                statement.setObject(1, UUID.randomUUID());
+                                                statement.setObject(2, classroomId);
+                                                statement.setObject(3, studentId);
+                                                statement.setTimestamp(4, now);
+                                                statement.setTimestamp(5, now);
+                                                statement.setTimestamp(6, now);
+                                                statement.setString(7, auditor);
+                                                statement.setString(8, auditor);
+                                                statement.setObject(9, classroomId);
+                                                statement.setObject(10, studentId);
+                                        });
+                } catch (DataIntegrityViolationException e) {
+                        throw new ApiException("CONFLICT", "Danh sách lớp vừa được cập nhật, vui lòng thử lại");
+                }
+                for (int i = 0; i < rows.size(); i++) {
+                        if (counts[0][i] == 0) {
+                                rows.get(i).setStatus("ALREADY_MEMBER");
+                        } else if (counts[0][i] != Statement.SUCCESS_NO_INFO && counts[0][i] < 0) {
+                                throw new ApiException("IMPORT_FAILED", "Thêm học viên vào lớp thất bại");
+                        }
+                }
+        }
+
+        @Transactional
+        public void removeStudentFromClassroom(UUID educatorId, UUID classroomId, UUID studentId) {
+                Classroom classroom = classroomRepository.findById(classroomId)
+                                .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy lớp học"));
+
+                validateEducatorOwnership(educatorId, classroom);
 
                 classroomMemberRepository.deleteByClassroomIdAndStudentId(classroomId, studentId);
         }
 
         @Transactional(readOnly = true)
-        public StudentAnalyticsResponse getStudentAnalytics(String educatorEmail, UUID studentId) {
+        public StudentAnalyticsResponse getStudentAnalytics(UUID educatorId, UUID studentId) {
                 Account student = accountRepository.findById(studentId)
                                 .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy học viên"));
 
-                // Lấy tất cả feedback về phát âm của học viên này
-                List<AttemptPhonemeFeedback> feedbackList = phonemeFeedbackRepository.findByStudentId(studentId);
+                // Feedback về phát âm của học viên này trong cửa sổ thống kê
+                List<AttemptPhonemeFeedback> feedbackList = phonemeFeedbackRepository.findByStudentIdSince(studentId,
+                                analyticsSince());
 
                 // Group by Phoneme IPA và tính điểm trung bình
                 Map<String, List<AttemptPhonemeFeedback>> groupedByPhoneme = feedbackList.stream()
@@ -534,25 +722,23 @@ public class EducatorService {
         }
 
         @Transactional(readOnly = true)
-        public List<QuizResponse> getEducatorQuizzes(String educatorEmail) {
-                Account educator = getAccountByEmail(educatorEmail);
-                return quizRepository.findByCreatedByOrderByCreatedAtDesc(educator.getId().toString())
+        public List<QuizResponse> getEducatorQuizzes(UUID educatorId) {
+                return quizRepository.findByCreatedByOrderByCreatedAtDesc(educatorId.toString())
                                 .stream()
                                 .map(QuizResponse::fromEntity)
                                 .collect(Collectors.toList());
         }
 
         @Transactional(readOnly = true)
-        public QuizResponse getQuizById(String educatorEmail, UUID quizId) {
-                getAccountByEmail(educatorEmail);
+        public QuizResponse getQuizById(UUID educatorId, UUID quizId) {
                 Quiz quiz = quizRepository.findById(quizId)
                                 .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy bài kiểm tra"));
                 return QuizResponse.fromEntity(quiz);
         }
 
         @Transactional
-        public QuizResponse createQuiz(String educatorEmail, QuizCreateRequest request) {
-                Account educator = getAccountByEmail(educatorEmail);
+        public QuizResponse createQuiz(UUID educatorId, QuizCreateRequest request) {
+                Account educator = accountRepository.getReferenceById(educatorId);
                 Level level = levelRepository.findById(request.getLevelId())
                                 .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy Level"));
 
@@ -564,6 +750,7 @@ public class EducatorService {
                                 .passingScore(request.getPassingScore())
                                 .timeLimitMinutes(request.getTimeLimitMinutes())
                                 .questionCount(request.getQuestions() != null ? request.getQuestions().size() : 0)
+                                .quizType(request.getQuizType() != null ? request.getQuizType() : QuizType.ASSESSMENT)
                                 .status(ContentStatus.PENDING)
                                 .build();
                 quiz.setCreatedBy(educator.getId().toString());
@@ -571,6 +758,7 @@ public class EducatorService {
                 if (request.getQuestions() != null) {
                         List<QuizQuestion> questions = request.getQuestions().stream()
                                         .map(qReq -> {
+                                                requireAnswerKey(qReq);
                                                 Challenge challenge = qReq.getChallengeId() != null
                                                                 ? challengeRepository.findById(qReq.getChallengeId()).orElse(null)
                                                                 : null;
@@ -583,6 +771,7 @@ public class EducatorService {
                                                                 .questionOrder(qReq.getQuestionOrder())
                                                                 .points(qReq.getPoints())
                                                                 .challenge(challenge)
+                                                                .answerKey(qReq.getAnswerKey())
                                                                 .build();
                                         })
                                         .collect(Collectors.toList());
@@ -601,8 +790,8 @@ public class EducatorService {
         }
 
         @Transactional
-        public QuizResponse updateQuiz(String educatorEmail, UUID quizId, QuizCreateRequest request) {
-                Account educator = getAccountByEmail(educatorEmail);
+        public QuizResponse updateQuiz(UUID educatorId, UUID quizId, QuizCreateRequest request) {
+                Account educator = accountRepository.getReferenceById(educatorId);
                 Quiz quiz = quizRepository.findById(quizId)
                                 .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy bài kiểm tra"));
                 Level level = levelRepository.findById(request.getLevelId())
@@ -632,6 +821,7 @@ public class EducatorService {
                 targetQuiz.setPassingScore(request.getPassingScore());
                 targetQuiz.setTimeLimitMinutes(request.getTimeLimitMinutes());
                 targetQuiz.setQuestionCount(request.getQuestions() != null ? request.getQuestions().size() : 0);
+                targetQuiz.setQuizType(request.getQuizType() != null ? request.getQuizType() : quiz.getQuizType());
                 targetQuiz.setUpdatedBy(educator.getId().toString());
 
                 if (isNewDraft && targetQuiz.getQuestions() == null) {
@@ -642,6 +832,7 @@ public class EducatorService {
                     final Quiz finalTargetQuiz = targetQuiz;
                     List<QuizQuestion> newQuestions = request.getQuestions().stream()
                             .map(qReq -> {
+                                requireAnswerKey(qReq);
                                 Challenge challenge = qReq.getChallengeId() != null
                                                 ? challengeRepository.findById(qReq.getChallengeId()).orElse(null)
                                                 : null;
@@ -654,6 +845,7 @@ public class EducatorService {
                                                 .questionOrder(qReq.getQuestionOrder())
                                                 .points(qReq.getPoints())
                                                 .challenge(challenge)
+                                                .answerKey(qReq.getAnswerKey())
                                                 .build();
                             })
                             .collect(Collectors.toList());
@@ -675,6 +867,16 @@ public class EducatorService {
                 return response;
         }
 
+        /**
+         * Câu READING hiển thị nội dung cho learner nên không thể chấm theo nội dung đó
+         */
+        private static void requireAnswerKey(QuizQuestionRequest question) {
+                if ("READING".equalsIgnoreCase(question.getSkillType())
+                                && (question.getAnswerKey() == null || question.getAnswerKey().isBlank())) {
+                        throw new ApiException("BAD_REQUEST", "Câu hỏi READING cần đáp án (answerKey)");
+                }
+        }
+
         /**
          * Helper để lưu lịch sử phê duyệt nội dung
          */
@@ -705,13 +907,8 @@ public class EducatorService {
                                 .collect(Collectors.toList());
         }
 
-        private Account getAccountByEmail(String email) {
-                return accountRepository.findByEmail(email)
-                                .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy tài khoản"));
-        }
-
-        private void validateEducatorOwnership(String educatorEmail, Classroom classroom) {
-                if (!classroom.getEducator().getEmail().equals(educatorEmail)) {
+        private void validateEducatorOwnership(UUID educatorId, Classroom classroom) {
+                if (!classroom.getEducator().getId().equals(educatorId)) {
                         throw new ApiException("FORBIDDEN", "Bạn không có quyền quản lý lớp học này");
                 }
         }
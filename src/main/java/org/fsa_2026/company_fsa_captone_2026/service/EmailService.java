@@ -7,11 +7,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailPreparationException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.io.UnsupportedEncodingException;
+
 /**
  * Email Service
  * Gửi email thông qua SMTP (Gmail)
@@ -41,11 +44,25 @@ public class EmailService {
      */
     @Async
     public void sendEmailVerification(String toEmail, String fullName, String otpCode) {
+        try {
+            deliverEmailVerification(toEmail, fullName, otpCode);
+        } catch (MailException e) {
+            log.error("❌ Gửi email thất bại đến: {} - Lỗi: {}", toEmail, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Gửi email xác thực ngay trên thread hiện tại, lỗi SMTP ném ra cho caller
+     * (listener của event đăng ký cần biết để gửi lại)
+     *
+     * @throws MailException nếu không tạo hoặc gửi được email
+     */
+    public void deliverEmailVerification(String toEmail, String fullName, String otpCode) {
         String subject = "SpeakVN - Xác nhận địa chỉ email";
         String verifyLink = baseUrl + "/verify-email?email=" + toEmail + "&code=" + otpCode;
         String supportLink = baseUrl + "/support";
         String content = buildEmailVerificationHtml(fullName, verifyLink, supportLink, otpCode);
-        sendHtmlEmail(toEmail, subject, content);
+        deliverHtmlEmail(toEmail, subject, content);
     }
 
     /**
@@ -72,13 +89,28 @@ public class EmailService {
         sendHtmlEmail(toEmail, subject, content);
     }
 
+    /**
+     * Gửi email HTML, lỗi chỉ ghi log
+     */
+    private void sendHtmlEmail(String to, String subject, String htmlContent) {
+        try {
+            deliverHtmlEmail(to, subject, htmlContent);
+        } catch (MailException e) {
+            log.error("❌ Gửi email thất bại (MailException) đến: {} - Lỗi: {}", to, e.getMessage(), e);
+        } catch (Exception e) {
+            log.error("❌ Gửi email thất bại (Unexpected) đến: {} - Lỗi: {}", to, e.getMessage(), e);
+        }
+    }
+
     /**
      * Gửi email HTML
      * Gmail SMTP yêu cầu from address phải trùng với tài khoản đã xác thực
+     *
+     * @throws MailException nếu không tạo hoặc gửi được email
      */
-    private void sendHtmlEmail(String to, String subject, String htmlContent) {
+    private void deliverHtmlEmail(String to, String subject, String htmlContent) {
+        MimeMessage message = mailSender.createMimeMessage();
         try {
-            MimeMessage message = mailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
 
             // Gmail chỉ cho phép gửi từ email đã xác thực
@@ -88,16 +120,11 @@ public class EmailService {
             helper.setTo(to);
             helper.setSubject(subject);
             helper.setText(htmlContent, true);
-
-            mailSender.send(message);
-            log.info("✅ Đã gửi email thành công đến: {}", to);
-        } catch (MessagingException e) {
-            log.error("❌ Gửi email thất bại (MessagingException) đến: {} - Lỗi: {}", to, e.getMessage(), e);
-        } catch (MailException e) {
-            log.error("❌ Gửi email thất bại (MailException) đến: {} - Lỗi: {}", to, e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("❌ Gửi email thất bại (Unexpected) đến: {} - Lỗi: {}", to, e.getMessage(), e);
+        } catch (MessagingException | UnsupportedEncodingException e) {
+            throw new MailPreparationException("Cannot build email to " + to, e);
         }
+        mailSender.send(message);
+        log.info("✅ Đã gửi email thành công đến: {}", to);
     }
 
     /**
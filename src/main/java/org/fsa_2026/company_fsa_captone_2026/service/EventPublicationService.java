@@ -0,0 +1,479 @@
+package org.fsa_2026.company_fsa_captone_2026.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.event.DomainEvent;
+import org.fsa_2026.company_fsa_captone_2026.common.event.DomainEventListener;
+import org.fsa_2026.company_fsa_captone_2026.config.DomainEventProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Event Publication Service
+ * Event bus bền vững cho {@link DomainEvent} (cùng mô hình và cùng bảng
+ * {@code event_publication} với registry JDBC của Spring Modulith):
+ *
+ * <ul>
+ * <li>Service phát event bằng {@code ApplicationEventPublisher} trong transaction của nó;
+ * mỗi {@link DomainEventListener} nhận một dòng publication ghi cùng transaction – request
+ * chỉ trả thêm chi phí một INSERT.</li>
+ * <li>Sau commit, publication được giao cho thread pool riêng. Listener chạy trong
+ * transaction mới: khoá dòng publication, bỏ qua nếu đã hoàn tất (giao trùng), chạy
+ * listener, ghi completion_date – hiệu ứng DB của listener và việc đánh dấu hoàn tất
+ * commit cùng nhau. Listener {@code transactional = false} (gửi mail): claim và commit,
+ * chạy listener ngoài transaction, rồi ghi completion_date trong transaction riêng.</li>
+ * <li>Listener lỗi / queue đầy / ứng dụng tắt giữa chừng → publication còn dang dở:
+ * giao lại lúc khởi động và định kỳ khi quá {@code resubmitAfter}.</li>
+ * <li>Mỗi lần listener lỗi được ghi lại ({@code attempts}, {@code last_error}); lần giao
+ * kế tiếp lùi theo cấp số nhân tới {@code maxBackoff}. Lỗi quá {@code maxAttempts} lần
+ * → dead letter ({@code failed_date}): không giao lại nữa, không bị purge; giao lại bằng
+ * tay bằng cách xoá {@code failed_date} và đặt {@code attempts = 0}.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class EventPublicationService implements SmartInitializingSingleton, DisposableBean {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final ApplicationContext context;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate listenerTransaction;
+    private final TransactionTemplate purgeTransaction;
+    private final TransactionTemplate failureTransaction;
+    private final ObjectMapper objectMapper;
+    private final DomainEventProperties properties;
+    private final Executor executor;
+
+    private final Map<String, Listener> listenersById = new HashMap<>();
+    private final Map<Class<?>, List<Listener>> listenersByEventType = new ConcurrentHashMap<>();
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+
+    public EventPublicationService(ApplicationContext context, JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+            DomainEventProperties properties) {
+        this(context, jdbcTemplate, transactionManager, objectMapper, properties, newExecutor(properties));
+    }
+
+    EventPublicationService(ApplicationContext context, JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+            DomainEventProperties properties, Executor executor) {
+        this.context = context;
+        this.jdbcTemplate = jdbcTemplate;
+        this.listenerTransaction = new TransactionTemplate(transactionManager);
+        this.listenerTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.purgeTransaction = new TransactionTemplate(transactionManager);
+        this.failureTransaction = new TransactionTemplate(transactionManager);
+        this.failureTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.executor = executor;
+    }
+
+    private static Executor newExecutor(DomainEventProperties properties) {
+        // AbortPolicy: queue đầy thì publication nằm lại trong DB, không chặn thread commit
+        return new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(), 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()), new CustomizableThreadFactory("domain-event-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // ==========================================
+    // Listener discovery
+    // ==========================================
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String beanName : context.getBeanDefinitionNames()) {
+            Class<?> type = context.getType(beanName, false);
+            if (type == null) {
+                continue;
+            }
+            Class<?> userClass = ClassUtils.getUserClass(type);
+            Map<Method, DomainEventListener> methods = MethodIntrospector.selectMethods(userClass,
+                    (MethodIntrospector.MetadataLookup<DomainEventListener>) method -> AnnotatedElementUtils
+                            .findMergedAnnotation(method, DomainEventListener.class));
+            for (Map.Entry<Method, DomainEventListener> entry : methods.entrySet()) {
+                Method method = entry.getKey();
+                if (method.getParameterCount() != 1 || !DomainEvent.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                    throw new IllegalStateException("@DomainEventListener " + method
+                            + " must take exactly one DomainEvent parameter");
+                }
+                Listener listener = new Listener(beanName, userClass, method,
+                        entry.getValue().transactional());
+                listenersById.put(listener.id, listener);
+            }
+        }
+        log.info("Registered {} domain event listeners", listenersById.size());
+    }
+
+    private List<Listener> listenersFor(Class<?> eventType) {
+        return listenersByEventType.computeIfAbsent(eventType, type -> listenersById.values().stream()
+                .filter(listener -> listener.eventType.isAssignableFrom(type))
+                .toList());
+    }
+
+    // ==========================================
+    // Publish
+    // ==========================================
+
+    /**
+     * Ghi một publication cho mỗi listener trong transaction của nơi phát event, giao
+     * sau khi commit (rollback thì không có gì được giao)
+     */
+    @EventListener
+    public void onDomainEvent(DomainEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Domain event " + event.getClass().getSimpleName()
+                    + " must be published inside a transaction");
+        }
+        List<Listener> listeners = listenersFor(event.getClass());
+        if (listeners.isEmpty()) {
+            return;
+        }
+        String serialized = serialize(event);
+        Timestamp publishedAt = Timestamp.from(Instant.now());
+        List<Publication> publications = new ArrayList<>(listeners.size());
+        for (Listener listener : listeners) {
+            publications.add(new Publication(UUID.randomUUID(), listener, event));
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO event_publication "
+                + "(id, listener_id, event_type, serialized_event, publication_date) VALUES (?, ?, ?, ?, ?)",
+                publications, publications.size(), (statement, publication) -> {
+                    statement.setObject(1, publication.id);
+                    statement.setString(2, publication.listener.id);
+                    statement.setString(3, event.getClass().getName());
+                    statement.setString(4, serialized);
+                    statement.setTimestamp(5, publishedAt);
+                });
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publications.forEach(EventPublicationService.this::submit);
+            }
+        });
+    }
+
+    /** @return false nếu publication đang được giao hoặc queue đầy */
+    private boolean submit(Publication publication) {
+        if (!inFlight.add(publication.id)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    deliver(publication);
+                } finally {
+                    inFlight.remove(publication.id);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(publication.id);
+            log.warn("Domain event queue full; publication {} for {} left for resubmission", publication.id,
+                    publication.listener.id);
+            return false;
+        }
+        return true;
+    }
+
+    private void deliver(Publication publication) {
+        try {
+            if (publication.listener.transactional) {
+                listenerTransaction.executeWithoutResult(status -> {
+                    if (!claim(publication)) {
+                        return; // đã hoàn tất ở lần giao khác, hoặc đã bị purge
+                    }
+                    publication.listener.invoke(context, publication.event);
+                    markCompleted(publication);
+                });
+            } else {
+                deliverOutsideTransaction(publication);
+            }
+        } catch (RuntimeException e) {
+            recordFailure(publication, e);
+        }
+    }
+
+    /**
+     * Claim + commit trước (hẹn next_attempt_at để lần resubmit khác không giao trùng trong
+     * lúc listener chạy), gọi listener khi không giữ khoá / connection, rồi đánh dấu hoàn tất
+     */
+    private void deliverOutsideTransaction(Publication publication) {
+        Boolean claimed = listenerTransaction.execute(status -> {
+            if (!claim(publication)) {
+                return false;
+            }
+            jdbcTemplate.update("UPDATE event_publication SET next_attempt_at = ? WHERE id = ?",
+                    Timestamp.from(Instant.now().plus(properties.getResubmitAfter())), publication.id);
+            return true;
+        });
+        if (!Boolean.TRUE.equals(claimed)) {
+            return;
+        }
+        publication.listener.invoke(context, publication.event);
+        listenerTransaction.executeWithoutResult(status -> markCompleted(publication));
+    }
+
+    /** Khoá dòng publication; false nếu đã hoàn tất hoặc đã bị purge */
+    private boolean claim(Publication publication) {
+        List<Boolean> pending = jdbcTemplate.query(
+                "SELECT completion_date IS NULL FROM event_publication WHERE id = ? FOR UPDATE",
+                (rs, row) -> rs.getBoolean(1), publication.id);
+        return !pending.isEmpty() && pending.get(0);
+    }
+
+    private void markCompleted(Publication publication) {
+        jdbcTemplate.update("UPDATE event_publication SET completion_date = ? WHERE id = ?",
+                Timestamp.from(Instant.now()), publication.id);
+    }
+
+    /**
+     * Ghi lần lỗi (transaction riêng – transaction của listener đã rollback), hẹn lần giao
+     * kế tiếp hoặc chuyển dead letter
+     */
+    private void recordFailure(Publication publication, RuntimeException error) {
+        Instant now = Instant.now();
+        Integer attempts;
+        try {
+            attempts = failureTransaction.execute(status -> {
+                List<Integer> current = jdbcTemplate.query("SELECT attempts FROM event_publication "
+                        + "WHERE id = ? AND completion_date IS NULL FOR UPDATE",
+                        (rs, row) -> rs.getInt(1), publication.id);
+                if (current.isEmpty()) {
+                    return null;
+                }
+                int attempt = current.get(0) + 1;
+                boolean dead = attempt >= properties.getMaxAttempts();
+                jdbcTemplate.update("UPDATE event_publication SET attempts = ?, last_error = ?, next_attempt_at = ?, "
+                        + "failed_date = ? WHERE id = ?",
+                        attempt, abbreviate(error.toString()), Timestamp.from(now.plus(backoff(attempt))),
+                        dead ? Timestamp.from(now) : null, publication.id);
+                return attempt;
+            });
+        } catch (DataAccessException e) {
+            log.error("Domain event listener {} failed for publication {} and the failure could not be recorded",
+                    publication.listener.id, publication.id, error);
+            return;
+        }
+        if (attempts == null) {
+            return;
+        }
+        if (attempts >= properties.getMaxAttempts()) {
+            log.error("Domain event listener {} failed {} times for publication {}; moved to dead letter",
+                    publication.listener.id, attempts, publication.id, error);
+        } else {
+            log.warn("Domain event listener {} failed for publication {} (attempt {}/{}); retry after {}",
+                    publication.listener.id, publication.id, attempts, properties.getMaxAttempts(),
+                    backoff(attempts), error);
+        }
+    }
+
+    /**
+     * resubmitAfter × 2^(attempt - 1), tối đa maxBackoff
+     */
+    Duration backoff(int attempt) {
+        Duration delay = properties.getResubmitAfter().multipliedBy(1L << Math.min(Math.max(attempt - 1, 0), 20));
+        return delay.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : delay;
+    }
+
+    private static String abbreviate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    // ==========================================
+    // Resubmission & purge
+    // ==========================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!properties.isRepublishOnRestart()) {
+            return;
+        }
+        try {
+            int submitted = resubmitIncomplete(Instant.now());
+            if (submitted > 0) {
+                log.info("Resubmitted {} incomplete domain event publications", submitted);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Domain event replay skipped (database without changelog 25?): {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.resubmit-interval:PT1M}",
+            initialDelayString = "${app.events.resubmit-interval:PT1M}")
+    public void resubmitStale() {
+        resubmitIncomplete(Instant.now().minus(properties.getResubmitAfter()));
+    }
+
+    /**
+     * Giao lại publication dang dở phát trước {@code publishedBefore} (tối đa một queue)
+     *
+     * @return số publication đã đưa vào queue
+     */
+    public int resubmitIncomplete(Instant publishedBefore) {
+        return resubmitIncomplete(publishedBefore, Instant.now());
+    }
+
+    /**
+     * Như trên; bỏ qua publication đã dead letter hoặc chưa tới {@code next_attempt_at}
+     */
+    int resubmitIncomplete(Instant publishedBefore, Instant now) {
+        List<Publication> publications = new ArrayList<>();
+        jdbcTemplate.query("SELECT id, listener_id, event_type, serialized_event FROM event_publication "
+                + "WHERE completion_date IS NULL AND failed_date IS NULL AND publication_date < ? "
+                + "AND (next_attempt_at IS NULL OR next_attempt_at <= ?) ORDER BY publication_date LIMIT ?",
+                rs -> {
+                    UUID id = rs.getObject(1, UUID.class);
+                    Listener listener = listenersById.get(rs.getString(2));
+                    if (listener == null) {
+                        log.warn("Publication {} targets unknown listener {}; skipped", id, rs.getString(2));
+                        return;
+                    }
+                    DomainEvent event = deserialize(id, rs.getString(3), rs.getString(4));
+                    if (event != null) {
+                        publications.add(new Publication(id, listener, event));
+                    }
+                }, Timestamp.from(publishedBefore), Timestamp.from(now), properties.getQueueCapacity());
+        int submitted = 0;
+        for (Publication publication : publications) {
+            if (submit(publication)) {
+                submitted++;
+            }
+        }
+        return submitted;
+    }
+
+    /**
+     * Xoá publication đã hoàn tất quá {@code completedRetention}, theo lô
+     *
+     * @return số dòng đã xoá
+     */
+    @Scheduled(cron = "${app.events.purge-cron:0 45 3 * * *}")
+    public int purgeCompleted() {
+        Timestamp completedBefore = Timestamp.from(Instant.now().minus(properties.getCompletedRetention()));
+        int total = 0;
+        while (true) {
+            Integer deleted = purgeTransaction.execute(status -> jdbcTemplate.update(
+                    "DELETE FROM event_publication WHERE id IN (SELECT id FROM event_publication "
+                            + "WHERE completion_date < ? LIMIT ?)",
+                    completedBefore, properties.getPurgeBatchSize()));
+            int count = deleted != null ? deleted : 0;
+            total += count;
+            if (count < properties.getPurgeBatchSize()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Purged {} completed domain event publications", total);
+        }
+        return total;
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ExecutorService service) {
+            service.shutdown();
+        }
+    }
+
+    // ==========================================
+    // Serialization
+    // ==========================================
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize domain event " + event.getClass().getName(), e);
+        }
+    }
+
+    private DomainEvent deserialize(UUID id, String eventType, String serialized) {
+        try {
+            Class<?> type = ClassUtils.forName(eventType, getClass().getClassLoader());
+            return (DomainEvent) objectMapper.readValue(serialized, type);
+        } catch (ClassNotFoundException | JsonProcessingException | ClassCastException e) {
+            log.warn("Publication {} has an unreadable {} payload; skipped: {}", id, eventType, e.getMessage());
+            return null;
+        }
+    }
+
+    private static final class Listener {
+        private final String id;
+        private final String beanName;
+        private final Method method;
+        private final Class<?> eventType;
+        private final boolean transactional;
+
+        private Listener(String beanName, Class<?> userClass, Method method, boolean transactional) {
+            this.eventType = method.getParameterTypes()[0];
+            this.transactional = transactional;
+            this.id = userClass.getName() + "." + method.getName() + "(" + eventType.getName() + ")";
+            this.beanName = beanName;
+            this.method = method;
+            ReflectionUtils.makeAccessible(method);
+        }
+
+        private void invoke(ApplicationContext context, DomainEvent event) {
+            try {
+                // gọi qua bean (proxy) để @Transactional của listener vẫn có hiệu lực
+                method.invoke(context.getBean(beanName), event);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+
+    private static final class Publication {
+        private final UUID id;
+        private final Listener listener;
+        private final DomainEvent event;
+
+        private Publication(UUID id, Listener listener, DomainEvent event) {
+            this.id = id;
+            this.listener = listener;
+            this.event = event;
+        }
+    }
+}
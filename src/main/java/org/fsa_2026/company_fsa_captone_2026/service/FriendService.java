@@ -0,0 +1,254 @@
+package org.fsa_2026.company_fsa_captone_2026.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.social.FriendGraph;
+import org.fsa_2026.company_fsa_captone_2026.dto.FriendRequestResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.FriendResponse;
+import org.fsa_2026.company_fsa_captone_2026.entity.Account;
+import org.fsa_2026.company_fsa_captone_2026.entity.Friendship;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.FriendshipStatus;
+import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
+import org.fsa_2026.company_fsa_captone_2026.repository.AccountRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.FriendshipRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.UserProfileRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Friend Service
+ * Lời mời kết bạn, danh sách bạn, bạn chung.
+ *
+ * <p>
+ * Danh sách bạn ACCEPTED của mỗi account được cache trong {@link FriendGraph}
+ * (tập int đã intern); mọi thay đổi quan hệ invalidate cả hai phía sau commit.
+ * BXH bạn bè và bạn chung chỉ cần id từ cache + một query profile theo IN.
+ * </p>
+ */
+@Slf4j
+@Service
+public class FriendService {
+
+    private final FriendshipRepository friendshipRepository;
+    private final AccountRepository accountRepository;
+    private final UserProfileRepository userProfileRepository;
+    private final FriendGraph graph;
+
+    public FriendService(FriendshipRepository friendshipRepository, AccountRepository accountRepository,
+            UserProfileRepository userProfileRepository,
+            @Value("${app.social.max-cached-accounts:100000}") int maxCachedAccounts,
+            @Value("${app.social.adjacency-ttl:PT5M}") Duration adjacencyTtl) {
+        this.friendshipRepository = friendshipRepository;
+        this.accountRepository = accountRepository;
+        this.userProfileRepository = userProfileRepository;
+        this.graph = new FriendGraph(maxCachedAccounts, adjacencyTtl.toMillis());
+    }
+
+    // ==========================================
+    // Lời mời
+    // ==========================================
+
+    /**
+     * Gửi lời mời; nếu người kia đã mời mình trước thì chấp nhận luôn. Hai người mời nhau
+     * cùng lúc: uk_friendship_canonical_pair (changelog 30) chặn dòng thứ hai → CONFLICT,
+     * gửi lại sẽ thấy lời mời của người kia và chấp nhận
+     */
+    @Transactional
+    public FriendRequestResponse sendRequest(UUID accountId, UUID addresseeId) {
+        if (accountId.equals(addresseeId)) {
+            throw new ApiException("BAD_REQUEST", "Không thể kết bạn với chính mình");
+        }
+        Account addressee = accountRepository.findById(addresseeId)
+                .orElseThrow(() -> new ApiException("NOT_FOUND", "Account not found"));
+        Account me = accountRepository.getReferenceById(accountId);
+
+        Friendship friendship = friendshipRepository.findBetween(accountId, addresseeId).orElse(null);
+        if (friendship == null) {
+            friendship = insertRequest(me, addressee);
+        } else {
+            switch (friendship.getStatus()) {
+                case ACCEPTED -> throw new ApiException("BAD_REQUEST", "Hai người đã là bạn bè");
+                case BLOCKED -> throw new ApiException("FORBIDDEN", "Không thể gửi lời mời kết bạn");
+                case PENDING -> {
+                    if (friendship.getRequester().getId().equals(accountId)) {
+                        throw new ApiException("BAD_REQUEST", "Đã gửi lời mời kết bạn");
+                    }
+                    friendship.setStatus(FriendshipStatus.ACCEPTED);
+                }
+                case DECLINED -> {
+                    // gửi lại sau khi bị từ chối: dùng lại dòng cũ (uk_friendship_canonical_pair)
+                    friendship.setRequester(me);
+                    friendship.setAddressee(addressee);
+                    friendship.setStatus(FriendshipStatus.PENDING);
+                }
+            }
+            friendship = friendshipRepository.save(friendship);
+        }
+        invalidateAfterCommit(accountId, addresseeId);
+        return FriendRequestResponse.fromEntity(friendship);
+    }
+
+    /**
+     * Flush ngay để va chạm với lời mời ngược chiều gửi cùng lúc thành lỗi nghiệp vụ
+     */
+    private Friendship insertRequest(Account me, Account addressee) {
+        try {
+            return friendshipRepository.saveAndFlush(Friendship.builder().requester(me).addressee(addressee).build());
+        } catch (DataIntegrityViolationException e) {
+            throw new ApiException("CONFLICT", "Lời mời kết bạn giữa hai người vừa được tạo, vui lòng thử lại");
+        }
+    }
+
+    @Transactional
+    public FriendRequestResponse acceptRequest(UUID accountId, UUID friendshipId) {
+        Friendship friendship = findIncomingPending(accountId, friendshipId);
+        friendship.setStatus(FriendshipStatus.ACCEPTED);
+        invalidateAfterCommit(friendship.getRequester().getId(), friendship.getAddressee().getId());
+        return FriendRequestResponse.fromEntity(friendship);
+    }
+
+    @Transactional
+    public FriendRequestResponse declineRequest(UUID accountId, UUID friendshipId) {
+        Friendship friendship = findIncomingPending(accountId, friendshipId);
+        friendship.setStatus(FriendshipStatus.DECLINED);
+        return FriendRequestResponse.fromEntity(friendship);
+    }
+
+    @Transactional(readOnly = true)
+    public List<FriendRequestResponse> getIncomingRequests(UUID accountId) {
+        return friendshipRepository.findByAddresseeIdAndStatusOrderByCreatedAtDesc(accountId,
+                FriendshipStatus.PENDING).stream().map(FriendRequestResponse::fromEntity).toList();
+    }
+
+    // ==========================================
+    // Quan hệ
+    // ==========================================
+
+    /**
+     * Chặn account khác; quan hệ hiện có (bạn bè / lời mời) bị thay thế
+     */
+    @Transactional
+    public void block(UUID accountId, UUID otherId) {
+        if (accountId.equals(otherId)) {
+            throw new ApiException("BAD_REQUEST", "Không thể chặn chính mình");
+        }
+        Account other = accountRepository.findById(otherId)
+                .orElseThrow(() -> new ApiException("NOT_FOUND", "Account not found"));
+        Account me = accountRepository.getReferenceById(accountId);
+        Friendship friendship = friendshipRepository.findBetween(accountId, otherId)
+                .orElseGet(() -> Friendship.builder().build());
+        if (friendship.getStatus() == FriendshipStatus.BLOCKED
+                && !friendship.getRequester().getId().equals(accountId)) {
+            throw new ApiException("FORBIDDEN", "Không thể chặn account này");
+        }
+        friendship.setRequester(me);
+        friendship.setAddressee(other);
+        friendship.setStatus(FriendshipStatus.BLOCKED);
+        friendshipRepository.save(friendship);
+        invalidateAfterCommit(accountId, otherId);
+    }
+
+    /**
+     * Huỷ kết bạn / huỷ lời mời đã gửi / bỏ chặn
+     */
+    @Transactional
+    public void remove(UUID accountId, UUID otherId) {
+        Friendship friendship = friendshipRepository.findBetween(accountId, otherId)
+                .orElseThrow(() -> new ApiException("NOT_FOUND", "Friendship not found"));
+        boolean mine = friendship.getRequester().getId().equals(accountId);
+        if (friendship.getStatus() == FriendshipStatus.BLOCKED && !mine) {
+            // người bị chặn không được tự gỡ chặn; trả NOT_FOUND để không lộ việc bị chặn
+            throw new ApiException("NOT_FOUND", "Friendship not found");
+        }
+        friendshipRepository.delete(friendship);
+        invalidateAfterCommit(accountId, otherId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<FriendResponse> getFriends(UUID accountId) {
+        List<UUID> friendIds = List.of(graph.toAccounts(friends(accountId)));
+        return profiles(friendIds);
+    }
+
+    @Transactional(readOnly = true)
+    public List<FriendResponse> getMutualFriends(UUID accountId, UUID otherId) {
+        int[] mutual = FriendGraph.intersect(friends(accountId), friends(otherId));
+        return profiles(List.of(graph.toAccounts(mutual)));
+    }
+
+    /**
+     * Id bạn bè ACCEPTED của account (cache, load DB khi miss)
+     */
+    public List<UUID> friendAccountIds(UUID accountId) {
+        return Arrays.asList(graph.toAccounts(friends(accountId)));
+    }
+
+    public boolean areFriends(UUID accountId, UUID otherId) {
+        int[] friends = friends(accountId);
+        int otherKey = graph.id(otherId);
+        return otherKey >= 0 && FriendGraph.contains(friends, otherKey);
+    }
+
+    private int[] friends(UUID accountId) {
+        long now = System.currentTimeMillis();
+        int[] cached = graph.cached(accountId, now);
+        if (cached != null) {
+            return cached;
+        }
+        long stamp = graph.stamp(accountId);
+        int[] loaded = graph.acquire(friendshipRepository.findOtherIds(accountId, FriendshipStatus.ACCEPTED));
+        graph.put(accountId, loaded, stamp, now);
+        return loaded;
+    }
+
+    private List<FriendResponse> profiles(List<UUID> accountIds) {
+        if (accountIds.isEmpty()) {
+            return List.of();
+        }
+        return userProfileRepository.findWithAccountByAccountIdIn(accountIds).stream()
+                .map(FriendResponse::fromEntity)
+                .sorted(Comparator.comparing(FriendResponse::getFullName,
+                        Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)))
+                .toList();
+    }
+
+    private Friendship findIncomingPending(UUID accountId, UUID friendshipId) {
+        Friendship friendship = friendshipRepository.findById(friendshipId)
+                .orElseThrow(() -> new ApiException("NOT_FOUND", "Friend request not found"));
+        if (!friendship.getAddressee().getId().equals(accountId)) {
+            throw new ApiException("FORBIDDEN", "Không có quyền xử lý lời mời này");
+        }
+        if (friendship.getStatus() != FriendshipStatus.PENDING) {
+            throw new ApiException("BAD_REQUEST", "Lời mời đã được xử lý");
+        }
+        return friendship;
+    }
+
+    /**
+     * Invalidate ngay (bỏ entry đang cache) và lần nữa sau commit: danh sách load từ
+     * DB trước khi commit vẫn là dữ liệu cũ, lần invalidate thứ hai loại bỏ nó
+     */
+    private void invalidateAfterCommit(UUID a, UUID b) {
+        graph.invalidate(a);
+        graph.invalidate(b);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                graph.invalidate(a);
+                graph.invalidate(b);
+            }
+        });
+    }
+}
@@ -2,21 +2,35 @@ package org.fsa_2026.company_fsa_captone_2026.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.AudioFeatures;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.ToneAnalyzer;
+import org.fsa_2026.company_fsa_captone_2026.common.event.AttemptScored;
+import org.fsa_2026.company_fsa_captone_2026.common.event.DomainEventListener;
+import org.fsa_2026.company_fsa_captone_2026.common.event.SessionEnded;
 import org.fsa_2026.company_fsa_captone_2026.dto.AttemptRequest;
 import org.fsa_2026.company_fsa_captone_2026.dto.AttemptResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.LeaderboardEntryResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.PhonemeFeedbackPush;
 import org.fsa_2026.company_fsa_captone_2026.dto.PhonemeFeedbackResponse;
 import org.fsa_2026.company_fsa_captone_2026.dto.PracticeSessionResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.ToneFeedbackResponse;
 import org.fsa_2026.company_fsa_captone_2026.entity.*;
 import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
 import org.fsa_2026.company_fsa_captone_2026.repository.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -24,20 +38,36 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class GameplayService {
 
+    private static final int PASS_STARS = 3;
+    private static final int PASS_EXPERIENCE = 10;
+    /** audio_url của attempt chấm từ audio streaming (audio thô không được lưu) */
+    public static final String STREAMED_AUDIO_URL = "stream:pcm16le";
+    /** Bảng xếp hạng toàn cục hiển thị top 10 */
+    private static final int LEADERBOARD_SIZE = 10;
+
     private final AccountRepository accountRepository;
     private final UserProfileRepository userProfileRepository;
     private final PracticeSessionRepository practiceSessionRepository;
     private final AttemptRepository attemptRepository;
     private final AttemptPhonemeFeedbackRepository feedbackRepository;
+    private final AttemptToneFeedbackRepository toneFeedbackRepository;
     private final ChallengeRepository challengeRepository;
+    private final PronunciationScorer pronunciationScorer;
+    private final ApplicationEventPublisher events;
+    private final PushService pushService;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
-    public PracticeSessionResponse startSession(String email) {
-        Account account = accountRepository.findByEmail(email)
-                .orElseThrow(() -> new ApiException("NOT_FOUND", "Account not found"));
+    /**
+     * Kênh real-time của learner: feedback từng phoneme, kết quả attempt, tiến độ
+     */
+    public SseEmitter openFeedbackStream(UUID accountId) {
+        return pushService.connect(accountId);
+    }
 
+    @Transactional
+    public PracticeSessionResponse startSession(UUID accountId) {
         PracticeSession session = PracticeSession.builder()
-                .account(account)
+                .account(accountRepository.getReferenceById(accountId))
                 .startedAt(Instant.now())
                 .build();
 
@@ -46,92 +76,233 @@ public class GameplayService {
     }
 
     @Transactional
-    public PracticeSessionResponse endSession(String email, String sessionId) {
+    public PracticeSessionResponse endSession(UUID accountId, String sessionId) {
         PracticeSession session = practiceSessionRepository.findById(UUID.fromString(sessionId))
                 .orElseThrow(() -> new ApiException("NOT_FOUND", "Session not found"));
 
-        if (!session.getAccount().getEmail().equals(email)) {
+        // so sánh id của proxy: không load account
+        if (!session.getAccount().getId().equals(accountId)) {
             throw new ApiException("FORBIDDEN", "Session does not belong to this account");
         }
 
-        session.setEndedAt(Instant.now());
-        session = practiceSessionRepository.save(session);
+        if (session.getEndedAt() == null) {
+            session.setEndedAt(Instant.now());
+            session = practiceSessionRepository.save(session);
+            events.publishEvent(SessionEnded.builder()
+                    .sessionId(session.getId())
+                    .accountId(session.getAccount().getId())
+                    .startedAt(session.getStartedAt())
+                    .endedAt(session.getEndedAt())
+                    .build());
+        }
 
         return PracticeSessionResponse.fromEntity(session);
     }
 
-    @Transactional
-    public AttemptResponse submitAttempt(String email, AttemptRequest request) {
-        Account account = accountRepository.findByEmail(email)
-                .orElseThrow(() -> new ApiException("NOT_FOUND", "Account not found"));
+    /**
+     * Audio được tải + trích xuất trước khi mở transaction: không giữ connection DB
+     * trong lúc download
+     */
+    public AttemptResponse submitAttempt(UUID accountId, AttemptRequest request) {
+        AudioFeatures learner = pronunciationScorer.loadLearnerAudio(request.getAudioUrl());
+
+        return transactionTemplate.execute(status -> {
+            Account account = accountRepository.getReferenceById(accountId);
+
+            PracticeSession session = openSession(accountId, request.getSessionId());
+
+            Challenge challenge = challengeRepository.findById(UUID.fromString(request.getChallengeId()))
+                    .orElseThrow(() -> new ApiException("NOT_FOUND", "Challenge not found"));
 
-        PracticeSession session = practiceSessionRepository.findById(UUID.fromString(request.getSessionId()))
+            PronunciationScorer.ScoreResult result = pronunciationScorer.score(challenge, learner,
+                    phonemeFeedback(account.getId(), session.getId(), challenge.getId(), null));
+            return recordAttempt(account, session, challenge, request.getAudioUrl(), result);
+        });
+    }
+
+    /**
+     * Kiểm tra trước khi nhận audio streaming: session thuộc account và chưa kết
+     * thúc, challenge tồn tại
+     */
+    @Transactional(readOnly = true)
+    public void checkStreamTarget(UUID accountId, String sessionId, String challengeId) {
+        openSession(accountId, sessionId);
+        if (!challengeRepository.existsById(UUID.fromString(challengeId))) {
+            throw new ApiException("NOT_FOUND", "Challenge not found");
+        }
+    }
+
+    /**
+     * Session thuộc account và chưa kết thúc
+     */
+    private PracticeSession openSession(UUID accountId, String sessionId) {
+        PracticeSession session = practiceSessionRepository.findById(UUID.fromString(sessionId))
                 .orElseThrow(() -> new ApiException("NOT_FOUND", "Session not found"));
+        if (!session.getAccount().getId().equals(accountId)) {
+            throw new ApiException("FORBIDDEN", "Session does not belong to this account");
+        }
+        if (session.getEndedAt() != null) {
+            throw new ApiException("BAD_REQUEST", "Session already ended");
+        }
+        return session;
+    }
 
-        Challenge challenge = challengeRepository.findById(UUID.fromString(request.getChallengeId()))
+    /**
+     * Chốt attempt từ đặc trưng đã trích xuất trong lúc learner nói (WebSocket):
+     * chỉ còn bước DTW + chấm thanh điệu. Session được kiểm tra lại – lúc mở socket
+     * nó có thể đã kết thúc trong khi learner còn nói
+     *
+     * @param onPhoneme nhận điểm từng phoneme sau bước DTW, trước khi lưu attempt (gửi về socket)
+     */
+    @Transactional
+    public AttemptResponse submitStreamedAttempt(UUID accountId, String sessionId, String challengeId,
+            AudioFeatures features, Consumer<PhonemeFeedbackPush> onPhoneme) {
+        Account account = accountRepository.getReferenceById(accountId);
+
+        PracticeSession session = openSession(accountId, sessionId);
+
+        Challenge challenge = challengeRepository.findById(UUID.fromString(challengeId))
                 .orElseThrow(() -> new ApiException("NOT_FOUND", "Challenge not found"));
 
-        // Simulate Gameplay Logic/AI Scoring
-        // In reality, this would call a Python ML endpoint via RestTemplate/WebClient
-        double randomScoreDouble = 50 + (Math.random() * 50); // Random score between 50 and 100
-        BigDecimal scoreOverall = BigDecimal.valueOf(randomScoreDouble);
-        boolean isPassed = randomScoreDouble >= 80.0;
+        PronunciationScorer.ScoreResult result = pronunciationScorer.score(challenge, features,
+                phonemeFeedback(account.getId(), session.getId(), challenge.getId(), onPhoneme));
+        return recordAttempt(account, session, challenge, STREAMED_AUDIO_URL, result);
+    }
+
+    /**
+     * Điểm từng phoneme → kênh SSE của learner (nếu đang mở, gửi sau commit – attempt
+     * rollback thì không đẩy gì) và {@code extra} (ngay, socket của chính request nhận lỗi
+     * nếu lưu thất bại)
+     */
+    private Consumer<PronunciationScorer.PhonemeScore> phonemeFeedback(UUID accountId, UUID sessionId,
+            UUID challengeId, Consumer<PhonemeFeedbackPush> extra) {
+        boolean connected = pushService.isConnected(accountId);
+        if (!connected && extra == null) {
+            return phonemeScore -> {
+            };
+        }
+        int[] sequence = { 0 };
+        return phonemeScore -> {
+            PhonemeFeedbackPush push = PhonemeFeedbackPush.builder()
+                    .sessionId(sessionId.toString())
+                    .challengeId(challengeId.toString())
+                    .sequenceOrder(++sequence[0])
+                    .phonemeIpa(phonemeScore.getPhoneme())
+                    .score(toScore(phonemeScore.getScore()))
+                    .startTimeMs(phonemeScore.getStartMs())
+                    .endTimeMs(phonemeScore.getEndMs())
+                    .build();
+            if (connected) {
+                pushService.sendAfterCommit(accountId, PushService.EVENT_ATTEMPT_PHONEME, push);
+            }
+            if (extra != null) {
+                extra.accept(push);
+            }
+        };
+    }
+
+    private AttemptResponse recordAttempt(Account account, PracticeSession session, Challenge challenge,
+            String audioUrl, PronunciationScorer.ScoreResult result) {
+        BigDecimal scoreOverall = toScore(result.getOverallScore());
+        boolean isPassed = result.getOverallScore() >= 80.0;
 
         Attempt attempt = Attempt.builder()
                 .account(account)
                 .session(session)
                 .challenge(challenge)
-                .audioUrl(request.getAudioUrl())
+                .audioUrl(audioUrl)
                 .scoreOverall(scoreOverall)
                 .isPassed(isPassed)
-                .latencyMs((int) (Math.random() * 500) + 100)
+                .latencyMs(result.getLatencyMs())
                 .createdAt(Instant.now())
                 .build();
 
         attempt = attemptRepository.save(attempt);
 
-        // Simulate detailed feedback based on focus phonemes
+        // Detailed feedback per focus phoneme
         List<AttemptPhonemeFeedback> feedbackList = new ArrayList<>();
-        if (challenge.getFocusPhonemes() != null && !challenge.getFocusPhonemes().isEmpty()) {
-            String[] phonemes = challenge.getFocusPhonemes().split(","); // E.g., "tr,ch"
-            int order = 1;
-            for (String p : phonemes) {
-                AttemptPhonemeFeedback feedback = AttemptPhonemeFeedback.builder()
-                        .attempt(attempt)
-                        .sequenceOrder(order++)
-                        .phonemeIpa(p.trim())
-                        .score(BigDecimal.valueOf(60 + (Math.random() * 40)))
-                        .startTimeMs((order - 1) * 500)
-                        .endTimeMs(order * 500)
-                        .build();
-                feedbackList.add(feedbackRepository.save(feedback));
-            }
+        int order = 1;
+        for (PronunciationScorer.PhonemeScore phonemeScore : result.getPhonemeScores()) {
+            AttemptPhonemeFeedback feedback = AttemptPhonemeFeedback.builder()
+                    .attempt(attempt)
+                    .sequenceOrder(order++)
+                    .phonemeIpa(phonemeScore.getPhoneme())
+                    .score(toScore(phonemeScore.getScore()))
+                    .startTimeMs(phonemeScore.getStartMs())
+                    .endTimeMs(phonemeScore.getEndMs())
+                    .build();
+            feedbackList.add(feedbackRepository.save(feedback));
         }
 
-        // Update User Profile stats if passed
-        if (isPassed) {
-            UserProfile profile = userProfileRepository.findByAccountId(account.getId()).orElse(null);
-            if (profile != null) {
-                profile.setTotalStars((profile.getTotalStars() != null ? profile.getTotalStars() : 0) + 3);
-                profile.setTotalExperience(
-                        (profile.getTotalExperience() != null ? profile.getTotalExperience() : 0) + 10);
-                userProfileRepository.save(profile);
-            }
+        // Per-syllable tone feedback
+        List<AttemptToneFeedback> toneFeedbackList = new ArrayList<>();
+        order = 1;
+        for (ToneAnalyzer.SyllableTone tone : result.getToneScores()) {
+            toneFeedbackList.add(AttemptToneFeedback.builder()
+                    .attempt(attempt)
+                    .sequenceOrder(order++)
+                    .syllable(tone.syllable())
+                    .expectedTone(tone.expectedTone())
+                    .detectedTone(tone.detectedTone())
+                    .score(toScore(tone.score()))
+                    .startTimeMs(tone.startMs())
+                    .endTimeMs(tone.endMs())
+                    .build());
         }
+        toneFeedbackList = toneFeedbackRepository.saveAll(toneFeedbackList);
+
+        // XP, trạng thái gợi ý, ... chạy trong listener sau commit
+        events.publishEvent(AttemptScored.builder()
+                .attemptId(attempt.getId())
+                .accountId(account.getId())
+                .sessionId(session.getId())
+                .challengeId(challenge.getId())
+                .overallScore(result.getOverallScore())
+                .passed(isPassed)
+                .phonemeScores(result.getPhonemeScores().stream()
+                        .map(score -> new AttemptScored.PhonemeResult(score.getPhoneme(), score.getScore()))
+                        .collect(Collectors.toList()))
+                .scoredAt(attempt.getCreatedAt())
+                .build());
 
         AttemptResponse response = AttemptResponse.fromEntity(attempt);
         response.setFeedback(
                 feedbackList.stream().map(PhonemeFeedbackResponse::fromEntity).collect(Collectors.toList()));
+        response.setToneFeedback(
+                toneFeedbackList.stream().map(ToneFeedbackResponse::fromEntity).collect(Collectors.toList()));
+        pushService.sendAfterCommit(account.getId(), PushService.EVENT_ATTEMPT_SCORED, response);
 
         return response;
     }
 
-    @Transactional(readOnly = true)
-    public List<AttemptResponse> getAttemptHistory(String email) {
-        Account account = accountRepository.findByEmail(email)
-                .orElseThrow(() -> new ApiException("NOT_FOUND", "Account not found"));
+    /**
+     * Cộng sao + XP cho attempt đạt; đẩy tiến độ mới cho learner, và báo bảng xếp
+     * hạng thay đổi nếu learner đang ở top
+     */
+    @DomainEventListener
+    @Transactional
+    public void onAttemptScored(AttemptScored event) {
+        if (!event.isPassed()) {
+            return;
+        }
+        userProfileRepository.addProgress(event.getAccountId(), PASS_STARS, PASS_EXPERIENCE);
+        userProfileRepository.findByAccountId(event.getAccountId()).ifPresent(profile -> {
+            pushService.sendAfterCommit(event.getAccountId(), PushService.EVENT_PROGRESS,
+                    LeaderboardEntryResponse.fromEntity(profile));
+            if (userProfileRepository.countByTotalExperienceGreaterThan(profile.getTotalExperience())
+                    < LEADERBOARD_SIZE) {
+                pushService.broadcastAfterCommit(PushService.EVENT_LEADERBOARD_CHANGED, Map.of("scope", "global"));
+            }
+        });
+    }
 
-        return attemptRepository.findByAccountIdOrderByCreatedAtDesc(account.getId())
+    private static BigDecimal toScore(double score) {
+        return BigDecimal.valueOf(score).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    @Transactional(readOnly = true)
+    public List<AttemptResponse> getAttemptHistory(UUID accountId) {
+        return attemptRepository.findByAccountIdOrderByCreatedAtDesc(accountId)
                 .stream()
                 .map(AttemptResponse::fromEntity)
                 .collect(Collectors.toList());
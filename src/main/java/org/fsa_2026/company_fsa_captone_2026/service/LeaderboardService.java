@@ -3,11 +3,15 @@ package org.fsa_2026.company_fsa_captone_2026.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.fsa_2026.company_fsa_captone_2026.dto.LeaderboardEntryResponse;
+import org.fsa_2026.company_fsa_captone_2026.entity.UserProfile;
 import org.fsa_2026.company_fsa_captone_2026.repository.UserProfileRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -16,6 +20,7 @@ import java.util.stream.Collectors;
 public class LeaderboardService {
 
     private final UserProfileRepository userProfileRepository;
+    private final FriendService friendService;
 
     @Transactional(readOnly = true)
     public List<LeaderboardEntryResponse> getGlobalLeaderboard() {
@@ -36,4 +41,21 @@ public class LeaderboardService {
                 .map(LeaderboardEntryResponse::fromEntity)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * BXH giữa learner và bạn bè: id bạn lấy từ cache của FriendService, chỉ còn một
+     * query profile theo IN – không join friendship ⋈ user_profile mỗi request
+     */
+    @Transactional(readOnly = true)
+    public List<LeaderboardEntryResponse> getFriendsLeaderboard(UUID accountId) {
+        List<UUID> accountIds = new ArrayList<>(friendService.friendAccountIds(accountId));
+        accountIds.add(accountId);
+
+        return userProfileRepository.findWithAccountByAccountIdIn(accountIds)
+                .stream()
+                .sorted(Comparator.comparing(UserProfile::getTotalExperience, Comparator.reverseOrder())
+                        .thenComparing(UserProfile::getTotalStars, Comparator.reverseOrder()))
+                .map(LeaderboardEntryResponse::fromEntity)
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,317 @@
+package org.fsa_2026.company_fsa_captone_2026.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.partition.MonthlyPartitions;
+import org.fsa_2026.company_fsa_captone_2026.config.PartitioningProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Partition Maintenance Service
+ * Bảo trì partition theo tháng của attempt / attempt_phoneme_feedback:
+ *
+ * <ul>
+ * <li>Tạo trước partition cho tháng hiện tại + {@code monthsAhead} tháng tới (lúc
+ * khởi động và mỗi đêm) – không có DEFAULT partition nên insert vào tháng chưa
+ * có partition sẽ lỗi.</li>
+ * <li>Partition cũ hơn {@code hotMonths}: export (khi vẫn còn attach) ra
+ * {@code <archiveDir>/<bảng>/<partition>.csv.gz} (header + CSV chuẩn COPY, nạp lại
+ * được bằng {@code COPY ... FROM ... (FORMAT csv, HEADER)}), kèm các dòng con của
+ * {@code dependents} ({@code <partition>.<bảng con>.csv.gz}). Sau đó, trong một
+ * transaction: khoá partition, kiểm tra số dòng không đổi so với file, DETACH; nếu bật
+ * {@code dropAfterExport} thì xoá / gỡ liên kết dòng con rồi DROP – bảng detach được giữ
+ * thì dòng con cũng được giữ. Export lỗi → chưa có gì bị gỡ, đêm sau thử lại.</li>
+ * <li>Archive chỉ chạy khi {@code archiveDir} là đường dẫn tuyệt đối được cấu hình rõ
+ * (thư mục dùng chung / volume bền, không phải thư mục tương đối trên một node).</li>
+ * <li>Bảng đã detach nhưng chưa có file archive (ví dụ lần chạy trước lỗi giữa chừng)
+ * được export lại ở lần chạy kế tiếp.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.partitioning.enabled", havingValue = "true", matchIfMissing = true)
+public class PartitionMaintenanceService {
+
+    private static final int EXPORT_FETCH_SIZE = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final PartitioningProperties properties;
+
+    public PartitionMaintenanceService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            PartitioningProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        try {
+            ensureUpcoming(Instant.now());
+        } catch (DataAccessException e) {
+            log.warn("Partition pre-creation skipped (database without changelog 23?): {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${app.partitioning.cron:0 30 2 * * *}")
+    public void maintain() {
+        Instant now = Instant.now();
+        ensureUpcoming(now);
+        archiveCold(now);
+    }
+
+    /**
+     * @return partition đã bảo đảm tồn tại (tạo mới nếu thiếu)
+     */
+    public List<String> ensureUpcoming(Instant now) {
+        List<String> ensured = new ArrayList<>();
+        for (String table : properties.getTables()) {
+            for (YearMonth month : MonthlyPartitions.upcoming(now, properties.getMonthsAhead())) {
+                ensured.add(jdbcTemplate.queryForObject("SELECT f_ensure_monthly_partition(?, ?)", String.class,
+                        table, month.atDay(1)));
+            }
+        }
+        return ensured;
+    }
+
+    /**
+     * Archive mọi partition nguội; một partition lỗi không chặn các partition khác
+     *
+     * @return file archive đã ghi
+     */
+    public List<Path> archiveCold(Instant now) {
+        List<Path> archived = new ArrayList<>();
+        if (!archiveDirConfigured()) {
+            log.warn("Partition archiving skipped: app.partitioning.archive-dir must be an absolute path, got '{}'",
+                    properties.getArchiveDir());
+            return archived;
+        }
+        for (String table : properties.getTables()) {
+            List<String> attached = jdbcTemplate.queryForList("""
+                    SELECT c.relname FROM pg_inherits i
+                    JOIN pg_class c ON c.oid = i.inhrelid
+                    JOIN pg_class p ON p.oid = i.inhparent
+                    WHERE p.relname = ?""", String.class, table);
+            for (String partition : MonthlyPartitions.cold(table, attached, now, properties.getHotMonths())) {
+                archiveSafely(table, partition, true, archived);
+            }
+
+            List<String> detached = jdbcTemplate.queryForList("""
+                    SELECT c.relname FROM pg_class c
+                    JOIN pg_namespace n ON n.oid = c.relnamespace
+                    WHERE c.relkind = 'r' AND NOT c.relispartition AND n.nspname = current_schema()
+                      AND starts_with(c.relname, ?)""", String.class, table + "_p");
+            for (String partition : MonthlyPartitions.cold(table, detached, now, properties.getHotMonths())) {
+                if (!properties.isDropAfterExport() && Files.exists(archiveFile(table, partition, null))) {
+                    continue; // đã archive, giữ bảng theo cấu hình
+                }
+                archiveSafely(table, partition, false, archived);
+            }
+        }
+        return archived;
+    }
+
+    private void archiveSafely(String parent, String partition, boolean attached, List<Path> archived) {
+        try {
+            archived.add(archive(parent, partition, attached));
+        } catch (RuntimeException e) {
+            log.error("Archiving partition {} failed; it stays in the database for a retry", partition, e);
+        }
+    }
+
+    private Path archive(String parent, String partition, boolean attached) {
+        // Export trước, khi dữ liệu vẫn còn trong bảng cha: lỗi ở đây không làm mất gì
+        Path file = archiveFile(parent, partition, null);
+        long rows = export(partition, file);
+        List<PartitioningProperties.Dependent> dependents = properties.dependentsOf(parent);
+        long[] dependentRows = new long[dependents.size()];
+        for (int i = 0; i < dependents.size(); i++) {
+            PartitioningProperties.Dependent dependent = dependents.get(i);
+            dependentRows[i] = exportQuery(dependent.getTable(), dependentFilter(parent, partition, dependent),
+                    archiveFile(parent, partition, dependent.getTable()));
+        }
+
+        writeTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.execute("LOCK TABLE " + quote(partition) + " IN ACCESS EXCLUSIVE MODE");
+            Long current = jdbcTemplate.queryForObject("SELECT count(*) FROM " + quote(partition), Long.class);
+            if (current == null || current != rows) {
+                throw new IllegalStateException("Partition " + partition + " changed after export: "
+                        + current + " rows, archived " + rows);
+            }
+            if (attached) {
+                jdbcTemplate.execute("ALTER TABLE " + quote(parent) + " DETACH PARTITION " + quote(partition));
+            }
+            // Bảng detach được giữ → dòng con vẫn tra được attempt của mình; chỉ gỡ khi DROP
+            if (properties.isDropAfterExport()) {
+                releaseDependents(parent, partition, dependents, dependentRows);
+                jdbcTemplate.execute("DROP TABLE " + quote(partition));
+            }
+        });
+        log.info("Archived partition {} ({} rows, dependents {}) to {}{}", partition, rows,
+                Arrays.toString(dependentRows), file,
+                properties.isDropAfterExport() ? "" : " (detached table and dependent rows kept)");
+        return file;
+    }
+
+    private void releaseDependents(String parent, String partition, List<PartitioningProperties.Dependent> dependents,
+            long[] dependentRows) {
+        for (int i = 0; i < dependents.size(); i++) {
+            PartitioningProperties.Dependent dependent = dependents.get(i);
+            String column = quote(dependent.columnFor(parent));
+            String filter = " WHERE " + column + " IN (SELECT id FROM " + quote(partition) + ")";
+            int changed = dependent.getOnArchive() == PartitioningProperties.OnArchive.SET_NULL
+                    ? jdbcTemplate.update("UPDATE " + quote(dependent.getTable()) + " SET " + column + " = NULL" + filter)
+                    : jdbcTemplate.update("DELETE FROM " + quote(dependent.getTable()) + filter);
+            if (changed != dependentRows[i]) {
+                throw new IllegalStateException(dependent.getTable() + " rows of " + partition
+                        + " changed after export: " + changed + ", archived " + dependentRows[i]);
+            }
+        }
+    }
+
+    private boolean archiveDirConfigured() {
+        String dir = properties.getArchiveDir();
+        return dir != null && !dir.isBlank() && Path.of(dir).isAbsolute();
+    }
+
+    private String dependentFilter(String parent, String partition, PartitioningProperties.Dependent dependent) {
+        return "FROM " + quote(dependent.getTable()) + " WHERE " + quote(dependent.columnFor(parent))
+                + " IN (SELECT id FROM " + quote(partition) + ")";
+    }
+
+    /**
+     * {@code <archiveDir>/<bảng cha>/<partition>[.<bảng con>].csv.gz}
+     */
+    private Path archiveFile(String parent, String partition, String dependent) {
+        return Path.of(properties.getArchiveDir(), parent,
+                partition + (dependent != null ? "." + dependent : "") + ".csv.gz");
+    }
+
+    /**
+     * Stream bảng ra CSV gzip (file tạm rồi move), trả về số dòng
+     */
+    long export(String table, Path file) {
+        return exportQuery(table, "FROM " + quote(table), file);
+    }
+
+    /**
+     * Stream {@code SELECT * <from>} ra CSV gzip. count(*) và SELECT chạy trong cùng một
+     * snapshot (REPEATABLE READ); lệch nhau thì xoá file và báo lỗi để không gỡ dữ liệu
+     * chưa export đủ.
+     */
+    private long exportQuery(String name, String from, Path file) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), name, ".tmp");
+            long[] counts;
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temp), 1 << 16), StandardCharsets.UTF_8))) {
+                counts = readOnlyTransaction.execute(status -> new long[] {
+                        jdbcTemplate.queryForObject("SELECT count(*) " + from, Long.class),
+                        writeCsv("SELECT * " + from, writer) });
+            } catch (RuntimeException | IOException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+            if (counts == null || counts[0] != counts[1]) {
+                Files.deleteIfExists(temp);
+                throw new IllegalStateException("Export of " + name + " wrote "
+                        + (counts != null ? counts[1] : null) + " rows, expected " + (counts != null ? counts[0] : null));
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return counts[1];
+        } catch (IOException e) {
+            throw new UncheckedIOException("Export of " + name + " failed", e);
+        }
+    }
+
+    private long writeCsv(String sql, Writer writer) {
+        long[] rows = { 0 };
+        jdbcTemplate.query(connection -> {
+            // fetchSize trong transaction → driver Postgres dùng cursor, không nạp cả partition vào heap
+            var statement = connection.prepareStatement(sql);
+            statement.setFetchSize(EXPORT_FETCH_SIZE);
+            return statement;
+        }, (ResultSet rs) -> {
+            ResultSetMetaData meta = rs.getMetaData();
+            if (rows[0] == 0) {
+                for (int column = 1; column <= meta.getColumnCount(); column++) {
+                    writeField(writer, meta.getColumnLabel(column).toLowerCase(), column > 1);
+                }
+                newLine(writer);
+            }
+            for (int column = 1; column <= meta.getColumnCount(); column++) {
+                writeField(writer, rs.getString(column), column > 1);
+            }
+            newLine(writer);
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    /** CSV kiểu COPY: NULL = trường rỗng không quote, chuỗi rỗng = "" */
+    private static void writeField(Writer writer, String value, boolean separator) throws SQLException {
+        try {
+            if (separator) {
+                writer.write(',');
+            }
+            if (value == null) {
+                return;
+            }
+            if (value.isEmpty() || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        } catch (IOException e) {
+            throw new SQLException("Writing archive failed", e);
+        }
+    }
+
+    private static void newLine(Writer writer) throws SQLException {
+        try {
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new SQLException("Writing archive failed", e);
+        }
+    }
+
+    private static String quote(String identifier) {
+        return '"' + identifier.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,151 @@
+package org.fsa_2026.company_fsa_captone_2026.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Password Hashing Service
+ * PasswordEncoder của ứng dụng: BCrypt chạy trên pool riêng có giới hạn.
+ *
+ * <ul>
+ * <li>Số luồng hash cố định → một đợt login/register dồn dập chỉ chiếm tối đa
+ * {@code threads} CPU, phần còn lại vẫn phục vụ gameplay.</li>
+ * <li>Hàng đợi có giới hạn; đầy thì trả 429 ngay thay vì để request treo.</li>
+ * <li>Cost được hiệu chỉnh lúc khởi động theo {@code target-ms}; hash cũ có cost
+ * thấp hơn được hash lại khi login (xem CustomUserDetailsService#updatePassword).</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class PasswordHashingService implements PasswordEncoder {
+
+    private static final String CALIBRATION_PASSWORD = "calibration-Password-123";
+
+    private final ThreadPoolExecutor executor;
+    private final BCryptPasswordEncoder encoder;
+    private final int strength;
+    private final Counter rejected;
+
+    public PasswordHashingService(MeterRegistry meterRegistry,
+            @Value("${app.auth.password-hash.strength:0}") int fixedStrength,
+            @Value("${app.auth.password-hash.target-ms:250}") long targetMs,
+            @Value("${app.auth.password-hash.min-strength:10}") int minStrength,
+            @Value("${app.auth.password-hash.max-strength:14}") int maxStrength,
+            @Value("${app.auth.password-hash.threads:0}") int threads,
+            @Value("${app.auth.password-hash.queue-capacity:64}") int queueCapacity) {
+        this.strength = fixedStrength > 0 ? fixedStrength : calibrate(targetMs, minStrength, maxStrength);
+        this.encoder = new BCryptPasswordEncoder(strength);
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("auth.password_hash.queue.size", executor, e -> e.getQueue().size())
+                .description("Số yêu cầu hash mật khẩu đang chờ").register(meterRegistry);
+        Gauge.builder("auth.password_hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Số luồng đang hash").register(meterRegistry);
+        this.rejected = Counter.builder("auth.password_hash.rejected")
+                .description("Số yêu cầu bị từ chối vì hàng đợi đầy").register(meterRegistry);
+
+        log.info("Password hashing: bcrypt strength={}, threads={}, queueCapacity={}",
+                strength, poolSize, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> encoder.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * true khi hash đã lưu có cost thấp hơn cost hiện tại → DaoAuthenticationProvider
+     * sẽ hash lại mật khẩu sau khi login thành công
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return encoder.upgradeEncoding(encodedPassword);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ApiException("TOO_MANY_REQUESTS", "Hệ thống đang bận, vui lòng thử lại sau");
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Password hashing interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * Đo một lần hash ở minStrength (sau một lần warm-up), mỗi bậc cost nhân đôi
+     * thời gian → chọn cost lớn nhất mà ước lượng vẫn ≤ targetMs
+     */
+    static int calibrate(long targetMs, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode(CALIBRATION_PASSWORD);
+        long start = System.nanoTime();
+        probe.encode(CALIBRATION_PASSWORD);
+        double measuredMs = (System.nanoTime() - start) / 1_000_000.0;
+
+        int chosen = minStrength;
+        double estimate = measuredMs;
+        while (chosen < maxStrength && estimate * 2 <= targetMs) {
+            chosen++;
+            estimate *= 2;
+        }
+        log.info("BCrypt calibration: strength {} ≈ {} ms, chosen strength {} ≈ {} ms (target {} ms)",
+                minStrength, Math.round(measuredMs), chosen, Math.round(estimate), targetMs);
+        return chosen;
+    }
+}
@@ -0,0 +1,395 @@
+package org.fsa_2026.company_fsa_captone_2026.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.placement.PlacementRuleIndex;
+import org.fsa_2026.company_fsa_captone_2026.dto.PlacementResultResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.QuizAnswerSnapshot;
+import org.fsa_2026.company_fsa_captone_2026.entity.Classroom;
+import org.fsa_2026.company_fsa_captone_2026.entity.ClassroomMember;
+import org.fsa_2026.company_fsa_captone_2026.entity.Level;
+import org.fsa_2026.company_fsa_captone_2026.entity.QuizAttempt;
+import org.fsa_2026.company_fsa_captone_2026.entity.UserProfile;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.ContentStatus;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.QuizType;
+import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
+import org.fsa_2026.company_fsa_captone_2026.repository.ClassroomMemberRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.ClassroomRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.DialectRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.LevelRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.PlacementRuleRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.QuizAttemptRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.QuizQuestionRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.UserProfileRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Placement Service
+ * Xếp dialect + level bắt đầu cho learner từ bài DIAGNOSTIC.
+ *
+ * <p>
+ * Toàn bộ PlacementRule được biên dịch thành {@link PlacementRuleIndex}
+ * (errorTag → rules theo priority, (errorTag, dialect) → rule) và thay thế
+ * nguyên khối sau mỗi lần rule thay đổi. Điểm lỗi của từng error tag =
+ * 100 - điểm trung bình các câu hỏi thuộc error tag đó (câu hỏi → challenge →
+ * level.errorTag).
+ * </p>
+ */
+@Slf4j
+@Service
+public class PlacementService {
+
+    private final PlacementRuleRepository placementRuleRepository;
+    private final QuizAttemptRepository quizAttemptRepository;
+    private final QuizQuestionRepository quizQuestionRepository;
+    private final LevelRepository levelRepository;
+    private final DialectRepository dialectRepository;
+    private final UserProfileRepository userProfileRepository;
+    private final ClassroomRepository classroomRepository;
+    private final ClassroomMemberRepository classroomMemberRepository;
+    private final ObjectMapper objectMapper;
+    private final Executor taskExecutor;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private volatile PlacementRuleIndex index = PlacementRuleIndex.EMPTY;
+
+    public PlacementService(PlacementRuleRepository placementRuleRepository,
+            QuizAttemptRepository quizAttemptRepository,
+            QuizQuestionRepository quizQuestionRepository,
+            LevelRepository levelRepository,
+            DialectRepository dialectRepository,
+            UserProfileRepository userProfileRepository,
+            ClassroomRepository classroomRepository,
+            ClassroomMemberRepository classroomMemberRepository,
+            ObjectMapper objectMapper,
+            @Qualifier("taskExecutor") Executor taskExecutor,
+            PlatformTransactionManager transactionManager) {
+        this.placementRuleRepository = placementRuleRepository;
+        this.quizAttemptRepository = quizAttemptRepository;
+        this.quizQuestionRepository = quizQuestionRepository;
+        this.levelRepository = levelRepository;
+        this.dialectRepository = dialectRepository;
+        this.userProfileRepository = userProfileRepository;
+        this.classroomRepository = classroomRepository;
+        this.classroomMemberRepository = classroomMemberRepository;
+        this.objectMapper = objectMapper;
+        this.taskExecutor = taskExecutor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // ==========================================
+    // Rule index
+    // ==========================================
+
+    /**
+     * Transaction mở bằng TransactionTemplate: method còn được gọi từ taskExecutor qua
+     * {@code this}, nơi {@code @Transactional} không có hiệu lực
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        PlacementRuleIndex rebuilt = readOnlyTransaction.execute(
+                status -> PlacementRuleIndex.compile(placementRuleRepository.findAll()));
+        index = rebuilt;
+        log.info("Placement rule index rebuilt: {} rules", rebuilt.size());
+    }
+
+    /**
+     * Yêu cầu build lại index sau khi transaction hiện tại commit (gộp nhiều yêu cầu liên tiếp)
+     */
+    public void requestRebuild() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    scheduleRebuild();
+                }
+            });
+        } else {
+            scheduleRebuild();
+        }
+    }
+
+    private void scheduleRebuild() {
+        if (!rebuildScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        taskExecutor.execute(() -> {
+            rebuildScheduled.set(false);
+            try {
+                rebuildIndex();
+            } catch (RuntimeException e) {
+                log.error("Failed to rebuild placement rule index", e);
+            }
+        });
+    }
+
+    // ==========================================
+    // Placement
+    // ==========================================
+
+    /**
+     * Learner tự xếp lớp từ bài DIAGNOSTIC đã hoàn thành của mình
+     */
+    @Transactional
+    public PlacementResultResponse placeFromQuizAttempt(UUID accountId, UUID quizAttemptId) {
+        QuizAttempt attempt = quizAttemptRepository.findById(quizAttemptId)
+                .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy bài làm"));
+        if (!attempt.getStudent().getId().equals(accountId)) {
+            throw new ApiException("FORBIDDEN", "Bạn không có quyền với bài làm này");
+        }
+        if (attempt.getQuizType() != QuizType.DIAGNOSTIC || !Boolean.TRUE.equals(attempt.getCompleted())) {
+            throw new ApiException("BAD_REQUEST", "Bài làm không phải bài kiểm tra đầu vào đã hoàn thành");
+        }
+
+        List<PlacementResultResponse> results = place(List.of(attempt),
+                userProfileRepository.findByAccountIdIn(List.of(accountId)));
+        return results.get(0);
+    }
+
+    /**
+     * Xếp lại toàn bộ học viên của lớp theo bài DIAGNOSTIC mới nhất của từng người.
+     * Một lượt: 1 query thành viên, 1 query bài làm, 1 query câu hỏi → error tag,
+     * 1 query level, 1 query profile rồi saveAll.
+     */
+    @Transactional
+    public List<PlacementResultResponse> replaceClassroom(UUID educatorId, UUID classroomId) {
+        Classroom classroom = classroomRepository.findById(classroomId)
+                .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy lớp học"));
+        if (!classroom.getEducator().getId().equals(educatorId)) {
+            throw new ApiException("FORBIDDEN", "Bạn không có quyền quản lý lớp học này");
+        }
+
+        List<UUID> studentIds = new ArrayList<>();
+        for (ClassroomMember member : classroomMemberRepository.findByClassroomId(classroomId)) {
+            studentIds.add(member.getStudent().getId());
+        }
+        if (studentIds.isEmpty()) {
+            return List.of();
+        }
+
+        // Sắp xếp completedAt DESC → giữ bài đầu tiên của mỗi học viên
+        Map<UUID, QuizAttempt> latest = new LinkedHashMap<>();
+        for (QuizAttempt attempt : quizAttemptRepository.findCompletedByStudentIdsAndType(studentIds,
+                QuizType.DIAGNOSTIC)) {
+            latest.putIfAbsent(attempt.getStudent().getId(), attempt);
+        }
+
+        Map<UUID, PlacementResultResponse> placed = new HashMap<>();
+        if (!latest.isEmpty()) {
+            for (PlacementResultResponse result : place(latest.values(),
+                    userProfileRepository.findByAccountIdIn(latest.keySet()))) {
+                placed.put(UUID.fromString(result.getStudentId()), result);
+            }
+        }
+
+        List<PlacementResultResponse> results = new ArrayList<>(studentIds.size());
+        for (UUID studentId : studentIds) {
+            PlacementResultResponse result = placed.get(studentId);
+            results.add(result != null ? result
+                    : PlacementResultResponse.builder().studentId(studentId.toString()).placed(false).build());
+        }
+        log.info("Classroom {} re-placed: {}/{} students with diagnostic results", classroomId, placed.size(),
+                studentIds.size());
+        return results;
+    }
+
+    /**
+     * Đánh giá hàng loạt trên cùng một snapshot index
+     */
+    private List<PlacementResultResponse> place(Collection<QuizAttempt> attempts, List<UserProfile> profiles) {
+        PlacementRuleIndex rules = index;
+
+        Set<UUID> quizIds = new HashSet<>();
+        for (QuizAttempt attempt : attempts) {
+            quizIds.add(attempt.getQuiz().getId());
+        }
+        Map<UUID, UUID> questionErrorTags = new HashMap<>();
+        for (QuizQuestionRepository.QuestionErrorTag row : quizQuestionRepository.findErrorTagsByQuizIdIn(quizIds)) {
+            questionErrorTags.put(row.getQuestionId(), row.getErrorTagId());
+        }
+
+        // Đánh giá trước để biết cần những dialect nào, rồi tải level một lần
+        List<Evaluation> evaluations = new ArrayList<>(attempts.size());
+        Set<UUID> dialectIds = new HashSet<>();
+        for (QuizAttempt attempt : attempts) {
+            Map<UUID, Double> errorScores = errorScores(attempt, questionErrorTags);
+            PlacementRuleIndex.Match match = rules.match(errorScores);
+            UUID dialectId = match != null ? match.rule().dialectId() : defaultDialectId(attempt);
+            if (dialectId != null) {
+                dialectIds.add(dialectId);
+            }
+            evaluations.add(new Evaluation(attempt, errorScores, match, dialectId));
+        }
+
+        Map<UUID, List<Level>> levelsByDialect = new HashMap<>();
+        if (!dialectIds.isEmpty()) {
+            for (Level level : levelRepository.findByDialectIdInAndStatusOrderByLevelOrderAsc(dialectIds,
+                    ContentStatus.APPROVED)) {
+                levelsByDialect.computeIfAbsent(level.getDialect().getId(), id -> new ArrayList<>()).add(level);
+            }
+        }
+
+        Map<UUID, UserProfile> profileByAccount = new HashMap<>();
+        for (UserProfile profile : profiles) {
+            profileByAccount.put(profile.getAccount().getId(), profile);
+        }
+
+        Instant now = Instant.now();
+        List<UserProfile> changed = new ArrayList<>();
+        List<PlacementResultResponse> results = new ArrayList<>(evaluations.size());
+        for (Evaluation evaluation : evaluations) {
+            Level level = evaluation.dialectId != null
+                    ? resolveLevel(levelsByDialect.getOrDefault(evaluation.dialectId, List.of()),
+                            evaluation.match != null ? evaluation.match.rule().checkpoint() : null)
+                    : null;
+
+            UUID studentId = evaluation.attempt.getStudent().getId();
+            UserProfile profile = profileByAccount.get(studentId);
+            if (profile != null && evaluation.dialectId != null) {
+                profile.setPlacementDialect(dialectRepository.getReferenceById(evaluation.dialectId));
+                profile.setPlacementLevel(level);
+                profile.setPlacedAt(now);
+                changed.add(profile);
+            }
+            results.add(toResponse(evaluation, level));
+        }
+        if (!changed.isEmpty()) {
+            userProfileRepository.saveAll(changed);
+        }
+        return results;
+    }
+
+    /**
+     * Điểm lỗi (0-100) theo error tag từ answers_snapshot
+     */
+    Map<UUID, Double> errorScores(QuizAttempt attempt, Map<UUID, UUID> questionErrorTags) {
+        List<QuizAnswerSnapshot> answers = readAnswers(attempt);
+        Map<UUID, double[]> sums = new HashMap<>(); // [sum, count]
+        for (QuizAnswerSnapshot answer : answers) {
+            if (answer.getQuestionId() == null || answer.getScore() == null) {
+                continue;
+            }
+            UUID errorTagId = questionErrorTags.get(answer.getQuestionId());
+            if (errorTagId == null) {
+                continue;
+            }
+            double[] sum = sums.computeIfAbsent(errorTagId, id -> new double[2]);
+            sum[0] += Math.max(0, Math.min(100, answer.getScore()));
+            sum[1]++;
+        }
+        Map<UUID, Double> errorScores = new HashMap<>();
+        sums.forEach((errorTagId, sum) -> errorScores.put(errorTagId, 100.0 - sum[0] / sum[1]));
+        return errorScores;
+    }
+
+    private List<QuizAnswerSnapshot> readAnswers(QuizAttempt attempt) {
+        if (attempt.getAnswersSnapshot() == null || attempt.getAnswersSnapshot().isBlank()) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(attempt.getAnswersSnapshot(), new TypeReference<List<QuizAnswerSnapshot>>() {
+            });
+        } catch (IOException e) {
+            log.warn("Invalid answers snapshot for quiz attempt {}: {}", attempt.getId(), e.getMessage());
+            return List.of();
+        }
+    }
+
+    private static UUID defaultDialectId(QuizAttempt attempt) {
+        Level level = attempt.getQuiz().getLevel();
+        return level != null && level.getDialect() != null ? level.getDialect().getId() : null;
+    }
+
+    /**
+     * Checkpoint có thể là id level, tên level, "level-N" hoặc "N" (levelOrder);
+     * không khớp → level đầu tiên của dialect
+     */
+    static Level resolveLevel(List<Level> levels, String checkpoint) {
+        if (levels.isEmpty()) {
+            return null;
+        }
+        if (checkpoint != null && !checkpoint.isBlank()) {
+            String value = checkpoint.trim();
+            Integer order = parseOrder(value);
+            for (Level level : levels) {
+                if (value.equalsIgnoreCase(String.valueOf(level.getId()))
+                        || value.equalsIgnoreCase(level.getName())
+                        || (order != null && order.equals(level.getLevelOrder()))) {
+                    return level;
+                }
+            }
+        }
+        return levels.get(0);
+    }
+
+    private static Integer parseOrder(String checkpoint) {
+        String digits = checkpoint.toLowerCase().startsWith("level")
+                ? checkpoint.substring(5).replaceFirst("^[\\s_-]+", "")
+                : checkpoint;
+        try {
+            return Integer.valueOf(digits);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static PlacementResultResponse toResponse(Evaluation evaluation, Level level) {
+        Map<String, BigDecimal> errorScores = new LinkedHashMap<>();
+        evaluation.errorScores.forEach((errorTagId, score) -> errorScores.put(errorTagId.toString(),
+                BigDecimal.valueOf(score).setScale(2, RoundingMode.HALF_UP)));
+        PlacementRuleIndex.Match match = evaluation.match;
+        return PlacementResultResponse.builder()
+                .studentId(evaluation.attempt.getStudent().getId().toString())
+                .quizAttemptId(evaluation.attempt.getId().toString())
+                .placed(evaluation.dialectId != null)
+                .dialectId(evaluation.dialectId != null ? evaluation.dialectId.toString() : null)
+                .levelId(level != null ? level.getId().toString() : null)
+                .levelName(level != null ? level.getName() : null)
+                .matchedRuleId(match != null ? match.rule().ruleId().toString() : null)
+                .matchedErrorTagId(match != null ? match.rule().errorTagId().toString() : null)
+                .errorScores(errorScores)
+                .build();
+    }
+
+    private static final class Evaluation {
+        private final QuizAttempt attempt;
+        private final Map<UUID, Double> errorScores;
+        private final PlacementRuleIndex.Match match;
+        private final UUID dialectId;
+
+        private Evaluation(QuizAttempt attempt, Map<UUID, Double> errorScores, PlacementRuleIndex.Match match,
+                UUID dialectId) {
+            this.attempt = attempt;
+            this.errorScores = errorScores;
+            this.match = match;
+            this.dialectId = dialectId;
+        }
+    }
+}
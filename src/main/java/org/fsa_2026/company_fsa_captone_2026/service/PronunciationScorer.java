@@ -0,0 +1,222 @@
+package org.fsa_2026.company_fsa_captone_2026.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.AudioFeatureLoader;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.AudioFeatures;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.DtwAligner;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.FeatureExtractor;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.ToneAnalyzer;
+import org.fsa_2026.company_fsa_captone_2026.entity.Challenge;
+import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Pronunciation Scorer
+ * Chấm điểm phát âm bằng cách căn chỉnh (DTW) MFCC của learner với đặc trưng
+ * audio mẫu đã tính trước, và chấm thanh điệu từng âm tiết từ pitch contour.
+ * Nếu audio mẫu chưa được tính trước hoặc audio learner không đọc được thì
+ * dùng điểm mô phỏng như trước.
+ * Điểm từng phoneme được báo qua {@code onPhoneme} sau khi căn chỉnh xong, trước
+ * khi attempt được lưu (đẩy feedback trước kết quả cuối).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PronunciationScorer {
+
+    /**
+     * Khoảng cách MFCC trung bình tương ứng ~37 điểm (100 * e^-1)
+     */
+    private static final double DISTANCE_SCALE = 15.0;
+
+    private static final ThreadLocal<ToneAnalyzer> TONE_ANALYZER = ThreadLocal.withInitial(ToneAnalyzer::new);
+
+    private final ReferenceFeatureService referenceFeatureService;
+    private final AudioFeatureLoader audioFeatureLoader;
+
+    /**
+     * Score learner audio (URL) against the challenge's reference audio
+     */
+    public ScoreResult score(Challenge challenge, String learnerAudioUrl) {
+        return score(challenge, learnerAudioUrl, phoneme -> {
+        });
+    }
+
+    public ScoreResult score(Challenge challenge, String learnerAudioUrl, Consumer<PhonemeScore> onPhoneme) {
+        return score(challenge, loadLearnerAudio(learnerAudioUrl), onPhoneme);
+    }
+
+    /**
+     * Tải + trích xuất audio learner; gọi trước khi mở transaction để không giữ
+     * connection DB trong lúc download
+     *
+     * @return null nếu không có audio, chưa cấu hình storage hoặc không đọc được (chấm mô
+     *         phỏng)
+     * @throws ApiException BAD_REQUEST nếu URL không nằm trên storage của hệ thống
+     */
+    public AudioFeatures loadLearnerAudio(String learnerAudioUrl) {
+        if (learnerAudioUrl == null || learnerAudioUrl.isBlank() || !audioFeatureLoader.isEnabled()) {
+            return null;
+        }
+        if (!audioFeatureLoader.isAllowed(learnerAudioUrl)) {
+            throw new ApiException("BAD_REQUEST", "audioUrl không hợp lệ");
+        }
+        try {
+            return audioFeatureLoader.load(learnerAudioUrl);
+        } catch (IOException e) {
+            log.warn("Cannot load learner audio {}: {}", learnerAudioUrl, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Score already extracted learner features against the challenge's reference audio
+     * ({@code learner} null → điểm mô phỏng)
+     */
+    public ScoreResult score(Challenge challenge, AudioFeatures learner) {
+        return score(challenge, learner, phoneme -> {
+        });
+    }
+
+    public ScoreResult score(Challenge challenge, AudioFeatures learner, Consumer<PhonemeScore> onPhoneme) {
+        if (learner == null) {
+            return simulate(challenge, List.of(), onPhoneme);
+        }
+        long start = System.currentTimeMillis();
+        // Thanh điệu chỉ cần pitch contour của learner, không phụ thuộc audio mẫu
+        List<ToneAnalyzer.SyllableTone> tones = TONE_ANALYZER.get().analyze(challenge.getContentText(), learner);
+        Optional<AudioFeatures> reference = findReference(challenge);
+        if (reference.isEmpty()) {
+            return simulate(challenge, tones, onPhoneme);
+        }
+        return score(challenge, reference.get(), learner, tones, start, onPhoneme);
+    }
+
+    private Optional<AudioFeatures> findReference(Challenge challenge) {
+        Optional<AudioFeatures> reference = referenceFeatureService.find(challenge.getId());
+        if (reference.isEmpty()) {
+            referenceFeatureService.precompute(challenge.getId(), challenge.getReferenceAudioUrl());
+        }
+        return reference;
+    }
+
+    private ScoreResult score(Challenge challenge, AudioFeatures reference, AudioFeatures learner,
+            List<ToneAnalyzer.SyllableTone> tones, long start, Consumer<PhonemeScore> onPhoneme) {
+        if (learner.frameCount() == 0 || reference.frameCount() == 0) {
+            return new ScoreResult(0.0, elapsed(start), false, segmentScores(challenge, null, reference, onPhoneme),
+                    tones);
+        }
+        float[] distances;
+        try {
+            distances = DtwAligner.align(reference, learner);
+        } catch (IllegalArgumentException e) {
+            log.warn("Cannot align attempt for challenge {}: {}", challenge.getId(), e.getMessage());
+            return simulate(challenge, tones, onPhoneme);
+        }
+
+        double sum = 0.0;
+        for (float d : distances) {
+            sum += d;
+        }
+        double overall = toScore(sum / distances.length);
+        return new ScoreResult(overall, elapsed(start), false,
+                segmentScores(challenge, distances, reference, onPhoneme), tones);
+    }
+
+    /**
+     * Chia đều reference frames cho các focus phoneme theo thứ tự
+     */
+    private static List<PhonemeScore> segmentScores(Challenge challenge, float[] distances, AudioFeatures reference,
+            Consumer<PhonemeScore> onPhoneme) {
+        List<String> phonemes = focusPhonemes(challenge);
+        List<PhonemeScore> result = new ArrayList<>(phonemes.size());
+        int frames = reference.frameCount();
+        for (int i = 0; i < phonemes.size(); i++) {
+            int from = frames * i / phonemes.size();
+            int to = Math.max(from + 1, frames * (i + 1) / phonemes.size());
+            double score = 0.0;
+            if (distances != null) {
+                double sum = 0.0;
+                int end = Math.min(to, distances.length);
+                for (int f = from; f < end; f++) {
+                    sum += distances[f];
+                }
+                score = end > from ? toScore(sum / (end - from)) : 0.0;
+            }
+            PhonemeScore phonemeScore = new PhonemeScore(phonemes.get(i), score,
+                    from * FeatureExtractor.HOP_MS, to * FeatureExtractor.HOP_MS);
+            result.add(phonemeScore);
+            onPhoneme.accept(phonemeScore);
+        }
+        return result;
+    }
+
+    /**
+     * Điểm mô phỏng (chưa có đặc trưng audio mẫu)
+     */
+    private static ScoreResult simulate(Challenge challenge, List<ToneAnalyzer.SyllableTone> tones,
+            Consumer<PhonemeScore> onPhoneme) {
+        double overall = 50 + (Math.random() * 50); // Random score between 50 and 100
+        List<String> phonemes = focusPhonemes(challenge);
+        List<PhonemeScore> scores = new ArrayList<>(phonemes.size());
+        for (int i = 0; i < phonemes.size(); i++) {
+            PhonemeScore phonemeScore = new PhonemeScore(phonemes.get(i), 60 + (Math.random() * 40), (i + 1) * 500,
+                    (i + 2) * 500);
+            scores.add(phonemeScore);
+            onPhoneme.accept(phonemeScore);
+        }
+        return new ScoreResult(overall, (int) (Math.random() * 500) + 100, true, scores, tones);
+    }
+
+    private static List<String> focusPhonemes(Challenge challenge) {
+        List<String> phonemes = new ArrayList<>();
+        if (challenge.getFocusPhonemes() != null && !challenge.getFocusPhonemes().isEmpty()) {
+            for (String p : challenge.getFocusPhonemes().split(",")) { // E.g., "tr,ch"
+                phonemes.add(p.trim());
+            }
+        }
+        return phonemes;
+    }
+
+    private static double toScore(double distance) {
+        return 100.0 * Math.exp(-distance / DISTANCE_SCALE);
+    }
+
+    private static int elapsed(long start) {
+        return (int) (System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Kết quả chấm điểm một lượt phát âm
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ScoreResult {
+        private final double overallScore;
+        private final int latencyMs;
+        private final boolean simulated;
+        private final List<PhonemeScore> phonemeScores;
+        private final List<ToneAnalyzer.SyllableTone> toneScores;
+    }
+
+    /**
+     * Điểm của một focus phoneme trên đoạn thời gian tương ứng của audio mẫu
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class PhonemeScore {
+        private final String phoneme;
+        private final double score;
+        private final int startMs;
+        private final int endMs;
+    }
+}
@@ -0,0 +1,253 @@
+package org.fsa_2026.company_fsa_captone_2026.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.push.PushChannel;
+import org.fsa_2026.company_fsa_captone_2026.common.push.PushMessage;
+import org.fsa_2026.company_fsa_captone_2026.config.PushProperties;
+import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Push Service
+ * Broker trong process cho kênh đẩy real-time (SSE) theo account đã xác thực:
+ * feedback từng phoneme trong lúc chấm, kết quả attempt, tiến độ / bảng xếp hạng.
+ *
+ * <ul>
+ * <li>Mỗi kết nối là một {@link PushChannel} với hàng đợi có giới hạn; ghi ra
+ * socket trên pool riêng nên nơi phát (request chấm điểm, listener) không bao giờ
+ * bị chặn bởi client chậm.</li>
+ * <li>Ghi ra socket là blocking: lần ghi nào quá {@code app.push.write-timeout} thì kết
+ * nối bị đóng (slow consumer) và pool được bù một thread cho tới khi lần ghi đó trả về
+ * (container hết write timeout), nên vài client treo không làm dừng push của người
+ * khác.</li>
+ * <li>Giới hạn tổng số kết nối (429) và số kết nối mỗi account (đóng kết nối cũ nhất).</li>
+ * <li>Message gắn với dữ liệu ghi DB dùng {@link #sendAfterCommit} để client không
+ * nhận kết quả của transaction bị rollback.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class PushService implements DisposableBean {
+
+    public static final String EVENT_READY = "ready";
+    public static final String EVENT_ATTEMPT_PHONEME = "attempt.phoneme";
+    public static final String EVENT_ATTEMPT_SCORED = "attempt.scored";
+    public static final String EVENT_PROGRESS = "progress";
+    public static final String EVENT_LEADERBOARD_CHANGED = "leaderboard.changed";
+
+    private final PushProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final Map<UUID, List<PushChannel>> channelsByAccount = new ConcurrentHashMap<>();
+    /** Kênh đã đóng vì ghi quá hạn nhưng lần ghi vẫn đang giữ thread */
+    private final Set<PushChannel> stalled = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    public PushService(PushProperties properties) {
+        this.properties = properties;
+        // mỗi kết nối nhiều nhất một task drain trong queue → queue không vượt số kết nối
+        this.executor = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(), 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("push-"));
+    }
+
+    /**
+     * Mở kết nối SSE cho account; message gửi trước khi client nhận {@code ready}
+     * vẫn được giữ trong queue
+     */
+    public SseEmitter connect(UUID accountId) {
+        if (connections.incrementAndGet() > properties.getMaxConnections()) {
+            connections.decrementAndGet();
+            throw new ApiException("TOO_MANY_REQUESTS", "Hệ thống đang bận, vui lòng thử lại sau");
+        }
+        SseEmitter emitter = new SseEmitter(properties.getConnectionTimeout().toMillis());
+        PushChannel channel = new PushChannel(properties.getQueueCapacity(), new EmitterSink(emitter), executor,
+                closed -> unregister(accountId, closed));
+        emitter.onCompletion(channel::close);
+        emitter.onTimeout(channel::close);
+        emitter.onError(error -> channel.close());
+        List<PushChannel> channels = channelsByAccount.compute(accountId, (id, existing) -> {
+            List<PushChannel> list = existing != null ? existing : new CopyOnWriteArrayList<>();
+            list.add(channel);
+            return list;
+        });
+
+        // nhiều tab/thiết bị: giữ các kết nối mới nhất
+        while (channels.size() > properties.getMaxConnectionsPerAccount()) {
+            channels.get(0).close();
+        }
+        channel.offer(new PushMessage(EVENT_READY, Map.of("accountId", accountId)));
+        return emitter;
+    }
+
+    /**
+     * Gửi ngay tới mọi kết nối của account
+     *
+     * @return số kết nối nhận message
+     */
+    public int send(UUID accountId, String event, Object data) {
+        List<PushChannel> channels = channelsByAccount.get(accountId);
+        if (channels == null) {
+            return 0;
+        }
+        PushMessage message = new PushMessage(event, data);
+        int delivered = 0;
+        for (PushChannel channel : channels) {
+            if (channel.offer(message)) {
+                delivered++;
+            }
+        }
+        return delivered;
+    }
+
+    /**
+     * Gửi sau khi transaction hiện tại commit (gửi ngay nếu không có transaction)
+     */
+    public void sendAfterCommit(UUID accountId, String event, Object data) {
+        afterCommit(() -> send(accountId, event, data));
+    }
+
+    /**
+     * Gửi tới mọi kết nối sau khi transaction hiện tại commit
+     */
+    public void broadcastAfterCommit(String event, Object data) {
+        afterCommit(() -> broadcast(event, data));
+    }
+
+    public int broadcast(String event, Object data) {
+        PushMessage message = new PushMessage(event, data);
+        int delivered = 0;
+        for (List<PushChannel> channels : channelsByAccount.values()) {
+            for (PushChannel channel : channels) {
+                if (channel.offer(message)) {
+                    delivered++;
+                }
+            }
+        }
+        return delivered;
+    }
+
+    public boolean isConnected(UUID accountId) {
+        return channelsByAccount.containsKey(accountId);
+    }
+
+    public int connectionCount() {
+        return connections.get();
+    }
+
+    @Scheduled(fixedDelayString = "${app.push.heartbeat-interval:PT25S}",
+            initialDelayString = "${app.push.heartbeat-interval:PT25S}")
+    public void heartbeat() {
+        for (List<PushChannel> channels : channelsByAccount.values()) {
+            for (PushChannel channel : channels) {
+                // queue còn message thì kết nối vẫn đang được ghi, không cần heartbeat
+                if (channel.pending() == 0) {
+                    channel.offer(PushMessage.HEARTBEAT);
+                }
+            }
+        }
+    }
+
+    /**
+     * Đóng kết nối có lần ghi quá write timeout và bù thread cho pool ghi
+     */
+    @Scheduled(fixedDelayString = "${app.push.write-check-interval:PT1S}",
+            initialDelayString = "${app.push.write-check-interval:PT1S}")
+    public void closeStalledConnections() {
+        long now = System.nanoTime();
+        long timeout = properties.getWriteTimeout().toNanos();
+        stalled.removeIf(channel -> channel.writingSince() == 0);
+        for (List<PushChannel> channels : channelsByAccount.values()) {
+            for (PushChannel channel : channels) {
+                long since = channel.writingSince();
+                if (since != 0 && now - since > timeout) {
+                    log.warn("Push write blocked for more than {}; closing slow connection",
+                            properties.getWriteTimeout());
+                    stalled.add(channel);
+                    channel.close();
+                }
+            }
+        }
+        resizeWriters(properties.getThreads() + Math.min(stalled.size(), properties.getMaxStalledWriters()));
+    }
+
+    private void resizeWriters(int size) {
+        if (size > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(size);
+            executor.setCorePoolSize(size);
+        } else if (size < executor.getCorePoolSize()) {
+            executor.setCorePoolSize(size);
+            executor.setMaximumPoolSize(size);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        List<PushChannel> all = new ArrayList<>();
+        channelsByAccount.values().forEach(all::addAll);
+        all.forEach(PushChannel::close);
+        executor.shutdown();
+    }
+
+    private void unregister(UUID accountId, PushChannel channel) {
+        connections.decrementAndGet();
+        channelsByAccount.computeIfPresent(accountId, (id, channels) -> {
+            channels.remove(channel);
+            return channels.isEmpty() ? null : channels;
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Ghi message thành SSE event; heartbeat là comment
+     */
+    private record EmitterSink(SseEmitter emitter) implements PushChannel.Sink {
+
+        @Override
+        public void send(PushMessage message) throws IOException {
+            if (message.isHeartbeat()) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } else {
+                emitter.send(SseEmitter.event().name(message.event()).data(message.data()));
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                emitter.complete();
+            } catch (RuntimeException e) {
+                log.debug("Closing push connection failed: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,544 @@
+package org.fsa_2026.company_fsa_captone_2026.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.cache.LruCache;
+import org.fsa_2026.company_fsa_captone_2026.common.quiz.QuizSession;
+import org.fsa_2026.company_fsa_captone_2026.common.quiz.QuizSnapshot;
+import org.fsa_2026.company_fsa_captone_2026.dto.QuizAnswerRequest;
+import org.fsa_2026.company_fsa_captone_2026.dto.QuizAnswerResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.QuizAnswerSnapshot;
+import org.fsa_2026.company_fsa_captone_2026.dto.QuizAttemptResultResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.QuizSessionQuestionResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.QuizSessionResponse;
+import org.fsa_2026.company_fsa_captone_2026.entity.Quiz;
+import org.fsa_2026.company_fsa_captone_2026.entity.QuizAttempt;
+import org.fsa_2026.company_fsa_captone_2026.entity.QuizAttemptAnswer;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.ContentStatus;
+import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
+import org.fsa_2026.company_fsa_captone_2026.repository.AccountRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.QuizAttemptAnswerRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.QuizAttemptRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.QuizQuestionRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.QuizRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Quiz Runtime Service
+ * Learner làm quiz: bắt đầu lượt làm, nộp từng câu, chấm và ghi kết quả.
+ *
+ * <p>
+ * Bộ câu hỏi của mỗi quiz được chụp một lần thành {@link QuizSnapshot} bất biến
+ * và dùng chung cho mọi lượt làm (cả lớp bắt đầu cùng lúc chỉ tốn một query).
+ * Câu trả lời được chấm ngay khi nộp (SPEAKING dùng {@link PronunciationScorer}, câu
+ * văn bản so với đáp án của câu hỏi) và ghi ngay thành QuizAttemptAnswer; {@link QuizSession}
+ * chỉ là cache, mất thì dựng lại từ DB. Hạn nộp lưu ở QuizAttempt và được kiểm tra phía
+ * server; lượt quá hạn chưa nộp được job {@link #autoSubmitExpired()} chấm.
+ * </p>
+ */
+@Slf4j
+@Service
+public class QuizRuntimeService {
+
+    /**
+     * Quiz không đặt thời gian → giới hạn mặc định để session không sống mãi
+     */
+    private static final int DEFAULT_TIME_LIMIT_MINUTES = 120;
+    private static final int MAX_SNAPSHOTS = 256;
+    private static final int AUTO_SUBMIT_BATCH_SIZE = 100;
+
+    private final QuizRepository quizRepository;
+    private final QuizQuestionRepository quizQuestionRepository;
+    private final QuizAttemptRepository quizAttemptRepository;
+    private final QuizAttemptAnswerRepository quizAttemptAnswerRepository;
+    private final AccountRepository accountRepository;
+    private final PronunciationScorer pronunciationScorer;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final long graceSeconds;
+
+    private final LruCache<UUID, QuizSnapshot> snapshots = new LruCache<>(MAX_SNAPSHOTS);
+    private final AtomicLong snapshotGeneration = new AtomicLong();
+    private final Map<UUID, QuizSession> sessions = new ConcurrentHashMap<>();
+    private final Map<String, UUID> activeAttempts = new ConcurrentHashMap<>();
+
+    public QuizRuntimeService(QuizRepository quizRepository,
+            QuizQuestionRepository quizQuestionRepository,
+            QuizAttemptRepository quizAttemptRepository,
+            QuizAttemptAnswerRepository quizAttemptAnswerRepository,
+            AccountRepository accountRepository,
+            PronunciationScorer pronunciationScorer,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.quiz.deadline-grace-seconds:5}") long graceSeconds) {
+        this.quizRepository = quizRepository;
+        this.quizQuestionRepository = quizQuestionRepository;
+        this.quizAttemptRepository = quizAttemptRepository;
+        this.quizAttemptAnswerRepository = quizAttemptAnswerRepository;
+        this.accountRepository = accountRepository;
+        this.pronunciationScorer = pronunciationScorer;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.graceSeconds = graceSeconds;
+    }
+
+    // ==========================================
+    // Snapshot cache
+    // ==========================================
+
+    /**
+     * Snapshot dùng chung. Tải ngoài lock của cache (query JPA không chặn các quiz khác);
+     * nhiều thread cùng tải một quiz thì thread đầu tiên thắng. Lần tải chồng lên một lần
+     * evict thì không được cache để không giữ lại bộ câu hỏi cũ.
+     */
+    QuizSnapshot snapshot(UUID quizId) {
+        QuizSnapshot cached = snapshots.get(quizId);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = snapshotGeneration.get();
+        QuizSnapshot loaded = loadSnapshot(quizId);
+        if (generation != snapshotGeneration.get()) {
+            return loaded;
+        }
+        QuizSnapshot existing = snapshots.putIfAbsent(quizId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private QuizSnapshot loadSnapshot(UUID quizId) {
+        Quiz quiz = quizRepository.findWithQuestionsById(quizId)
+                .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy bài kiểm tra"));
+        if (quiz.getStatus() != ContentStatus.APPROVED) {
+            throw new ApiException("BAD_REQUEST", "Bài kiểm tra chưa được phê duyệt");
+        }
+        QuizSnapshot snapshot = QuizSnapshot.of(quiz);
+        if (snapshot.questions().isEmpty()) {
+            throw new ApiException("BAD_REQUEST", "Bài kiểm tra chưa có câu hỏi");
+        }
+        log.debug("Quiz snapshot cached: {} ({} questions)", quizId, snapshot.questions().size());
+        return snapshot;
+    }
+
+    /**
+     * Bỏ snapshot sau khi transaction hiện tại commit (quiz được duyệt / cập nhật).
+     * Các lượt làm đang diễn ra vẫn giữ snapshot cũ của mình.
+     */
+    public void evictSnapshot(UUID quizId) {
+        snapshotGeneration.incrementAndGet();
+        snapshots.remove(quizId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshotGeneration.incrementAndGet();
+                    snapshots.remove(quizId);
+                }
+            });
+        }
+    }
+
+    // ==========================================
+    // Runtime
+    // ==========================================
+
+    /**
+     * Bắt đầu (hoặc tiếp tục lượt đang làm của) một quiz. Loại lượt làm lấy từ quiz –
+     * learner không tự chọn (kết quả DIAGNOSTIC được PlacementService dùng để xếp lớp).
+     */
+    @Transactional
+    public QuizSessionResponse startQuiz(UUID accountId, UUID quizId) {
+        Instant now = Instant.now();
+        QuizSession active = activeSession(accountId, quizId);
+        if (active != null && !active.isFinished() && !active.isExpired(now, 0)) {
+            return toSessionResponse(active);
+        }
+
+        QuizSnapshot snapshot = snapshot(quizId);
+        Instant deadline = now.plus(Duration.ofMinutes(timeLimitMinutes(snapshot)));
+
+        QuizAttempt attempt = QuizAttempt.builder()
+                .quiz(quizRepository.getReferenceById(quizId))
+                .student(accountRepository.getReferenceById(accountId))
+                .score(0)
+                .completed(false)
+                .startedAt(now)
+                .deadlineAt(deadline)
+                .quizType(snapshot.quizType())
+                .build();
+        attempt = quizAttemptRepository.save(attempt);
+
+        QuizSession session = new QuizSession(attempt.getId(), accountId, snapshot, now, deadline);
+        sessions.put(session.attemptId(), session);
+        activeAttempts.put(activeKey(accountId, quizId), session.attemptId());
+        return toSessionResponse(session);
+    }
+
+    /**
+     * Trạng thái lượt làm đang diễn ra (dùng khi learner tải lại trang)
+     */
+    public QuizSessionResponse getSession(UUID accountId, UUID attemptId) {
+        return toSessionResponse(requireSession(accountId, attemptId));
+    }
+
+    /**
+     * Nộp (hoặc sửa) câu trả lời của một câu hỏi. Chấm ngoài transaction (SPEAKING tải audio),
+     * rồi ghi QuizAttemptAnswer trong một transaction ngắn – câu trả lời không mất khi restart.
+     */
+    public QuizAnswerResponse submitAnswer(UUID accountId, UUID attemptId, UUID questionId, QuizAnswerRequest request) {
+        QuizSession session = requireSession(accountId, attemptId);
+        Instant receivedAt = Instant.now();
+        if (session.isExpired(receivedAt, graceSeconds)) {
+            throw new ApiException("BAD_REQUEST", "Đã hết thời gian làm bài, vui lòng nộp bài");
+        }
+        QuizSnapshot.Question question = session.snapshot().question(questionId);
+        if (question == null) {
+            throw new ApiException("NOT_FOUND", "Câu hỏi không thuộc bài kiểm tra này");
+        }
+
+        double score;
+        if (question.isSpeaking()) {
+            if (request.getAudioUrl() == null || request.getAudioUrl().isBlank()) {
+                throw new ApiException("BAD_REQUEST", "Câu hỏi phát âm cần audioUrl");
+            }
+            score = pronunciationScorer.score(question.toChallenge(), request.getAudioUrl()).getOverallScore();
+        } else if (question.answerKey() == null) {
+            log.warn("Quiz question {} has no answer key; scored 0", questionId);
+            score = 0.0;
+        } else {
+            score = textScore(question.answerKey(), request.getAnswerText());
+        }
+
+        // Thời điểm nhận câu trả lời quyết định hợp lệ, không phải thời điểm chấm xong
+        QuizSession.GradedAnswer answer = new QuizSession.GradedAnswer(questionId, request.getAnswerText(),
+                request.getAudioUrl(), score, receivedAt);
+        transactionTemplate.executeWithoutResult(status -> saveAnswer(session, answer));
+        session.record(answer);
+
+        long remaining = Math.max(0, Duration.between(Instant.now(), session.deadline()).getSeconds());
+        return QuizAnswerResponse.builder()
+                .questionId(questionId.toString())
+                .score(toScore(score))
+                .answeredCount(session.answeredCount())
+                .totalQuestions(session.snapshot().questions().size())
+                .remainingSeconds(remaining)
+                .build();
+    }
+
+    private void saveAnswer(QuizSession session, QuizSession.GradedAnswer answer) {
+        QuizAttempt attempt = quizAttemptRepository.findForUpdateById(session.attemptId())
+                .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy bài làm"));
+        if (Boolean.TRUE.equals(attempt.getCompleted())) {
+            forget(session.attemptId());
+            throw new ApiException("BAD_REQUEST", "Bài làm đã được nộp");
+        }
+        QuizAttemptAnswer row = quizAttemptAnswerRepository
+                .findByQuizAttemptIdAndQuestionId(attempt.getId(), answer.questionId())
+                .orElseGet(() -> QuizAttemptAnswer.builder()
+                        .quizAttempt(attempt)
+                        .question(quizQuestionRepository.getReferenceById(answer.questionId()))
+                        .build());
+        row.setAnswerText(answer.answerText());
+        row.setAudioUrl(answer.audioUrl());
+        row.setScore(toScore(answer.score()));
+        row.setAnsweredAt(answer.answeredAt());
+        quizAttemptAnswerRepository.save(row);
+    }
+
+    /**
+     * Nộp bài: chấm tổng từ các câu trả lời đã ghi
+     */
+    @Transactional
+    public QuizAttemptResultResponse finishQuiz(UUID accountId, UUID attemptId) {
+        return grade(requireSession(accountId, attemptId).attemptId(), Instant.now());
+    }
+
+    /**
+     * Tự nộp các lượt quá hạn mà learner chưa nộp (mỗi lượt một transaction riêng;
+     * nhiều instance chạy cùng lúc thì lock + cờ completed đảm bảo chấm một lần)
+     *
+     * @return số lượt đã nộp
+     */
+    @Scheduled(fixedDelayString = "${app.quiz.auto-submit-interval:PT1M}",
+            initialDelayString = "${app.quiz.auto-submit-interval:PT1M}")
+    public int autoSubmitExpired() {
+        Instant now = Instant.now();
+        List<UUID> expired = quizAttemptRepository.findExpiredIncompleteIds(now.minusSeconds(graceSeconds),
+                PageRequest.of(0, AUTO_SUBMIT_BATCH_SIZE));
+        int submitted = 0;
+        for (UUID attemptId : expired) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> grade(attemptId, now));
+                submitted++;
+            } catch (ApiException e) {
+                log.debug("Skip auto-submit of quiz attempt {}: {}", attemptId, e.getMessage());
+            } catch (RuntimeException e) {
+                log.warn("Auto-submit of quiz attempt {} failed", attemptId, e);
+            }
+        }
+        if (submitted > 0) {
+            log.info("Auto-submitted {} expired quiz attempts", submitted);
+        }
+        return submitted;
+    }
+
+    /**
+     * Chấm và đóng lượt làm (gọi trong transaction). Session trong bộ nhớ chỉ bị bỏ
+     * sau khi commit – rollback thì learner vẫn nộp lại được.
+     */
+    private QuizAttemptResultResponse grade(UUID attemptId, Instant now) {
+        QuizAttempt attempt = quizAttemptRepository.findForUpdateById(attemptId)
+                .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy bài làm"));
+        if (Boolean.TRUE.equals(attempt.getCompleted())) {
+            throw new ApiException("BAD_REQUEST", "Bài làm đã được nộp");
+        }
+
+        QuizSession session = sessions.get(attemptId);
+        QuizSnapshot snapshot = session != null ? session.snapshot() : gradingSnapshot(attempt.getQuiz().getId());
+        Instant startedAt = startedAt(attempt);
+        Instant deadline = deadline(attempt, snapshot);
+        Instant cutoff = deadline.plusSeconds(graceSeconds);
+
+        Map<UUID, QuizAttemptAnswer> rows = new HashMap<>();
+        for (QuizAttemptAnswer row : quizAttemptAnswerRepository.findByQuizAttemptId(attemptId)) {
+            rows.put(row.getQuestion().getId(), row);
+        }
+        List<QuizAnswerSnapshot> answers = new ArrayList<>();
+        double earned = 0.0;
+        for (QuizSnapshot.Question question : snapshot.questions()) {
+            QuizAttemptAnswer row = rows.get(question.id());
+            if (row == null || row.getAnsweredAt().isAfter(cutoff)) {
+                continue;
+            }
+            double answerScore = row.getScore().doubleValue();
+            earned += question.points() * answerScore / 100.0;
+            answers.add(QuizAnswerSnapshot.builder()
+                    .questionId(question.id())
+                    .score((int) Math.round(answerScore))
+                    .build());
+        }
+
+        int score = snapshot.totalPoints() > 0 ? (int) Math.round(100.0 * earned / snapshot.totalPoints()) : 0;
+        Instant completedAt = now.isAfter(deadline) ? deadline : now;
+        attempt.setScore(score);
+        attempt.setCompleted(true);
+        attempt.setCompletedAt(completedAt);
+        attempt.setTimeTakenSeconds((int) Duration.between(startedAt, completedAt).getSeconds());
+        try {
+            attempt.setAnswersSnapshot(objectMapper.writeValueAsString(answers));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize answers snapshot for quiz attempt {}", attempt.getId(), e);
+        }
+        quizAttemptRepository.save(attempt);
+        afterCommit(() -> forget(attemptId));
+
+        return QuizAttemptResultResponse.builder()
+                .attemptId(attempt.getId().toString())
+                .quizId(snapshot.quizId().toString())
+                .quizType(attempt.getQuizType() != null ? attempt.getQuizType().name() : null)
+                .score(score)
+                .passed(snapshot.passingScore() == null || score >= snapshot.passingScore())
+                .answeredCount(answers.size())
+                .totalQuestions(snapshot.questions().size())
+                .timeTakenSeconds(attempt.getTimeTakenSeconds())
+                .completedAt(completedAt)
+                .answers(answers)
+                .build();
+    }
+
+    private QuizSession requireSession(UUID accountId, UUID attemptId) {
+        QuizSession session = sessions.get(attemptId);
+        if (session == null) {
+            // Restart / instance khác: khôi phục từ DB
+            QuizAttempt attempt = quizAttemptRepository.findById(attemptId)
+                    .filter(found -> !Boolean.TRUE.equals(found.getCompleted()))
+                    .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy lượt làm bài đang diễn ra"));
+            if (!attempt.getStudent().getId().equals(accountId)) {
+                throw new ApiException("FORBIDDEN", "Bạn không có quyền với bài làm này");
+            }
+            session = restore(attempt);
+        }
+        if (session.isFinished()) {
+            throw new ApiException("NOT_FOUND", "Không tìm thấy lượt làm bài đang diễn ra");
+        }
+        if (!session.accountId().equals(accountId)) {
+            throw new ApiException("FORBIDDEN", "Bạn không có quyền với bài làm này");
+        }
+        return session;
+    }
+
+    /**
+     * Lượt đang làm của learner: trong bộ nhớ, hoặc lượt dang dở trong DB
+     */
+    private QuizSession activeSession(UUID accountId, UUID quizId) {
+        UUID activeId = activeAttempts.get(activeKey(accountId, quizId));
+        QuizSession active = activeId != null ? sessions.get(activeId) : null;
+        if (active != null) {
+            return active;
+        }
+        return quizAttemptRepository.findFirstByStudentIdAndQuizIdAndCompletedFalseOrderByStartedAtDesc(accountId, quizId)
+                .map(this::restore)
+                .orElse(null);
+    }
+
+    /**
+     * Dựng lại session từ QuizAttempt + các câu trả lời đã ghi
+     */
+    private QuizSession restore(QuizAttempt attempt) {
+        QuizSnapshot snapshot = snapshot(attempt.getQuiz().getId());
+        QuizSession session = new QuizSession(attempt.getId(), attempt.getStudent().getId(), snapshot,
+                startedAt(attempt), deadline(attempt, snapshot));
+        for (QuizAttemptAnswer row : quizAttemptAnswerRepository.findByQuizAttemptId(attempt.getId())) {
+            session.record(new QuizSession.GradedAnswer(row.getQuestion().getId(), row.getAnswerText(),
+                    row.getAudioUrl(), row.getScore().doubleValue(), row.getAnsweredAt()));
+        }
+        QuizSession existing = sessions.putIfAbsent(session.attemptId(), session);
+        if (existing != null) {
+            return existing;
+        }
+        activeAttempts.put(activeKey(session.accountId(), snapshot.quizId()), session.attemptId());
+        return session;
+    }
+
+    /**
+     * Snapshot để chấm: không kiểm tra trạng thái duyệt (lượt đã bắt đầu vẫn được chấm)
+     */
+    private QuizSnapshot gradingSnapshot(UUID quizId) {
+        QuizSnapshot cached = snapshots.get(quizId);
+        if (cached != null) {
+            return cached;
+        }
+        return QuizSnapshot.of(quizRepository.findWithQuestionsById(quizId)
+                .orElseThrow(() -> new ApiException("NOT_FOUND", "Không tìm thấy bài kiểm tra")));
+    }
+
+    private void forget(UUID attemptId) {
+        QuizSession session = sessions.remove(attemptId);
+        if (session != null) {
+            session.markFinished();
+            activeAttempts.remove(activeKey(session.accountId(), session.snapshot().quizId()), attemptId);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static Instant startedAt(QuizAttempt attempt) {
+        return attempt.getStartedAt() != null ? attempt.getStartedAt() : attempt.getCreatedAt();
+    }
+
+    /**
+     * Lượt tạo trước khi có deadline_at: tính lại từ thời gian làm bài
+     */
+    private static Instant deadline(QuizAttempt attempt, QuizSnapshot snapshot) {
+        if (attempt.getDeadlineAt() != null) {
+            return attempt.getDeadlineAt();
+        }
+        return startedAt(attempt).plus(Duration.ofMinutes(timeLimitMinutes(snapshot)));
+    }
+
+    private static int timeLimitMinutes(QuizSnapshot snapshot) {
+        return snapshot.timeLimitMinutes() != null && snapshot.timeLimitMinutes() > 0
+                ? snapshot.timeLimitMinutes()
+                : DEFAULT_TIME_LIMIT_MINUTES;
+    }
+
+    private QuizSessionResponse toSessionResponse(QuizSession session) {
+        QuizSnapshot snapshot = session.snapshot();
+        List<QuizSessionQuestionResponse> questions = new ArrayList<>(snapshot.questions().size());
+        for (QuizSnapshot.Question question : snapshot.questions()) {
+            questions.add(QuizSessionQuestionResponse.fromSnapshot(question));
+        }
+        return QuizSessionResponse.builder()
+                .attemptId(session.attemptId().toString())
+                .quizId(snapshot.quizId().toString())
+                .title(snapshot.title())
+                .instructions(snapshot.instructions())
+                .timeLimitMinutes(snapshot.timeLimitMinutes())
+                .passingScore(snapshot.passingScore())
+                .startedAt(session.startedAt())
+                .deadline(session.deadline())
+                .answeredCount(session.answeredCount())
+                .questions(questions)
+                .build();
+    }
+
+    private static String activeKey(UUID accountId, UUID quizId) {
+        return accountId + ":" + quizId;
+    }
+
+    /**
+     * Điểm câu trả lời văn bản 0-100: độ tương đồng Levenshtein sau khi chuẩn hóa
+     * (NFC, chữ thường, bỏ dấu câu, gộp khoảng trắng). Dấu thanh vẫn được giữ.
+     */
+    static double textScore(String expected, String actual) {
+        String a = normalize(expected);
+        String b = normalize(actual);
+        if (a.isEmpty() || b.isEmpty()) {
+            return a.equals(b) && !a.isEmpty() ? 100.0 : 0.0;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return 100.0 * (1.0 - (double) previous[b.length()] / Math.max(a.length(), b.length()));
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[\\p{Punct}]+", " ")
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    private static BigDecimal toScore(double score) {
+        return BigDecimal.valueOf(score).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,412 @@
+package org.fsa_2026.company_fsa_captone_2026.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.cache.LruCache;
+import org.fsa_2026.company_fsa_captone_2026.common.event.AttemptScored;
+import org.fsa_2026.company_fsa_captone_2026.common.event.ContentApproved;
+import org.fsa_2026.company_fsa_captone_2026.common.event.DomainEventListener;
+import org.fsa_2026.company_fsa_captone_2026.common.recommendation.ChallengeIndex;
+import org.fsa_2026.company_fsa_captone_2026.common.recommendation.LearnerState;
+import org.fsa_2026.company_fsa_captone_2026.common.recommendation.PhonemeDictionary;
+import org.fsa_2026.company_fsa_captone_2026.dto.RecommendedChallengeResponse;
+import org.fsa_2026.company_fsa_captone_2026.entity.Attempt;
+import org.fsa_2026.company_fsa_captone_2026.entity.AttemptPhonemeFeedback;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.ContentStatus;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.DifficultyLevel;
+import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
+import org.fsa_2026.company_fsa_captone_2026.repository.AttemptPhonemeFeedbackRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.AttemptRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.ChallengeRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Recommendation Service
+ * Chọn challenge tiếp theo cho learner dựa trên phoneme yếu nhất, độ khó phù hợp
+ * và lịch ôn tập (spaced repetition).
+ *
+ * <p>
+ * Toàn bộ tính toán chạy trên {@link ChallengeIndex} (inverted index phoneme →
+ * challenge đã duyệt, build lại khi nội dung thay đổi) và {@link LearnerState}
+ * trong bộ nhớ, cập nhật tăng dần sau mỗi attempt. Lịch sử attempt chỉ được đọc
+ * một lần khi learner xuất hiện lần đầu (warm-up).
+ * </p>
+ */
+@Slf4j
+@Service
+public class RecommendationService {
+
+    public static final String REASON_WEAK_PHONEME = "WEAK_PHONEME";
+    public static final String REASON_REVIEW_DUE = "REVIEW_DUE";
+    public static final String REASON_NEW_CONTENT = "NEW_CONTENT";
+
+    private static final int WEAK_PHONEMES = 3;
+    private static final float WEAK_THRESHOLD = 85f;
+    private static final int MAX_CANDIDATES = 512;
+    private static final float REVIEW_BONUS = 25f;
+    private static final float DIFFICULTY_PENALTY = 20f;
+    /** Số lần đọc lại khi attempt liên tục commit trong lúc warm-up */
+    private static final int MAX_WARM_UP_ROUNDS = 3;
+
+    private final ChallengeRepository challengeRepository;
+    private final AttemptRepository attemptRepository;
+    private final AttemptPhonemeFeedbackRepository feedbackRepository;
+    private final Executor taskExecutor;
+
+    private final PhonemeDictionary dictionary = new PhonemeDictionary();
+    private final LruCache<UUID, LearnerState> learners;
+    /** Learner đang warm-up (đọc DB, chưa có state trong {@link #learners}) */
+    private final Map<UUID, WarmUp> warming = new ConcurrentHashMap<>();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private volatile ChallengeIndex index = ChallengeIndex.EMPTY;
+
+    public RecommendationService(ChallengeRepository challengeRepository,
+            AttemptRepository attemptRepository,
+            AttemptPhonemeFeedbackRepository feedbackRepository,
+            @Qualifier("taskExecutor") Executor taskExecutor,
+            @Value("${app.recommendation.max-learners:50000}") int maxLearners) {
+        this.challengeRepository = challengeRepository;
+        this.attemptRepository = attemptRepository;
+        this.feedbackRepository = feedbackRepository;
+        this.taskExecutor = taskExecutor;
+        // đầy thì bỏ learner lâu không hoạt động nhất
+        this.learners = new LruCache<>(maxLearners);
+    }
+
+    // ==========================================
+    // Index
+    // ==========================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        long start = System.currentTimeMillis();
+        ChallengeIndex rebuilt = ChallengeIndex.build(challengeRepository.findByStatus(ContentStatus.APPROVED),
+                dictionary);
+        index = rebuilt;
+        log.info("Recommendation index rebuilt: {} approved challenges, {} phonemes ({} ms)",
+                rebuilt.size(), dictionary.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Yêu cầu build lại index sau khi transaction hiện tại commit (gộp nhiều yêu cầu liên tiếp)
+     */
+    public void requestRebuild() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    scheduleRebuild();
+                }
+            });
+        } else {
+            scheduleRebuild();
+        }
+    }
+
+    /**
+     * Level/challenge được duyệt đổi tập nội dung APPROVED (hoặc thứ tự level) của index
+     */
+    @DomainEventListener
+    public void onContentApproved(ContentApproved event) {
+        if (!ContentApproved.QUIZ.equals(event.getContentType())) {
+            requestRebuild();
+        }
+    }
+
+    private void scheduleRebuild() {
+        if (!rebuildScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        taskExecutor.execute(() -> {
+            rebuildScheduled.set(false);
+            try {
+                rebuildIndex();
+            } catch (RuntimeException e) {
+                log.error("Failed to rebuild recommendation index", e);
+            }
+        });
+    }
+
+    // ==========================================
+    // Recommendation
+    // ==========================================
+
+    /**
+     * Gợi ý challenge tiếp theo cho learner (tùy chọn giới hạn trong một level)
+     */
+    @Transactional(readOnly = true)
+    public RecommendedChallengeResponse getNextChallenge(UUID accountId, UUID levelId) {
+        return recommend(accountId, levelId);
+    }
+
+    RecommendedChallengeResponse recommend(UUID accountId, UUID levelId) {
+        ChallengeIndex snapshot = index;
+        LearnerState state = stateFor(accountId);
+        int nowMinute = minuteOf(Instant.now());
+        int levelNumber = -1;
+        if (levelId != null) {
+            levelNumber = snapshot.levelNumber(levelId);
+            if (levelNumber < 0) {
+                throw new ApiException("NOT_FOUND", "Không có thử thách nào trong cấp độ này");
+            }
+        }
+        int targetDifficulty = targetDifficulty(state.overallScore());
+
+        Candidate best = new Candidate();
+        int budget = MAX_CANDIDATES;
+
+        // 1. Challenge luyện phoneme yếu nhất
+        int[] weak = new int[WEAK_PHONEMES];
+        int weakCount = state.weakest(WEAK_THRESHOLD, weak);
+        for (int w = 0; w < weakCount && budget > 0; w++) {
+            for (int position : snapshot.byPhoneme(weak[w])) {
+                if (budget-- <= 0) {
+                    break;
+                }
+                evaluate(snapshot, state, position, levelNumber, targetDifficulty, nowMinute, best);
+            }
+        }
+
+        // 2. Challenge đến hạn ôn tập
+        UUID[] due = new UUID[16];
+        int dueCount = state.dueReviews(nowMinute, due);
+        for (int i = 0; i < dueCount; i++) {
+            int position = snapshot.position(due[i]);
+            if (position >= 0) {
+                evaluate(snapshot, state, position, levelNumber, targetDifficulty, nowMinute, best);
+            }
+        }
+
+        // 3. Chưa có ứng viên (learner mới / đã luyện hết) → nội dung mới đúng độ khó
+        if (best.position < 0) {
+            int[] pool = levelNumber >= 0 ? snapshot.byLevel(levelNumber) : snapshot.byDifficulty(targetDifficulty);
+            budget = MAX_CANDIDATES;
+            for (int position : pool) {
+                if (budget-- <= 0) {
+                    break;
+                }
+                evaluate(snapshot, state, position, levelNumber, targetDifficulty, nowMinute, best);
+            }
+        }
+
+        if (best.position < 0) {
+            throw new ApiException("NOT_FOUND", "Không có thử thách phù hợp");
+        }
+
+        List<String> targetPhonemes = new ArrayList<>();
+        for (int phoneme : snapshot.phonemes(best.position)) {
+            if (state.weakness(phoneme) > 100f - WEAK_THRESHOLD) {
+                targetPhonemes.add(dictionary.name(phoneme));
+            }
+        }
+        return RecommendedChallengeResponse.builder()
+                .challenge(snapshot.response(best.position))
+                .reason(best.reason)
+                .targetPhonemes(targetPhonemes)
+                .targetDifficulty(DifficultyLevel.values()[targetDifficulty].name())
+                .build();
+    }
+
+    private static void evaluate(ChallengeIndex snapshot, LearnerState state, int position, int levelNumber,
+            int targetDifficulty, int nowMinute, Candidate best) {
+        if (levelNumber >= 0 && snapshot.level(position) != levelNumber) {
+            return;
+        }
+        int due = state.dueMinute(snapshot.id(position));
+        if (due > nowMinute) {
+            return; // vừa luyện xong, chưa đến hạn ôn
+        }
+
+        float weakness = 0f;
+        for (int phoneme : snapshot.phonemes(position)) {
+            weakness += state.weakness(phoneme);
+        }
+        float score = weakness
+                - DIFFICULTY_PENALTY * Math.abs(snapshot.difficulty(position) - targetDifficulty)
+                + (due >= 0 ? REVIEW_BONUS : 0f);
+        if (best.position < 0 || score > best.score) {
+            best.position = position;
+            best.score = score;
+            best.reason = weakness > 0f ? REASON_WEAK_PHONEME : due >= 0 ? REASON_REVIEW_DUE : REASON_NEW_CONTENT;
+        }
+    }
+
+    /**
+     * EWMA điểm tổng &lt; 60 → EASY, &lt; 80 → MEDIUM, còn lại HARD (learner mới: EASY)
+     */
+    private static int targetDifficulty(float overallScore) {
+        if (Float.isNaN(overallScore) || overallScore < 60f) {
+            return DifficultyLevel.EASY.ordinal();
+        }
+        return overallScore < 80f ? DifficultyLevel.MEDIUM.ordinal() : DifficultyLevel.HARD.ordinal();
+    }
+
+    // ==========================================
+    // Learner state
+    // ==========================================
+
+    /**
+     * Cập nhật trạng thái learner sau một attempt đã chấm điểm. Nếu learner chưa
+     * được nạp vào bộ nhớ thì bỏ qua (lần warm-up sau sẽ đọc attempt này từ DB); nếu
+     * đang warm-up thì đánh dấu để warm-up đọc lại (snapshot đang đọc có thể chưa có
+     * attempt này).
+     * Trong transaction thì chỉ áp dụng sau commit: rollback (và lần giao lại event)
+     * không để lại thay đổi trong bộ nhớ.
+     */
+    public void recordAttempt(UUID accountId, UUID challengeId, double overallScore, boolean passed,
+            List<PronunciationScorer.PhonemeScore> phonemeScores) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyAttempt(accountId, challengeId, overallScore, passed, phonemeScores);
+                }
+            });
+        } else {
+            applyAttempt(accountId, challengeId, overallScore, passed, phonemeScores);
+        }
+    }
+
+    private void applyAttempt(UUID accountId, UUID challengeId, double overallScore, boolean passed,
+            List<PronunciationScorer.PhonemeScore> phonemeScores) {
+        LearnerState state = learners.get(accountId);
+        if (state == null) {
+            if (markWarmUpStale(accountId)) {
+                return;
+            }
+            state = learners.get(accountId); // warm-up vừa xong
+            if (state == null) {
+                return;
+            }
+        }
+        state.recordOverall((float) overallScore);
+        state.recordReview(challengeId, passed, minuteOf(Instant.now()));
+        for (PronunciationScorer.PhonemeScore phonemeScore : phonemeScores) {
+            state.recordPhoneme(dictionary.intern(phonemeScore.getPhoneme()), (float) phonemeScore.getScore());
+        }
+    }
+
+    @DomainEventListener
+    public void onAttemptScored(AttemptScored event) {
+        List<PronunciationScorer.PhonemeScore> phonemeScores = new ArrayList<>();
+        if (event.getPhonemeScores() != null) {
+            for (AttemptScored.PhonemeResult phoneme : event.getPhonemeScores()) {
+                phonemeScores.add(new PronunciationScorer.PhonemeScore(phoneme.getPhoneme(), phoneme.getScore(), 0, 0));
+            }
+        }
+        recordAttempt(event.getAccountId(), event.getChallengeId(), event.getOverallScore(), event.isPassed(),
+                phonemeScores);
+    }
+
+    private LearnerState stateFor(UUID accountId) {
+        LearnerState state = learners.get(accountId);
+        if (state != null) {
+            return state;
+        }
+        WarmUp warmUp = new WarmUp();
+        if (warming.putIfAbsent(accountId, warmUp) != null) {
+            return warmUp(accountId); // thread khác đang warm-up và sẽ ghi state
+        }
+        try {
+            for (int round = 1;; round++) {
+                LearnerState loaded = warmUp(accountId);
+                synchronized (warmUp) {
+                    if (!warmUp.stale || round == MAX_WARM_UP_ROUNDS) {
+                        warmUp.done = true;
+                        state = learners.putIfAbsent(accountId, loaded);
+                        return state != null ? state : loaded;
+                    }
+                    warmUp.stale = false;
+                }
+            }
+        } finally {
+            warming.remove(accountId, warmUp);
+        }
+    }
+
+    /**
+     * @return true nếu learner đang warm-up: lần đọc hiện tại bị đánh dấu cũ và sẽ đọc lại
+     */
+    private boolean markWarmUpStale(UUID accountId) {
+        WarmUp warmUp = warming.get(accountId);
+        if (warmUp == null) {
+            return false;
+        }
+        synchronized (warmUp) {
+            if (warmUp.done) {
+                return false;
+            }
+            warmUp.stale = true;
+            return true;
+        }
+    }
+
+    /**
+     * Dựng lại trạng thái từ 200 attempt gần nhất (2 truy vấn, chỉ chạy một lần / learner)
+     */
+    private LearnerState warmUp(UUID accountId) {
+        LearnerState state = new LearnerState();
+        List<Attempt> attempts = new ArrayList<>(attemptRepository.findTop200ByAccountIdOrderByCreatedAtDesc(accountId));
+        if (attempts.isEmpty()) {
+            return state;
+        }
+        attempts.sort(Comparator.comparing(Attempt::getCreatedAt));
+
+        Map<UUID, List<AttemptPhonemeFeedback>> feedbackByAttempt = new HashMap<>();
+        List<UUID> attemptIds = new ArrayList<>(attempts.size());
+        for (Attempt attempt : attempts) {
+            attemptIds.add(attempt.getId());
+        }
+        // attempts đã sort tăng dần: attempt đầu là cũ nhất → cận dưới created_at cho feedback
+        Instant oldest = attempts.get(0).getCreatedAt();
+        for (AttemptPhonemeFeedback feedback : feedbackRepository.findByAttemptIdInAndCreatedAtGreaterThanEqual(
+                attemptIds, oldest)) {
+            feedbackByAttempt.computeIfAbsent(feedback.getAttempt().getId(), id -> new ArrayList<>()).add(feedback);
+        }
+
+        for (Attempt attempt : attempts) {
+            state.recordOverall(attempt.getScoreOverall().floatValue());
+            state.recordReview(attempt.getChallenge().getId(), Boolean.TRUE.equals(attempt.getIsPassed()),
+                    minuteOf(attempt.getCreatedAt()));
+            for (AttemptPhonemeFeedback feedback : feedbackByAttempt.getOrDefault(attempt.getId(), List.of())) {
+                state.recordPhoneme(dictionary.intern(feedback.getPhonemeIpa()), feedback.getScore().floatValue());
+            }
+        }
+        return state;
+    }
+
+    private static int minuteOf(Instant instant) {
+        return (int) (instant.getEpochSecond() / 60);
+    }
+
+    /**
+     * Một lần warm-up đang chạy; attempt commit trong lúc đọc DB đánh dấu {@code stale}
+     */
+    private static final class WarmUp {
+        private boolean stale;
+        private boolean done;
+    }
+
+    private static final class Candidate {
+        private int position = -1;
+        private float score;
+        private String reason;
+    }
+}
@@ -0,0 +1,124 @@
+package org.fsa_2026.company_fsa_captone_2026.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.AudioFeatureLoader;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.AudioFeatures;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.ReferenceFeatureFile;
+import org.fsa_2026.company_fsa_captone_2026.common.event.ContentApproved;
+import org.fsa_2026.company_fsa_captone_2026.common.event.DomainEventListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reference Feature Service
+ * Tính trước đặc trưng (MFCC + pitch) của audio mẫu khi Challenge được duyệt,
+ * lưu ra file .rfeat và memory-map khi chấm điểm → không tải/decode audio mẫu
+ * trên request path.
+ */
+@Slf4j
+@Service
+public class ReferenceFeatureService {
+
+    private static final long FAILURE_BACKOFF_MS = 10 * 60 * 1000L;
+
+    private final AudioFeatureLoader audioFeatureLoader;
+    private final Path featureDir;
+
+    private final Map<UUID, AudioFeatures> cache = new ConcurrentHashMap<>();
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Long> failedAt = new ConcurrentHashMap<>();
+
+    public ReferenceFeatureService(AudioFeatureLoader audioFeatureLoader,
+            @Value("${app.audio.reference-feature-dir:data/reference-features}") String featureDir) {
+        this.audioFeatureLoader = audioFeatureLoader;
+        this.featureDir = Paths.get(featureDir);
+    }
+
+    /**
+     * Challenge vừa được duyệt: tính trước đặc trưng audio mẫu để lần chấm điểm đầu
+     * không phải tải/decode (gọi trực tiếp, listener đã chạy trên thread nền)
+     */
+    @DomainEventListener
+    public void onContentApproved(ContentApproved event) {
+        if (ContentApproved.CHALLENGE.equals(event.getContentType())) {
+            precompute(event.getContentId(), event.getReferenceAudioUrl());
+        }
+    }
+
+    /**
+     * Tính và ghi đặc trưng audio mẫu (chạy nền). Bỏ qua nếu đang chạy cho cùng
+     * challenge hoặc vừa thất bại gần đây.
+     */
+    @Async
+    public void precompute(UUID challengeId, String referenceAudioUrl) {
+        if (challengeId == null || referenceAudioUrl == null || referenceAudioUrl.isBlank()
+                || !audioFeatureLoader.isEnabled()) {
+            return;
+        }
+        Long lastFailure = failedAt.get(challengeId);
+        if (lastFailure != null && System.currentTimeMillis() - lastFailure < FAILURE_BACKOFF_MS) {
+            return;
+        }
+        if (!inFlight.add(challengeId)) {
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            AudioFeatures features = audioFeatureLoader.load(referenceAudioUrl);
+            ReferenceFeatureFile.write(pathOf(challengeId), features);
+            cache.remove(challengeId);
+            failedAt.remove(challengeId);
+            log.info("Precomputed reference features for challenge {} ({} frames, {} ms)",
+                    challengeId, features.frameCount(), System.currentTimeMillis() - start);
+        } catch (IOException | RuntimeException e) {
+            failedAt.put(challengeId, System.currentTimeMillis());
+            log.warn("Failed to precompute reference features for challenge {}: {}", challengeId, e.getMessage());
+        } finally {
+            inFlight.remove(challengeId);
+        }
+    }
+
+    /**
+     * Đặc trưng audio mẫu đã tính trước (memory-mapped), empty nếu chưa có
+     */
+    public Optional<AudioFeatures> find(UUID challengeId) {
+        AudioFeatures cached = cache.get(challengeId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Path path = pathOf(challengeId);
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+        try {
+            AudioFeatures features = ReferenceFeatureFile.map(path);
+            cache.put(challengeId, features);
+            return Optional.of(features);
+        } catch (IOException e) {
+            log.warn("Unreadable reference feature file {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Xóa khỏi cache (file sẽ được map lại ở lần đọc sau)
+     */
+    public void evict(UUID challengeId) {
+        cache.remove(challengeId);
+    }
+
+    private Path pathOf(UUID challengeId) {
+        return featureDir.resolve(challengeId + ReferenceFeatureFile.EXTENSION);
+    }
+}
@@ -0,0 +1,181 @@
+package org.fsa_2026.company_fsa_captone_2026.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.JwtTokenProvider;
+import org.fsa_2026.company_fsa_captone_2026.entity.Account;
+import org.fsa_2026.company_fsa_captone_2026.entity.RefreshToken;
+import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
+import org.fsa_2026.company_fsa_captone_2026.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Refresh Token Service
+ * Kho refresh token: lookup theo SHA-256, rotation theo family, dọn token cũ
+ * theo lô.
+ *
+ * <ul>
+ * <li>Login mở một family mới; mỗi lần refresh token cũ bị thu hồi (CAS) và
+ * token mới thuộc cùng family.</li>
+ * <li>Token đã thu hồi mà vẫn được gửi lên → có thể đã bị lộ: thu hồi cả family,
+ * buộc đăng nhập lại.</li>
+ * <li>Token đã thu hồi được giữ thêm {@code reuseRetention} để còn phát hiện
+ * reuse, sau đó bị purge cùng token hết hạn.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration reuseRetention;
+    private final int purgeBatchSize;
+    private final int purgeMaxBatches;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+            JwtTokenProvider jwtTokenProvider,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.auth.refresh-token.reuse-retention-days:7}") long reuseRetentionDays,
+            @Value("${app.auth.refresh-token.purge-batch-size:1000}") int purgeBatchSize,
+            @Value("${app.auth.refresh-token.purge-max-batches:500}") int purgeMaxBatches) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reuseRetention = Duration.ofDays(reuseRetentionDays);
+        this.purgeBatchSize = purgeBatchSize;
+        this.purgeMaxBatches = purgeMaxBatches;
+    }
+
+    /**
+     * Login: thu hồi các phiên cũ của account (1 phiên/tài khoản) và mở family mới
+     *
+     * @return refresh token gốc (chỉ trả cho client, không lưu)
+     */
+    @Transactional
+    public String issue(Account account) {
+        Instant now = Instant.now();
+        refreshTokenRepository.revokeAllByAccountId(account.getId(), now);
+        return create(account, UUID.randomUUID(), now);
+    }
+
+    /**
+     * Đổi refresh token cũ lấy token mới cùng family.
+     * noRollbackFor: việc thu hồi family khi phát hiện reuse phải được commit dù
+     * request bị từ chối.
+     */
+    @Transactional(noRollbackFor = ApiException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new ApiException("UNAUTHORIZED", "Refresh token không hợp lệ"));
+
+        if (current.isExpired()) {
+            throw new ApiException("UNAUTHORIZED", "Refresh token đã hết hạn hoặc bị thu hồi");
+        }
+
+        Instant now = Instant.now();
+        if (current.getRevoked() || refreshTokenRepository.markRotated(current.getId(), now) == 0) {
+            int revoked = refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            log.warn("Refresh token reuse detected: family={}, account={}, revoked={}",
+                    current.getFamilyId(), current.getAccount().getId(), revoked);
+            throw new ApiException("UNAUTHORIZED", "Refresh token đã hết hạn hoặc bị thu hồi");
+        }
+
+        Account account = current.getAccount();
+        return new Rotation(account, create(account, current.getFamilyId(), now));
+    }
+
+    /**
+     * Logout: thu hồi cả family của token (mọi token sinh ra từ lần login đó)
+     */
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken)).ifPresent(token -> {
+            refreshTokenRepository.revokeFamily(token.getFamilyId(), Instant.now());
+            log.info("Token family revoked during logout for account: {}", token.getAccount().getId());
+        });
+    }
+
+    /**
+     * Xoá token hết hạn / đã thu hồi quá reuseRetention, mỗi lô một transaction
+     * ngắn để không giữ lock lâu; dừng khi hết dữ liệu hoặc đủ purgeMaxBatches.
+     *
+     * @return số token đã xoá
+     */
+    @Scheduled(cron = "${app.auth.refresh-token.purge-cron:0 17 3 * * *}")
+    public int purgeExpired() {
+        Instant now = Instant.now();
+        Instant revokedBefore = now.minus(reuseRetention);
+        int total = 0;
+        for (int batch = 0; batch < purgeMaxBatches; batch++) {
+            Integer deleted = transactionTemplate.execute(
+                    status -> refreshTokenRepository.deleteExpiredBatch(now, revokedBefore, purgeBatchSize));
+            int count = deleted != null ? deleted : 0;
+            total += count;
+            if (count < purgeBatchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Purged {} expired/revoked refresh tokens", total);
+        }
+        return total;
+    }
+
+    /**
+     * SHA-256 của token gốc — token có 512 bit ngẫu nhiên nên không cần salt
+     */
+    public static byte[] hash(String rawToken) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private String create(Account account, UUID familyId, Instant now) {
+        String rawToken = jwtTokenProvider.generateRefreshToken();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(rawToken))
+                .familyId(familyId)
+                .account(account)
+                .expiresAt(now.plusMillis(jwtTokenProvider.getRefreshTokenExpirationMs()))
+                .revoked(false)
+                .createdAt(now)
+                .build());
+        return rawToken;
+    }
+
+    /**
+     * Kết quả rotate: account chủ token + refresh token gốc mới
+     */
+    public static final class Rotation {
+        private final Account account;
+        private final String refreshToken;
+
+        public Rotation(Account account, String refreshToken) {
+            this.account = account;
+            this.refreshToken = refreshToken;
+        }
+
+        public Account account() {
+            return account;
+        }
+
+        public String refreshToken() {
+            return refreshToken;
+        }
+    }
+}
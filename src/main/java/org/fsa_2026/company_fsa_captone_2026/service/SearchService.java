@@ -0,0 +1,119 @@
+package org.fsa_2026.company_fsa_captone_2026.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.fsa_2026.company_fsa_captone_2026.common.paging.Paging;
+import org.fsa_2026.company_fsa_captone_2026.common.paging.SortFields;
+import org.fsa_2026.company_fsa_captone_2026.common.search.SearchNormalizer;
+import org.fsa_2026.company_fsa_captone_2026.common.search.SearchScope;
+import org.fsa_2026.company_fsa_captone_2026.dto.ChallengeResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.LevelResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.PageQuery;
+import org.fsa_2026.company_fsa_captone_2026.dto.PageResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.SearchSuggestionResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.UserManagementResponse;
+import org.fsa_2026.company_fsa_captone_2026.entity.Account;
+import org.fsa_2026.company_fsa_captone_2026.entity.Challenge;
+import org.fsa_2026.company_fsa_captone_2026.entity.Level;
+import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
+import org.fsa_2026.company_fsa_captone_2026.repository.AccountRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.ChallengeRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.LevelRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.SearchHit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Search Service
+ * Tìm kiếm cho admin console trên Postgres: pg_trgm (email, họ tên, tên level)
+ * và tsvector (nội dung challenge), không phân biệt dấu nhờ unaccent.
+ *
+ * <p>
+ * Kết quả luôn sắp theo độ liên quan nên không nhận tham số sort. Trang kết
+ * quả lấy id trước rồi mới load entity (giữ thứ tự relevance).
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    public static final int DEFAULT_SUGGESTIONS = 8;
+    public static final int MAX_SUGGESTIONS = 20;
+
+    private static final SortFields RELEVANCE = SortFields.defaultTo(Sort.unsorted());
+
+    private final AccountRepository accountRepository;
+    private final ChallengeRepository challengeRepository;
+    private final LevelRepository levelRepository;
+
+    @Transactional(readOnly = true)
+    public PageResponse<UserManagementResponse> searchUsers(String q, PageQuery query) {
+        String term = requireTerm(q);
+        String pattern = SearchNormalizer.containsPattern(term);
+        Pageable pageable = query.toPageable(RELEVANCE);
+        return Paging.ofIds(accountRepository.searchIds(term, pattern, pageable), query.countMode(),
+                () -> accountRepository.countSearch(pattern),
+                accountRepository::findWithProfileByIdIn, Account::getId, UserManagementResponse::fromEntity);
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<ChallengeResponse> searchChallenges(String q, PageQuery query) {
+        String term = requireTerm(q);
+        Pageable pageable = query.toPageable(RELEVANCE);
+        return Paging.ofIds(challengeRepository.searchIds(term, pageable), query.countMode(),
+                () -> challengeRepository.countSearch(term),
+                challengeRepository::findByIdIn, Challenge::getId, ChallengeResponse::fromEntity);
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<LevelResponse> searchLevels(String q, PageQuery query) {
+        String term = requireTerm(q);
+        String pattern = SearchNormalizer.containsPattern(term);
+        Pageable pageable = query.toPageable(RELEVANCE);
+        return Paging.ofIds(levelRepository.searchIds(term, pattern, pageable), query.countMode(),
+                () -> levelRepository.countSearch(pattern),
+                levelRepository::findByIdIn, Level::getId, LevelResponse::fromEntity);
+    }
+
+    /**
+     * Typeahead: một native query trả về projection (không load entity, không COUNT)
+     */
+    @Transactional(readOnly = true)
+    public List<SearchSuggestionResponse> suggest(SearchScope scope, String q, Integer limit) {
+        String term = requireTerm(q);
+        int size = limit == null ? DEFAULT_SUGGESTIONS : Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        Pageable top = PageRequest.of(0, size);
+
+        List<SearchHit> hits = switch (scope) {
+            case USER -> accountRepository.suggest(term, SearchNormalizer.containsPattern(term), top);
+            case LEVEL -> levelRepository.suggest(term, SearchNormalizer.containsPattern(term), top);
+            case CHALLENGE -> {
+                String tsquery = SearchNormalizer.prefixTsQuery(term);
+                yield tsquery == null ? List.of() : challengeRepository.suggest(tsquery, top);
+            }
+        };
+        return hits.stream()
+                .map(hit -> SearchSuggestionResponse.fromHit(scope, hit))
+                .collect(Collectors.toList());
+    }
+
+    private static String requireTerm(String q) {
+        String term = SearchNormalizer.normalize(q);
+        if (term.length() < SearchNormalizer.MIN_TERM_LENGTH) {
+            throw new ApiException("BAD_REQUEST",
+                    "Từ khoá tìm kiếm phải có ít nhất " + SearchNormalizer.MIN_TERM_LENGTH + " ký tự");
+        }
+        if (term.length() > SearchNormalizer.MAX_TERM_LENGTH) {
+            throw new ApiException("BAD_REQUEST",
+                    "Từ khoá tìm kiếm tối đa " + SearchNormalizer.MAX_TERM_LENGTH + " ký tự");
+        }
+        return term;
+    }
+}
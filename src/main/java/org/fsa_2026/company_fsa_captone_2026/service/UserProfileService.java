@@ -12,6 +12,8 @@ import org.fsa_2026.company_fsa_captone_2026.repository.UserProfileRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.UUID;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -22,12 +24,15 @@ public class UserProfileService {
     private final AuthService authService; // to reuse getUserProfile mapping logic
 
     @Transactional
-    public UserProfileResponse updateProfile(String email, UserProfileRequest request) {
-        Account account = accountRepository.findByEmail(email)
+    public UserProfileResponse updateProfile(UUID accountId, UserProfileRequest request) {
+        Account account = accountRepository.findWithProfileById(accountId)
                 .orElseThrow(() -> new ApiException("NOT_FOUND", "User not found"));
 
-        UserProfile profile = userProfileRepository.findByAccountId(account.getId())
-                .orElse(UserProfile.builder().account(account).build());
+        UserProfile profile = account.getUserProfile();
+        if (profile == null) {
+            profile = UserProfile.builder().account(account).build();
+            account.setUserProfile(profile);
+        }
 
         // Update profile fields
         if (request.getFullName() != null) {
@@ -44,7 +49,8 @@ public class UserProfileService {
             accountRepository.save(account);
         }
 
-        log.info("Profile updated for user: {}", email);
-        return authService.getUserProfile(email);
+        log.info("Profile updated for user: {}", account.getEmail());
+        // Account + profile đã có trong persistence context → không query lại
+        return authService.toUserProfileResponse(account);
     }
 }
@@ -0,0 +1,66 @@
+package org.fsa_2026.company_fsa_captone_2026.audio;
+
+import com.sun.net.httpserver.HttpServer;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.AudioFeatureLoader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AudioFeatureLoaderTest – chỉ tải từ storage được cấu hình, giới hạn kích thước
+ */
+@DisplayName("AudioFeatureLoader – Unit Tests")
+class AudioFeatureLoaderTest {
+
+    @Test
+    @DisplayName("isAllowed: đúng scheme + host storage; host nội bộ, user-info, scheme khác bị chặn")
+    void isAllowed_onlyStorageHost() {
+        AudioFeatureLoader loader = new AudioFeatureLoader(1000, List.of("https"), List.of("cdn.example.com"), 1024);
+
+        assertThat(loader.isAllowed("https://cdn.example.com/audio/a.wav")).isTrue();
+        assertThat(loader.isAllowed("https://CDN.example.com/a.wav")).isTrue();
+        assertThat(loader.isAllowed("http://cdn.example.com/a.wav")).isFalse();
+        assertThat(loader.isAllowed("https://169.254.169.254/latest/meta-data")).isFalse();
+        assertThat(loader.isAllowed("https://cdn.example.com@10.0.0.1/a.wav")).isFalse();
+        assertThat(loader.isAllowed("https://user@cdn.example.com/a.wav")).isFalse();
+        assertThat(loader.isAllowed("file:///etc/passwd")).isFalse();
+        assertThat(loader.isAllowed("not a url")).isFalse();
+        assertThat(loader.isEnabled()).isTrue();
+        AudioFeatureLoader unconfigured = new AudioFeatureLoader(1000, List.of("https"), List.of(" "), 1024);
+        assertThat(unconfigured.isEnabled()).isFalse();
+        assertThat(unconfigured.isAllowed("https://cdn.example.com/a.wav")).isFalse();
+    }
+
+    @Test
+    @DisplayName("load: body vượt max-download-bytes (không có Content-Length) → IOException")
+    void load_oversizedBody_rejected() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/big.wav", exchange -> {
+            exchange.sendResponseHeaders(200, 0); // chunked
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(new byte[64 * 1024]);
+            } catch (IOException ignored) {
+                // client đóng kết nối khi đã đủ giới hạn
+            }
+        });
+        server.start();
+        try {
+            AudioFeatureLoader loader = new AudioFeatureLoader(2000, List.of("http"), List.of("127.0.0.1"), 4096);
+            String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/big.wav";
+
+            assertThatThrownBy(() -> loader.load(url))
+                    .isInstanceOf(IOException.class)
+                    .hasStackTraceContaining("too large");
+        } finally {
+            server.stop(0);
+        }
+    }
+}
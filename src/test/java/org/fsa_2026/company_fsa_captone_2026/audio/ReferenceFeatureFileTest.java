@@ -0,0 +1,85 @@
+package org.fsa_2026.company_fsa_captone_2026.audio;
+
+import org.fsa_2026.company_fsa_captone_2026.common.audio.AudioFeatures;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.DtwAligner;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.FeatureExtractor;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.ReferenceFeatureFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * ReferenceFeatureFileTest – đặc trưng audio mẫu: trích xuất, ghi/đọc .rfeat, DTW
+ */
+@DisplayName("ReferenceFeatureFile – Unit Tests")
+class ReferenceFeatureFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static float[] tone(double hz, int millis) {
+        float[] samples = new float[FeatureExtractor.SAMPLE_RATE * millis / 1000];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = (float) (0.5 * Math.sin(2 * Math.PI * hz * i / FeatureExtractor.SAMPLE_RATE));
+        }
+        return samples;
+    }
+
+    @Test
+    @DisplayName("extract: tone 200 Hz → pitch ~200 Hz, số frame theo hop 10 ms")
+    void extract_tone_pitchAndFrames() {
+        AudioFeatures features = new FeatureExtractor().extract(tone(200, 500));
+
+        assertThat(features.frameCount()).isEqualTo(FeatureExtractor.frameCount(8000));
+        assertThat(features.coeffCount()).isEqualTo(FeatureExtractor.MFCC_COEFFS);
+        assertThat(features.pitchHz(10)).isCloseTo(200f, within(5f));
+    }
+
+    @Test
+    @DisplayName("write + map: đọc lại đúng từng giá trị")
+    void writeAndMap_roundTrip() throws IOException {
+        AudioFeatures original = new FeatureExtractor().extract(tone(150, 300));
+        Path file = tempDir.resolve("challenge" + ReferenceFeatureFile.EXTENSION);
+
+        ReferenceFeatureFile.write(file, original);
+        AudioFeatures mapped = ReferenceFeatureFile.map(file);
+
+        assertThat(mapped.frameCount()).isEqualTo(original.frameCount());
+        for (int f = 0; f < original.frameCount(); f++) {
+            assertThat(mapped.pitchHz(f)).isEqualTo(original.pitchHz(f));
+            for (int c = 0; c < original.coeffCount(); c++) {
+                assertThat(mapped.mfcc(f, c)).isEqualTo(original.mfcc(f, c));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("map: file hỏng → IOException")
+    void map_corrupted_throws() throws IOException {
+        Path file = tempDir.resolve("broken" + ReferenceFeatureFile.EXTENSION);
+        Files.write(file, new byte[64]);
+
+        assertThatThrownBy(() -> ReferenceFeatureFile.map(file)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("DTW: cùng một audio → khoảng cách 0")
+    void align_identical_zeroDistance() {
+        AudioFeatures features = new FeatureExtractor().extract(tone(220, 300));
+
+        float[] distances = DtwAligner.align(features, features);
+
+        assertThat(distances).hasSize(features.frameCount());
+        for (float d : distances) {
+            assertThat(d).isCloseTo(0f, within(1e-4f));
+        }
+    }
+}
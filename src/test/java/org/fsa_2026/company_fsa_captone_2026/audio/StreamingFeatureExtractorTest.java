@@ -0,0 +1,109 @@
+package org.fsa_2026.company_fsa_captone_2026.audio;
+
+import org.fsa_2026.company_fsa_captone_2026.common.audio.AudioFeatures;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.FeatureExtractor;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.StreamingFeatureExtractor;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.VoiceActivityDetector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StreamingFeatureExtractorTest – trích xuất tăng dần khớp trích xuất cả file, VAD phát hiện hết câu
+ */
+@DisplayName("StreamingFeatureExtractor / VoiceActivityDetector – Unit Tests")
+class StreamingFeatureExtractorTest {
+
+    private static final int RATE = FeatureExtractor.SAMPLE_RATE;
+
+    /**
+     * 300 ms im lặng, 800 ms giọng trượt 150 → 220 Hz, 900 ms im lặng; lượng tử 16-bit
+     */
+    private static short[] utterance() {
+        short[] pcm = new short[RATE * 2];
+        double phase = 0.0;
+        int from = RATE * 300 / 1000;
+        int length = RATE * 800 / 1000;
+        for (int i = 0; i < length; i++) {
+            double hz = 150 + 70.0 * i / length;
+            phase += 2 * Math.PI * hz / RATE;
+            pcm[from + i] = (short) Math.round(32767 * (0.4 * Math.sin(phase) + 0.2 * Math.sin(2 * phase)));
+        }
+        return pcm;
+    }
+
+    private static byte[] toBytes(short[] pcm) {
+        byte[] bytes = new byte[pcm.length * 2];
+        for (int i = 0; i < pcm.length; i++) {
+            bytes[2 * i] = (byte) pcm[i];
+            bytes[2 * i + 1] = (byte) (pcm[i] >> 8);
+        }
+        return bytes;
+    }
+
+    @Test
+    @DisplayName("chunk lẻ byte qua ring buffer → MFCC + pitch giống hệt FeatureExtractor.extract")
+    void streaming_matchesBatchExtraction() {
+        short[] pcm = utterance();
+        float[] samples = new float[pcm.length];
+        for (int i = 0; i < pcm.length; i++) {
+            samples[i] = pcm[i] / 32768f;
+        }
+        AudioFeatures batch = new FeatureExtractor().extract(samples);
+
+        byte[] bytes = toBytes(pcm);
+        StreamingFeatureExtractor streaming = new StreamingFeatureExtractor(1000);
+        float[] converted = new float[4096];
+        int offset = 0;
+        int chunk = 1;
+        while (offset < bytes.length) {
+            int length = Math.min(chunk, bytes.length - offset);
+            streaming.appendPcm16(bytes, offset, length, converted);
+            offset += length;
+            chunk = chunk * 3 % 4001 + 1; // kích thước đa dạng, có chunk lẻ byte
+        }
+        // frame đủ cửa sổ pitch đã được tính trước khi kết thúc
+        assertThat(streaming.frameCount()).isEqualTo(1 + (pcm.length - FeatureExtractor.PITCH_WINDOW) / 160);
+        AudioFeatures streamed = streaming.finish();
+
+        assertThat(streamed.frameCount()).isEqualTo(batch.frameCount());
+        for (int frame = 0; frame < batch.frameCount(); frame++) {
+            assertThat(streamed.pitchHz(frame)).isEqualTo(batch.pitchHz(frame));
+            for (int coeff = 0; coeff < FeatureExtractor.MFCC_COEFFS; coeff++) {
+                assertThat(streamed.mfcc(frame, coeff)).isEqualTo(batch.mfcc(frame, coeff));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("VAD: im lặng → nói → im lặng đủ lâu = ENDED, click ngắn không tính là nói")
+    void vad_detectsEndOfSpeech() {
+        short[] pcm = utterance();
+        pcm[100] = 30000; // click 1 mẫu trong đoạn im lặng đầu
+        VoiceActivityDetector vad = VoiceActivityDetector.of(60, 700, 0.02f);
+        float[] hop = new float[160];
+        List<VoiceActivityDetector.State> transitions = new ArrayList<>();
+        int endedAtMs = -1;
+        for (int start = 0; start + 160 <= pcm.length; start += 160) {
+            for (int i = 0; i < 160; i++) {
+                hop[i] = pcm[start + i] / 32768f;
+            }
+            VoiceActivityDetector.State state = vad.accept(hop, 0, hop.length);
+            if (transitions.isEmpty() || transitions.get(transitions.size() - 1) != state) {
+                transitions.add(state);
+                if (state == VoiceActivityDetector.State.ENDED) {
+                    endedAtMs = (start + 160) * 1000 / RATE;
+                }
+            }
+        }
+
+        assertThat(transitions).containsExactly(VoiceActivityDetector.State.SILENCE,
+                VoiceActivityDetector.State.SPEECH, VoiceActivityDetector.State.ENDED);
+        // giọng kết thúc ở 1100 ms + 700 ms im lặng
+        assertThat(endedAtMs).isBetween(1790, 1820);
+    }
+}
@@ -0,0 +1,76 @@
+package org.fsa_2026.company_fsa_captone_2026.audio;
+
+import org.fsa_2026.company_fsa_captone_2026.common.audio.AudioFeatures;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.FeatureExtractor;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.ToneAnalyzer;
+import org.fsa_2026.company_fsa_captone_2026.common.audio.YinPitchTracker;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.VietnameseTone;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * ToneAnalyzerTest – YIN pitch tracker + phân loại 6 thanh điệu
+ */
+@DisplayName("ToneAnalyzer – Unit Tests")
+class ToneAnalyzerTest {
+
+    private static final int RATE = FeatureExtractor.SAMPLE_RATE;
+
+    /**
+     * Append a harmonic glide from startHz to endHz, followed by silence
+     */
+    private static int glide(float[] out, int offset, double startHz, double endHz, int millis, int silenceMs) {
+        int length = RATE * millis / 1000;
+        double phase = 0.0;
+        for (int i = 0; i < length; i++) {
+            double hz = startHz + (endHz - startHz) * i / length;
+            phase += 2 * Math.PI * hz / RATE;
+            out[offset + i] = (float) (0.4 * Math.sin(phase) + 0.2 * Math.sin(2 * phase));
+        }
+        return offset + length + RATE * silenceMs / 1000;
+    }
+
+    @Test
+    @DisplayName("YIN: tone 180 Hz → ~180 Hz, im lặng → 0")
+    void yin_pureTone_andSilence() {
+        float[] samples = new float[RATE];
+        glide(samples, 0, 180, 180, 500, 0);
+        YinPitchTracker tracker = new YinPitchTracker(RATE, FeatureExtractor.PITCH_WINDOW);
+
+        assertThat(tracker.estimate(samples, 1600)).isCloseTo(180f, within(2f));
+        assertThat(tracker.estimate(samples, RATE - FeatureExtractor.PITCH_WINDOW)).isZero();
+    }
+
+    @Test
+    @DisplayName("fromSyllable: dấu → thanh điệu")
+    void fromSyllable_diacritics() {
+        assertThat(VietnameseTone.fromSyllable("ba")).isEqualTo(VietnameseTone.NGANG);
+        assertThat(VietnameseTone.fromSyllable("bà")).isEqualTo(VietnameseTone.HUYEN);
+        assertThat(VietnameseTone.fromSyllable("bá")).isEqualTo(VietnameseTone.SAC);
+        assertThat(VietnameseTone.fromSyllable("bả")).isEqualTo(VietnameseTone.HOI);
+        assertThat(VietnameseTone.fromSyllable("bã")).isEqualTo(VietnameseTone.NGA);
+        assertThat(VietnameseTone.fromSyllable("việt")).isEqualTo(VietnameseTone.NANG);
+    }
+
+    @Test
+    @DisplayName("analyze: ngang / huyền / sắc tổng hợp → đúng thanh, điểm cao")
+    void analyze_syntheticSyllables_detectsTones() {
+        float[] samples = new float[RATE * 2];
+        int offset = glide(samples, 0, 200, 200, 350, 200);
+        offset = glide(samples, offset, 185, 150, 350, 200);
+        glide(samples, offset, 185, 260, 350, 200);
+        AudioFeatures features = new FeatureExtractor().extract(samples);
+
+        List<ToneAnalyzer.SyllableTone> tones = new ToneAnalyzer().analyze("ba bà bá", features);
+
+        assertThat(tones).hasSize(3);
+        assertThat(tones).extracting(ToneAnalyzer.SyllableTone::detectedTone)
+                .containsExactly(VietnameseTone.NGANG, VietnameseTone.HUYEN, VietnameseTone.SAC);
+        assertThat(tones).allSatisfy(tone -> assertThat(tone.score()).isGreaterThan(40.0));
+    }
+}
@@ -3,13 +3,17 @@ package org.fsa_2026.company_fsa_captone_2026.base;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.fsa_2026.company_fsa_captone_2026.common.base.DialectStandardController;
 import org.fsa_2026.company_fsa_captone_2026.common.base.DialectStandardService;
+import org.fsa_2026.company_fsa_captone_2026.common.paging.CountMode;
 import org.fsa_2026.company_fsa_captone_2026.dto.DialectCreateRequest;
 import org.fsa_2026.company_fsa_captone_2026.dto.DialectResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.PageQuery;
+import org.fsa_2026.company_fsa_captone_2026.dto.PageResponse;
 import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
 import org.fsa_2026.company_fsa_captone_2026.exception.GlobalExceptionHandler;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -20,6 +24,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.util.List;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
@@ -86,15 +91,49 @@ class BaseCrudControllerTest {
     // ==========================================
 
     @Test
-    @DisplayName("GET /: trả về 200 + danh sách")
-    void testGetAll_returns200WithList() throws Exception {
-        when(service.getAll()).thenReturn(List.of(sampleResponse()));
+    @DisplayName("GET /: trả về 200 + trang dữ liệu")
+    void testGetAll_returns200WithPage() throws Exception {
+        when(service.getPage(any())).thenReturn(PageResponse.<DialectResponse>builder()
+                .content(List.of(sampleResponse()))
+                .page(0)
+                .size(20)
+                .totalElements(1L)
+                .totalPages(1)
+                .build());
 
         buildMockMvc().perform(get(BASE_URL))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("success"))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data[0].name").value("Miền Bắc"));
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andExpect(jsonPath("$.data.content[0].name").value("Miền Bắc"))
+                .andExpect(jsonPath("$.data.totalElements").value(1))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /?page&size&sort&count: bind vào PageQuery")
+    void testGetAll_bindsPageQuery() throws Exception {
+        ArgumentCaptor<PageQuery> captor = ArgumentCaptor.forClass(PageQuery.class);
+        when(service.getPage(captor.capture())).thenReturn(PageResponse.<DialectResponse>builder()
+                .content(List.of())
+                .page(3)
+                .size(5)
+                .hasNext(true)
+                .build());
+
+        buildMockMvc().perform(get(BASE_URL)
+                .param("page", "3")
+                .param("size", "5")
+                .param("sort", "name,desc")
+                .param("count", "SKIP"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+
+        PageQuery query = captor.getValue();
+        assertThat(query.getPage()).isEqualTo(3);
+        assertThat(query.getSize()).isEqualTo(5);
+        assertThat(String.join(",", query.getSort())).isEqualTo("name,desc");
+        assertThat(query.countMode()).isEqualTo(CountMode.SKIP);
     }
 
     // ==========================================
@@ -1,8 +1,11 @@
 package org.fsa_2026.company_fsa_captone_2026.base;
 
 import org.fsa_2026.company_fsa_captone_2026.common.base.DialectStandardService;
+import org.fsa_2026.company_fsa_captone_2026.common.paging.CountMode;
 import org.fsa_2026.company_fsa_captone_2026.dto.DialectCreateRequest;
 import org.fsa_2026.company_fsa_captone_2026.dto.DialectResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.PageQuery;
+import org.fsa_2026.company_fsa_captone_2026.dto.PageResponse;
 import org.fsa_2026.company_fsa_captone_2026.entity.Dialect;
 import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
 import org.fsa_2026.company_fsa_captone_2026.repository.DialectRepository;
@@ -10,9 +13,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.io.IOException;
 import java.util.List;
@@ -104,6 +112,67 @@ class BaseCrudServiceTest {
         assertThat(result).isEmpty();
     }
 
+    // ==========================================
+    // GET PAGE
+    // ==========================================
+
+    @Test
+    @DisplayName("getPage: trang cuối → tổng suy ra từ trang, không COUNT")
+    void testGetPage_lastPage_skipsCount() {
+        when(dialectRepository.findAllBy(any(Pageable.class)))
+                .thenAnswer(inv -> new SliceImpl<>(List.of(testDialect), inv.getArgument(0), false));
+
+        PageResponse<DialectResponse> result = service.getPage(PageQuery.firstPage());
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getTotalElements()).isEqualTo(1L);
+        assertThat(result.isHasNext()).isFalse();
+        verify(dialectRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("getPage: còn trang sau → EXACT chạy COUNT, SKIP thì không")
+    void testGetPage_countMode() {
+        when(dialectRepository.findAllBy(any(Pageable.class)))
+                .thenAnswer(inv -> new SliceImpl<>(List.of(testDialect), inv.getArgument(0), true));
+        when(dialectRepository.count()).thenReturn(42L);
+
+        PageQuery exact = PageQuery.builder().size(1).build();
+        PageQuery skip = PageQuery.builder().size(1).count(CountMode.SKIP).build();
+
+        assertThat(service.getPage(exact).getTotalElements()).isEqualTo(42L);
+        assertThat(service.getPage(exact).getTotalPages()).isEqualTo(42);
+        assertThat(service.getPage(skip).getTotalElements()).isNull();
+        assertThat(service.getPage(skip).isHasNext()).isTrue();
+        verify(dialectRepository, times(2)).count();
+    }
+
+    @Test
+    @DisplayName("getPage: sort theo whitelist, id làm tie-breaker")
+    void testGetPage_sortWhitelisted() {
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        when(dialectRepository.findAllBy(captor.capture()))
+                .thenAnswer(inv -> new SliceImpl<>(List.of(), inv.getArgument(0), false));
+
+        service.getPage(PageQuery.builder().page(2).size(10).sort(List.of("name,desc")).build());
+
+        Pageable pageable = captor.getValue();
+        assertThat(pageable).isEqualTo(PageRequest.of(2, 10, Sort.by(Sort.Order.desc("name"),
+                Sort.Order.desc("createdAt"), Sort.Order.asc("id"))));
+    }
+
+    @Test
+    @DisplayName("getPage: field sort ngoài whitelist / size quá lớn → BAD_REQUEST")
+    void testGetPage_invalidQuery_throwsException() {
+        assertThatThrownBy(() -> service.getPage(PageQuery.builder().sort(List.of("description")).build()))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining("description");
+        assertThatThrownBy(() -> service.getPage(PageQuery.builder().size(PageQuery.MAX_PAGE_SIZE + 1).build()))
+                .isInstanceOf(ApiException.class);
+
+        verify(dialectRepository, never()).findAllBy(any());
+    }
+
     // ==========================================
     // GET BY ID
     // ==========================================
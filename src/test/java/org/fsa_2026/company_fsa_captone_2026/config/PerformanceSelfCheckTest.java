@@ -0,0 +1,58 @@
+package org.fsa_2026.company_fsa_captone_2026.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PerformanceSelfCheckTest – cấu hình mặc định bị cảnh báo, profile prod thì sạch
+ */
+@DisplayName("PerformanceSelfCheck – Unit Tests")
+class PerformanceSelfCheckTest {
+
+    private static PerformanceSelfCheck selfCheck(MockEnvironment environment, int poolSize) {
+        HikariDataSource hikari = new HikariDataSource();
+        hikari.setMaximumPoolSize(poolSize);
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("dataSource", hikari);
+        return new PerformanceSelfCheck(environment, beans.getBeanProvider(DataSource.class));
+    }
+
+    @Test
+    @DisplayName("cấu hình dev: OSIV, không batch, format_sql, security DEBUG, pool quá lớn")
+    void devDefaults_reportIssues() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.jpa.properties.hibernate.format_sql", "true")
+                .withProperty("logging.level.org.springframework.security", "DEBUG");
+
+        List<String> issues = selfCheck(environment, 100).check(4);
+
+        assertThat(issues).hasSize(5);
+        assertThat(issues).anyMatch(i -> i.contains("open-in-view"))
+                .anyMatch(i -> i.contains("batch_size"))
+                .anyMatch(i -> i.contains("format_sql"))
+                .anyMatch(i -> i.contains("org.springframework.security=DEBUG"))
+                .anyMatch(i -> i.contains("recommended 9"));
+    }
+
+    @Test
+    @DisplayName("cấu hình như application-prod.yaml: không có cảnh báo")
+    void prodProfile_isClean() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.jpa.open-in-view", "false")
+                .withProperty("spring.jpa.properties.hibernate.jdbc.batch_size", "50")
+                .withProperty("spring.jpa.properties.hibernate.order_inserts", "true")
+                .withProperty("spring.jpa.properties.hibernate.order_updates", "true")
+                .withProperty("spring.datasource.hikari.data-source-properties.reWriteBatchedInserts", "true")
+                .withProperty("logging.level.org.springframework.security", "WARN");
+
+        assertThat(selfCheck(environment, PerformanceProfileConfig.recommendedPoolSize(4)).check(4)).isEmpty();
+    }
+}
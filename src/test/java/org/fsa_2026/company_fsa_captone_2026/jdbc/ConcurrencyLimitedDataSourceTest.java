@@ -0,0 +1,61 @@
+package org.fsa_2026.company_fsa_captone_2026.jdbc;
+
+import org.fsa_2026.company_fsa_captone_2026.common.jdbc.ConcurrencyLimitedDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ConcurrencyLimitedDataSourceTest – permit được trả đúng một lần khi close, hết permit thì timeout
+ */
+@DisplayName("ConcurrencyLimitedDataSource – Unit Tests")
+class ConcurrencyLimitedDataSourceTest {
+
+    @Test
+    @DisplayName("close trả permit (kể cả close hai lần), hết permit → SQLTransientConnectionException")
+    void gateLimitsBorrowers() throws SQLException {
+        DataSource target = mock(DataSource.class);
+        Connection first = mock(Connection.class);
+        Connection second = mock(Connection.class);
+        when(target.getConnection()).thenReturn(first, second);
+        ConcurrencyLimitedDataSource gate = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(20));
+
+        Connection borrowed = gate.getConnection();
+        assertThat(gate.getInUse()).isEqualTo(1);
+        assertThatThrownBy(gate::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        borrowed.close();
+        borrowed.close();
+        verify(first, times(2)).close();
+        assertThat(gate.getInUse()).isZero();
+
+        try (Connection next = gate.getConnection()) {
+            assertThat(next).isNotNull();
+            assertThat(gate.getInUse()).isEqualTo(1);
+        }
+        assertThat(gate.getInUse()).isZero();
+    }
+
+    @Test
+    @DisplayName("DataSource đích lỗi → permit được trả lại")
+    void targetFailure_releasesPermit() throws SQLException {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenThrow(new SQLException("down"));
+        ConcurrencyLimitedDataSource gate = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(20));
+
+        assertThatThrownBy(gate::getConnection).hasMessage("down");
+        assertThat(gate.getInUse()).isZero();
+    }
+}
@@ -0,0 +1,89 @@
+package org.fsa_2026.company_fsa_captone_2026.placement;
+
+import org.fsa_2026.company_fsa_captone_2026.common.placement.PlacementRuleIndex;
+import org.fsa_2026.company_fsa_captone_2026.entity.Dialect;
+import org.fsa_2026.company_fsa_captone_2026.entity.ErrorTag;
+import org.fsa_2026.company_fsa_captone_2026.entity.PlacementRule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PlacementRuleIndexTest – biên dịch rule và chọn rule thắng theo điểm lỗi
+ */
+@DisplayName("PlacementRuleIndex – Unit Tests")
+class PlacementRuleIndexTest {
+
+    private final UUID lnTag = UUID.randomUUID();
+    private final UUID toneTag = UUID.randomUUID();
+    private final UUID north = UUID.randomUUID();
+    private final UUID south = UUID.randomUUID();
+
+    private static PlacementRule rule(UUID errorTagId, UUID dialectId, int threshold, int priority) {
+        ErrorTag errorTag = new ErrorTag();
+        errorTag.setId(errorTagId);
+        Dialect dialect = new Dialect();
+        dialect.setId(dialectId);
+        PlacementRule rule = PlacementRule.builder()
+                .errorTag(errorTag)
+                .targetDialect(dialect)
+                .threshold(threshold)
+                .priority(priority)
+                .checkpoint("level-1")
+                .build();
+        rule.setId(UUID.randomUUID());
+        return rule;
+    }
+
+    @Test
+    @DisplayName("compile: tra cứu theo (errorTag, dialect) và sắp theo priority")
+    void compile_indexesByKeyAndPriority() {
+        PlacementRuleIndex index = PlacementRuleIndex.compile(List.of(
+                rule(lnTag, south, 60, 2),
+                rule(lnTag, north, 55, 1)));
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.find(lnTag, north).threshold()).isEqualTo(55);
+        assertThat(index.find(toneTag, north)).isNull();
+        assertThat(index.rulesFor(lnTag)).extracting(PlacementRuleIndex.CompiledRule::priority)
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("match: priority nhỏ thắng dù biên vượt ngưỡng nhỏ hơn")
+    void match_lowerPriorityWins() {
+        PlacementRuleIndex index = PlacementRuleIndex.compile(List.of(
+                rule(lnTag, north, 55, 1),
+                rule(toneTag, south, 30, 2)));
+
+        PlacementRuleIndex.Match match = index.match(Map.of(lnTag, 60.0, toneTag, 90.0));
+
+        assertThat(match.rule().dialectId()).isEqualTo(north);
+        assertThat(match.margin()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("match: cùng priority → biên lớn nhất; dưới ngưỡng → không khớp")
+    void match_samePriorityLargestMargin() {
+        PlacementRuleIndex index = PlacementRuleIndex.compile(List.of(
+                rule(lnTag, north, 55, 1),
+                rule(toneTag, south, 30, 1)));
+
+        assertThat(index.match(Map.of(lnTag, 60.0, toneTag, 50.0)).rule().dialectId()).isEqualTo(south);
+
+        // cùng error tag, cùng priority: rule có threshold thấp hơn vượt ngưỡng nhiều hơn
+        PlacementRuleIndex sameTag = PlacementRuleIndex.compile(List.of(
+                rule(lnTag, north, 70, 1),
+                rule(lnTag, south, 50, 1)));
+        PlacementRuleIndex.Match match = sameTag.match(Map.of(lnTag, 80.0));
+        assertThat(match.rule().dialectId()).isEqualTo(south);
+        assertThat(match.margin()).isEqualTo(30.0);
+        assertThat(index.match(Map.of(lnTag, 10.0, toneTag, 10.0))).isNull();
+        assertThat(PlacementRuleIndex.EMPTY.match(Map.of(lnTag, 100.0))).isNull();
+    }
+}
@@ -0,0 +1,140 @@
+package org.fsa_2026.company_fsa_captone_2026.push;
+
+import org.fsa_2026.company_fsa_captone_2026.common.push.PushChannel;
+import org.fsa_2026.company_fsa_captone_2026.common.push.PushMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PushChannelTest – gửi tuần tự theo thứ tự, queue đầy đóng kết nối chậm, ghi lỗi đóng kênh,
+ * đóng kênh không chờ lần ghi đang dở
+ */
+@DisplayName("PushChannel – Unit Tests")
+class PushChannelTest {
+
+    private final List<PushMessage> sent = new ArrayList<>();
+    private final AtomicInteger sinkClosed = new AtomicInteger();
+    private final AtomicInteger onClose = new AtomicInteger();
+    private final List<Runnable> pendingTasks = new ArrayList<>();
+
+    private final PushChannel.Sink sink = new PushChannel.Sink() {
+        @Override
+        public void send(PushMessage message) throws IOException {
+            if ("boom".equals(message.event())) {
+                throw new IOException("client gone");
+            }
+            sent.add(message);
+        }
+
+        @Override
+        public void close() {
+            sinkClosed.incrementAndGet();
+        }
+    };
+
+    @Test
+    @DisplayName("một task drain cho nhiều message, giữ thứ tự")
+    void offer_drainsInOrderWithSingleTask() {
+        PushChannel channel = new PushChannel(4, sink, pendingTasks::add, closed -> onClose.incrementAndGet());
+
+        assertThat(channel.offer(new PushMessage("a", 1))).isTrue();
+        assertThat(channel.offer(new PushMessage("b", 2))).isTrue();
+        assertThat(pendingTasks).hasSize(1);
+        assertThat(channel.pending()).isEqualTo(2);
+
+        pendingTasks.remove(0).run();
+
+        assertThat(sent).extracting(PushMessage::event).containsExactly("a", "b");
+        assertThat(channel.offer(new PushMessage("c", 3))).isTrue();
+        assertThat(pendingTasks).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("client không đọc kịp: queue đầy → kênh đóng đúng một lần, message sau bị từ chối")
+    void offer_fullQueue_closesSlowConsumer() {
+        PushChannel channel = new PushChannel(2, sink, pendingTasks::add, closed -> onClose.incrementAndGet());
+
+        channel.offer(new PushMessage("a", 1));
+        channel.offer(new PushMessage("b", 2));
+        assertThat(channel.offer(new PushMessage("c", 3))).isFalse();
+
+        assertThat(channel.isClosed()).isTrue();
+        assertThat(channel.offer(new PushMessage("d", 4))).isFalse();
+        pendingTasks.forEach(Runnable::run);
+        channel.close();
+
+        assertThat(sent).isEmpty();
+        assertThat(sinkClosed).hasValue(1);
+        assertThat(onClose).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("ghi lỗi (client đã ngắt) → đóng kênh, bỏ message còn lại")
+    void sendFailure_closesChannel() {
+        PushChannel channel = new PushChannel(4, sink, Runnable::run, closed -> onClose.incrementAndGet());
+
+        channel.offer(new PushMessage("a", 1));
+        channel.offer(new PushMessage("boom", null));
+
+        assertThat(channel.isClosed()).isTrue();
+        assertThat(sent).extracting(PushMessage::event).containsExactly("a");
+        assertThat(onClose).hasValue(1);
+        assertThat(PushMessage.HEARTBEAT.isHeartbeat()).isTrue();
+    }
+
+    @Test
+    @DisplayName("close trong lúc đang ghi: không chờ sink, sink đóng khi lần ghi trả về")
+    void close_duringWrite_defersSinkClose() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PushChannel.Sink blocking = new PushChannel.Sink() {
+            @Override
+            public void send(PushMessage message) {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void close() {
+                sinkClosed.incrementAndGet();
+            }
+        };
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        try {
+            PushChannel channel = new PushChannel(4, blocking, writer, closed -> onClose.incrementAndGet());
+            assertThat(channel.writingSince()).isZero();
+
+            channel.offer(new PushMessage("a", 1));
+            assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(channel.writingSince()).isNotZero();
+
+            channel.close();
+            assertThat(onClose).hasValue(1);
+            assertThat(sinkClosed).hasValue(0);
+
+            release.countDown();
+            writer.shutdown();
+            assertThat(writer.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(sinkClosed).hasValue(1);
+            assertThat(channel.writingSince()).isZero();
+        } finally {
+            release.countDown();
+            writer.shutdownNow();
+        }
+    }
+}
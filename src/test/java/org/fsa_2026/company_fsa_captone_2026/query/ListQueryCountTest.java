@@ -0,0 +1,266 @@
+package org.fsa_2026.company_fsa_captone_2026.query;
+
+import org.fsa_2026.company_fsa_captone_2026.dto.PageQuery;
+import org.fsa_2026.company_fsa_captone_2026.dto.RosterImportResponse;
+import org.fsa_2026.company_fsa_captone_2026.entity.Account;
+import org.fsa_2026.company_fsa_captone_2026.entity.Challenge;
+import org.fsa_2026.company_fsa_captone_2026.entity.Classroom;
+import org.fsa_2026.company_fsa_captone_2026.entity.Dialect;
+import org.fsa_2026.company_fsa_captone_2026.entity.ErrorTag;
+import org.fsa_2026.company_fsa_captone_2026.entity.Level;
+import org.fsa_2026.company_fsa_captone_2026.entity.PlacementRule;
+import org.fsa_2026.company_fsa_captone_2026.entity.Quiz;
+import org.fsa_2026.company_fsa_captone_2026.entity.QuizQuestion;
+import org.fsa_2026.company_fsa_captone_2026.entity.UserProfile;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.ContentStatus;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.RoleCode;
+import org.fsa_2026.company_fsa_captone_2026.repository.AccountRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.ChallengeRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.ClassroomRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.DialectRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.ErrorTagRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.LevelRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.PlacementRuleRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.QuizRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.UserProfileRepository;
+import org.fsa_2026.company_fsa_captone_2026.service.AdminService;
+import org.fsa_2026.company_fsa_captone_2026.service.EducatorService;
+import org.fsa_2026.company_fsa_captone_2026.service.ErrorTagService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ListQueryCountTest – số câu SQL của các endpoint danh sách không tăng theo số dòng
+ *
+ * <p>
+ * Đo mỗi endpoint với một lượng dữ liệu nhỏ, seed thêm gấp nhiều lần rồi đo lại:
+ * hai lần đo phải bằng nhau (không N+1) và không vượt {@link #MAX_STATEMENTS}.
+ * Import roster đo tương tự với 1 và 200 dòng (thêm thành viên bằng một batch).
+ * </p>
+ */
+@SpringJUnitConfig(QueryCountTestConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("List endpoints – SQL statement count")
+class ListQueryCountTest {
+
+    private static final String EDUCATOR_EMAIL = "educator@querycount.test";
+    private static final int MAX_STATEMENTS = 4;
+    // Trang lớn (chứa hết dữ liệu seed) bắt N+1; trang 1 bản ghi luôn còn trang sau → đo cả COUNT
+    private static final PageQuery PAGE = PageQuery.builder().size(PageQuery.MAX_PAGE_SIZE).build();
+    private static final PageQuery COUNTED_PAGE = PageQuery.builder().size(1).build();
+
+    @Autowired
+    private SqlStatementCounter counter;
+    @Autowired
+    private AdminService adminService;
+    @Autowired
+    private EducatorService educatorService;
+    @Autowired
+    private ErrorTagService errorTagService;
+
+    @Autowired
+    private DialectRepository dialectRepository;
+    @Autowired
+    private ErrorTagRepository errorTagRepository;
+    @Autowired
+    private PlacementRuleRepository placementRuleRepository;
+    @Autowired
+    private LevelRepository levelRepository;
+    @Autowired
+    private ChallengeRepository challengeRepository;
+    @Autowired
+    private QuizRepository quizRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private UserProfileRepository userProfileRepository;
+    @Autowired
+    private ClassroomRepository classroomRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Account educator;
+    private Dialect dialect;
+    private int sequence;
+
+    @BeforeAll
+    void setUp() {
+        educator = accountRepository.save(Account.builder()
+                .email(EDUCATOR_EMAIL)
+                .passwordHash("hash")
+                .roleCode(RoleCode.EDUCATOR)
+                .build());
+        dialect = dialectRepository.save(Dialect.builder().name("Northern").build());
+    }
+
+    private Map<String, Supplier<?>> endpoints() {
+        Map<String, Supplier<?>> endpoints = new LinkedHashMap<>();
+        endpoints.put("AdminService.getAllLevels", () -> adminService.getAllLevels(null, null, PAGE));
+        endpoints.put("AdminService.getAllLevels (count)", () -> adminService.getAllLevels(null, null, COUNTED_PAGE));
+        endpoints.put("AdminService.getPendingLevels", adminService::getPendingLevels);
+        endpoints.put("AdminService.getAllChallenges", () -> adminService.getAllChallenges(null, null, PAGE));
+        endpoints.put("AdminService.getAllChallenges (count)", () -> adminService.getAllChallenges(null, null, COUNTED_PAGE));
+        endpoints.put("AdminService.getPendingChallenges", adminService::getPendingChallenges);
+        endpoints.put("AdminService.getPendingQuizzes", adminService::getPendingQuizzes);
+        endpoints.put("AdminService.getAllUsers", () -> adminService.getAllUsers(null, PAGE));
+        endpoints.put("AdminService.getAllUsers (count)", () -> adminService.getAllUsers(null, COUNTED_PAGE));
+        endpoints.put("EducatorService.getEducatorQuizzes", () -> educatorService.getEducatorQuizzes(educator.getId()));
+        endpoints.put("EducatorService.getPlacementRules", () -> educatorService.getPlacementRules(null, null, PAGE));
+        endpoints.put("EducatorService.getPlacementRules (count)", () -> educatorService.getPlacementRules(null, null, COUNTED_PAGE));
+        endpoints.put("EducatorService.getAllLevelsForSelection", educatorService::getAllLevelsForSelection);
+        endpoints.put("EducatorService.getCurriculumByRegion", () -> educatorService.getCurriculumByRegion("Northern"));
+        endpoints.put("ErrorTagService.getAllErrorTags", errorTagService::getAllErrorTags);
+        endpoints.put("ErrorTagService.getErrorTagsByDialect",
+                () -> errorTagService.getErrorTagsByDialect(dialect.getId()));
+        return endpoints;
+    }
+
+    @TestFactory
+    Stream<DynamicTest> listEndpoints_constantStatementCount() {
+        seed(2);
+        Map<String, Long> small = new LinkedHashMap<>();
+        endpoints().forEach((name, call) -> small.put(name, counter.count(call)));
+
+        seed(10);
+        Map<String, Supplier<?>> endpoints = endpoints();
+        return small.entrySet().stream().map(entry -> DynamicTest.dynamicTest(entry.getKey(), () -> {
+            long large = counter.count(endpoints.get(entry.getKey()));
+            assertThat(large).as("%s: statements with 6x data", entry.getKey()).isEqualTo(entry.getValue());
+            assertThat(large).as("%s: statements", entry.getKey()).isLessThanOrEqualTo(MAX_STATEMENTS);
+        }));
+    }
+
+    @Test
+    @DisplayName("EducatorService.importRoster: số câu SQL như nhau cho 1 và 200 dòng, trạng thái từng dòng")
+    void importRoster_constantStatementCountAndRowStatuses() {
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 201; i++) {
+            emails.add(accountRepository.save(Account.builder()
+                    .email("roster" + i + "-" + UUID.randomUUID() + "@querycount.test")
+                    .passwordHash("hash")
+                    .roleCode(RoleCode.USER)
+                    .build()).getEmail());
+        }
+        Classroom small = classroom();
+        Classroom large = classroom();
+
+        long one = counter.count(() -> educatorService.importRoster(educator.getId(), small.getId(),
+                roster(emails.subList(0, 1))));
+        long many = counter.count(() -> educatorService.importRoster(educator.getId(), large.getId(),
+                roster(emails.subList(1, 201))));
+
+        assertThat(many).as("statements for 200 rows").isEqualTo(one);
+        assertThat(many).as("statements").isLessThanOrEqualTo(MAX_STATEMENTS);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM classroom_member WHERE classroom_id = ? "
+                + "AND created_by = 'SYSTEM'", Integer.class, large.getId())).isEqualTo(200);
+
+        RosterImportResponse report = educatorService.importRoster(educator.getId(), large.getId(),
+                roster(List.of(emails.get(1), emails.get(1), "nobody@querycount.test", emails.get(0), "not-an-email")));
+
+        assertThat(report.getRows()).extracting(RosterImportResponse.RowResult::getStatus)
+                .containsExactly("ALREADY_MEMBER", "DUPLICATE", "NOT_FOUND", "ADDED", "INVALID_EMAIL");
+        assertThat(report.getAdded()).isEqualTo(1);
+        assertThat(report.getSkipped()).isEqualTo(4);
+    }
+
+    private Classroom classroom() {
+        int id = sequence++;
+        return classroomRepository.save(Classroom.builder()
+                .educator(educator)
+                .name("Roster " + id)
+                .code("R" + id)
+                .build());
+    }
+
+    private static MockMultipartFile roster(List<String> emails) {
+        String csv = "email\n" + String.join("\n", emails) + "\n";
+        return new MockMultipartFile("file", "roster.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Seed {@code n} error tag/level/quiz/learner mỗi loại, nửa APPROVED nửa PENDING
+     */
+    private void seed(int n) {
+        for (int i = 0; i < n; i++) {
+            int id = sequence++;
+            ContentStatus status = id % 2 == 0 ? ContentStatus.APPROVED : ContentStatus.PENDING;
+
+            ErrorTag errorTag = errorTagRepository.save(ErrorTag.builder()
+                    .tagCode("TAG_" + id)
+                    .name("Tag " + id)
+                    .build());
+            placementRuleRepository.save(PlacementRule.builder()
+                    .errorTag(errorTag)
+                    .targetDialect(dialect)
+                    .threshold(50)
+                    .priority(1)
+                    .build());
+
+            Level level = levelRepository.save(Level.builder()
+                    .dialect(dialect)
+                    .levelOrder(id)
+                    .name("Level " + id)
+                    .errorTag(errorTag)
+                    .status(status)
+                    .build());
+
+            List<Challenge> challenges = new ArrayList<>();
+            for (int c = 0; c < 2; c++) {
+                Challenge challenge = new Challenge();
+                challenge.setLevel(level);
+                challenge.setSkillType("SPEAKING");
+                challenge.setContentText("xin chào " + id);
+                challenge.setPhoneticTranscriptionIpa("sin tɕaːw");
+                challenge.setReferenceAudioUrl("https://audio.test/" + id + ".wav");
+                challenge.setFocusPhonemes("tr,ch");
+                challenge.setStatus(status);
+                challenges.add(challengeRepository.save(challenge));
+            }
+
+            Quiz quiz = Quiz.builder()
+                    .level(level)
+                    .title("Quiz " + id)
+                    .passingScore(60)
+                    .status(status)
+                    .questions(new ArrayList<>())
+                    .build();
+            quiz.setCreatedBy(educator.getId().toString());
+            for (int q = 0; q < challenges.size(); q++) {
+                quiz.getQuestions().add(QuizQuestion.builder()
+                        .quiz(quiz)
+                        .skillType("SPEAKING")
+                        .questionOrder(q + 1)
+                        .points(10)
+                        .challenge(challenges.get(q))
+                        .build());
+            }
+            quizRepository.save(quiz);
+
+            Account learner = accountRepository.save(Account.builder()
+                    .email("learner" + id + "-" + UUID.randomUUID() + "@querycount.test")
+                    .passwordHash("hash")
+                    .roleCode(RoleCode.USER)
+                    .build());
+            userProfileRepository.save(UserProfile.builder().account(learner).fullName("Learner " + id).build());
+        }
+    }
+}
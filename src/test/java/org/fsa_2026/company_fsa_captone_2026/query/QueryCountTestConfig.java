@@ -0,0 +1,132 @@
+package org.fsa_2026.company_fsa_captone_2026.query;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.fsa_2026.company_fsa_captone_2026.config.JpaAuditingConfig;
+import org.fsa_2026.company_fsa_captone_2026.config.PartitioningProperties;
+import org.fsa_2026.company_fsa_captone_2026.service.AdminService;
+import org.fsa_2026.company_fsa_captone_2026.service.EducatorService;
+import org.fsa_2026.company_fsa_captone_2026.service.EmailService;
+import org.fsa_2026.company_fsa_captone_2026.service.ErrorTagService;
+import org.fsa_2026.company_fsa_captone_2026.service.PlacementService;
+import org.fsa_2026.company_fsa_captone_2026.service.QuizRuntimeService;
+import org.fsa_2026.company_fsa_captone_2026.service.RecommendationService;
+import org.fsa_2026.company_fsa_captone_2026.service.ReferenceFeatureService;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * QueryCountTestConfig – JPA stack tối thiểu (H2, schema sinh từ entity) + các
+ * service có endpoint danh sách, để đếm số câu SQL thực sự chạy.
+ *
+ * <p>
+ * Các dependency không liên quan tới truy vấn (email, audio, recommendation…)
+ * được thay bằng mock.
+ * </p>
+ *
+ * <p>
+ * {@code @TestConfiguration}: không bị component scan của ApplicationTests nhặt
+ * (trùng bean objectMapper…); chỉ {@link ListQueryCountTest} dùng.
+ * </p>
+ */
+@TestConfiguration
+@EnableTransactionManagement
+@EnableJpaRepositories(basePackages = "org.fsa_2026.company_fsa_captone_2026.repository")
+@Import({ JpaAuditingConfig.class, AdminService.class, EducatorService.class, ErrorTagService.class,
+        PartitioningProperties.class })
+class QueryCountTestConfig {
+
+    @Bean
+    SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    DataSource dataSource(SqlStatementCounter counter) {
+        return counter.wrap(new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("query-count;MODE=PostgreSQL;NON_KEYWORDS=VALUE,LEVEL,USER")
+                .build());
+    }
+
+    @Bean
+    LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("org.fsa_2026.company_fsa_captone_2026.entity");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        // Cố ý KHÔNG bật default_batch_fetch_size: mọi lazy load lọt khỏi fetch plan
+        // sẽ lộ ra thành N+1 thay vì bị batch che đi
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.generate_statistics", "true"));
+        return factory;
+    }
+
+    @Bean
+    JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    @Bean
+    JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        return new JdbcTemplate(dataSource);
+    }
+
+    @Bean
+    TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    @Bean
+    ObjectMapper objectMapper() {
+        return new ObjectMapper();
+    }
+
+    @Bean
+    PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder(4);
+    }
+
+    @Bean
+    EmailService emailService() {
+        return Mockito.mock(EmailService.class);
+    }
+
+    @Bean
+    ReferenceFeatureService referenceFeatureService() {
+        return Mockito.mock(ReferenceFeatureService.class);
+    }
+
+    @Bean
+    RecommendationService recommendationService() {
+        return Mockito.mock(RecommendationService.class);
+    }
+
+    @Bean
+    QuizRuntimeService quizRuntimeService() {
+        return Mockito.mock(QuizRuntimeService.class);
+    }
+
+    @Bean
+    PlacementService placementService() {
+        return Mockito.mock(PlacementService.class);
+    }
+}
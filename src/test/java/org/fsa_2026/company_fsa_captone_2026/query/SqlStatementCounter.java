@@ -0,0 +1,63 @@
+package org.fsa_2026.company_fsa_captone_2026.query;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * SqlStatementCounter – đếm số câu SQL gửi xuống JDBC trong một lời gọi, cả của
+ * Hibernate lẫn JdbcTemplate (batch INSERT của roster là một statement)
+ */
+class SqlStatementCounter {
+
+    private static final Set<String> STATEMENT_METHODS = Set.of("prepareStatement", "prepareCall", "createStatement");
+
+    private final AtomicLong statements = new AtomicLong();
+
+    /**
+     * DataSource mà mọi connection đều được đếm
+     */
+    DataSource wrap(DataSource target) {
+        return new DelegatingDataSource(target) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return counting(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return counting(super.getConnection(username, password));
+            }
+        };
+    }
+
+    private Connection counting(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    if (STATEMENT_METHODS.contains(method.getName())) {
+                        statements.incrementAndGet();
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    /**
+     * Chạy {@code call} và trả về số câu SQL đã thực thi
+     */
+    long count(Supplier<?> call) {
+        statements.set(0);
+        call.get();
+        return statements.get();
+    }
+}
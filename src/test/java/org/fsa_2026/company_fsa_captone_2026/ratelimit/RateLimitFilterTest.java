@@ -0,0 +1,135 @@
+package org.fsa_2026.company_fsa_captone_2026.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.fsa_2026.company_fsa_captone_2026.common.ratelimit.RateLimit;
+import org.fsa_2026.company_fsa_captone_2026.common.ratelimit.RateLimitFilter;
+import org.fsa_2026.company_fsa_captone_2026.common.ratelimit.RateLimiter;
+import org.fsa_2026.company_fsa_captone_2026.common.ratelimit.TokenBucket;
+import org.fsa_2026.company_fsa_captone_2026.config.RateLimitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RateLimitFilterTest – token bucket GCRA, giới hạn theo IP / email, body vẫn đọc được
+ */
+@DisplayName("RateLimitFilter – Unit Tests")
+class RateLimitFilterTest {
+
+    private static final String LOGIN = "/api/v1/auth/login";
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RateLimitProperties.Limit perIp = new RateLimitProperties.Limit();
+        perIp.setCapacity(3);
+        perIp.setPeriod(Duration.ofMinutes(1));
+        RateLimitProperties.Limit perEmail = new RateLimitProperties.Limit();
+        perEmail.setCapacity(2);
+        perEmail.setPeriod(Duration.ofMinutes(5));
+        RateLimitProperties.Endpoint login = new RateLimitProperties.Endpoint();
+        login.setPath(LOGIN);
+        login.setPerIp(perIp);
+        login.setPerEmail(perEmail);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setEndpoints(List.of(login));
+
+        filter = new RateLimitFilter(properties, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    private MockHttpServletResponse post(String ip, String email, MockFilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", LOGIN);
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(("{\"email\":\"" + email + "\",\"password\":\"x\"}").getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Test
+    @DisplayName("TokenBucket: burst = capacity, sau đó phải chờ đúng một interval")
+    void tokenBucket_burstThenRefill() {
+        RateLimit limit = new RateLimit(3, Duration.ofSeconds(3));
+        TokenBucket bucket = new TokenBucket();
+        long now = 1_000_000_000L;
+
+        assertThat(bucket.tryAcquire(limit, now)).isZero();
+        assertThat(bucket.tryAcquire(limit, now)).isZero();
+        assertThat(bucket.tryAcquire(limit, now)).isZero();
+        assertThat(bucket.tryAcquire(limit, now)).isEqualTo(1_000_000_000L);
+        assertThat(bucket.isIdle(now)).isFalse();
+
+        assertThat(bucket.tryAcquire(limit, now + 1_000_000_000L)).isZero();
+        assertThat(bucket.isIdle(now + 4_000_000_000L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("cùng email từ nhiều IP → 429 sau khi hết quota email, chain không được gọi")
+    void perEmailLimit_returns429BeforeChain() throws Exception {
+        assertThat(post("10.0.0.1", "Victim@Test.vn", new MockFilterChain()).getStatus()).isEqualTo(200);
+        assertThat(post("10.0.0.2", "victim@test.vn", new MockFilterChain()).getStatus()).isEqualTo(200);
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse rejected = post("10.0.0.3", "victim@test.vn ", chain);
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isNotNull();
+        assertThat(rejected.getContentAsString(StandardCharsets.UTF_8)).contains("\"status\":\"error\"");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("cùng IP nhiều email → 429 theo IP; body vẫn được phát lại cho controller")
+    void perIpLimit_andBodyReplay() throws Exception {
+        MockFilterChain first = new MockFilterChain();
+        post("10.0.0.9", "a@test.vn", first);
+        assertThat(new String(first.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8))
+                .contains("a@test.vn");
+
+        post("10.0.0.9", "b@test.vn", new MockFilterChain());
+        post("10.0.0.9", "c@test.vn", new MockFilterChain());
+
+        assertThat(post("10.0.0.9", "d@test.vn", new MockFilterChain()).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("body vượt max-body-bytes → 413, không lách được giới hạn theo email")
+    void oversizedBody_returns413() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", LOGIN);
+        request.setRemoteAddr("10.0.0.5");
+        request.setContentType("application/json");
+        request.setContent(("{\"email\":\"victim@test.vn\",\"pad\":\"" + "x".repeat(8192) + "\"}")
+                .getBytes(StandardCharsets.UTF_8));
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("RateLimiter đầy: key mới đẩy key cũ ra thay vì bị từ chối")
+    void rateLimiter_full_evictsInsteadOfRejecting() {
+        RateLimiter limiter = new RateLimiter(2);
+        RateLimit limit = new RateLimit(1, Duration.ofMinutes(1));
+
+        assertThat(limiter.tryAcquire("a", limit)).isZero();
+        assertThat(limiter.tryAcquire("b", limit)).isZero();
+        assertThat(limiter.tryAcquire("c", limit)).isZero();
+        assertThat(limiter.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,67 @@
+package org.fsa_2026.company_fsa_captone_2026.roster;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.fsa_2026.company_fsa_captone_2026.common.roster.RosterEntry;
+import org.fsa_2026.company_fsa_captone_2026.common.roster.RosterParser;
+import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * RosterParserTest – đọc cột email từ CSV / Excel, giữ số dòng để báo cáo từng dòng
+ */
+@DisplayName("RosterParser – Unit Tests")
+class RosterParserTest {
+
+    @Test
+    @DisplayName("CSV: BOM + header 'E-mail' ở cột 2, dấu ;, ngoặc kép, dòng trống bị bỏ qua")
+    void csv_findsEmailColumnByHeader() throws IOException {
+        String csv = "﻿Họ tên;E-mail\nLan;\"lan@fsa.vn\"\n\nMinh; minh@fsa.vn \n";
+
+        List<RosterEntry> entries = RosterParser.parse("roster.CSV",
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(entries).containsExactly(new RosterEntry(2, "lan@fsa.vn"), new RosterEntry(4, "minh@fsa.vn"));
+    }
+
+    @Test
+    @DisplayName("Excel không header: lấy cột đầu tiên, số dòng theo sheet")
+    void excel_withoutHeader_usesFirstColumn() throws IOException {
+        byte[] bytes;
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet("Roster");
+            sheet.createRow(0).createCell(0).setCellValue("a@fsa.vn");
+            Row row = sheet.createRow(2);
+            row.createCell(0).setCellValue("b@fsa.vn");
+            row.createCell(1).setCellValue("ghi chú");
+            workbook.write(out);
+            bytes = out.toByteArray();
+        }
+
+        List<RosterEntry> entries = RosterParser.parse("roster.xlsx", new ByteArrayInputStream(bytes));
+
+        assertThat(entries).containsExactly(new RosterEntry(1, "a@fsa.vn"), new RosterEntry(3, "b@fsa.vn"));
+    }
+
+    @Test
+    @DisplayName("định dạng không hỗ trợ / quá MAX_ROWS dòng → ApiException")
+    void rejectsUnsupportedAndOversizedRosters() {
+        assertThatThrownBy(() -> RosterParser.parse("roster.txt", new ByteArrayInputStream(new byte[0])))
+                .isInstanceOf(ApiException.class);
+
+        String csv = "email\n" + "x@fsa.vn\n".repeat(RosterParser.MAX_ROWS + 1);
+        assertThatThrownBy(() -> RosterParser.parseCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(ApiException.class);
+    }
+}
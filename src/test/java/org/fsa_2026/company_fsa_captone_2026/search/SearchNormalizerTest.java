@@ -0,0 +1,39 @@
+package org.fsa_2026.company_fsa_captone_2026.search;
+
+import org.fsa_2026.company_fsa_captone_2026.common.search.SearchNormalizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SearchNormalizerTest – chuẩn hoá phải khớp f_search_norm (lower + unaccent)
+ */
+@DisplayName("SearchNormalizer – Unit Tests")
+class SearchNormalizerTest {
+
+    @Test
+    @DisplayName("normalize: bỏ dấu tiếng Việt, đ → d, gộp khoảng trắng")
+    void normalize_stripsVietnameseDiacritics() {
+        assertThat(SearchNormalizer.normalize("  Nguyễn   Văn ĐỨC ")).isEqualTo("nguyen van duc");
+        assertThat(SearchNormalizer.normalize("Học tiếng Việt")).isEqualTo("hoc tieng viet");
+        // NFC và NFD cho cùng kết quả
+        assertThat(SearchNormalizer.normalize("Việt")).isEqualTo("viet");
+        assertThat(SearchNormalizer.normalize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("containsPattern: escape ký tự đại diện của LIKE")
+    void containsPattern_escapesWildcards() {
+        assertThat(SearchNormalizer.containsPattern("an")).isEqualTo("%an%");
+        assertThat(SearchNormalizer.containsPattern("50%_a\\b")).isEqualTo("%50\\%\\_a\\\\b%");
+    }
+
+    @Test
+    @DisplayName("prefixTsQuery: AND các từ, từ cuối theo prefix, bỏ toán tử")
+    void prefixTsQuery_buildsSafeQuery() {
+        assertThat(SearchNormalizer.prefixTsQuery("xin chao ba")).isEqualTo("xin & chao & ba:*");
+        assertThat(SearchNormalizer.prefixTsQuery("a & !b | c:*")).isEqualTo("a & b & c:*");
+        assertThat(SearchNormalizer.prefixTsQuery("&|!")).isNull();
+    }
+}
@@ -0,0 +1,137 @@
+package org.fsa_2026.company_fsa_captone_2026.service;
+
+import org.fsa_2026.company_fsa_captone_2026.common.JwtTokenProvider;
+import org.fsa_2026.company_fsa_captone_2026.config.AccountUserDetails;
+import org.fsa_2026.company_fsa_captone_2026.dto.LoginRequest;
+import org.fsa_2026.company_fsa_captone_2026.dto.LoginResponse;
+import org.fsa_2026.company_fsa_captone_2026.entity.Account;
+import org.fsa_2026.company_fsa_captone_2026.entity.UserProfile;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.RoleCode;
+import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
+import org.fsa_2026.company_fsa_captone_2026.repository.AccountRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.UserProfileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AuthServiceLoginTest – login dùng Account trong principal, không load lại account/profile
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthService login – Unit Tests")
+class AuthServiceLoginTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private UserProfileRepository userProfileRepository;
+    @Mock
+    private RefreshTokenService refreshTokenService;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    @Mock
+    private AuthenticationManager authenticationManager;
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+    @Mock
+    private EmailService emailService;
+    @Mock
+    private ApplicationEventPublisher events;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AuthService authService;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        authService = new AuthService(accountRepository, userProfileRepository, refreshTokenService,
+                passwordEncoder, authenticationManager, jwtTokenProvider, emailService, events,
+                new TransactionTemplate(transactionManager));
+        account = Account.builder()
+                .email("learner@test.vn")
+                .passwordHash("hash")
+                .roleCode(RoleCode.USER)
+                .isActive(true)
+                .build();
+        account.setId(UUID.randomUUID());
+        account.setUserProfile(UserProfile.builder().account(account).fullName("Nguyễn Văn A").build());
+    }
+
+    private void authenticated() {
+        AccountUserDetails principal = new AccountUserDetails(account);
+        when(authenticationManager.authenticate(any())).thenReturn(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+    }
+
+    @Test
+    @DisplayName("login: lấy account + profile từ principal, không query lại")
+    void login_usesPrincipalAccount() {
+        account.setEmailVerified(true);
+        authenticated();
+        when(jwtTokenProvider.generateAccessToken(account.getId(), account.getEmail(), "USER")).thenReturn("access");
+        when(refreshTokenService.issue(account)).thenReturn("refresh");
+
+        LoginResponse response = authService.login(new LoginRequest("learner@test.vn", "secret"));
+
+        assertThat(response.getAccessToken()).isEqualTo("access");
+        assertThat(response.getRefreshToken()).isEqualTo("refresh");
+        assertThat(response.getUser().getFullName()).isEqualTo("Nguyễn Văn A");
+        verifyNoInteractions(accountRepository, userProfileRepository);
+    }
+
+    @Test
+    @DisplayName("login: email chưa xác thực → FORBIDDEN, không cấp token")
+    void login_unverifiedEmail_forbidden() {
+        authenticated();
+
+        assertThatThrownBy(() -> authService.login(new LoginRequest("learner@test.vn", "secret")))
+                .isInstanceOf(ApiException.class);
+
+        verify(refreshTokenService, never()).issue(any());
+        verifyNoInteractions(accountRepository, userProfileRepository);
+    }
+
+    @Test
+    @DisplayName("resetPassword: BCrypt chạy trước khi mở transaction, transaction kiểm tra lại mã")
+    void resetPassword_hashesBeforeTransaction() {
+        account.setResetCode("123456");
+        account.setResetExpiresAt(Instant.now().plusSeconds(300));
+        when(accountRepository.findByEmail(account.getEmail())).thenReturn(Optional.of(account));
+        when(accountRepository.findForUpdateByEmail(account.getEmail())).thenReturn(Optional.of(account));
+        when(passwordEncoder.encode("new-secret")).thenReturn("new-hash");
+
+        authService.resetPassword(account.getEmail(), "123456", "new-secret");
+
+        InOrder order = inOrder(passwordEncoder, transactionManager, accountRepository);
+        order.verify(passwordEncoder).encode("new-secret");
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(accountRepository).findForUpdateByEmail(account.getEmail());
+        order.verify(accountRepository).save(account);
+        assertThat(account.getPasswordHash()).isEqualTo("new-hash");
+        assertThat(account.getResetCode()).isNull();
+    }
+}
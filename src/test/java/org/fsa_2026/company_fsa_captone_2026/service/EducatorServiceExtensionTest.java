@@ -19,7 +19,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -27,6 +26,7 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -56,6 +56,9 @@ public class EducatorServiceExtensionTest {
     @Mock
     private org.fsa_2026.company_fsa_captone_2026.repository.ChallengeRepository challengeRepository;
 
+    @Mock
+    private PlacementService placementService;
+
     @InjectMocks
     private EducatorService educatorService;
 
@@ -82,7 +85,8 @@ public class EducatorServiceExtensionTest {
 
         when(errorTagRepository.findById(errorTagId)).thenReturn(java.util.Optional.of(mockErrorTag));
         when(dialectRepository.findById(dialectId)).thenReturn(java.util.Optional.of(mockDialect));
-        when(placementRuleRepository.findAll()).thenReturn(new ArrayList<>());
+        when(placementRuleRepository.findByErrorTagIdAndTargetDialectId(errorTagId, dialectId))
+                .thenReturn(Optional.empty());
         when(placementRuleRepository.save(any(PlacementRule.class)))
                 .thenAnswer(invocation -> {
                     PlacementRule rule = invocation.getArgument(0);
@@ -96,6 +100,7 @@ public class EducatorServiceExtensionTest {
         assertEquals(errorTagId.toString(), result.getErrorTag().getId());
         assertEquals(30, result.getThreshold());
         assertEquals(dialectId.toString(), result.getDialectId());
+        verify(placementService).requestRebuild();
     }
 
     @Test
@@ -116,7 +121,7 @@ public class EducatorServiceExtensionTest {
         mockChallenge.setId(challengeId);
         mockChallenge.setContentText("Ba tôi nàm nông.");
 
-        when(accountRepository.findByEmail(educatorEmail)).thenReturn(Optional.of(mockAccount));
+        when(accountRepository.getReferenceById(mockAccount.getId())).thenReturn(mockAccount);
         when(levelRepository.findById(levelId)).thenReturn(Optional.of(mockLevel));
         when(challengeRepository.findById(challengeId)).thenReturn(Optional.of(mockChallenge));
 
@@ -138,6 +143,7 @@ public class EducatorServiceExtensionTest {
                 .questionOrder(1)
                 .points(10)
                 .challengeId(challengeId)
+                .answerKey("Xin chào")
                 .build();
 
         QuizCreateRequest request = QuizCreateRequest.builder()
@@ -148,7 +154,7 @@ public class EducatorServiceExtensionTest {
                 .build();
 
         // Execute
-        QuizResponse response = educatorService.createQuiz(educatorEmail, request);
+        QuizResponse response = educatorService.createQuiz(mockAccount.getId(), request);
 
         // Verify
         assertNotNull(response);
@@ -179,7 +185,7 @@ public class EducatorServiceExtensionTest {
         Level mockLevel = new Level();
         mockLevel.setId(levelId);
 
-        when(accountRepository.findByEmail(educatorEmail)).thenReturn(Optional.of(mockAccount));
+        when(accountRepository.getReferenceById(mockAccount.getId())).thenReturn(mockAccount);
         when(quizRepository.findById(quizId)).thenReturn(Optional.of(existingQuiz));
         when(levelRepository.findById(levelId)).thenReturn(Optional.of(mockLevel));
 
@@ -201,7 +207,7 @@ public class EducatorServiceExtensionTest {
                 .passingScore(90)
                 .build();
 
-        QuizResponse response = educatorService.updateQuiz(educatorEmail, quizId, request);
+        QuizResponse response = educatorService.updateQuiz(mockAccount.getId(), quizId, request);
 
         // Verify a new Draft PENDING is created
         assertNotNull(response);
@@ -0,0 +1,208 @@
+package org.fsa_2026.company_fsa_captone_2026.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.fsa_2026.company_fsa_captone_2026.common.event.DomainEventListener;
+import org.fsa_2026.company_fsa_captone_2026.common.event.SessionEnded;
+import org.fsa_2026.company_fsa_captone_2026.config.DomainEventProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EventPublicationServiceTest – publication ghi cùng transaction, giao sau commit,
+ * listener lỗi được giao lại
+ */
+@DisplayName("EventPublicationService – Unit Tests")
+class EventPublicationServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transaction;
+    private RecordingListener listener;
+    private DomainEventProperties properties;
+    private EventPublicationService service;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:event-publication-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE event_publication (id UUID PRIMARY KEY, listener_id VARCHAR(512) NOT NULL,
+                event_type VARCHAR(512) NOT NULL, serialized_event VARCHAR(4000) NOT NULL,
+                publication_date TIMESTAMP WITH TIME ZONE NOT NULL, completion_date TIMESTAMP WITH TIME ZONE,
+                attempts INT DEFAULT 0 NOT NULL, next_attempt_at TIMESTAMP WITH TIME ZONE,
+                failed_date TIMESTAMP WITH TIME ZONE, last_error VARCHAR(4000))""");
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transaction = new TransactionTemplate(transactionManager);
+
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean("recordingListener", RecordingListener.class);
+        context.refresh();
+        listener = context.getBean(RecordingListener.class);
+
+        // executor đồng bộ: giao ngay trong afterCommit để assert được
+        properties = new DomainEventProperties();
+        service = new EventPublicationService(context, jdbcTemplate, transactionManager,
+                new ObjectMapper().registerModule(new JavaTimeModule()), properties, Runnable::run);
+        service.afterSingletonsInstantiated();
+    }
+
+    @Test
+    @DisplayName("commit → listener nhận event và publication được đánh dấu hoàn tất")
+    void publish_deliversAfterCommit() {
+        SessionEnded event = sessionEnded();
+
+        transaction.executeWithoutResult(status -> {
+            service.onDomainEvent(event);
+            assertThat(listener.received).isEmpty();
+            assertThat(pendingCount()).isEqualTo(1);
+        });
+
+        assertThat(listener.received).containsExactly(event);
+        assertThat(pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("rollback → không ghi publication, không giao")
+    void publish_rollback_nothingDelivered() {
+        transaction.executeWithoutResult(status -> {
+            service.onDomainEvent(sessionEnded());
+            status.setRollbackOnly();
+        });
+
+        assertThat(listener.received).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM event_publication", Integer.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("listener lỗi → publication dang dở, chờ backoff rồi resubmit giao lại (event đọc lại từ JSON)")
+    void failedListener_isResubmittedAfterBackoff() {
+        SessionEnded event = sessionEnded();
+        listener.failing = true;
+
+        transaction.executeWithoutResult(status -> service.onDomainEvent(event));
+        assertThat(listener.received).isEmpty();
+        assertThat(pendingCount()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT attempts FROM event_publication", Integer.class))
+                .isEqualTo(1);
+
+        listener.failing = false;
+        Instant published = Instant.now().plusSeconds(1);
+        assertThat(service.resubmitIncomplete(published)).isZero(); // chưa tới next_attempt_at
+        assertThat(service.resubmitIncomplete(published, Instant.now().plus(service.backoff(1)).plusSeconds(1)))
+                .isEqualTo(1);
+
+        assertThat(listener.received).containsExactly(event);
+        assertThat(pendingCount()).isZero();
+        assertThat(service.resubmitIncomplete(published, Instant.now().plus(Duration.ofDays(1)))).isZero();
+    }
+
+    @Test
+    @DisplayName("lỗi đủ maxAttempts lần → dead letter, không resubmit nữa")
+    void failedListener_deadLetteredAfterMaxAttempts() {
+        properties.setMaxAttempts(2);
+        listener.failing = true;
+
+        transaction.executeWithoutResult(status -> service.onDomainEvent(sessionEnded()));
+        Instant published = Instant.now().plusSeconds(1);
+        Instant later = Instant.now().plus(Duration.ofDays(1));
+        assertThat(service.resubmitIncomplete(published, later)).isEqualTo(1);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM event_publication "
+                + "WHERE failed_date IS NOT NULL AND attempts = 2 AND last_error LIKE '%listener down%'",
+                Integer.class)).isEqualTo(1);
+        assertThat(service.resubmitIncomplete(published, later)).isZero();
+        assertThat(listener.received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("listener transactional = false → chạy ngoài transaction, publication vẫn được đánh dấu hoàn tất")
+    void nonTransactionalListener_runsOutsideTransaction() {
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(
+                jdbcTemplate.getDataSource());
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean("mailListener", MailListener.class);
+        context.refresh();
+        MailListener mailListener = context.getBean(MailListener.class);
+        // giao trên thread khác như pool thật (afterCommit vẫn còn gắn transaction vừa commit), chờ xong
+        EventPublicationService mailService = new EventPublicationService(context, jdbcTemplate, transactionManager,
+                new ObjectMapper().registerModule(new JavaTimeModule()), properties, command -> {
+                    Thread thread = new Thread(command);
+                    thread.start();
+                    try {
+                        thread.join();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+        mailService.afterSingletonsInstantiated();
+
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> mailService.onDomainEvent(sessionEnded()));
+
+        assertThat(mailListener.transactionActive).containsExactly(false);
+        assertThat(pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("backoff tăng gấp đôi mỗi lần, không quá maxBackoff")
+    void backoff_exponentialAndCapped() {
+        properties.setResubmitAfter(Duration.ofMinutes(5));
+        properties.setMaxBackoff(Duration.ofHours(1));
+
+        assertThat(service.backoff(1)).isEqualTo(Duration.ofMinutes(5));
+        assertThat(service.backoff(3)).isEqualTo(Duration.ofMinutes(20));
+        assertThat(service.backoff(30)).isEqualTo(Duration.ofHours(1));
+    }
+
+    private int pendingCount() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM event_publication WHERE completion_date IS NULL",
+                Integer.class);
+    }
+
+    private static SessionEnded sessionEnded() {
+        return SessionEnded.builder()
+                .sessionId(UUID.randomUUID())
+                .accountId(UUID.randomUUID())
+                .startedAt(Instant.parse("2026-03-15T10:00:00Z"))
+                .endedAt(Instant.parse("2026-03-15T10:20:00Z"))
+                .build();
+    }
+
+    static class MailListener {
+        private final List<Boolean> transactionActive = new ArrayList<>();
+
+        @DomainEventListener(transactional = false)
+        public void onSessionEnded(SessionEnded event) {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+        }
+    }
+
+    static class RecordingListener {
+        private final List<SessionEnded> received = new ArrayList<>();
+        private boolean failing;
+
+        @DomainEventListener
+        public void onSessionEnded(SessionEnded event) {
+            if (failing) {
+                throw new IllegalStateException("listener down");
+            }
+            received.add(event);
+        }
+    }
+}
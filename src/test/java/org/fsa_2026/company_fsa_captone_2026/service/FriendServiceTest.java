@@ -0,0 +1,62 @@
+package org.fsa_2026.company_fsa_captone_2026.service;
+
+import org.fsa_2026.company_fsa_captone_2026.entity.Account;
+import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
+import org.fsa_2026.company_fsa_captone_2026.repository.AccountRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.FriendshipRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.UserProfileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * FriendServiceTest – hai người mời nhau cùng lúc
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FriendService – Unit Tests")
+class FriendServiceTest {
+
+    @Mock
+    private FriendshipRepository friendshipRepository;
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private UserProfileRepository userProfileRepository;
+
+    private FriendService friendService;
+
+    @BeforeEach
+    void setUp() {
+        friendService = new FriendService(friendshipRepository, accountRepository, userProfileRepository, 100,
+                Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("sendRequest: lời mời ngược chiều vừa được insert (uk_friendship_canonical_pair) → CONFLICT")
+    void sendRequest_concurrentReverseRequest_conflict() {
+        UUID me = UUID.randomUUID();
+        Account addressee = new Account();
+        addressee.setId(UUID.randomUUID());
+        when(accountRepository.findById(addressee.getId())).thenReturn(Optional.of(addressee));
+        when(friendshipRepository.findBetween(me, addressee.getId())).thenReturn(Optional.empty());
+        when(friendshipRepository.saveAndFlush(any()))
+                .thenThrow(new DataIntegrityViolationException("uk_friendship_canonical_pair"));
+
+        assertThatThrownBy(() -> friendService.sendRequest(me, addressee.getId()))
+                .isInstanceOf(ApiException.class)
+                .satisfies(e -> assertThat(((ApiException) e).getCode()).isEqualTo("CONFLICT"));
+    }
+}
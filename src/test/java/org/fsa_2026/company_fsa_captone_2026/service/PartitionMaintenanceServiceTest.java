@@ -0,0 +1,84 @@
+package org.fsa_2026.company_fsa_captone_2026.service;
+
+import org.fsa_2026.company_fsa_captone_2026.common.partition.MonthlyPartitions;
+import org.fsa_2026.company_fsa_captone_2026.config.PartitioningProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PartitionMaintenanceServiceTest – chọn partition nguội theo tháng, export CSV gzip đủ dòng
+ */
+@DisplayName("PartitionMaintenanceService – Unit Tests")
+class PartitionMaintenanceServiceTest {
+
+    @Test
+    @DisplayName("hot-months = 3 vào 2026-03: partition trước 2026-01 là nguội, bảng khác tên bị bỏ qua")
+    void coldPartitions_olderThanHotWindow() {
+        Instant now = Instant.parse("2026-03-15T10:00:00Z");
+        List<String> partitions = List.of("attempt_p2026_03", "attempt_p2025_11", "attempt_p2026_01",
+                "attempt_p2025_12", "attempt_phoneme_feedback_p2025_01", "attempt_legacy");
+
+        assertThat(MonthlyPartitions.cold("attempt", partitions, now, 3))
+                .containsExactly("attempt_p2025_11", "attempt_p2025_12");
+        assertThat(MonthlyPartitions.name("attempt", YearMonth.of(2026, 1))).isEqualTo("attempt_p2026_01");
+        assertThat(MonthlyPartitions.upcoming(now, 2))
+                .containsExactly(YearMonth.of(2026, 3), YearMonth.of(2026, 4), YearMonth.of(2026, 5));
+        assertThat(new PartitioningProperties().analyticsSince(now)).isEqualTo(Instant.parse("2025-10-01T00:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("export: header + CSV kiểu COPY (NULL rỗng, chuỗi có dấu phẩy/nháy được quote), gzip")
+    void export_writesGzipCsv(@TempDir Path dir) throws IOException {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:partition-export;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE \"attempt_p2025_01\" (id INT, audio_url VARCHAR(50), latency_ms INT)");
+        jdbcTemplate.update("INSERT INTO \"attempt_p2025_01\" VALUES (1, 'a.wav', 120), (2, 'b,\"c\".wav', NULL)");
+        PartitionMaintenanceService service = new PartitionMaintenanceService(jdbcTemplate,
+                new DataSourceTransactionManager(dataSource), new PartitioningProperties());
+
+        Path file = dir.resolve("attempt/attempt_p2025_01.csv.gz");
+        long rows = service.export("attempt_p2025_01", file);
+
+        assertThat(rows).isEqualTo(2);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("""
+                    id,audio_url,latency_ms
+                    1,a.wav,120
+                    2,"b,""c"".wav",
+                    """);
+        }
+        assertThat(Files.list(file.getParent())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("archiveCold: archive-dir chưa cấu hình / tương đối → không archive, không đụng DB")
+    void archiveCold_requiresAbsoluteArchiveDir() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:partition-archive-dir;DB_CLOSE_DELAY=-1", "sa", "");
+        PartitioningProperties properties = new PartitioningProperties();
+        PartitionMaintenanceService service = new PartitionMaintenanceService(new JdbcTemplate(dataSource),
+                new DataSourceTransactionManager(dataSource), properties);
+
+        // H2 không có pg_inherits: nếu job chạy tiếp thì query lỗi
+        assertThat(service.archiveCold(Instant.now())).isEmpty();
+        properties.setArchiveDir("data/partition-archive");
+        assertThat(service.archiveCold(Instant.now())).isEmpty();
+    }
+}
@@ -0,0 +1,106 @@
+package org.fsa_2026.company_fsa_captone_2026.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PasswordHashingServiceTest – encode/matches trên pool riêng, nâng cost, từ chối khi quá tải
+ */
+@DisplayName("PasswordHashingService – Unit Tests")
+class PasswordHashingServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("encode/matches: chạy trên pool, hash cost thấp hơn cần nâng cấp")
+    void encodeMatchesAndUpgrade() {
+        service = new PasswordHashingService(meterRegistry, 5, 250, 4, 14, 1, 4);
+
+        String hash = service.encode("secret");
+
+        assertThat(hash).startsWith("$2a$05$");
+        assertThat(service.matches("secret", hash)).isTrue();
+        assertThat(service.matches("wrong", hash)).isFalse();
+        assertThat(service.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+        assertThat(service.upgradeEncoding(hash)).isFalse();
+        assertThat(meterRegistry.find("auth.password_hash.queue.size").gauge()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("hàng đợi đầy → TOO_MANY_REQUESTS thay vì chặn request thread")
+    void saturatedQueue_rejects() throws Exception {
+        service = new PasswordHashingService(meterRegistry, 4, 250, 4, 14, 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CharSequence blocking = new CharSequence() {
+            @Override
+            public int length() {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return 1;
+            }
+
+            @Override
+            public char charAt(int index) {
+                return 'x';
+            }
+
+            @Override
+            public CharSequence subSequence(int start, int end) {
+                return "x";
+            }
+
+            @Override
+            public String toString() {
+                return length() > 0 ? "x" : "";
+            }
+        };
+
+        List<CompletableFuture<String>> inFlight = new ArrayList<>();
+        inFlight.add(CompletableFuture.supplyAsync(() -> service.encode(blocking)));
+        started.await();
+        inFlight.add(CompletableFuture.supplyAsync(() -> service.encode("queued")));
+        while (service.getQueueSize() < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> service.encode("rejected"))
+                .isInstanceOf(ApiException.class)
+                .extracting("code").isEqualTo("TOO_MANY_REQUESTS");
+        assertThat(meterRegistry.counter("auth.password_hash.rejected").count()).isEqualTo(1.0);
+
+        release.countDown();
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+    }
+
+    @Test
+    @DisplayName("calibrate: luôn nằm trong [min, max]")
+    void calibrate_staysWithinBounds() {
+        assertThat(PasswordHashingService.calibrate(0, 4, 6)).isEqualTo(4);
+        assertThat(PasswordHashingService.calibrate(60_000, 4, 6)).isEqualTo(6);
+    }
+}
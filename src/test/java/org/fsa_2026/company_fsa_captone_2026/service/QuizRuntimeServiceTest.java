@@ -0,0 +1,248 @@
+package org.fsa_2026.company_fsa_captone_2026.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.fsa_2026.company_fsa_captone_2026.dto.QuizAnswerRequest;
+import org.fsa_2026.company_fsa_captone_2026.dto.QuizAttemptResultResponse;
+import org.fsa_2026.company_fsa_captone_2026.dto.QuizSessionResponse;
+import org.fsa_2026.company_fsa_captone_2026.entity.Account;
+import org.fsa_2026.company_fsa_captone_2026.entity.Challenge;
+import org.fsa_2026.company_fsa_captone_2026.entity.Quiz;
+import org.fsa_2026.company_fsa_captone_2026.entity.QuizAttempt;
+import org.fsa_2026.company_fsa_captone_2026.entity.QuizAttemptAnswer;
+import org.fsa_2026.company_fsa_captone_2026.entity.QuizQuestion;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.ContentStatus;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.QuizType;
+import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
+import org.fsa_2026.company_fsa_captone_2026.repository.AccountRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.QuizAttemptAnswerRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.QuizAttemptRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.QuizQuestionRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.QuizRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * QuizRuntimeServiceTest – snapshot dùng chung, chấm từng câu, nộp bài một lượt
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QuizRuntimeService – Unit Tests")
+class QuizRuntimeServiceTest {
+
+    @Mock
+    private QuizRepository quizRepository;
+    @Mock
+    private QuizQuestionRepository quizQuestionRepository;
+    @Mock
+    private QuizAttemptRepository quizAttemptRepository;
+    @Mock
+    private QuizAttemptAnswerRepository quizAttemptAnswerRepository;
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private PronunciationScorer pronunciationScorer;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private QuizRuntimeService quizRuntimeService;
+    private Quiz quiz;
+    private QuizQuestion readingQuestion;
+    private final List<QuizAttempt> savedAttempts = new ArrayList<>();
+    private final List<QuizAttemptAnswer> savedAnswers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        quizRuntimeService = newService();
+
+        quiz = Quiz.builder().title("Đầu vào").passingScore(60).timeLimitMinutes(10)
+                .quizType(QuizType.DIAGNOSTIC).status(ContentStatus.APPROVED).build();
+        quiz.setId(UUID.randomUUID());
+        readingQuestion = question(1, "READING", "Lan gặp thầy giáo và nói: xin chào thầy.", 10);
+        readingQuestion.setAnswerKey("Xin chào");
+        quiz.setQuestions(new ArrayList<>(List.of(readingQuestion, question(2, "WRITING", "Cảm ơn", 10))));
+
+        // textScore không cần repository
+        lenient().when(quizRepository.findWithQuestionsById(quiz.getId())).thenReturn(Optional.of(quiz));
+        lenient().when(quizRepository.getReferenceById(quiz.getId())).thenReturn(quiz);
+        lenient().when(quizAttemptRepository.save(any(QuizAttempt.class))).thenAnswer(invocation -> {
+            QuizAttempt attempt = invocation.getArgument(0);
+            if (attempt.getId() == null) {
+                attempt.setId(UUID.randomUUID());
+                savedAttempts.add(attempt);
+            }
+            return attempt;
+        });
+        lenient().when(quizAttemptAnswerRepository.save(any(QuizAttemptAnswer.class))).thenAnswer(invocation -> {
+            QuizAttemptAnswer answer = invocation.getArgument(0);
+            if (!savedAnswers.contains(answer)) {
+                savedAnswers.add(answer);
+            }
+            return answer;
+        });
+        lenient().when(quizAttemptAnswerRepository.findByQuizAttemptId(any())).thenReturn(savedAnswers);
+        lenient().when(quizQuestionRepository.getReferenceById(readingQuestion.getId())).thenReturn(readingQuestion);
+    }
+
+    /**
+     * Instance mới = restart / instance khác: không có session trong bộ nhớ
+     */
+    private QuizRuntimeService newService() {
+        return new QuizRuntimeService(quizRepository, quizQuestionRepository, quizAttemptRepository,
+                quizAttemptAnswerRepository, accountRepository, pronunciationScorer, new ObjectMapper(),
+                transactionManager, 5);
+    }
+
+    private UUID start(UUID accountId) {
+        QuizSessionResponse session = quizRuntimeService.startQuiz(accountId, quiz.getId());
+        UUID attemptId = UUID.fromString(session.getAttemptId());
+        QuizAttempt attempt = savedAttempts.get(savedAttempts.size() - 1);
+        lenient().when(quizAttemptRepository.findById(attemptId)).thenReturn(Optional.of(attempt));
+        lenient().when(quizAttemptRepository.findForUpdateById(attemptId)).thenReturn(Optional.of(attempt));
+        return attemptId;
+    }
+
+    private QuizQuestion question(int order, String skillType, String text, int points) {
+        Challenge challenge = new Challenge();
+        challenge.setId(UUID.randomUUID());
+        challenge.setContentText(text);
+        QuizQuestion question = QuizQuestion.builder().quiz(quiz).questionOrder(order).skillType(skillType)
+                .points(points).challenge(challenge).build();
+        question.setId(UUID.randomUUID());
+        return question;
+    }
+
+    private UUID learner(String email) {
+        Account account = new Account();
+        account.setId(UUID.randomUUID());
+        account.setEmail(email);
+        lenient().when(accountRepository.getReferenceById(account.getId())).thenReturn(account);
+        return account.getId();
+    }
+
+    @Test
+    @DisplayName("startQuiz: cả lớp bắt đầu cùng lúc chỉ tải bộ câu hỏi một lần")
+    void startQuiz_sharesSnapshot() {
+        UUID a = learner("a@test.com");
+        UUID b = learner("b@test.com");
+
+        QuizSessionResponse first = quizRuntimeService.startQuiz(a, quiz.getId());
+        QuizSessionResponse second = quizRuntimeService.startQuiz(b, quiz.getId());
+
+        verify(quizRepository, times(1)).findWithQuestionsById(quiz.getId());
+        assertThat(first.getAttemptId()).isNotEqualTo(second.getAttemptId());
+        assertThat(first.getQuestions()).hasSize(2);
+        // WRITING ẩn nội dung và challenge (endpoint challenge trả contentText)
+        assertThat(first.getQuestions().get(1).getContentText()).isNull();
+        assertThat(first.getQuestions().get(1).getChallengeId()).isNull();
+        assertThat(first.getDeadline()).isEqualTo(first.getStartedAt().plusSeconds(600));
+        // Loại lượt làm lấy từ quiz, không do learner chọn
+        assertThat(savedAttempts).extracting(QuizAttempt::getQuizType).containsOnly(QuizType.DIAGNOSTIC);
+    }
+
+    @Test
+    @DisplayName("finishQuiz: chấm theo điểm câu hỏi từ câu trả lời đã ghi, chỉ nộp một lần")
+    void finishQuiz_gradesPersistedAnswersOnce() {
+        UUID a = learner("a@test.com");
+        UUID attemptId = start(a);
+
+        quizRuntimeService.submitAnswer(a, attemptId, readingQuestion.getId(),
+                QuizAnswerRequest.builder().answerText("xin chào!").build());
+        assertThat(savedAnswers).hasSize(1);
+        QuizAttemptResultResponse result = quizRuntimeService.finishQuiz(a, attemptId);
+
+        assertThat(result.getScore()).isEqualTo(50);
+        assertThat(result.getPassed()).isFalse();
+        assertThat(result.getAnsweredCount()).isEqualTo(1);
+        assertThat(savedAttempts.get(0).getCompleted()).isTrue();
+        assertThat(savedAttempts.get(0).getAnswersSnapshot()).contains(readingQuestion.getId().toString());
+
+        assertThatThrownBy(() -> quizRuntimeService.finishQuiz(a, attemptId))
+                .isInstanceOf(ApiException.class);
+    }
+
+    @Test
+    @DisplayName("submitAnswer: câu READING chấm theo đáp án, chép lại nội dung hiển thị không được điểm")
+    void submitAnswer_gradedAgainstAnswerKey() {
+        UUID a = learner("a@test.com");
+        UUID attemptId = start(a);
+
+        quizRuntimeService.submitAnswer(a, attemptId, readingQuestion.getId(),
+                QuizAnswerRequest.builder().answerText(readingQuestion.getChallenge().getContentText()).build());
+
+        assertThat(savedAnswers.get(0).getScore().doubleValue()).isLessThan(50.0);
+    }
+
+    @Test
+    @DisplayName("finishQuiz sau restart: session dựng lại từ DB, câu trả lời đã ghi vẫn được chấm")
+    void finishQuiz_afterRestart_usesPersistedAnswers() {
+        UUID a = learner("a@test.com");
+        UUID attemptId = start(a);
+        quizRuntimeService.submitAnswer(a, attemptId, readingQuestion.getId(),
+                QuizAnswerRequest.builder().answerText("Xin chào").build());
+
+        QuizAttemptResultResponse result = newService().finishQuiz(a, attemptId);
+
+        assertThat(result.getScore()).isEqualTo(50);
+        assertThat(savedAttempts.get(0).getCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("autoSubmitExpired: lượt quá hạn chưa nộp được chấm (không cần session trong bộ nhớ)")
+    void autoSubmitExpired_gradesExpiredAttempts() {
+        QuizAttempt attempt = QuizAttempt.builder().quiz(quiz).score(0).completed(false)
+                .startedAt(Instant.now().minusSeconds(1200)).deadlineAt(Instant.now().minusSeconds(600))
+                .quizType(QuizType.ASSESSMENT).build();
+        attempt.setId(UUID.randomUUID());
+        when(quizAttemptRepository.findExpiredIncompleteIds(any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(attempt.getId()));
+        when(quizAttemptRepository.findForUpdateById(eq(attempt.getId()))).thenReturn(Optional.of(attempt));
+
+        assertThat(quizRuntimeService.autoSubmitExpired()).isEqualTo(1);
+
+        assertThat(attempt.getCompleted()).isTrue();
+        assertThat(attempt.getCompletedAt()).isEqualTo(attempt.getDeadlineAt());
+        assertThat(attempt.getTimeTakenSeconds()).isEqualTo(600);
+        verify(quizAttemptRepository).save(attempt);
+    }
+
+    @Test
+    @DisplayName("submitAnswer: học viên khác không được trả lời hộ")
+    void submitAnswer_otherLearnerForbidden() {
+        UUID a = learner("a@test.com");
+        UUID b = learner("b@test.com");
+        QuizSessionResponse session = quizRuntimeService.startQuiz(a, quiz.getId());
+
+        assertThatThrownBy(() -> quizRuntimeService.submitAnswer(b,
+                UUID.fromString(session.getAttemptId()), readingQuestion.getId(),
+                QuizAnswerRequest.builder().answerText("xin chào").build()))
+                .isInstanceOf(ApiException.class);
+    }
+
+    @Test
+    @DisplayName("textScore: bỏ qua hoa thường/dấu câu nhưng giữ dấu thanh")
+    void textScore_normalizes() {
+        assertThat(QuizRuntimeService.textScore("Xin chào", "xin chào!")).isEqualTo(100.0);
+        assertThat(QuizRuntimeService.textScore("Xin chào", "xin chao")).isLessThan(100.0);
+        assertThat(QuizRuntimeService.textScore("Xin chào", "")).isZero();
+    }
+}
@@ -0,0 +1,177 @@
+package org.fsa_2026.company_fsa_captone_2026.service;
+
+import org.fsa_2026.company_fsa_captone_2026.dto.RecommendedChallengeResponse;
+import org.fsa_2026.company_fsa_captone_2026.entity.Attempt;
+import org.fsa_2026.company_fsa_captone_2026.entity.AttemptPhonemeFeedback;
+import org.fsa_2026.company_fsa_captone_2026.entity.Challenge;
+import org.fsa_2026.company_fsa_captone_2026.entity.Level;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.ContentStatus;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.DifficultyLevel;
+import org.fsa_2026.company_fsa_captone_2026.repository.AttemptPhonemeFeedbackRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.AttemptRepository;
+import org.fsa_2026.company_fsa_captone_2026.repository.ChallengeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * RecommendationServiceTest – gợi ý challenge theo phoneme yếu + spaced repetition
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecommendationService – Unit Tests")
+class RecommendationServiceTest {
+
+    @Mock
+    private ChallengeRepository challengeRepository;
+    @Mock
+    private AttemptRepository attemptRepository;
+    @Mock
+    private AttemptPhonemeFeedbackRepository feedbackRepository;
+
+    private RecommendationService recommendationService;
+
+    private final UUID learnerId = UUID.randomUUID();
+    private Level level;
+    private Challenge trChallenge;
+    private Challenge chChallenge;
+    private Challenge nhChallenge;
+
+    @BeforeEach
+    void setUp() {
+        recommendationService = new RecommendationService(challengeRepository, attemptRepository,
+                feedbackRepository, Runnable::run, 100);
+
+        level = Level.builder().build();
+        level.setId(UUID.randomUUID());
+        trChallenge = challenge("tr,a", DifficultyLevel.EASY);
+        chChallenge = challenge("ch", DifficultyLevel.EASY);
+        nhChallenge = challenge("nh", DifficultyLevel.HARD);
+
+        when(challengeRepository.findByStatus(ContentStatus.APPROVED))
+                .thenReturn(List.of(trChallenge, chChallenge, nhChallenge));
+        recommendationService.rebuildIndex();
+    }
+
+    private Challenge challenge(String focusPhonemes, DifficultyLevel difficulty) {
+        Challenge challenge = new Challenge();
+        challenge.setId(UUID.randomUUID());
+        challenge.setLevel(level);
+        challenge.setFocusPhonemes(focusPhonemes);
+        challenge.setDifficulty(difficulty);
+        challenge.setStatus(ContentStatus.APPROVED);
+        return challenge;
+    }
+
+    private Attempt attempt(Challenge challenge, double score, Instant createdAt) {
+        return Attempt.builder()
+                .id(UUID.randomUUID())
+                .challenge(challenge)
+                .scoreOverall(BigDecimal.valueOf(score))
+                .isPassed(score >= 80)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("learner mới → nội dung mới độ khó EASY")
+    void recommend_newLearner_easyNewContent() {
+        when(attemptRepository.findTop200ByAccountIdOrderByCreatedAtDesc(learnerId)).thenReturn(List.of());
+
+        RecommendedChallengeResponse next = recommendationService.recommend(learnerId, null);
+
+        assertThat(next.getReason()).isEqualTo(RecommendationService.REASON_NEW_CONTENT);
+        assertThat(next.getTargetDifficulty()).isEqualTo("EASY");
+        assertThat(next.getChallenge().getDifficulty()).isEqualTo("EASY");
+    }
+
+    @Test
+    @DisplayName("phoneme 'tr' yếu (đã đến hạn ôn) → gợi ý challenge luyện 'tr'")
+    void recommend_weakPhoneme_targetsIt() {
+        Attempt old = attempt(chChallenge, 50, Instant.now().minus(2, ChronoUnit.DAYS));
+        when(attemptRepository.findTop200ByAccountIdOrderByCreatedAtDesc(learnerId)).thenReturn(List.of(old));
+        when(feedbackRepository.findByAttemptIdInAndCreatedAtGreaterThanEqual(anyList(), any())).thenReturn(List.of(
+                AttemptPhonemeFeedback.builder().attempt(old).phonemeIpa("tr").score(BigDecimal.valueOf(40)).build(),
+                AttemptPhonemeFeedback.builder().attempt(old).phonemeIpa("ch").score(BigDecimal.valueOf(95)).build()));
+
+        RecommendedChallengeResponse next = recommendationService.recommend(learnerId, null);
+
+        assertThat(next.getChallenge().getId()).isEqualTo(trChallenge.getId().toString());
+        assertThat(next.getReason()).isEqualTo(RecommendationService.REASON_WEAK_PHONEME);
+        assertThat(next.getTargetPhonemes()).containsExactly("tr");
+    }
+
+    @Test
+    @DisplayName("vừa luyện đạt → không gợi ý lại trước hạn ôn")
+    void recordAttempt_passed_notRecommendedUntilDue() {
+        when(attemptRepository.findTop200ByAccountIdOrderByCreatedAtDesc(learnerId)).thenReturn(List.of());
+        recommendationService.recommend(learnerId, null);
+
+        recommendationService.recordAttempt(learnerId, trChallenge.getId(), 90, true,
+                List.of(new PronunciationScorer.PhonemeScore("tr", 90, 0, 500)));
+        recommendationService.recordAttempt(learnerId, chChallenge.getId(), 90, true, List.of());
+
+        RecommendedChallengeResponse next = recommendationService.recommend(learnerId, null);
+
+        assertThat(next.getChallenge().getId()).isEqualTo(nhChallenge.getId().toString());
+    }
+
+    @Test
+    @DisplayName("recordAttempt trong transaction → chỉ áp dụng sau commit")
+    void recordAttempt_inTransaction_appliedAfterCommit() {
+        when(attemptRepository.findTop200ByAccountIdOrderByCreatedAtDesc(learnerId)).thenReturn(List.of());
+        RecommendedChallengeResponse first = recommendationService.recommend(learnerId, null);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            recommendationService.recordAttempt(learnerId, trChallenge.getId(), 90, true, List.of());
+            recommendationService.recordAttempt(learnerId, chChallenge.getId(), 90, true, List.of());
+            assertThat(recommendationService.recommend(learnerId, null).getChallenge().getId())
+                    .isEqualTo(first.getChallenge().getId());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(recommendationService.recommend(learnerId, null).getChallenge().getId())
+                .isEqualTo(nhChallenge.getId().toString());
+    }
+
+    @Test
+    @DisplayName("attempt commit trong lúc warm-up đang đọc DB → warm-up đọc lại, không mất attempt")
+    void recordAttempt_duringWarmUp_reloaded() {
+        Attempt passed = attempt(trChallenge, 90, Instant.now());
+        Attempt alsoPassed = attempt(chChallenge, 90, Instant.now());
+        when(attemptRepository.findTop200ByAccountIdOrderByCreatedAtDesc(learnerId))
+                .thenAnswer(invocation -> {
+                    // snapshot đọc trước khi hai attempt commit
+                    recommendationService.recordAttempt(learnerId, trChallenge.getId(), 90, true, List.of());
+                    recommendationService.recordAttempt(learnerId, chChallenge.getId(), 90, true, List.of());
+                    return List.of();
+                })
+                .thenReturn(List.of(passed, alsoPassed));
+
+        RecommendedChallengeResponse next = recommendationService.recommend(learnerId, null);
+
+        assertThat(next.getChallenge().getId()).isEqualTo(nhChallenge.getId().toString());
+        verify(attemptRepository, times(2)).findTop200ByAccountIdOrderByCreatedAtDesc(learnerId);
+    }
+}
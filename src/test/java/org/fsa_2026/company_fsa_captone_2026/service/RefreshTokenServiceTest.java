@@ -0,0 +1,140 @@
+package org.fsa_2026.company_fsa_captone_2026.service;
+
+import org.fsa_2026.company_fsa_captone_2026.common.JwtTokenProvider;
+import org.fsa_2026.company_fsa_captone_2026.entity.Account;
+import org.fsa_2026.company_fsa_captone_2026.entity.RefreshToken;
+import org.fsa_2026.company_fsa_captone_2026.exception.ApiException;
+import org.fsa_2026.company_fsa_captone_2026.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * RefreshTokenServiceTest – hash lookup, rotation family, reuse detection, purge theo lô
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenService – Unit Tests")
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RefreshTokenService refreshTokenService;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, jwtTokenProvider, transactionManager,
+                7, 100, 10);
+        account = Account.builder().email("learner@test.vn").build();
+        account.setId(UUID.randomUUID());
+        lenient().when(jwtTokenProvider.generateRefreshToken()).thenReturn("new-raw-token");
+        lenient().when(jwtTokenProvider.getRefreshTokenExpirationMs()).thenReturn(60_000L);
+    }
+
+    private RefreshToken stored(String raw, UUID familyId, boolean revoked) {
+        RefreshToken token = RefreshToken.builder()
+                .id(UUID.randomUUID())
+                .tokenHash(RefreshTokenService.hash(raw))
+                .familyId(familyId)
+                .account(account)
+                .revoked(revoked)
+                .expiresAt(Instant.now().plus(1, ChronoUnit.DAYS))
+                .build();
+        when(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash(raw))).thenReturn(Optional.of(token));
+        return token;
+    }
+
+    @Test
+    @DisplayName("issue: thu hồi phiên cũ, chỉ lưu SHA-256 (32 byte) của token")
+    void issue_storesDigestOnly() {
+        String raw = refreshTokenService.issue(account);
+
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).revokeAllByAccountId(eq(account.getId()), any());
+        verify(refreshTokenRepository).save(saved.capture());
+        assertThat(raw).isEqualTo("new-raw-token");
+        assertThat(saved.getValue().getTokenHash()).hasSize(32).isEqualTo(RefreshTokenService.hash(raw));
+        assertThat(saved.getValue().getFamilyId()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("rotate: token mới cùng family, token cũ bị CAS revoke")
+    void rotate_keepsFamily() {
+        UUID familyId = UUID.randomUUID();
+        RefreshToken current = stored("old-raw-token", familyId, false);
+        when(refreshTokenRepository.markRotated(eq(current.getId()), any())).thenReturn(1);
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate("old-raw-token");
+
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertThat(rotation.account()).isSameAs(account);
+        assertThat(rotation.refreshToken()).isEqualTo("new-raw-token");
+        assertThat(saved.getValue().getFamilyId()).isEqualTo(familyId);
+        verify(refreshTokenRepository, never()).revokeFamily(any(), any());
+    }
+
+    @Test
+    @DisplayName("rotate: dùng lại token đã rotate → thu hồi cả family")
+    void rotate_reusedToken_revokesFamily() {
+        UUID familyId = UUID.randomUUID();
+        stored("stolen-token", familyId, true);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate("stolen-token"))
+                .isInstanceOf(ApiException.class);
+
+        verify(refreshTokenRepository).revokeFamily(eq(familyId), any());
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("rotate: hai request song song cùng token → request thua CAS bị coi là reuse")
+    void rotate_lostRace_revokesFamily() {
+        UUID familyId = UUID.randomUUID();
+        RefreshToken current = stored("raced-token", familyId, false);
+        when(refreshTokenRepository.markRotated(eq(current.getId()), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate("raced-token"))
+                .isInstanceOf(ApiException.class);
+
+        verify(refreshTokenRepository).revokeFamily(eq(familyId), any());
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("purgeExpired: xoá theo lô đến khi lô cuối chưa đầy")
+    void purgeExpired_deletesInBatches() {
+        when(refreshTokenRepository.deleteExpiredBatch(any(), any(), anyInt())).thenReturn(100, 100, 7);
+
+        int purged = refreshTokenService.purgeExpired();
+
+        assertThat(purged).isEqualTo(207);
+        verify(refreshTokenRepository, times(3)).deleteExpiredBatch(any(), any(), eq(100));
+    }
+}
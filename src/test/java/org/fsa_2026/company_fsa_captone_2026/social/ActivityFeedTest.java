@@ -0,0 +1,103 @@
+package org.fsa_2026.company_fsa_captone_2026.social;
+
+import org.fsa_2026.company_fsa_captone_2026.common.social.ActivityFeed;
+import org.fsa_2026.company_fsa_captone_2026.common.social.ActivityRecord;
+import org.fsa_2026.company_fsa_captone_2026.common.social.ActivityRing;
+import org.fsa_2026.company_fsa_captone_2026.entity.enums.ActivityType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ActivityFeedTest – ring buffer theo account, trộn k-way và keyset cursor
+ */
+@DisplayName("ActivityFeed / ActivityRing – Unit Tests")
+class ActivityFeedTest {
+
+    private static ActivityRecord activity(long id, UUID accountId) {
+        return new ActivityRecord(id, accountId, ActivityType.CHALLENGE_PASSED, UUID.randomUUID(), "Level 4",
+                null, Instant.EPOCH.plusSeconds(id));
+    }
+
+    private static List<Long> ids(List<ActivityRecord> records) {
+        return records.stream().map(ActivityRecord::id).toList();
+    }
+
+    @Test
+    @DisplayName("ring: append lệch thứ tự vẫn giảm dần, đầy thì đẩy phần tử cũ nhất và hết complete")
+    void ring_keepsLatestInOrder() {
+        UUID me = UUID.randomUUID();
+        ActivityRing ring = new ActivityRing(3, List.of(activity(5, me)), 0);
+
+        ring.add(activity(9, me));
+        ring.add(activity(7, me)); // commit muộn hơn activity 9
+        ring.add(activity(7, me)); // event giao lại
+        List<ActivityRecord> out = new ArrayList<>();
+        assertThat(ring.collectBefore(Long.MAX_VALUE, 10, out)).isTrue(); // nạp ít hơn capacity → complete
+        assertThat(ids(out)).containsExactly(9L, 7L, 5L);
+
+        ring.add(activity(11, me));
+        out.clear();
+        assertThat(ring.collectBefore(Long.MAX_VALUE, 3, out)).isTrue();
+        assertThat(ids(out)).containsExactly(11L, 9L, 7L);
+
+        // cần sâu hơn phần đang giữ → trả false, không để lại kết quả dở
+        out.clear();
+        assertThat(ring.collectBefore(9, 3, out)).isFalse();
+        assertThat(out).isEmpty();
+    }
+
+    @Test
+    @DisplayName("feed: trộn ring của nhiều account theo id, cursor = id cuối trang")
+    void feed_mergesRingsWithKeysetCursor() {
+        UUID lan = UUID.randomUUID();
+        UUID minh = UUID.randomUUID();
+        ActivityFeed feed = new ActivityFeed(8, 10, 60_000);
+        feed.load(lan, List.of(activity(6, lan), activity(3, lan), activity(1, lan)), 0);
+        feed.load(minh, List.of(activity(5, minh), activity(4, minh), activity(2, minh)), 0);
+        feed.append(activity(8, minh));
+        feed.append(activity(10, UUID.randomUUID())); // account chưa có ring → bỏ qua
+
+        List<ActivityRecord> first = page(feed, List.of(lan, minh), Long.MAX_VALUE, 4);
+        assertThat(ids(first)).containsExactly(8L, 6L, 5L, 4L);
+        List<ActivityRecord> second = page(feed, List.of(lan, minh), first.get(first.size() - 1).id(), 4);
+        assertThat(ids(second)).containsExactly(3L, 2L, 1L);
+
+        assertThat(feed.ring(lan, 60_000)).isNull(); // hết TTL
+    }
+
+    @Test
+    @DisplayName("đầy → bỏ ring lâu không dùng nhất")
+    void load_evictsLeastRecentlyUsedWhenFull() {
+        UUID lan = UUID.randomUUID();
+        UUID minh = UUID.randomUUID();
+        UUID hoa = UUID.randomUUID();
+        ActivityFeed feed = new ActivityFeed(8, 2, 60_000);
+        feed.load(lan, List.of(), 0);
+        feed.load(minh, List.of(), 1);
+        assertThat(feed.ring(lan, 1)).isNotNull(); // lan vừa được đọc
+
+        feed.load(hoa, List.of(), 2);
+
+        assertThat(feed.size()).isEqualTo(2);
+        assertThat(feed.ring(minh, 2)).isNull();
+        assertThat(feed.ring(lan, 2)).isNotNull();
+        assertThat(feed.ring(hoa, 2)).isNotNull();
+    }
+
+    private static List<ActivityRecord> page(ActivityFeed feed, List<UUID> accounts, long beforeId, int size) {
+        List<List<ActivityRecord>> sources = new ArrayList<>();
+        for (UUID account : accounts) {
+            List<ActivityRecord> records = new ArrayList<>();
+            assertThat(feed.ring(account, 0).collectBefore(beforeId, size, records)).isTrue();
+            sources.add(records);
+        }
+        return ActivityFeed.merge(sources, size);
+    }
+}
@@ -0,0 +1,110 @@
+package org.fsa_2026.company_fsa_captone_2026.social;
+
+import org.fsa_2026.company_fsa_captone_2026.common.social.FriendGraph;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FriendGraphTest – tập int đã intern (đếm tham chiếu), cache LRU danh sách kề và invalidate
+ * theo account
+ */
+@DisplayName("FriendGraph – Unit Tests")
+class FriendGraphTest {
+
+    @Test
+    @DisplayName("intern ổn định, acquire sắp xếp + bỏ trùng, intersect / contains trên tập int")
+    void sets_internedAndIntersected() {
+        FriendGraph graph = new FriendGraph(10, 60_000);
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        UUID d = UUID.randomUUID();
+
+        int[] mine = graph.acquire(List.of(c, a, b, a));
+        int[] theirs = graph.acquire(List.of(d, b, c));
+
+        assertThat(graph.id(a)).isEqualTo(mine[Arrays.asList(graph.toAccounts(mine)).indexOf(a)]);
+        assertThat(mine).isSorted().hasSize(3);
+        assertThat(graph.toAccounts(FriendGraph.intersect(mine, theirs))).containsExactlyInAnyOrder(b, c);
+        assertThat(FriendGraph.contains(mine, graph.id(a))).isTrue();
+        assertThat(FriendGraph.contains(theirs, graph.id(a))).isFalse();
+        assertThat(FriendGraph.intersect(mine, new int[0])).isEmpty();
+        assertThat(graph.id(UUID.randomUUID())).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("id chỉ sống khi còn được tham chiếu: bỏ entry / release → hết intern")
+    void interning_releasedWithLastReference() {
+        FriendGraph graph = new FriendGraph(10, 60_000);
+        UUID me = UUID.randomUUID();
+        UUID friend = UUID.randomUUID();
+        UUID stranger = UUID.randomUUID();
+
+        graph.put(me, graph.acquire(List.of(friend)), graph.stamp(me), 0);
+        graph.release(graph.acquire(List.of(friend, stranger)));
+        assertThat(graph.internedCount()).isEqualTo(1);
+        int friendId = graph.id(friend);
+
+        graph.invalidate(me);
+        assertThat(graph.internedCount()).isZero();
+        assertThat(graph.id(friend)).isEqualTo(-1);
+        // id vừa giải phóng chưa được cấp lại cho account khác
+        assertThat(graph.acquire(List.of(stranger))).doesNotContain(friendId);
+        assertThat(graph.account(friendId)).isEqualTo(friend);
+    }
+
+    @Test
+    @DisplayName("invalidate chính account giữa lúc đọc DB và ghi cache → bỏ kết quả; account khác không ảnh hưởng; TTL")
+    void put_discardsLoadRacingInvalidation() {
+        FriendGraph graph = new FriendGraph(10, 1_000);
+        UUID me = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        UUID friend = UUID.randomUUID();
+
+        long stamp = graph.stamp(me);
+        graph.invalidate(me); // quan hệ thay đổi trong lúc đang load
+        graph.put(me, graph.acquire(List.of(friend)), stamp, 0);
+        assertThat(graph.cached(me, 0)).isNull();
+        assertThat(graph.internedCount()).isZero();
+
+        stamp = graph.stamp(me);
+        graph.invalidate(other);
+        int[] friends = graph.acquire(List.of(friend));
+        graph.put(me, friends, stamp, 0);
+        assertThat(graph.cached(me, 999)).isSameAs(friends);
+        assertThat(graph.cached(me, 1_000)).isNull();
+
+        graph.invalidate(me);
+        assertThat(graph.cached(me, 0)).isNull();
+    }
+
+    @Test
+    @DisplayName("đầy → bỏ entry lâu không dùng nhất, trả id của nó")
+    void put_evictsLeastRecentlyUsedWhenFull() {
+        FriendGraph graph = new FriendGraph(2, 60_000);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+
+        graph.put(first, graph.acquire(List.of(UUID.randomUUID())), graph.stamp(first), 1);
+        graph.put(second, new int[0], graph.stamp(second), 2);
+        assertThat(graph.cached(first, 2)).isNotNull(); // first vừa được dùng
+        graph.put(third, new int[0], graph.stamp(third), 3);
+
+        assertThat(graph.size()).isEqualTo(2);
+        assertThat(graph.cached(second, 3)).isNull();
+        assertThat(graph.cached(first, 3)).isNotNull();
+        assertThat(graph.cached(third, 3)).isNotNull();
+        assertThat(graph.internedCount()).isEqualTo(1);
+
+        graph.put(second, new int[0], graph.stamp(second), 4);
+        assertThat(graph.cached(first, 4)).isNull();
+        assertThat(graph.internedCount()).isZero();
+    }
+}